@@ -0,0 +1,133 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Owns the files that camera apps write the photos and videos captured for file choosers to.
+ *
+ * <p>A capture is pending from its creation until its chooser ends. A capture that wasn't chosen
+ * is then deleted. A chosen capture is kept, because the page may upload it later, until it is
+ * older than the maximum age or the captures exceed the byte budget, in which case the least
+ * recently modified captures are deleted first. Pending captures are never deleted by {@link
+ * #trim} and don't count against the budget. Captures younger than the minimum age and the most
+ * recent capture are never deleted for the budget either, so a video that is larger than the budget
+ * can still be uploaded.
+ *
+ * <p>Only the files of its directory are managed. Thread safe.
+ */
+public class CaptureStore {
+  /** The default number of bytes the captures may use. */
+  public static final long DEFAULT_BUDGET_BYTES = 200L * 1024 * 1024;
+
+  /** The default age after which a capture is deleted. */
+  public static final long DEFAULT_MAX_AGE_MILLIS = 24L * 60 * 60 * 1000;
+
+  /** The default age before which a capture isn't deleted to stay within the budget. */
+  public static final long DEFAULT_MIN_AGE_MILLIS = 60L * 60 * 1000;
+
+  @NonNull private final File directory;
+  private final long budgetBytes;
+  private final long maxAgeMillis;
+  private final long minAgeMillis;
+  private final Set<File> pending = new HashSet<>();
+
+  /** Constructs a {@link CaptureStore} with the default limits. */
+  public CaptureStore(@NonNull File directory) {
+    this(directory, DEFAULT_BUDGET_BYTES, DEFAULT_MAX_AGE_MILLIS, DEFAULT_MIN_AGE_MILLIS);
+  }
+
+  /**
+   * Constructs a {@link CaptureStore}.
+   *
+   * @param directory the directory of the captures, which is created when needed
+   * @param budgetBytes how many bytes the captures may use
+   * @param maxAgeMillis the age after which a capture is deleted
+   * @param minAgeMillis the age before which a capture isn't deleted to stay within the budget
+   */
+  public CaptureStore(
+      @NonNull File directory, long budgetBytes, long maxAgeMillis, long minAgeMillis) {
+    this.directory = directory;
+    this.budgetBytes = budgetBytes;
+    this.maxAgeMillis = maxAgeMillis;
+    this.minAgeMillis = minAgeMillis;
+  }
+
+  /**
+   * Creates an empty pending capture.
+   *
+   * @throws IOException if the file couldn't be created
+   */
+  @NonNull
+  public synchronized File create(@NonNull String prefix, @NonNull String suffix)
+      throws IOException {
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Failed to create " + directory);
+    }
+    final File file = File.createTempFile(prefix, suffix, directory);
+    pending.add(file);
+    return file;
+  }
+
+  /** Ends the pending state of `file`, deleting it if it wasn't `chosen`. */
+  public synchronized void release(@NonNull File file, boolean chosen) {
+    pending.remove(file);
+    if (!chosen) {
+      file.delete();
+    }
+  }
+
+  /**
+   * Deletes the captures that are too old, then the oldest that are older than the minimum age
+   * until the others fit the budget.
+   */
+  public void trim() {
+    trim(System.currentTimeMillis());
+  }
+
+  @VisibleForTesting
+  synchronized void trim(long nowMillis) {
+    final File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    Arrays.sort(
+        files, (first, second) -> Long.compare(first.lastModified(), second.lastModified()));
+
+    // Pending captures are still being written, so they don't count against the budget.
+    long totalBytes = 0;
+    File newest = null;
+    for (File file : files) {
+      if (!pending.contains(file)) {
+        totalBytes += file.length();
+        newest = file;
+      }
+    }
+    for (File file : files) {
+      if (pending.contains(file)) {
+        continue;
+      }
+      final long ageMillis = nowMillis - file.lastModified();
+      final boolean expired = ageMillis > maxAgeMillis;
+      final boolean overBudget =
+          totalBytes > budgetBytes && ageMillis >= minAgeMillis && file != newest;
+      if (!expired && !overBudget) {
+        // The remaining files are newer, so they aren't expired or old enough either.
+        return;
+      }
+      final long length = file.length();
+      if (file.delete()) {
+        totalBytes -= length;
+      }
+    }
+  }
+}
@@ -0,0 +1,487 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.webkit.CookieManager;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Reads and writes snapshots of the cookies of a set of URLs.
+ *
+ * <p>A snapshot maps each URL to `[name, value, domain, path, secure, httpOnly, expiresMillis,
+ * sameSite]` lists, one for each cookie sent with requests to the URL. {@link CookieManager} only
+ * returns the names and values of cookies, so {@link #capture} infers the `Domain`, `Path` and
+ * `Secure` attributes by checking which other URLs the cookie is sent to. The expiry, `HttpOnly`
+ * and `SameSite` attributes can't be inferred, so they are taken from the `Set-Cookie` values that
+ * were recorded in {@link SetCookieAttributes}. Cookies without recorded attributes are restored as
+ * `HttpOnly` session cookies, so a restore never exposes a cookie to scripts.
+ *
+ * <p>A snapshot is stored as a gzipped stream of length-prefixed strings, which is smaller and
+ * faster to read than the equivalent JSON.
+ *
+ * <p>A snapshot is written to a temporary file that replaces the previous snapshot once it is
+ * complete, so a snapshot that failed to be written never replaces a valid one.
+ */
+public class CookieJarSnapshot {
+  // "WVCJ", so a file that isn't a snapshot fails to be read instead of restoring garbage.
+  private static final int MAGIC = 0x5756434a;
+  private static final int VERSION = 3;
+  // Snapshots of version 1 only contain the names and values of the cookies.
+  private static final int NAME_AND_VALUE_VERSION = 1;
+  // Snapshots of version 2 don't contain the attributes of SetCookieAttributes.
+  private static final int INFERRED_ATTRIBUTES_VERSION = 2;
+
+  // The label of the subdomain that is checked to find the domain of a cookie.
+  private static final String PROBE_LABEL = "webview-flutter-cookie-probe";
+
+  // The format of the `Expires` attribute, see RFC 6265.
+  private static final String EXPIRES_FORMAT = "EEE, dd MMM yyyy HH:mm:ss 'GMT'";
+
+  private CookieJarSnapshot() {}
+
+  /**
+   * Remembers the attributes of the cookies set through the plugin, which {@link CookieManager}
+   * doesn't return.
+   *
+   * <p>Cookies are identified by their name and value, so the attributes of a cookie are forgotten
+   * once a page changes its value. At most {@link #MAX_COOKIES} cookies are remembered, forgetting
+   * the least recently set first. Safe to use from any thread.
+   */
+  public static class SetCookieAttributes {
+    @VisibleForTesting static final int MAX_COOKIES = 4096;
+
+    // `[httpOnly, expiresMillis, sameSite]` lists by cookie, from the least recently set.
+    private final LinkedHashMap<String, List<Object>> attributesByCookie =
+        new LinkedHashMap<String, List<Object>>() {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, List<Object>> eldest) {
+            return size() > MAX_COOKIES;
+          }
+        };
+
+    /**
+     * Records the `HttpOnly`, `Expires`, `Max-Age` and `SameSite` attributes of `setCookieValue`.
+     *
+     * @param setCookieValue a value passed to {@link CookieManager#setCookie(String, String)}
+     * @param nowMillis the current time, which `Max-Age` is relative to
+     */
+    public synchronized void record(@NonNull String setCookieValue, long nowMillis) {
+      final String[] parts = setCookieValue.split(";");
+      final int cookieSeparator = parts[0].indexOf('=');
+      // Keyed like the cookies parsed by CookieManagerHostApiImpl#parseCookies.
+      final String cookie =
+          cookieSeparator >= 0
+              ? toCookieString(
+                  parts[0].substring(0, cookieSeparator).trim(),
+                  parts[0].substring(cookieSeparator + 1).trim())
+              : parts[0].trim();
+      boolean isHttpOnly = false;
+      long expiresMillis = 0;
+      boolean hasMaxAge = false;
+      String sameSite = "";
+      for (int i = 1; i < parts.length; i++) {
+        final String part = parts[i].trim();
+        final int separator = part.indexOf('=');
+        final String name = separator >= 0 ? part.substring(0, separator).trim() : part;
+        final String value = separator >= 0 ? part.substring(separator + 1).trim() : "";
+        if (name.equalsIgnoreCase("HttpOnly")) {
+          isHttpOnly = true;
+        } else if (name.equalsIgnoreCase("SameSite")) {
+          sameSite = value;
+        } else if (name.equalsIgnoreCase("Max-Age")) {
+          try {
+            expiresMillis = nowMillis + Long.parseLong(value) * 1000;
+            hasMaxAge = true;
+          } catch (NumberFormatException exception) {
+            // Invalid attributes are ignored, like CookieManager does.
+          }
+        } else if (name.equalsIgnoreCase("Expires") && !hasMaxAge) {
+          expiresMillis = parseExpires(value);
+        }
+      }
+      // Removed first, so the cookie becomes the most recently set. Setting an expired cookie
+      // deletes it.
+      attributesByCookie.remove(cookie);
+      if (expiresMillis == 0 || expiresMillis > nowMillis) {
+        attributesByCookie.put(cookie, Arrays.asList(isHttpOnly, expiresMillis, sameSite));
+      }
+    }
+
+    // Returns the `[httpOnly, expiresMillis, sameSite]` list of a cookie, or null if it wasn't
+    // recorded.
+    @Nullable
+    synchronized List<Object> get(@NonNull String name, @NonNull String value) {
+      return attributesByCookie.get(toCookieString(name, value));
+    }
+  }
+
+  /**
+   * Retrieves the cookies sent with requests to `url` with their attributes.
+   *
+   * <p>A cookie is recorded with the broadest domain and the shortest path of `url` that it is
+   * still sent to, and as secure if it isn't sent to the `http` URL of an `https` URL. The other
+   * attributes are taken from `knownAttributes`.
+   *
+   * @return the `[name, value, domain, path, secure, httpOnly, expiresMillis, sameSite]` lists of
+   *     the cookies, where an empty domain, path or same site policy means that the attribute is
+   *     omitted when the cookie is restored and an expiry of 0 means a session cookie
+   */
+  @NonNull
+  public static List<Object> capture(
+      @NonNull CookieManager cookieManager,
+      @NonNull String url,
+      @NonNull SetCookieAttributes knownAttributes) {
+    final List<Object> nameAndValues =
+        CookieManagerHostApiImpl.parseCookies(cookieManager.getCookie(url));
+    final List<Object> cookies = new ArrayList<>(nameAndValues.size());
+    if (nameAndValues.isEmpty()) {
+      return cookies;
+    }
+
+    URI uri;
+    try {
+      uri = new URI(url);
+    } catch (URISyntaxException exception) {
+      uri = null;
+    }
+    if (uri == null || uri.getScheme() == null || uri.getHost() == null) {
+      // The attributes of cookies of URLs without a host can't be inferred.
+      for (Object nameAndValue : nameAndValues) {
+        final List<?> cookie = (List<?>) nameAndValue;
+        cookies.add(withKnownAttributes(cookie, "", "", false, knownAttributes));
+      }
+      return cookies;
+    }
+
+    final String scheme = uri.getScheme();
+    final String host = uri.getHost();
+    final String port = uri.getPort() != -1 ? ":" + uri.getPort() : "";
+    final String path =
+        uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+
+    // The shortest path first, which ends with the path of `url` itself.
+    final List<String> paths = getPathPrefixes(path);
+    final List<Set<String>> cookiesOfPaths = new ArrayList<>(paths.size());
+    for (int i = 0; i < paths.size() - 1; i++) {
+      cookiesOfPaths.add(
+          getCookieKeys(cookieManager.getCookie(scheme + "://" + host + port + paths.get(i))));
+    }
+    cookiesOfPaths.add(getCookieKeys(nameAndValues));
+
+    // The broadest domain first.
+    final List<String> domains = getDomainSuffixes(host);
+    final List<Set<String>> cookiesOfDomains = new ArrayList<>(domains.size());
+    for (String domain : domains) {
+      cookiesOfDomains.add(
+          getCookieKeys(
+              cookieManager.getCookie(
+                  scheme + "://" + PROBE_LABEL + "." + domain + port + path)));
+    }
+
+    final Set<String> insecureCookies =
+        "https".equalsIgnoreCase(scheme)
+            ? getCookieKeys(cookieManager.getCookie("http://" + host + port + path))
+            : null;
+
+    for (Object nameAndValue : nameAndValues) {
+      final List<?> cookie = (List<?>) nameAndValue;
+      final String key = toCookieString((String) cookie.get(0), (String) cookie.get(1));
+      String cookieDomain = "";
+      for (int i = 0; i < domains.size(); i++) {
+        if (cookiesOfDomains.get(i).contains(key)) {
+          cookieDomain = domains.get(i);
+          break;
+        }
+      }
+      String cookiePath = "";
+      for (int i = 0; i < paths.size(); i++) {
+        if (cookiesOfPaths.get(i).contains(key)) {
+          cookiePath = paths.get(i);
+          break;
+        }
+      }
+      final boolean isSecure = insecureCookies != null && !insecureCookies.contains(key);
+      cookies.add(
+          withKnownAttributes(cookie, cookieDomain, cookiePath, isSecure, knownAttributes));
+    }
+    return cookies;
+  }
+
+  private static List<Object> withKnownAttributes(
+      List<?> nameAndValue,
+      String domain,
+      String path,
+      boolean isSecure,
+      SetCookieAttributes knownAttributes) {
+    final String name = (String) nameAndValue.get(0);
+    final String value = (String) nameAndValue.get(1);
+    final List<Object> attributes = knownAttributes.get(name, value);
+    return attributes != null
+        ? Arrays.asList(
+            name,
+            value,
+            domain,
+            path,
+            isSecure,
+            attributes.get(0),
+            attributes.get(1),
+            attributes.get(2))
+        : Arrays.asList(name, value, domain, path, isSecure, true, 0L, "");
+  }
+
+  /**
+   * Creates the value that {@link CookieManager#setCookie(String, String)} restores a cookie
+   * captured by {@link #capture} with.
+   */
+  @NonNull
+  public static String toSetCookieValue(@NonNull List<?> cookie) {
+    final StringBuilder builder =
+        new StringBuilder(toCookieString((String) cookie.get(0), (String) cookie.get(1)));
+    if (!((String) cookie.get(2)).isEmpty()) {
+      builder.append("; Domain=").append(cookie.get(2));
+    }
+    if (!((String) cookie.get(3)).isEmpty()) {
+      builder.append("; Path=").append(cookie.get(3));
+    }
+    if ((Boolean) cookie.get(4)) {
+      builder.append("; Secure");
+    }
+    if ((Boolean) cookie.get(5)) {
+      builder.append("; HttpOnly");
+    }
+    if ((Long) cookie.get(6) != 0) {
+      final Date expires = new Date((Long) cookie.get(6));
+      builder.append("; Expires=").append(createExpiresFormat().format(expires));
+    }
+    if (!((String) cookie.get(7)).isEmpty()) {
+      builder.append("; SameSite=").append(cookie.get(7));
+    }
+    return builder.toString();
+  }
+
+  /** Whether a cookie captured by {@link #capture} expired before `nowMillis`. */
+  public static boolean isExpired(@NonNull List<?> cookie, long nowMillis) {
+    final long expiresMillis = (Long) cookie.get(6);
+    return expiresMillis != 0 && expiresMillis <= nowMillis;
+  }
+
+  // SimpleDateFormat isn't thread safe, so each use creates its own.
+  private static SimpleDateFormat createExpiresFormat() {
+    final SimpleDateFormat format = new SimpleDateFormat(EXPIRES_FORMAT, Locale.US);
+    format.setTimeZone(TimeZone.getTimeZone("GMT"));
+    return format;
+  }
+
+  // Returns the time of an `Expires` attribute, or 0 if it can't be parsed.
+  private static long parseExpires(String value) {
+    try {
+      final Date date = createExpiresFormat().parse(value);
+      return date != null ? date.getTime() : 0;
+    } catch (ParseException exception) {
+      return 0;
+    }
+  }
+
+  // A cookie with an empty name is sent, and must be set, without `=`.
+  private static String toCookieString(String name, String value) {
+    return name.isEmpty() ? value : name + "=" + value;
+  }
+
+  private static Set<String> getCookieKeys(@Nullable String header) {
+    return getCookieKeys(CookieManagerHostApiImpl.parseCookies(header));
+  }
+
+  private static Set<String> getCookieKeys(List<Object> nameAndValues) {
+    final Set<String> keys = new HashSet<>();
+    for (Object nameAndValue : nameAndValues) {
+      final List<?> cookie = (List<?>) nameAndValue;
+      keys.add(toCookieString((String) cookie.get(0), (String) cookie.get(1)));
+    }
+    return keys;
+  }
+
+  // Returns "/" followed by the prefixes of `path` that end before a "/", and `path` itself.
+  @VisibleForTesting
+  static List<String> getPathPrefixes(@NonNull String path) {
+    final List<String> prefixes = new ArrayList<>();
+    prefixes.add("/");
+    int separator = path.indexOf('/', 1);
+    while (separator > 0) {
+      prefixes.add(path.substring(0, separator));
+      separator = path.indexOf('/', separator + 1);
+    }
+    if (!path.equals("/") && !path.equals(prefixes.get(prefixes.size() - 1))) {
+      prefixes.add(path);
+    }
+    return prefixes;
+  }
+
+  // Returns the suffixes of `host` with at least two labels, the broadest first, and `host`
+  // itself. IP addresses have no suffixes.
+  @VisibleForTesting
+  static List<String> getDomainSuffixes(@NonNull String host) {
+    final List<String> suffixes = new ArrayList<>();
+    if (host.startsWith("[") || host.matches("[0-9.]+")) {
+      return suffixes;
+    }
+    final String[] labels = host.split("\\.");
+    for (int i = Math.max(labels.length - 2, 0); i >= 1; i--) {
+      suffixes.add(joinLabels(labels, i));
+    }
+    suffixes.add(host);
+    return suffixes;
+  }
+
+  private static String joinLabels(String[] labels, int start) {
+    final StringBuilder builder = new StringBuilder(labels[start]);
+    for (int i = start + 1; i < labels.length; i++) {
+      builder.append('.').append(labels[i]);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Writes the cookies of each URL to `file`.
+   *
+   * @param cookies the `[name, value, domain, path, secure, httpOnly, expiresMillis, sameSite]`
+   *     lists of each URL
+   * @return the size of the snapshot in bytes
+   */
+  public static long write(@NonNull File file, @NonNull Map<String, List<Object>> cookies)
+      throws IOException {
+    final File temporaryFile = new File(file.getPath() + ".tmp");
+    try (DataOutputStream output =
+        new DataOutputStream(
+            new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(temporaryFile))))) {
+      output.writeInt(MAGIC);
+      output.writeByte(VERSION);
+      output.writeInt(cookies.size());
+      for (Map.Entry<String, List<Object>> entry : cookies.entrySet()) {
+        output.writeUTF(entry.getKey());
+        output.writeInt(entry.getValue().size());
+        for (Object cookie : entry.getValue()) {
+          final List<?> attributes = (List<?>) cookie;
+          output.writeUTF((String) attributes.get(0));
+          output.writeUTF((String) attributes.get(1));
+          output.writeUTF((String) attributes.get(2));
+          output.writeUTF((String) attributes.get(3));
+          output.writeBoolean((Boolean) attributes.get(4));
+          output.writeBoolean((Boolean) attributes.get(5));
+          output.writeLong((Long) attributes.get(6));
+          output.writeUTF((String) attributes.get(7));
+        }
+      }
+    } catch (IOException exception) {
+      temporaryFile.delete();
+      throw exception;
+    }
+    if (!temporaryFile.renameTo(file)) {
+      temporaryFile.delete();
+      throw new IOException("Failed to replace the cookie snapshot at " + file.getPath());
+    }
+    return file.length();
+  }
+
+  /**
+   * Reads a snapshot written by {@link #write}.
+   *
+   * <p>The cookies of snapshots that were written without attributes are returned with an empty
+   * domain and path and as not secure. Cookies of snapshots without the recorded attributes are
+   * returned as `HttpOnly` session cookies.
+   *
+   * @return the `[name, value, domain, path, secure, httpOnly, expiresMillis, sameSite]` lists of
+   *     each URL, in the order they were written
+   * @throws IOException if `file` can't be read or isn't a snapshot
+   */
+  @NonNull
+  public static Map<String, List<Object>> read(@NonNull File file) throws IOException {
+    try (DataInputStream input =
+        new DataInputStream(
+            new BufferedInputStream(new GZIPInputStream(new FileInputStream(file))))) {
+      if (input.readInt() != MAGIC) {
+        throw new IOException("Not a cookie snapshot: " + file.getPath());
+      }
+      final int version = input.readByte();
+      if (version != VERSION
+          && version != INFERRED_ATTRIBUTES_VERSION
+          && version != NAME_AND_VALUE_VERSION) {
+        throw new IOException("Unsupported cookie snapshot version: " + version);
+      }
+      final int urlCount = input.readInt();
+      final Map<String, List<Object>> cookies = new LinkedHashMap<>();
+      for (int i = 0; i < urlCount; i++) {
+        final String url = input.readUTF();
+        final int cookieCount = input.readInt();
+        final List<Object> urlCookies = new ArrayList<>(cookieCount);
+        for (int j = 0; j < cookieCount; j++) {
+          final String name = input.readUTF();
+          final String value = input.readUTF();
+          if (version == NAME_AND_VALUE_VERSION) {
+            urlCookies.add(Arrays.asList(name, value, "", "", false, true, 0L, ""));
+          } else if (version == INFERRED_ATTRIBUTES_VERSION) {
+            urlCookies.add(
+                Arrays.asList(
+                    name,
+                    value,
+                    input.readUTF(),
+                    input.readUTF(),
+                    input.readBoolean(),
+                    true,
+                    0L,
+                    ""));
+          } else {
+            urlCookies.add(
+                Arrays.asList(
+                    name,
+                    value,
+                    input.readUTF(),
+                    input.readUTF(),
+                    input.readBoolean(),
+                    input.readBoolean(),
+                    input.readLong(),
+                    input.readUTF()));
+          }
+        }
+        cookies.put(url, urlCookies);
+      }
+      return cookies;
+    }
+  }
+
+  /** Counts the cookies of a snapshot. */
+  public static long countCookies(@NonNull Map<String, List<Object>> cookies) {
+    long count = 0;
+    for (List<Object> urlCookies : cookies.values()) {
+      count += urlCookies.size();
+    }
+    return count;
+  }
+}
@@ -4,14 +4,37 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import android.annotation.SuppressLint;
 import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.webkit.CookieManager;
 import androidx.annotation.ChecksSdkIntAtLeast;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
+import androidx.webkit.ProfileStore;
+import androidx.webkit.WebViewFeature;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.CookieManagerHostApi;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Host API implementation for `CookieManager`.
@@ -20,6 +43,9 @@ import java.util.Objects;
  * Dart instance or handle method calls on the associated native class or an instance of the class.
  */
 public class CookieManagerHostApiImpl implements CookieManagerHostApi {
+  // How long a restore waits for the existing cookies to be removed.
+  private static final long REMOVE_ALL_COOKIES_TIMEOUT_SECONDS = 10;
+
   // To ease adding additional methods, this value is added prematurely.
   @SuppressWarnings({"unused", "FieldCanBeLocal"})
   private final BinaryMessenger binaryMessenger;
@@ -27,6 +53,13 @@ public class CookieManagerHostApiImpl implements CookieManagerHostApi {
   private final InstanceManager instanceManager;
   private final CookieManagerProxy proxy;
   private final @NonNull AndroidSdkChecker sdkChecker;
+  // Runs the bulk methods in order, off the main thread.
+  private final Executor backgroundExecutor;
+  // Completes the results of the bulk methods on the main thread.
+  private final Executor resultExecutor;
+  // The attributes of the cookies set through this API, which snapshots keep, by cookie manager.
+  private final Map<CookieManager, CookieJarSnapshot.SetCookieAttributes> setCookieAttributes =
+      new WeakHashMap<>();
 
   // Interface for an injectable SDK version checker.
   @VisibleForTesting
@@ -43,6 +76,16 @@ public class CookieManagerHostApiImpl implements CookieManagerHostApi {
     public CookieManager getInstance() {
       return CookieManager.getInstance();
     }
+
+    /** Retrieves the {@link CookieManager} of the profile named `profileName`. */
+    @SuppressLint("RequiresFeature")
+    @NonNull
+    public CookieManager getInstance(@NonNull String profileName) {
+      if (!WebViewFeature.isFeatureSupported(WebViewFeature.MULTI_PROFILE)) {
+        throw new UnsupportedOperationException("Profiles are not supported on this device.");
+      }
+      return ProfileStore.getInstance().getOrCreateProfile(profileName).getCookieManager();
+    }
   }
 
   /**
@@ -71,10 +114,29 @@ public class CookieManagerHostApiImpl implements CookieManagerHostApi {
       @NonNull InstanceManager instanceManager,
       @NonNull CookieManagerProxy proxy,
       @NonNull AndroidSdkChecker sdkChecker) {
+    this(
+        binaryMessenger,
+        instanceManager,
+        proxy,
+        sdkChecker,
+        Executors.newSingleThreadExecutor(),
+        new Handler(Looper.getMainLooper())::post);
+  }
+
+  @VisibleForTesting
+  CookieManagerHostApiImpl(
+      @NonNull BinaryMessenger binaryMessenger,
+      @NonNull InstanceManager instanceManager,
+      @NonNull CookieManagerProxy proxy,
+      @NonNull AndroidSdkChecker sdkChecker,
+      @NonNull Executor backgroundExecutor,
+      @NonNull Executor resultExecutor) {
     this.binaryMessenger = binaryMessenger;
     this.instanceManager = instanceManager;
     this.proxy = proxy;
     this.sdkChecker = sdkChecker;
+    this.backgroundExecutor = backgroundExecutor;
+    this.resultExecutor = resultExecutor;
   }
 
   @Override
@@ -82,9 +144,15 @@ public class CookieManagerHostApiImpl implements CookieManagerHostApi {
     instanceManager.addDartCreatedInstance(proxy.getInstance(), instanceIdentifier);
   }
 
+  @Override
+  public void attachInstanceForProfile(
+      @NonNull Long instanceIdentifier, @NonNull String profileName) {
+    instanceManager.addDartCreatedInstance(proxy.getInstance(profileName), instanceIdentifier);
+  }
+
   @Override
   public void setCookie(@NonNull Long identifier, @NonNull String url, @NonNull String value) {
-    getCookieManagerInstance(identifier).setCookie(url, value);
+    setAndRecordCookie(getCookieManagerInstance(identifier), url, value);
   }
 
   @Override
@@ -110,6 +178,240 @@ public class CookieManagerHostApiImpl implements CookieManagerHostApi {
     }
   }
 
+  @Override
+  public void setCookies(
+      @NonNull Long identifier,
+      @NonNull List<String> urls,
+      @NonNull List<String> values,
+      @NonNull GeneratedAndroidWebView.Result<Void> result) {
+    if (urls.size() != values.size()) {
+      throw new IllegalArgumentException("Every cookie value must have a URL.");
+    }
+    final CookieManager cookieManager = getCookieManagerInstance(identifier);
+    backgroundExecutor.execute(
+        () -> {
+          try {
+            for (int i = 0; i < urls.size(); i++) {
+              setAndRecordCookie(cookieManager, urls.get(i), values.get(i));
+            }
+            // Persist the whole batch at once instead of waiting for the periodic flush.
+            if (sdkChecker.sdkIsAtLeast(Build.VERSION_CODES.LOLLIPOP)) {
+              cookieManager.flush();
+            }
+            resultExecutor.execute(() -> result.success(null));
+          } catch (RuntimeException exception) {
+            resultExecutor.execute(() -> result.error(exception));
+          }
+        });
+  }
+
+  @Override
+  public void getCookies(
+      @NonNull Long identifier,
+      @NonNull List<String> urls,
+      @NonNull GeneratedAndroidWebView.Result<Map<String, Object>> result) {
+    final CookieManager cookieManager = getCookieManagerInstance(identifier);
+    backgroundExecutor.execute(
+        () -> {
+          try {
+            final Map<String, Object> cookies = new LinkedHashMap<>();
+            for (String url : urls) {
+              cookies.put(url, parseCookies(cookieManager.getCookie(url)));
+            }
+            resultExecutor.execute(() -> result.success(cookies));
+          } catch (RuntimeException exception) {
+            resultExecutor.execute(() -> result.error(exception));
+          }
+        });
+  }
+
+  @Override
+  public void saveCookieSnapshot(
+      @NonNull Long identifier,
+      @NonNull List<String> urls,
+      @NonNull String path,
+      @NonNull GeneratedAndroidWebView.Result<Map<String, Object>> result) {
+    final CookieManager cookieManager = getCookieManagerInstance(identifier);
+    backgroundExecutor.execute(
+        () -> {
+          try {
+            final long startMillis = SystemClock.uptimeMillis();
+            final CookieJarSnapshot.SetCookieAttributes knownAttributes =
+                getSetCookieAttributes(cookieManager);
+            final Map<String, List<Object>> cookies = new LinkedHashMap<>();
+            for (String url : urls) {
+              cookies.put(url, CookieJarSnapshot.capture(cookieManager, url, knownAttributes));
+            }
+            final long byteCount = CookieJarSnapshot.write(new File(path), cookies);
+            final Map<String, Object> stats =
+                createSnapshotStats(
+                    CookieJarSnapshot.countCookies(cookies),
+                    byteCount,
+                    SystemClock.uptimeMillis() - startMillis);
+            resultExecutor.execute(() -> result.success(stats));
+          } catch (IOException | RuntimeException exception) {
+            resultExecutor.execute(() -> result.error(exception));
+          }
+        });
+  }
+
+  @Override
+  public void restoreCookieSnapshot(
+      @NonNull Long identifier,
+      @NonNull String path,
+      @NonNull Boolean clearExisting,
+      @NonNull GeneratedAndroidWebView.Result<Map<String, Object>> result) {
+    final CookieManager cookieManager = getCookieManagerInstance(identifier);
+    backgroundExecutor.execute(
+        () -> {
+          final long startMillis = SystemClock.uptimeMillis();
+          final File file = new File(path);
+          // The snapshot is read before any cookie is removed, so the jar is left unchanged if the
+          // snapshot can't be read.
+          final Map<String, List<Object>> cookies;
+          try {
+            cookies = CookieJarSnapshot.read(file);
+          } catch (IOException | RuntimeException exception) {
+            resultExecutor.execute(() -> result.error(exception));
+            return;
+          }
+
+          try {
+            if (clearExisting) {
+              removeAllCookiesInOrder(cookieManager);
+            }
+            final long nowMillis = System.currentTimeMillis();
+            for (Map.Entry<String, List<Object>> entry : cookies.entrySet()) {
+              for (Object cookie : entry.getValue()) {
+                // Setting an expired cookie would delete a newer cookie with the same name.
+                if (!CookieJarSnapshot.isExpired((List<?>) cookie, nowMillis)) {
+                  setAndRecordCookie(
+                      cookieManager,
+                      entry.getKey(),
+                      CookieJarSnapshot.toSetCookieValue((List<?>) cookie));
+                }
+              }
+            }
+            if (sdkChecker.sdkIsAtLeast(Build.VERSION_CODES.LOLLIPOP)) {
+              cookieManager.flush();
+            }
+            final Map<String, Object> stats =
+                createSnapshotStats(
+                    CookieJarSnapshot.countCookies(cookies),
+                    file.length(),
+                    SystemClock.uptimeMillis() - startMillis);
+            resultExecutor.execute(() -> result.success(stats));
+          } catch (InterruptedException | TimeoutException | RuntimeException exception) {
+            resultExecutor.execute(() -> result.error(exception));
+          }
+        });
+  }
+
+  /**
+   * Shuts down the executor of the bulk methods, e.g. because the plugin was detached from its
+   * engine.
+   *
+   * <p>Bulk methods that were already called still complete. Bulk methods can't be called
+   * afterwards.
+   */
+  public void close() {
+    if (backgroundExecutor instanceof ExecutorService) {
+      ((ExecutorService) backgroundExecutor).shutdown();
+    }
+  }
+
+  /**
+   * Removes all cookies and waits until they are removed, so the bulk methods called after a
+   * restore run after it.
+   *
+   * <p>The callback of {@link CookieManager#removeAllCookies} is delivered to the Looper of the
+   * calling thread, so the removal is started on the main thread and awaited on the background
+   * executor.
+   */
+  private void removeAllCookiesInOrder(@NonNull CookieManager cookieManager)
+      throws InterruptedException, TimeoutException {
+    if (!sdkChecker.sdkIsAtLeast(Build.VERSION_CODES.LOLLIPOP)) {
+      removeCookiesPreL(cookieManager);
+      return;
+    }
+    final CountDownLatch removed = new CountDownLatch(1);
+    final AtomicReference<RuntimeException> error = new AtomicReference<>();
+    resultExecutor.execute(
+        () -> {
+          try {
+            cookieManager.removeAllCookies(value -> removed.countDown());
+          } catch (RuntimeException exception) {
+            error.set(exception);
+            removed.countDown();
+          }
+        });
+    if (!removed.await(REMOVE_ALL_COOKIES_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+      throw new TimeoutException(
+          "The cookies weren't removed within " + REMOVE_ALL_COOKIES_TIMEOUT_SECONDS + " s.");
+    }
+    if (error.get() != null) {
+      throw error.get();
+    }
+  }
+
+  // Sets a cookie and records its attributes for snapshots.
+  private void setAndRecordCookie(
+      @NonNull CookieManager cookieManager, @NonNull String url, @NonNull String value) {
+    getSetCookieAttributes(cookieManager).record(value, System.currentTimeMillis());
+    cookieManager.setCookie(url, value);
+  }
+
+  @NonNull
+  private CookieJarSnapshot.SetCookieAttributes getSetCookieAttributes(
+      @NonNull CookieManager cookieManager) {
+    synchronized (setCookieAttributes) {
+      CookieJarSnapshot.SetCookieAttributes attributes = setCookieAttributes.get(cookieManager);
+      if (attributes == null) {
+        attributes = new CookieJarSnapshot.SetCookieAttributes();
+        setCookieAttributes.put(cookieManager, attributes);
+      }
+      return attributes;
+    }
+  }
+
+  private static Map<String, Object> createSnapshotStats(
+      long cookieCount, long byteCount, long durationMillis) {
+    final Map<String, Object> stats = new HashMap<>();
+    stats.put("cookieCount", cookieCount);
+    stats.put("byteCount", byteCount);
+    stats.put("durationMillis", durationMillis);
+    return stats;
+  }
+
+  /**
+   * Parses the value of the `Cookie` header returned by {@link CookieManager#getCookie(String)}.
+   *
+   * @return a list of `[name, value]` lists in the order of the header, which is empty for a null
+   *     header
+   */
+  @NonNull
+  @VisibleForTesting
+  static List<Object> parseCookies(@Nullable String header) {
+    final List<Object> cookies = new ArrayList<>();
+    if (header == null) {
+      return cookies;
+    }
+    for (String pair : header.split(";")) {
+      final String trimmed = pair.trim();
+      if (trimmed.isEmpty()) {
+        continue;
+      }
+      final int separator = trimmed.indexOf('=');
+      // A cookie without `=` is a cookie with an empty name.
+      cookies.add(
+          separator >= 0
+              ? Arrays.asList(
+                  trimmed.substring(0, separator).trim(), trimmed.substring(separator + 1).trim())
+              : Arrays.asList("", trimmed));
+    }
+    return cookies;
+  }
+
   /**
    * Removes all cookies from the given cookie manager, using the deprecated (pre-Lollipop)
    * implementation.
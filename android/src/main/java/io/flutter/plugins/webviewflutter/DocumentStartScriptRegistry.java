@@ -0,0 +1,96 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shares the document-start scripts of every WebView.
+ *
+ * <p>Scripts are identified by the SHA-256 hash of their content, so a script that is added to
+ * several WebViews is kept once and views can compare scripts by their hash. A script is released
+ * when the last view that uses it removes it.
+ *
+ * <p>Every method must be called on the main thread.
+ */
+public class DocumentStartScriptRegistry {
+  /** A script that is shared by the views that added it. */
+  public static class SharedScript {
+    @NonNull final String hash;
+    @NonNull final String script;
+    int useCount = 0;
+
+    SharedScript(@NonNull String hash, @NonNull String script) {
+      this.hash = hash;
+      this.script = script;
+    }
+
+    /** The hex encoded SHA-256 hash of the script. */
+    @NonNull
+    public String getHash() {
+      return hash;
+    }
+
+    /** The source of the script. */
+    @NonNull
+    public String getScript() {
+      return script;
+    }
+  }
+
+  private final Map<String, SharedScript> scripts = new HashMap<>();
+
+  /**
+   * Retrieves the shared instance of `script` and counts a use of it.
+   *
+   * <p>Every call must be balanced by a call to {@link #release(SharedScript)}.
+   */
+  @NonNull
+  public SharedScript acquire(@NonNull String script) {
+    final String hash = hash(script);
+    SharedScript sharedScript = scripts.get(hash);
+    if (sharedScript == null) {
+      sharedScript = new SharedScript(hash, script);
+      scripts.put(hash, sharedScript);
+    }
+    sharedScript.useCount++;
+    return sharedScript;
+  }
+
+  /** Releases a use of `sharedScript` and forgets it when it is no longer used. */
+  public void release(@NonNull SharedScript sharedScript) {
+    sharedScript.useCount--;
+    if (sharedScript.useCount <= 0) {
+      scripts.remove(sharedScript.hash);
+    }
+  }
+
+  /** The number of distinct scripts used by the views. */
+  public int getScriptCount() {
+    return scripts.size();
+  }
+
+  @NonNull
+  static String hash(@NonNull String script) {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException exception) {
+      throw new RuntimeException(exception.getMessage());
+    }
+    final byte[] bytes = digest.digest(script.getBytes(StandardCharsets.UTF_8));
+    final StringBuilder builder = new StringBuilder(bytes.length * 2);
+    for (byte b : bytes) {
+      builder.append(Character.forDigit((b >> 4) & 0xF, 16));
+      builder.append(Character.forDigit(b & 0xF, 16));
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,176 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.annotation.SuppressLint;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.webkit.ScriptHandler;
+import androidx.webkit.WebViewCompat;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Scripts that a WebView runs at the start of every document, before the scripts of the page.
+ *
+ * <p>Scripts are added once with {@link WebViewCompat#addDocumentStartJavaScript} instead of being
+ * evaluated for every navigation, so they can't race the page. Each script only runs in frames
+ * whose origin matches one of its allowed origin rules.
+ *
+ * <p>The content of the scripts is shared with other views through a {@link
+ * DocumentStartScriptRegistry}. Adding a script that this view already runs for the same origin
+ * rules returns the handle of the existing script instead of running it twice.
+ *
+ * <p>Every method must be called on the main thread.
+ */
+public class DocumentStartScripts {
+  /** Adds a document-start script to a WebView. */
+  @VisibleForTesting
+  interface ScriptInjector {
+    @NonNull
+    ScriptHandler addDocumentStartJavaScript(
+        @NonNull WebView view, @NonNull String script, @NonNull Set<String> allowedOriginRules);
+  }
+
+  private static class Registration {
+    final DocumentStartScriptRegistry.SharedScript script;
+    final Set<String> allowedOriginRules;
+    ScriptHandler handler;
+
+    Registration(
+        DocumentStartScriptRegistry.SharedScript script,
+        Set<String> allowedOriginRules,
+        ScriptHandler handler) {
+      this.script = script;
+      this.allowedOriginRules = allowedOriginRules;
+      this.handler = handler;
+    }
+  }
+
+  private final ScriptInjector injector;
+  private final Map<Long, Registration> registrations = new LinkedHashMap<>();
+  private DocumentStartScriptRegistry registry = new DocumentStartScriptRegistry();
+  private long nextHandle = 1;
+
+  /** Creates {@link DocumentStartScripts} that don't share scripts until a registry is set. */
+  // Scripts are only added after WebViewFeature.DOCUMENT_START_SCRIPT is checked.
+  @SuppressLint("RequiresFeature")
+  public DocumentStartScripts() {
+    this(WebViewCompat::addDocumentStartJavaScript);
+  }
+
+  @VisibleForTesting
+  DocumentStartScripts(@NonNull ScriptInjector injector) {
+    this.injector = injector;
+  }
+
+  /**
+   * Retrieves the scripts of `view`.
+   *
+   * @return the scripts, or null if `view` wasn't created by this plugin
+   */
+  @Nullable
+  public static DocumentStartScripts forWebView(@NonNull WebView view) {
+    if (view instanceof WebViewHostApiImpl.WebViewPlatformView) {
+      return ((WebViewHostApiImpl.WebViewPlatformView) view).getDocumentStartScripts();
+    }
+    return null;
+  }
+
+  /**
+   * Sets the registry that shares scripts with other views.
+   *
+   * @throws IllegalStateException if scripts were already added
+   */
+  public void setRegistry(@NonNull DocumentStartScriptRegistry registry) {
+    if (!registrations.isEmpty()) {
+      throw new IllegalStateException("The registry must be set before scripts are added.");
+    }
+    this.registry = registry;
+  }
+
+  /**
+   * Runs `script` at the start of every document of `view` whose origin matches one of
+   * `allowedOriginRules`.
+   *
+   * <p>The device must support {@link androidx.webkit.WebViewFeature#DOCUMENT_START_SCRIPT}.
+   *
+   * @return the handle that removes the script with {@link #remove(long)}
+   * @throws IllegalArgumentException if `allowedOriginRules` is empty or contains an invalid rule
+   */
+  public long add(
+      @NonNull WebView view, @NonNull String script, @NonNull Set<String> allowedOriginRules) {
+    if (allowedOriginRules.isEmpty()) {
+      throw new IllegalArgumentException("At least one allowed origin rule is required.");
+    }
+    final DocumentStartScriptRegistry.SharedScript sharedScript = registry.acquire(script);
+    for (Map.Entry<Long, Registration> entry : registrations.entrySet()) {
+      final Registration registration = entry.getValue();
+      if (registration.script == sharedScript
+          && registration.allowedOriginRules.equals(allowedOriginRules)) {
+        registry.release(sharedScript);
+        return entry.getKey();
+      }
+    }
+
+    final Set<String> rules = new HashSet<>(allowedOriginRules);
+    final ScriptHandler handler;
+    try {
+      handler = injector.addDocumentStartJavaScript(view, sharedScript.script, rules);
+    } catch (RuntimeException exception) {
+      registry.release(sharedScript);
+      throw exception;
+    }
+    final long handle = nextHandle++;
+    registrations.put(handle, new Registration(sharedScript, rules, handler));
+    return handle;
+  }
+
+  /**
+   * Stops running the script of `handle` for new documents.
+   *
+   * @return whether `handle` belonged to a script of this view
+   */
+  public boolean remove(long handle) {
+    final Registration registration = registrations.remove(handle);
+    if (registration == null) {
+      return false;
+    }
+    registration.handler.remove();
+    registry.release(registration.script);
+    return true;
+  }
+
+  /** Removes every script of this view. */
+  public void removeAll() {
+    for (Registration registration : registrations.values()) {
+      registration.handler.remove();
+      registry.release(registration.script);
+    }
+    registrations.clear();
+  }
+
+  /**
+   * Adds every script to `replacement`, which replaces the view whose render process is gone.
+   *
+   * <p>The handles of the scripts don't change.
+   */
+  public void transferTo(@NonNull WebView replacement) {
+    for (Registration registration : registrations.values()) {
+      registration.handler =
+          injector.addDocumentStartJavaScript(
+              replacement, registration.script.script, registration.allowedOriginRules);
+    }
+  }
+
+  /** The number of scripts of this view. */
+  public int getScriptCount() {
+    return registrations.size();
+  }
+}
@@ -6,6 +6,7 @@ package io.flutter.plugins.webviewflutter;
 
 import android.webkit.DownloadListener;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.DownloadListenerFlutterApi;
 
@@ -48,6 +49,44 @@ public class DownloadListenerFlutterApiImpl extends DownloadListenerFlutterApi {
         callback);
   }
 
+  /** Passes the start of a download by the {@link NativeDownloadEngine} to Dart. */
+  public void onNativeDownloadStart(
+      @NonNull DownloadListener downloadListener,
+      long downloadId,
+      @NonNull String url,
+      @NonNull String filePath,
+      @NonNull String mimetype,
+      @NonNull Reply<Void> callback) {
+    onNativeDownloadStart(
+        getIdentifierForListener(downloadListener), downloadId, url, filePath, mimetype, callback);
+  }
+
+  /** Passes {@link NativeDownloadEngine.Listener#onProgress} to Dart. */
+  public void onDownloadProgress(
+      @NonNull DownloadListener downloadListener,
+      long downloadId,
+      long receivedBytes,
+      long totalBytes,
+      @NonNull Reply<Void> callback) {
+    onDownloadProgress(
+        getIdentifierForListener(downloadListener),
+        downloadId,
+        receivedBytes,
+        totalBytes,
+        callback);
+  }
+
+  /** Passes {@link NativeDownloadEngine.Listener#onFinished} to Dart. */
+  public void onDownloadFinished(
+      @NonNull DownloadListener downloadListener,
+      long downloadId,
+      @Nullable String filePath,
+      @Nullable String error,
+      @NonNull Reply<Void> callback) {
+    onDownloadFinished(
+        getIdentifierForListener(downloadListener), downloadId, filePath, error, callback);
+  }
+
   private long getIdentifierForListener(DownloadListener listener) {
     final Long identifier = instanceManager.getIdentifierForStrongReference(listener);
     if (identifier == null) {
@@ -4,25 +4,46 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import android.os.Handler;
+import android.os.Looper;
+import android.webkit.CookieManager;
 import android.webkit.DownloadListener;
+import android.webkit.URLUtil;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.DownloadListenerHostApi;
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Objects;
 
 /**
  * Host api implementation for {@link DownloadListener}.
  *
  * <p>Handles creating {@link DownloadListener}s that intercommunicate with a paired Dart object.
  */
-public class DownloadListenerHostApiImpl implements DownloadListenerHostApi {
+public class DownloadListenerHostApiImpl
+    implements DownloadListenerHostApi, WebViewMemoryPressureCoordinator.MemoryTrimListener {
   private final InstanceManager instanceManager;
   private final DownloadListenerCreator downloadListenerCreator;
   private final DownloadListenerFlutterApiImpl flutterApi;
+  private final File downloadCacheDirectory;
+  @Nullable private NativeDownloadEngine downloadEngine;
 
   /**
    * Implementation of {@link DownloadListener} that passes arguments of callback methods to Dart.
+   *
+   * <p>Once {@link #enableNativeDownloads} was called, files are downloaded by a {@link
+   * NativeDownloadEngine} instead, and Dart receives the progress of each download. Native
+   * downloads send the cookies of the profile of the WebView that started them, see {@link
+   * #forProfile}.
    */
   public static class DownloadListenerImpl implements DownloadListener {
     private final DownloadListenerFlutterApiImpl flutterApi;
+    private final CookieManagerHostApiImpl.CookieManagerProxy cookieManagerProxy;
+    @Nullable private NativeDownloadEngine downloadEngine;
+    @Nullable private File downloadDirectory;
 
     /**
      * Creates a {@link DownloadListenerImpl} that passes arguments of callbacks methods to Dart.
@@ -30,7 +51,29 @@ public class DownloadListenerHostApiImpl implements DownloadListenerHostApi {
      * @param flutterApi handles sending messages to Dart
      */
     public DownloadListenerImpl(@NonNull DownloadListenerFlutterApiImpl flutterApi) {
+      this(flutterApi, new CookieManagerHostApiImpl.CookieManagerProxy());
+    }
+
+    @VisibleForTesting
+    DownloadListenerImpl(
+        @NonNull DownloadListenerFlutterApiImpl flutterApi,
+        @NonNull CookieManagerHostApiImpl.CookieManagerProxy cookieManagerProxy) {
       this.flutterApi = flutterApi;
+      this.cookieManagerProxy = cookieManagerProxy;
+    }
+
+    /**
+     * Creates a listener for a WebView that uses the profile named `profileName`.
+     *
+     * <p>{@link DownloadListener#onDownloadStart} doesn't identify the WebView, so a {@link
+     * WebViewHostApiImpl.WebViewPlatformView} sets this listener instead of this instance.
+     *
+     * @param profileName the profile of the WebView, or null for the default profile
+     */
+    @NonNull
+    public DownloadListener forProfile(@Nullable String profileName) {
+      return (url, userAgent, contentDisposition, mimetype, contentLength) ->
+          startDownload(profileName, url, userAgent, contentDisposition, mimetype, contentLength);
     }
 
     @Override
@@ -40,8 +83,97 @@ public class DownloadListenerHostApiImpl implements DownloadListenerHostApi {
         @NonNull String contentDisposition,
         @NonNull String mimetype,
         long contentLength) {
-      flutterApi.onDownloadStart(
-          this, url, userAgent, contentDisposition, mimetype, contentLength, reply -> {});
+      startDownload(null, url, userAgent, contentDisposition, mimetype, contentLength);
+    }
+
+    private void startDownload(
+        @Nullable String profileName,
+        @NonNull String url,
+        @NonNull String userAgent,
+        @NonNull String contentDisposition,
+        @NonNull String mimetype,
+        long contentLength) {
+      if (downloadEngine == null || downloadDirectory == null) {
+        flutterApi.onDownloadStart(
+            this, url, userAgent, contentDisposition, mimetype, contentLength, reply -> {});
+        return;
+      }
+
+      final CookieManager cookieManager =
+          profileName != null
+              ? cookieManagerProxy.getInstance(profileName)
+              : cookieManagerProxy.getInstance();
+      final NativeDownloadEngine.Handle download;
+      try {
+        download =
+            downloadEngine.enqueue(
+                url,
+                userAgent,
+                new CookieManagerCookieSource(cookieManager),
+                downloadDirectory,
+                URLUtil.guessFileName(url, contentDisposition, mimetype),
+                createEngineListener());
+      } catch (IOException exception) {
+        // Dart can still download the file itself.
+        flutterApi.onDownloadStart(
+            this, url, userAgent, contentDisposition, mimetype, contentLength, reply -> {});
+        return;
+      }
+      // The handle has the file of an earlier download of `url` if this one joined it.
+      flutterApi.onNativeDownloadStart(
+          this, download.id, url, download.file.getPath(), mimetype, reply -> {});
+    }
+
+    private NativeDownloadEngine.Listener createEngineListener() {
+      return new NativeDownloadEngine.Listener() {
+        @Override
+        public void onProgress(long downloadId, long receivedBytes, long totalBytes) {
+          flutterApi.onDownloadProgress(
+              DownloadListenerImpl.this, downloadId, receivedBytes, totalBytes, reply -> {});
+        }
+
+        @Override
+        public void onFinished(long downloadId, @Nullable String filePath, @Nullable String error) {
+          flutterApi.onDownloadFinished(
+              DownloadListenerImpl.this, downloadId, filePath, error, reply -> {});
+        }
+      };
+    }
+
+    /**
+     * Downloads files with `downloadEngine` into `downloadDirectory` instead of passing them to
+     * Dart.
+     */
+    public void enableNativeDownloads(
+        @NonNull NativeDownloadEngine downloadEngine, @NonNull File downloadDirectory) {
+      this.downloadEngine = downloadEngine;
+      this.downloadDirectory = downloadDirectory;
+    }
+  }
+
+  // Downloads with the same cookie manager send the same cookies, so they can join each other.
+  private static class CookieManagerCookieSource implements NativeDownloadEngine.CookieSource {
+    private final CookieManager cookieManager;
+
+    CookieManagerCookieSource(@NonNull CookieManager cookieManager) {
+      this.cookieManager = cookieManager;
+    }
+
+    @Nullable
+    @Override
+    public String getCookie(@NonNull String url) {
+      return cookieManager.getCookie(url);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof CookieManagerCookieSource
+          && ((CookieManagerCookieSource) other).cookieManager == cookieManager;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(cookieManager);
     }
   }
 
@@ -66,14 +198,29 @@ public class DownloadListenerHostApiImpl implements DownloadListenerHostApi {
    * @param instanceManager maintains instances stored to communicate with Dart objects
    * @param downloadListenerCreator handles creating {@link DownloadListenerImpl}s
    * @param flutterApi handles sending messages to Dart
+   * @param downloadCacheDirectory a directory of the plugin that keeps copies of completed native
+   *     downloads to reuse them
    */
   public DownloadListenerHostApiImpl(
       @NonNull InstanceManager instanceManager,
       @NonNull DownloadListenerCreator downloadListenerCreator,
-      @NonNull DownloadListenerFlutterApiImpl flutterApi) {
+      @NonNull DownloadListenerFlutterApiImpl flutterApi,
+      @NonNull File downloadCacheDirectory) {
     this.instanceManager = instanceManager;
     this.downloadListenerCreator = downloadListenerCreator;
     this.flutterApi = flutterApi;
+    this.downloadCacheDirectory = downloadCacheDirectory;
+  }
+
+  @VisibleForTesting
+  DownloadListenerHostApiImpl(
+      @NonNull InstanceManager instanceManager,
+      @NonNull DownloadListenerCreator downloadListenerCreator,
+      @NonNull DownloadListenerFlutterApiImpl flutterApi,
+      @NonNull File downloadCacheDirectory,
+      @NonNull NativeDownloadEngine downloadEngine) {
+    this(instanceManager, downloadListenerCreator, flutterApi, downloadCacheDirectory);
+    this.downloadEngine = downloadEngine;
   }
 
   @Override
@@ -82,4 +229,69 @@ public class DownloadListenerHostApiImpl implements DownloadListenerHostApi {
         downloadListenerCreator.createDownloadListener(flutterApi);
     instanceManager.addDartCreatedInstance(downloadListener, instanceId);
   }
+
+  @Override
+  public void enableNativeDownloads(@NonNull Long instanceId, @NonNull String directory) {
+    final DownloadListenerImpl downloadListener =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    final File downloadDirectory = new File(directory);
+    if (!downloadDirectory.isDirectory() && !downloadDirectory.mkdirs()) {
+      throw new IllegalArgumentException("Failed to create the directory " + directory + ".");
+    }
+    downloadListener.enableNativeDownloads(getDownloadEngine(), downloadDirectory);
+  }
+
+  @Override
+  public void setMaxConcurrentDownloads(@NonNull Long maxConcurrentDownloads) {
+    getDownloadEngine().setMaxConcurrentDownloads(maxConcurrentDownloads.intValue());
+  }
+
+  @Override
+  public void cancelDownload(@NonNull Long downloadId) {
+    getDownloadEngine().cancel(downloadId);
+  }
+
+  @Override
+  public void resumeDownload(@NonNull Long downloadId) {
+    getDownloadEngine().resume(downloadId);
+  }
+
+  @Override
+  public void setDownloadCacheBudget(@NonNull Long budgetBytes) {
+    getDownloadEngine().getStore().setBudgetBytes(budgetBytes);
+  }
+
+  @NonNull
+  @Override
+  public Long getDownloadCacheSize() {
+    return getDownloadEngine().getStore().getStoredBytes();
+  }
+
+  @Override
+  public void onTrimMemory(int level) {
+    if (downloadEngine != null) {
+      downloadEngine.getStore().onTrimMemory(level);
+    }
+  }
+
+  /** Cancels the native downloads and stops their threads, e.g. when the engine detaches. */
+  public void close() {
+    if (downloadEngine != null) {
+      downloadEngine.close();
+    }
+  }
+
+  // The engine is shared by every listener, so the concurrency limit applies to all downloads.
+  private NativeDownloadEngine getDownloadEngine() {
+    if (downloadEngine == null) {
+      downloadEngine =
+          new NativeDownloadEngine(
+              new Handler(Looper.getMainLooper())::post,
+              url -> (HttpURLConnection) url.openConnection(),
+              new DownloadStore(downloadCacheDirectory),
+              // The list is kept next to the store, whose directory only contains the store.
+              new File(downloadCacheDirectory.getPath() + ".parts"));
+    }
+    return downloadEngine;
+  }
 }
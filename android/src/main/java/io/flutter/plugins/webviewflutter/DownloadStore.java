@@ -0,0 +1,281 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.content.ComponentCallbacks2;
+import android.os.Build;
+import android.system.ErrnoException;
+import android.system.Os;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps copies of the files completed by a {@link NativeDownloadEngine}, so a resource that was
+ * already downloaded is reused instead of transferred again.
+ *
+ * <p>The copies are stored in a directory of the plugin, hard-linked to the download where the file
+ * system allows it. The files in the directories that downloads are written to belong to the user
+ * and are never deleted by the store.
+ *
+ * <p>Entries are keyed by a digest of the URL and the version of the resource: its `ETag`, or its
+ * `Last-Modified` date and length if the server didn't send an `ETag`. The length alone doesn't
+ * identify a version, so responses with neither header can't be matched and aren't stored.
+ *
+ * <p>When the copies exceed the budget, the copies of the least recently used entries are deleted.
+ * The most recently used entry is always kept, so a download that is larger than the budget can
+ * still be reused. When memory is low, only the copy of the most recently used entry is kept. The
+ * entries are kept in memory, so files downloaded before the app started aren't reused and their
+ * copies are deleted.
+ */
+public class DownloadStore implements WebViewMemoryPressureCoordinator.MemoryTrimListener {
+  /** A completed download. */
+  public static class Entry {
+    @NonNull final String key;
+    @NonNull final String url;
+    @Nullable final String etag;
+    @Nullable final String lastModified;
+    final long length;
+    // The copy of the download in the directory of the store.
+    @NonNull final File file;
+
+    Entry(
+        @NonNull String key,
+        @NonNull String url,
+        @Nullable String etag,
+        @Nullable String lastModified,
+        long length,
+        @NonNull File file) {
+      this.key = key;
+      this.url = url;
+      this.etag = etag;
+      this.lastModified = lastModified;
+      this.length = length;
+      this.file = file;
+    }
+
+    /**
+     * Whether a response with `etag`, `lastModified` and `contentLength` returns the content of
+     * this entry.
+     */
+    boolean matches(@Nullable String etag, @Nullable String lastModified, long contentLength) {
+      return key.equals(keyOf(url, etag, lastModified, contentLength));
+    }
+  }
+
+  // The directories whose copies of earlier processes were deleted. Stores of several engines can
+  // share a directory.
+  private static final Set<File> cleanedDirectories = new HashSet<>();
+
+  // Ordered from the least to the most recently used.
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  @NonNull private final File directory;
+  private long budgetBytes = Long.MAX_VALUE;
+  private long storedBytes;
+
+  /**
+   * Creates a store that keeps its copies in `directory`.
+   *
+   * <p>The first copy of the process in `directory` deletes the copies left by earlier processes,
+   * because they can't be matched.
+   */
+  public DownloadStore(@NonNull File directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Computes the key of the content of `url` with `etag`, or with `lastModified` and
+   * `contentLength` if `etag` is null.
+   *
+   * @return the key, or null if neither `etag` nor `lastModified` identify the content
+   */
+  @Nullable
+  @VisibleForTesting
+  static String keyOf(
+      @NonNull String url,
+      @Nullable String etag,
+      @Nullable String lastModified,
+      long contentLength) {
+    final String version;
+    if (etag != null) {
+      version = "etag:" + etag;
+    } else if (lastModified != null) {
+      version = "last-modified:" + lastModified + "\nlength:" + contentLength;
+    } else {
+      return null;
+    }
+    try {
+      final byte[] digest =
+          MessageDigest.getInstance("SHA-256")
+              .digest((url + "\n" + version).getBytes(StandardCharsets.UTF_8));
+      final StringBuilder key = new StringBuilder(digest.length * 2);
+      for (byte value : digest) {
+        key.append(String.format("%02x", value));
+      }
+      return key.toString();
+    } catch (NoSuchAlgorithmException exception) {
+      // Every Java platform is required to support SHA-256.
+      throw new IllegalStateException(exception);
+    }
+  }
+
+  /**
+   * Retrieves the most recently used entry of `url` whose file still exists.
+   *
+   * <p>Doesn't mark the entry as used, see {@link #reuse}.
+   */
+  @Nullable
+  public synchronized Entry findLatest(@NonNull String url) {
+    Entry latest = null;
+    final Iterator<Entry> iterator = entries.values().iterator();
+    while (iterator.hasNext()) {
+      final Entry entry = iterator.next();
+      if (!entry.file.exists()) {
+        storedBytes -= entry.length;
+        iterator.remove();
+      } else if (entry.url.equals(url)) {
+        latest = entry;
+      }
+    }
+    return latest;
+  }
+
+  /** Marks `entry` as the most recently used. */
+  public synchronized void reuse(@NonNull Entry entry) {
+    entries.get(entry.key);
+  }
+
+  /**
+   * Stores a copy of the completed download of `url` in `file`, then evicts entries over the
+   * budget.
+   *
+   * <p>`file` itself is never modified or deleted. Copies the file, so it must not be called on the
+   * main thread.
+   *
+   * @return false if the response can't be matched by later downloads and wasn't stored
+   * @throws IOException if the copy couldn't be created
+   */
+  public boolean put(
+      @NonNull String url,
+      @Nullable String etag,
+      @Nullable String lastModified,
+      long length,
+      @NonNull File file)
+      throws IOException {
+    final String key = keyOf(url, etag, lastModified, length);
+    if (key == null) {
+      return false;
+    }
+    prepareDirectory();
+    // Copied outside of the lock, so large files don't block other downloads.
+    final File copy = File.createTempFile(key.substring(0, 8), ".download", directory);
+    try {
+      copy(file, copy);
+    } catch (IOException exception) {
+      copy.delete();
+      throw exception;
+    }
+
+    synchronized (this) {
+      final Entry previous = entries.remove(key);
+      if (previous != null) {
+        storedBytes -= previous.length;
+        previous.file.delete();
+      }
+      entries.put(key, new Entry(key, url, etag, lastModified, length, copy));
+      storedBytes += length;
+      evict(budgetBytes);
+    }
+    return true;
+  }
+
+  private void prepareDirectory() throws IOException {
+    synchronized (cleanedDirectories) {
+      if (cleanedDirectories.add(directory)) {
+        final File[] files = directory.listFiles();
+        if (files != null) {
+          for (File file : files) {
+            file.delete();
+          }
+        }
+      }
+    }
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Failed to create the directory " + directory.getPath() + ".");
+    }
+  }
+
+  /** Replaces `destination` with a hard link to `source`, or a copy if links aren't possible. */
+  static void copy(@NonNull File source, @NonNull File destination) throws IOException {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+      try {
+        destination.delete();
+        Os.link(source.getPath(), destination.getPath());
+        return;
+      } catch (ErrnoException exception) {
+        // Hard links fail across file systems and on some of them, e.g. FAT.
+      }
+    }
+    try (FileChannel input = new FileInputStream(source).getChannel();
+        FileChannel output = new FileOutputStream(destination).getChannel()) {
+      final long size = input.size();
+      long position = 0;
+      long transferred;
+      while (position < size
+          && (transferred = input.transferTo(position, size - position, output)) > 0) {
+        position += transferred;
+      }
+    }
+  }
+
+  /**
+   * Sets how many bytes the copies may use. Deletes the copies of the least recently used entries
+   * until the others fit.
+   */
+  public synchronized void setBudgetBytes(long budgetBytes) {
+    if (budgetBytes < 0) {
+      throw new IllegalArgumentException("The budget must not be negative.");
+    }
+    this.budgetBytes = budgetBytes;
+    evict(budgetBytes);
+  }
+
+  /** The number of bytes used by the copies. */
+  public synchronized long getStoredBytes() {
+    return storedBytes;
+  }
+
+  @Override
+  public synchronized void onTrimMemory(int level) {
+    if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE
+        || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+      evict(0);
+    }
+  }
+
+  // Deletes the copies of the least recently used entries until the others fit in `budgetBytes`.
+  private void evict(long budgetBytes) {
+    final Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+    while (storedBytes > budgetBytes && entries.size() > 1) {
+      final Entry entry = iterator.next().getValue();
+      storedBytes -= entry.length;
+      entry.file.delete();
+      iterator.remove();
+    }
+  }
+}
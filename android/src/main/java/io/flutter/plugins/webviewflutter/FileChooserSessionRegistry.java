@@ -0,0 +1,588 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static android.app.Activity.RESULT_OK;
+
+import android.annotation.SuppressLint;
+import android.app.Activity;
+import android.content.ActivityNotFoundException;
+import android.content.ClipData;
+import android.content.ContentResolver;
+import android.content.Context;
+import android.content.Intent;
+import android.database.Cursor;
+import android.net.Uri;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.provider.MediaStore;
+import android.provider.OpenableColumns;
+import android.webkit.ValueCallback;
+import android.webkit.WebChromeClient;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
+import androidx.core.content.FileProvider;
+import io.flutter.Log;
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the file choosers opened by {@link WebChromeClient#onShowFileChooser}.
+ *
+ * <p>Each chooser is a session with its own request code, callback and capture files, so choosers
+ * of different WebViews don't overwrite each other. A WebView shows one chooser at a time: opening
+ * another one cancels the previous session of the same WebView. Request codes are allocated from a
+ * counter shared by the registries of every engine, because the engines of an add-to-app activity
+ * all receive its results.
+ *
+ * <p>A session ends when the files it returned are resolved, when its WebView is disposed, when
+ * the activity is detached or when the registry is closed. Resolving queries the {@link
+ * android.content.ContentResolver} for the size and type of every file, so it runs on a background
+ * executor and the callback is called on the main thread. The callback of a session always
+ * receives exactly one value.
+ *
+ * <p>Captures are owned by a {@link CaptureStore}. The captures that weren't chosen are deleted
+ * when their session ends, and old captures are trimmed in the background once the main thread is
+ * idle. The captures and the photos of the {@link UploadImageProcessor} are also trimmed when the
+ * system reports memory pressure. Only used on the main thread.
+ */
+public class FileChooserSessionRegistry
+    implements WebViewMemoryPressureCoordinator.MemoryTrimListener {
+  private static final String TAG = "FileChooserSessions";
+
+  // Activities that dispatch results to fragments only support request codes of 16 bits.
+  @VisibleForTesting static final int FIRST_REQUEST_CODE = 0x5700;
+  // A power of two, so the offset stays in range when the counter overflows.
+  private static final int REQUEST_CODE_COUNT = 0x100;
+  private static final String CAPTURE_DIRECTORY_NAME = "webview_flutter_captures";
+  private static final AtomicInteger nextRequestCodeOffset = new AtomicInteger();
+
+  // A file that a camera app writes a photo or video to.
+  private static class Capture {
+    @NonNull final Uri uri;
+    @NonNull final File file;
+    @NonNull final String mimeType;
+
+    Capture(@NonNull Uri uri, @NonNull File file, @NonNull String mimeType) {
+      this.uri = uri;
+      this.file = file;
+      this.mimeType = mimeType;
+    }
+  }
+
+  // A file returned by a chooser.
+  private static class ResolvedFile {
+    @NonNull final Uri uri;
+    // Null if the provider of the file doesn't know its type.
+    @Nullable final String mimeType;
+    // Whether this is a photo written by an UploadImageProcessor.
+    final boolean processed;
+
+    ResolvedFile(@NonNull Uri uri, @Nullable String mimeType, boolean processed) {
+      this.uri = uri;
+      this.mimeType = mimeType;
+      this.processed = processed;
+    }
+  }
+
+  private static class Session {
+    @NonNull final WebView webView;
+    @NonNull final ValueCallback<Uri[]> callback;
+    @NonNull final Context context;
+    @Nullable Capture image;
+    @Nullable Capture video;
+    boolean finished;
+
+    Session(
+        @NonNull WebView webView,
+        @NonNull ValueCallback<Uri[]> callback,
+        @NonNull Context context) {
+      this.webView = webView;
+      this.callback = callback;
+      this.context = context;
+    }
+  }
+
+  private final Map<Integer, Session> sessions = new HashMap<>();
+  // Resolves the files returned by choosers in order, off the main thread.
+  private final Executor backgroundExecutor;
+  // Calls the callbacks of sessions on the main thread.
+  private final Executor resultExecutor;
+  // Runs tasks when the main thread is idle.
+  private final Executor idleExecutor;
+  // Created with the first capture, because its directory depends on a context.
+  @Nullable private CaptureStore captureStore;
+  private boolean trimScheduled = false;
+  private final LatencyHistogram resolutionHistogram = new LatencyHistogram();
+  // Read by the background executor.
+  @Nullable private volatile UploadImageProcessor uploadImageProcessor;
+  private long resolvedFileCount = 0;
+  private long processedImageCount = 0;
+  private long cancelledCount = 0;
+  @Nullable private Activity activity;
+  private boolean closed = false;
+
+  /** Constructs a {@link FileChooserSessionRegistry}. */
+  public FileChooserSessionRegistry() {
+    this(
+        Executors.newSingleThreadExecutor(),
+        new Handler(Looper.getMainLooper())::post,
+        runnable ->
+            Looper.myQueue()
+                .addIdleHandler(
+                    () -> {
+                      runnable.run();
+                      return false;
+                    }));
+  }
+
+  @VisibleForTesting
+  FileChooserSessionRegistry(
+      @NonNull Executor backgroundExecutor,
+      @NonNull Executor resultExecutor,
+      @NonNull Executor idleExecutor) {
+    this.backgroundExecutor = backgroundExecutor;
+    this.resultExecutor = resultExecutor;
+    this.idleExecutor = idleExecutor;
+  }
+
+  /**
+   * Retrieves the registry of `view`.
+   *
+   * @return the registry, or null if `view` wasn't created by this plugin
+   */
+  @Nullable
+  public static FileChooserSessionRegistry forWebView(@NonNull WebView view) {
+    if (view instanceof WebViewHostApiImpl.WebViewPlatformView) {
+      return ((WebViewHostApiImpl.WebViewPlatformView) view).getFileChooserSessionRegistry();
+    }
+    return null;
+  }
+
+  /**
+   * Sets the activity that starts choosers and receives their results.
+   *
+   * <p>Doesn't end open sessions, because the results of a recreated activity are delivered to the
+   * new instance. See {@link #cancelAll}. Old captures are deleted once the app is idle after the
+   * activity is detached.
+   */
+  public void setActivity(@Nullable Activity activity) {
+    this.activity = activity;
+    if (activity == null) {
+      scheduleTrim();
+    }
+  }
+
+  /**
+   * Sets the processor of the photos chosen for uploads, or null to upload them unchanged.
+   *
+   * <p>Applies to the results that are returned after this call.
+   */
+  public void setUploadImageProcessor(@Nullable UploadImageProcessor processor) {
+    uploadImageProcessor = processor;
+  }
+
+  /**
+   * Opens a chooser for `webView`.
+   *
+   * @return false if the chooser couldn't be opened, in which case `callback` isn't called
+   */
+  @RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
+  public boolean open(
+      @NonNull WebView webView,
+      @NonNull ValueCallback<Uri[]> callback,
+      @NonNull WebChromeClient.FileChooserParams params) {
+    final Activity activity = this.activity;
+    if (activity == null || closed) {
+      return false;
+    }
+    cancel(webView);
+    final Integer requestCode = allocateRequestCode();
+    if (requestCode == null) {
+      return false;
+    }
+
+    final Session session =
+        new Session(webView, callback, activity.getApplicationContext());
+    final String[] acceptTypes = params.getAcceptTypes();
+    final List<Intent> captureIntents = new ArrayList<>();
+    if (accepts(acceptTypes, "image")) {
+      session.image = createCapture(session.context, "image-", ".jpg", "image/jpeg");
+      if (session.image != null) {
+        final Intent takePhotoIntent = new Intent(MediaStore.ACTION_IMAGE_CAPTURE);
+        takePhotoIntent.putExtra(MediaStore.EXTRA_OUTPUT, session.image.uri);
+        captureIntents.add(takePhotoIntent);
+      }
+    }
+    if (accepts(acceptTypes, "video")) {
+      session.video = createCapture(session.context, "video-", ".mp4", "video/mp4");
+      if (session.video != null) {
+        final Intent takeVideoIntent = new Intent(MediaStore.ACTION_VIDEO_CAPTURE);
+        takeVideoIntent.putExtra(MediaStore.EXTRA_OUTPUT, session.video.uri);
+        captureIntents.add(takeVideoIntent);
+      }
+    }
+
+    final Intent contentSelectionIntent = params.createIntent();
+    contentSelectionIntent.putExtra(
+        Intent.EXTRA_ALLOW_MULTIPLE,
+        params.getMode() == WebChromeClient.FileChooserParams.MODE_OPEN_MULTIPLE);
+    final Intent chooserIntent = new Intent(Intent.ACTION_CHOOSER);
+    chooserIntent.putExtra(Intent.EXTRA_INTENT, contentSelectionIntent);
+    chooserIntent.putExtra(Intent.EXTRA_INITIAL_INTENTS, captureIntents.toArray(new Intent[0]));
+
+    sessions.put(requestCode, session);
+    try {
+      activity.startActivityForResult(chooserIntent, requestCode);
+    } catch (ActivityNotFoundException exception) {
+      Log.e(TAG, "No activity can choose files.", exception);
+      sessions.remove(requestCode);
+      releaseCaptures(session, null);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Resolves the files returned by the chooser of `requestCode` in the background, then ends its
+   * session with them.
+   *
+   * <p>The session stays open while its files are resolved, so it can still be cancelled.
+   *
+   * @return whether `requestCode` belongs to a session of this registry
+   */
+  public boolean handleResult(int requestCode, int resultCode, @Nullable Intent data) {
+    final Session session = sessions.get(requestCode);
+    if (session == null) {
+      return false;
+    }
+    if (resultCode != RESULT_OK) {
+      sessions.remove(requestCode);
+      finish(session, null);
+      return true;
+    }
+
+    final long startMillis = SystemClock.uptimeMillis();
+    final UploadImageProcessor processor = uploadImageProcessor;
+    backgroundExecutor.execute(
+        () -> {
+          final List<ResolvedFile> files = resolveFiles(session, data, processor);
+          resultExecutor.execute(() -> deliver(requestCode, session, files, startMillis));
+        });
+    return true;
+  }
+
+  /** Ends the session of `webView` without a result, if it has one. */
+  public void cancel(@NonNull WebView webView) {
+    final Iterator<Session> iterator = sessions.values().iterator();
+    while (iterator.hasNext()) {
+      final Session session = iterator.next();
+      if (session.webView == webView) {
+        iterator.remove();
+        cancelledCount++;
+        finish(session, null);
+      }
+    }
+  }
+
+  /** Ends every session without a result, e.g. because the activity was detached. */
+  public void cancelAll() {
+    final List<Session> cancelled = new ArrayList<>(sessions.values());
+    sessions.clear();
+    for (Session session : cancelled) {
+      cancelledCount++;
+      finish(session, null);
+    }
+  }
+
+  /**
+   * Ends every session without a result and shuts down the background executor, e.g. because the
+   * plugin was detached from its engine.
+   *
+   * <p>Files that are being resolved or deleted are still processed. Choosers can't be opened
+   * afterwards.
+   */
+  public void close() {
+    if (closed) {
+      return;
+    }
+    cancelAll();
+    closed = true;
+    if (backgroundExecutor instanceof ExecutorService) {
+      ((ExecutorService) backgroundExecutor).shutdown();
+    }
+  }
+
+  @Override
+  public void onTrimMemory(int level) {
+    scheduleTrim();
+    final UploadImageProcessor processor = uploadImageProcessor;
+    final Activity activity = this.activity;
+    if (processor != null && activity != null && !closed) {
+      final Context context = activity.getApplicationContext();
+      // The photos of pending results are younger than the minimum age, so they are kept.
+      backgroundExecutor.execute(
+          () -> processor.trimCache(context, Collections.<Uri>emptyList()));
+    }
+  }
+
+  /** The number of open sessions, including those whose files are being resolved. */
+  public int getSessionCount() {
+    return sessions.size();
+  }
+
+  /**
+   * Creates a snapshot of the statistics of this registry that can be sent to Dart.
+   *
+   * <p>Contains `resolvedFileCount`, the number of files delivered to pages, `processedImageCount`,
+   * the number of those that were processed by an {@link UploadImageProcessor}, `cancelledCount`,
+   * the number of sessions that were cancelled, and `resolution`, which maps to {@link
+   * LatencyHistogram#toMap()} and measures the time from the result of a chooser to its callback.
+   */
+  @NonNull
+  public Map<String, Object> getStats() {
+    final Map<String, Object> stats = new HashMap<>();
+    stats.put("resolvedFileCount", resolvedFileCount);
+    stats.put("processedImageCount", processedImageCount);
+    stats.put("cancelledCount", cancelledCount);
+    stats.put("resolution", resolutionHistogram.toMap());
+    return stats;
+  }
+
+  private void deliver(
+      int requestCode,
+      @NonNull Session session,
+      @Nullable List<ResolvedFile> files,
+      long startMillis) {
+    // The session was cancelled while its files were resolved.
+    if (session.finished) {
+      return;
+    }
+    sessions.remove(requestCode);
+    resolutionHistogram.record(SystemClock.uptimeMillis() - startMillis);
+
+    Uri[] results = null;
+    if (files != null && !files.isEmpty()) {
+      results = new Uri[files.size()];
+      for (int i = 0; i < files.size(); i++) {
+        results[i] = files.get(i).uri;
+        if (files.get(i).processed) {
+          processedImageCount++;
+        }
+      }
+      resolvedFileCount += results.length;
+    }
+    finish(session, results);
+  }
+
+  private void finish(@NonNull Session session, @Nullable Uri[] results) {
+    if (session.finished) {
+      return;
+    }
+    session.finished = true;
+    session.callback.onReceiveValue(results);
+    releaseCaptures(session, results);
+    scheduleTrim();
+  }
+
+  // Deletes the captures of `session` that aren't in `results`, in the background.
+  private void releaseCaptures(@NonNull Session session, @Nullable Uri[] results) {
+    final CaptureStore store = captureStore;
+    final List<Uri> chosenUris =
+        results != null ? Arrays.asList(results) : Collections.<Uri>emptyList();
+    for (Capture capture : new Capture[] {session.image, session.video}) {
+      if (store != null && capture != null) {
+        final boolean chosen = chosenUris.contains(capture.uri);
+        backgroundExecutor.execute(() -> store.release(capture.file, chosen));
+      }
+    }
+  }
+
+  // Trims the captures once the main thread is idle, so it doesn't compete with the page.
+  private void scheduleTrim() {
+    final CaptureStore store = captureStore;
+    if (store == null || trimScheduled || closed) {
+      return;
+    }
+    trimScheduled = true;
+    idleExecutor.execute(
+        () -> {
+          trimScheduled = false;
+          if (!closed) {
+            backgroundExecutor.execute(store::trim);
+          }
+        });
+  }
+
+  // Runs on the background executor.
+  @Nullable
+  private static List<ResolvedFile> resolveFiles(
+      @NonNull Session session,
+      @Nullable Intent data,
+      @Nullable UploadImageProcessor processor) {
+    try {
+      final List<ResolvedFile> files = queryFiles(session, data);
+      if (files == null || processor == null || Build.VERSION.SDK_INT < Build.VERSION_CODES.N) {
+        return files;
+      }
+      return processImages(session.context, files, processor);
+    } catch (RuntimeException exception) {
+      // Providers can throw, e.g. when the app lost its permission to read a file.
+      Log.e(TAG, "Failed to resolve the chosen files.", exception);
+      return null;
+    }
+  }
+
+  @Nullable
+  private static List<ResolvedFile> queryFiles(@NonNull Session session, @Nullable Intent data) {
+    final ContentResolver contentResolver = session.context.getContentResolver();
+    // Camera apps don't return data, so a non-empty capture means it was chosen.
+    for (Capture capture : new Capture[] {session.image, session.video}) {
+      if (capture != null && getFileSize(contentResolver, capture.uri) > 0) {
+        final List<ResolvedFile> files = new ArrayList<>(1);
+        files.add(new ResolvedFile(capture.uri, capture.mimeType, false));
+        return files;
+      }
+    }
+    if (data == null) {
+      return null;
+    }
+
+    final List<Uri> uris = new ArrayList<>();
+    if (data.getData() != null) {
+      uris.add(data.getData());
+    } else if (data.getClipData() != null) {
+      final ClipData clipData = data.getClipData();
+      for (int i = 0; i < clipData.getItemCount(); i++) {
+        final Uri uri = clipData.getItemAt(i).getUri();
+        if (uri != null) {
+          uris.add(uri);
+        }
+      }
+    }
+    final List<ResolvedFile> files = new ArrayList<>(uris.size());
+    for (Uri uri : uris) {
+      files.add(new ResolvedFile(uri, contentResolver.getType(uri), false));
+    }
+    return files;
+  }
+
+  // Replaces the photos in `files` with their processed versions.
+  @RequiresApi(api = Build.VERSION_CODES.N)
+  @NonNull
+  private static List<ResolvedFile> processImages(
+      @NonNull Context context,
+      @NonNull List<ResolvedFile> files,
+      @NonNull UploadImageProcessor processor) {
+    final List<ResolvedFile> processedFiles = new ArrayList<>(files.size());
+    final List<Uri> processedUris = new ArrayList<>();
+    for (ResolvedFile file : files) {
+      final Uri processedUri =
+          UploadImageProcessor.canProcess(file.mimeType)
+              ? processor.process(context, file.uri)
+              : null;
+      if (processedUri != null) {
+        processedFiles.add(new ResolvedFile(processedUri, processor.getMimeType(), true));
+        processedUris.add(processedUri);
+      } else {
+        processedFiles.add(file);
+      }
+    }
+    if (!processedUris.isEmpty()) {
+      processor.trimCache(context, processedUris);
+    }
+    return processedFiles;
+  }
+
+  @Nullable
+  private Integer allocateRequestCode() {
+    for (int i = 0; i < REQUEST_CODE_COUNT; i++) {
+      final int requestCode =
+          FIRST_REQUEST_CODE
+              + (nextRequestCodeOffset.getAndIncrement() & (REQUEST_CODE_COUNT - 1));
+      if (!sessions.containsKey(requestCode)) {
+        return requestCode;
+      }
+    }
+    return null;
+  }
+
+  // An `<input type="file">` without an `accept` attribute has a single empty accept type.
+  private static boolean accepts(@Nullable String[] acceptTypes, @NonNull String type) {
+    if (acceptTypes == null
+        || acceptTypes.length == 0
+        || (acceptTypes.length == 1 && acceptTypes[0].isEmpty())) {
+      return true;
+    }
+    for (String acceptType : acceptTypes) {
+      if (acceptType.contains(type)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Nullable
+  private Capture createCapture(
+      @NonNull Context context,
+      @NonNull String prefix,
+      @NonNull String suffix,
+      @NonNull String mimeType) {
+    if (captureStore == null) {
+      final File externalFilesDir = context.getExternalFilesDir(null);
+      if (externalFilesDir == null) {
+        return null;
+      }
+      // A directory of the plugin, so the store never deletes files of the app.
+      captureStore = new CaptureStore(new File(externalFilesDir, CAPTURE_DIRECTORY_NAME));
+    }
+
+    @SuppressLint("SimpleDateFormat")
+    final String timeStamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+    File file = null;
+    try {
+      file = captureStore.create(prefix + "_" + timeStamp, suffix);
+      final Uri uri =
+          FileProvider.getUriForFile(context, context.getPackageName() + ".fileprovider", file);
+      return new Capture(uri, file, mimeType);
+    } catch (IOException | IllegalArgumentException exception) {
+      Log.e(TAG, "Failed to create a capture file.", exception);
+      if (file != null) {
+        captureStore.release(file, false);
+      }
+      return null;
+    }
+  }
+
+  // Returns -1 if the provider doesn't know the size of the file.
+  private static long getFileSize(@NonNull ContentResolver contentResolver, @NonNull Uri uri) {
+    try (Cursor cursor =
+        contentResolver.query(uri, new String[] {OpenableColumns.SIZE}, null, null, null)) {
+      if (cursor == null || !cursor.moveToFirst()) {
+        return -1;
+      }
+      final int sizeIndex = cursor.getColumnIndex(OpenableColumns.SIZE);
+      return sizeIndex < 0 || cursor.isNull(sizeIndex) ? -1 : cursor.getLong(sizeIndex);
+    }
+  }
+}
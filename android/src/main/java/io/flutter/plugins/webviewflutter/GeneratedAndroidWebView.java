@@ -804,6 +804,31 @@ public class GeneratedAndroidWebView {
     void setAcceptThirdPartyCookies(
         @NonNull Long identifier, @NonNull Long webViewIdentifier, @NonNull Boolean accept);
 
+    void setCookies(
+        @NonNull Long identifier,
+        @NonNull List<String> urls,
+        @NonNull List<String> values,
+        @NonNull Result<Void> result);
+
+    void getCookies(
+        @NonNull Long identifier,
+        @NonNull List<String> urls,
+        @NonNull Result<Map<String, Object>> result);
+
+    void saveCookieSnapshot(
+        @NonNull Long identifier,
+        @NonNull List<String> urls,
+        @NonNull String path,
+        @NonNull Result<Map<String, Object>> result);
+
+    void restoreCookieSnapshot(
+        @NonNull Long identifier,
+        @NonNull String path,
+        @NonNull Boolean clearExisting,
+        @NonNull Result<Map<String, Object>> result);
+
+    void attachInstanceForProfile(@NonNull Long instanceIdentifier, @NonNull String profileName);
+
     /** The codec used by CookieManagerHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return new StandardMessageCodec();
@@ -930,6 +955,180 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.setCookies",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number identifierArg = (Number) args.get(0);
+                List<String> urlsArg = (List<String>) args.get(1);
+                List<String> valuesArg = (List<String>) args.get(2);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.setCookies(
+                    (identifierArg == null) ? null : identifierArg.longValue(),
+                    urlsArg,
+                    valuesArg,
+                    resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.getCookies",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number identifierArg = (Number) args.get(0);
+                List<String> urlsArg = (List<String>) args.get(1);
+                Result<Map<String, Object>> resultCallback =
+                    new Result<Map<String, Object>>() {
+                      public void success(Map<String, Object> result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.getCookies(
+                    (identifierArg == null) ? null : identifierArg.longValue(),
+                    urlsArg,
+                    resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.saveCookieSnapshot",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number identifierArg = (Number) args.get(0);
+                List<String> urlsArg = (List<String>) args.get(1);
+                String pathArg = (String) args.get(2);
+                Result<Map<String, Object>> resultCallback =
+                    new Result<Map<String, Object>>() {
+                      public void success(Map<String, Object> result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.saveCookieSnapshot(
+                    (identifierArg == null) ? null : identifierArg.longValue(),
+                    urlsArg,
+                    pathArg,
+                    resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.restoreCookieSnapshot",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number identifierArg = (Number) args.get(0);
+                String pathArg = (String) args.get(1);
+                Boolean clearExistingArg = (Boolean) args.get(2);
+                Result<Map<String, Object>> resultCallback =
+                    new Result<Map<String, Object>>() {
+                      public void success(Map<String, Object> result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.restoreCookieSnapshot(
+                    (identifierArg == null) ? null : identifierArg.longValue(),
+                    pathArg,
+                    clearExistingArg,
+                    resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.attachInstanceForProfile",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdentifierArg = (Number) args.get(0);
+                String profileNameArg = (String) args.get(1);
+                try {
+                  api.attachInstanceForProfile(
+                      (instanceIdentifierArg == null) ? null : instanceIdentifierArg.longValue(),
+                      profileNameArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -1034,6 +1233,117 @@ public class GeneratedAndroidWebView {
 
     void setBackgroundColor(@NonNull Long instanceId, @NonNull Long color);
 
+    void setRenderProcessHangBudget(@NonNull Long instanceId, @Nullable Long budgetMillis);
+
+    @NonNull
+    Map<String, Object> getRenderProcessHangStats(@NonNull Long instanceId);
+
+    void setNavigationTimingEventsEnabled(@NonNull Long instanceId, @NonNull Boolean enabled);
+
+    @NonNull
+    Map<String, Object> getNavigationTimingStats(@NonNull Long instanceId);
+
+    @NonNull
+    Map<String, Object> getGlobalNavigationTimingStats();
+
+    void setNetworkRequestLogCapacity(@NonNull Long instanceId, @NonNull Long capacity);
+
+    @NonNull
+    Map<String, Object> exportNetworkRequestLog(@NonNull Long instanceId);
+
+    @NonNull
+    Long beginStreamingLoad(
+        @NonNull Long instanceId,
+        @NonNull String url,
+        @NonNull String mimeType,
+        @Nullable String encoding);
+
+    @NonNull
+    Long beginFileLoad(
+        @NonNull Long instanceId,
+        @NonNull String url,
+        @NonNull String filePath,
+        @NonNull String mimeType,
+        @Nullable String encoding);
+
+    void writeStreamingLoadChunk(
+        @NonNull Long loadId, @NonNull byte[] chunk, @NonNull Result<Void> result);
+
+    void finishStreamingLoad(@NonNull Long loadId);
+
+    void cancelStreamingLoad(@NonNull Long loadId);
+
+    void postUrlFromFile(
+        @NonNull Long instanceId,
+        @NonNull String url,
+        @NonNull String source,
+        @NonNull String contentType);
+
+    void addLocalContentDirectory(
+        @NonNull Long instanceId,
+        @NonNull String origin,
+        @NonNull String pathPrefix,
+        @NonNull String directory,
+        @NonNull Long cacheMaxAgeSeconds);
+
+    void clearLocalContentDirectories(@NonNull Long instanceId);
+
+    @Nullable
+    String getLocalContentUrl(@NonNull Long instanceId, @NonNull String filePath);
+
+    void evaluateJavascriptBatch(
+        @NonNull Long instanceId, @NonNull List<String> scripts, @NonNull Result<String> result);
+
+    void evaluateJavascriptDecoded(
+        @NonNull Long instanceId, @NonNull String javascriptString, @NonNull Result<Object> result);
+
+    void setJavaScriptEvaluationLimits(
+        @NonNull Long instanceId,
+        @Nullable Long maxInFlight,
+        @Nullable Long maxQueued,
+        @Nullable Long timeoutMillis);
+
+    @NonNull
+    Map<String, Object> getJavaScriptEvaluationStats(@NonNull Long instanceId);
+
+    @NonNull
+    Long addDocumentStartJavaScript(
+        @NonNull Long instanceId, @NonNull String script, @NonNull List<String> allowedOriginRules);
+
+    void removeDocumentStartJavaScript(@NonNull Long instanceId, @NonNull Long handle);
+
+    void addWebMessageListener(
+        @NonNull Long instanceId,
+        @NonNull Long javaScriptChannelInstanceId,
+        @NonNull List<String> allowedOriginRules);
+
+    void removeWebMessageListener(
+        @NonNull Long instanceId, @NonNull Long javaScriptChannelInstanceId);
+
+    void createWithProfile(@NonNull Long instanceId, @NonNull String profileName);
+
+    @NonNull
+    Boolean isMultiProfileSupported();
+
+    @NonNull
+    List<String> getProfileNames();
+
+    void deleteProfile(@NonNull String profileName);
+
+    @NonNull
+    Map<String, Object> getFileChooserStats();
+
+    void enableUploadImageProcessing(
+        @NonNull Long maxWidth,
+        @NonNull Long maxHeight,
+        @NonNull String format,
+        @NonNull Long quality,
+        @NonNull Long cacheBudgetBytes);
+
+    void disableUploadImageProcessing();
+
+    void setDiscardHiddenWebViews(@NonNull Boolean discard);
+
     /** The codec used by WebViewHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return WebViewHostApiCodec.INSTANCE;
@@ -1771,77 +2081,1056 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
-    }
-  }
-  /**
-   * Flutter API for `WebView`.
-   *
-   * <p>This class may handle instantiating and adding Dart instances that are attached to a native
-   * instance or receiving callback methods from an overridden native class.
-   *
-   * <p>See https://developer.android.com/reference/android/webkit/WebView.
-   *
-   * <p>Generated class from Pigeon that represents Flutter messages that can be called from Java.
-   */
-  public static class WebViewFlutterApi {
-    private final @NonNull BinaryMessenger binaryMessenger;
-
-    public WebViewFlutterApi(@NonNull BinaryMessenger argBinaryMessenger) {
-      this.binaryMessenger = argBinaryMessenger;
-    }
-
-    /** Public interface for sending reply. */
-    @SuppressWarnings("UnknownNullness")
-    public interface Reply<T> {
-      void reply(T reply);
-    }
-    /** The codec used by WebViewFlutterApi. */
-    static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
-    }
-    /** Create a new Dart instance and add it to the `InstanceManager`. */
-    public void create(@NonNull Long identifierArg, @NonNull Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger,
-              "dev.flutter.pigeon.webview_flutter_android.WebViewFlutterApi.create",
-              getCodec());
-      channel.send(
-          new ArrayList<Object>(Collections.singletonList(identifierArg)),
-          channelReply -> callback.reply(null));
-    }
-
-    public void onScrollChanged(
-        @NonNull Long webViewInstanceIdArg,
-        @NonNull Long leftArg,
-        @NonNull Long topArg,
-        @NonNull Long oldLeftArg,
-        @NonNull Long oldTopArg,
-        @NonNull Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger,
-              "dev.flutter.pigeon.webview_flutter_android.WebViewFlutterApi.onScrollChanged",
-              getCodec());
-      channel.send(
-          new ArrayList<Object>(
-              Arrays.asList(webViewInstanceIdArg, leftArg, topArg, oldLeftArg, oldTopArg)),
-          channelReply -> callback.reply(null));
-    }
-  }
-  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface WebSettingsHostApi {
-
-    void create(@NonNull Long instanceId, @NonNull Long webViewInstanceId);
-
-    void setDomStorageEnabled(@NonNull Long instanceId, @NonNull Boolean flag);
-
-    void setJavaScriptCanOpenWindowsAutomatically(@NonNull Long instanceId, @NonNull Boolean flag);
-
-    void setSupportMultipleWindows(@NonNull Long instanceId, @NonNull Boolean support);
-
-    void setJavaScriptEnabled(@NonNull Long instanceId, @NonNull Boolean flag);
-
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setRenderProcessHangBudget",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Number budgetMillisArg = (Number) args.get(1);
+                try {
+                  api.setRenderProcessHangBudget(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (budgetMillisArg == null) ? null : budgetMillisArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getRenderProcessHangStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                try {
+                  Map<String, Object> output =
+                      api.getRenderProcessHangStats(
+                          (instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setNavigationTimingEventsEnabled",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Boolean enabledArg = (Boolean) args.get(1);
+                try {
+                  api.setNavigationTimingEventsEnabled(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), enabledArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getNavigationTimingStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                try {
+                  Map<String, Object> output =
+                      api.getNavigationTimingStats(
+                          (instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getGlobalNavigationTimingStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  Map<String, Object> output = api.getGlobalNavigationTimingStats();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setNetworkRequestLogCapacity",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Number capacityArg = (Number) args.get(1);
+                try {
+                  api.setNetworkRequestLogCapacity(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (capacityArg == null) ? null : capacityArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.exportNetworkRequestLog",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                try {
+                  Map<String, Object> output =
+                      api.exportNetworkRequestLog(
+                          (instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.beginStreamingLoad",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                String urlArg = (String) args.get(1);
+                String mimeTypeArg = (String) args.get(2);
+                String encodingArg = (String) args.get(3);
+                try {
+                  Long output =
+                      api.beginStreamingLoad(
+                          (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                          urlArg,
+                          mimeTypeArg,
+                          encodingArg);
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.beginFileLoad",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                String urlArg = (String) args.get(1);
+                String filePathArg = (String) args.get(2);
+                String mimeTypeArg = (String) args.get(3);
+                String encodingArg = (String) args.get(4);
+                try {
+                  Long output =
+                      api.beginFileLoad(
+                          (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                          urlArg,
+                          filePathArg,
+                          mimeTypeArg,
+                          encodingArg);
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.writeStreamingLoadChunk",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number loadIdArg = (Number) args.get(0);
+                byte[] chunkArg = (byte[]) args.get(1);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.writeStreamingLoadChunk(
+                    (loadIdArg == null) ? null : loadIdArg.longValue(), chunkArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.finishStreamingLoad",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number loadIdArg = (Number) args.get(0);
+                try {
+                  api.finishStreamingLoad((loadIdArg == null) ? null : loadIdArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.cancelStreamingLoad",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number loadIdArg = (Number) args.get(0);
+                try {
+                  api.cancelStreamingLoad((loadIdArg == null) ? null : loadIdArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.postUrlFromFile",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                String urlArg = (String) args.get(1);
+                String sourceArg = (String) args.get(2);
+                String contentTypeArg = (String) args.get(3);
+                try {
+                  api.postUrlFromFile(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      urlArg,
+                      sourceArg,
+                      contentTypeArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addLocalContentDirectory",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                String originArg = (String) args.get(1);
+                String pathPrefixArg = (String) args.get(2);
+                String directoryArg = (String) args.get(3);
+                Number cacheMaxAgeSecondsArg = (Number) args.get(4);
+                try {
+                  api.addLocalContentDirectory(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      originArg,
+                      pathPrefixArg,
+                      directoryArg,
+                      (cacheMaxAgeSecondsArg == null) ? null : cacheMaxAgeSecondsArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.clearLocalContentDirectories",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                try {
+                  api.clearLocalContentDirectories(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getLocalContentUrl",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                String filePathArg = (String) args.get(1);
+                try {
+                  String output =
+                      api.getLocalContentUrl(
+                          (instanceIdArg == null) ? null : instanceIdArg.longValue(), filePathArg);
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.evaluateJavascriptBatch",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                List<String> scriptsArg = (List<String>) args.get(1);
+                Result<String> resultCallback =
+                    new Result<String>() {
+                      public void success(String result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.evaluateJavascriptBatch(
+                    (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                    scriptsArg,
+                    resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.evaluateJavascriptDecoded",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                String javascriptStringArg = (String) args.get(1);
+                Result<Object> resultCallback =
+                    new Result<Object>() {
+                      public void success(Object result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.evaluateJavascriptDecoded(
+                    (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                    javascriptStringArg,
+                    resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setJavaScriptEvaluationLimits",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Number maxInFlightArg = (Number) args.get(1);
+                Number maxQueuedArg = (Number) args.get(2);
+                Number timeoutMillisArg = (Number) args.get(3);
+                try {
+                  api.setJavaScriptEvaluationLimits(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (maxInFlightArg == null) ? null : maxInFlightArg.longValue(),
+                      (maxQueuedArg == null) ? null : maxQueuedArg.longValue(),
+                      (timeoutMillisArg == null) ? null : timeoutMillisArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getJavaScriptEvaluationStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                try {
+                  Map<String, Object> output =
+                      api.getJavaScriptEvaluationStats(
+                          (instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addDocumentStartJavaScript",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                String scriptArg = (String) args.get(1);
+                List<String> allowedOriginRulesArg = (List<String>) args.get(2);
+                try {
+                  Long output =
+                      api.addDocumentStartJavaScript(
+                          (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                          scriptArg,
+                          allowedOriginRulesArg);
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.removeDocumentStartJavaScript",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Number handleArg = (Number) args.get(1);
+                try {
+                  api.removeDocumentStartJavaScript(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (handleArg == null) ? null : handleArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addWebMessageListener",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Number javaScriptChannelInstanceIdArg = (Number) args.get(1);
+                List<String> allowedOriginRulesArg = (List<String>) args.get(2);
+                try {
+                  api.addWebMessageListener(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (javaScriptChannelInstanceIdArg == null) ? null : javaScriptChannelInstanceIdArg.longValue(),
+                      allowedOriginRulesArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.removeWebMessageListener",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Number javaScriptChannelInstanceIdArg = (Number) args.get(1);
+                try {
+                  api.removeWebMessageListener(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (javaScriptChannelInstanceIdArg == null) ? null : javaScriptChannelInstanceIdArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.createWithProfile",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                String profileNameArg = (String) args.get(1);
+                try {
+                  api.createWithProfile(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), profileNameArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.isMultiProfileSupported",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  Boolean output = api.isMultiProfileSupported();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getProfileNames",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  List<String> output = api.getProfileNames();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.deleteProfile",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String profileNameArg = (String) args.get(0);
+                try {
+                  api.deleteProfile(profileNameArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getFileChooserStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  Map<String, Object> output = api.getFileChooserStats();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.enableUploadImageProcessing",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number maxWidthArg = (Number) args.get(0);
+                Number maxHeightArg = (Number) args.get(1);
+                String formatArg = (String) args.get(2);
+                Number qualityArg = (Number) args.get(3);
+                Number cacheBudgetBytesArg = (Number) args.get(4);
+                try {
+                  api.enableUploadImageProcessing(
+                      (maxWidthArg == null) ? null : maxWidthArg.longValue(),
+                      (maxHeightArg == null) ? null : maxHeightArg.longValue(),
+                      formatArg,
+                      (qualityArg == null) ? null : qualityArg.longValue(),
+                      (cacheBudgetBytesArg == null) ? null : cacheBudgetBytesArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.disableUploadImageProcessing",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  api.disableUploadImageProcessing();
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setDiscardHiddenWebViews",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Boolean discardArg = (Boolean) args.get(0);
+                try {
+                  api.setDiscardHiddenWebViews(discardArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+  /**
+   * Flutter API for `WebView`.
+   *
+   * <p>This class may handle instantiating and adding Dart instances that are attached to a native
+   * instance or receiving callback methods from an overridden native class.
+   *
+   * <p>See https://developer.android.com/reference/android/webkit/WebView.
+   *
+   * <p>Generated class from Pigeon that represents Flutter messages that can be called from Java.
+   */
+  public static class WebViewFlutterApi {
+    private final @NonNull BinaryMessenger binaryMessenger;
+
+    public WebViewFlutterApi(@NonNull BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+    }
+
+    /** Public interface for sending reply. */
+    @SuppressWarnings("UnknownNullness")
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+    /** The codec used by WebViewFlutterApi. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return new StandardMessageCodec();
+    }
+    /** Create a new Dart instance and add it to the `InstanceManager`. */
+    public void create(@NonNull Long identifierArg, @NonNull Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.webview_flutter_android.WebViewFlutterApi.create",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Collections.singletonList(identifierArg)),
+          channelReply -> callback.reply(null));
+    }
+
+    public void onScrollChanged(
+        @NonNull Long webViewInstanceIdArg,
+        @NonNull Long leftArg,
+        @NonNull Long topArg,
+        @NonNull Long oldLeftArg,
+        @NonNull Long oldTopArg,
+        @NonNull Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.webview_flutter_android.WebViewFlutterApi.onScrollChanged",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(
+              Arrays.asList(webViewInstanceIdArg, leftArg, topArg, oldLeftArg, oldTopArg)),
+          channelReply -> callback.reply(null));
+    }
+
+    /**
+     * Called after the render process of a WebView is gone and the WebView has been recreated by
+     * the host.
+     */
+    public void onRenderProcessGone(
+        @NonNull Long webViewInstanceIdArg,
+        @NonNull Boolean didCrashArg,
+        @NonNull Long crashCountArg,
+        @NonNull Boolean willRestoreStateArg,
+        @NonNull Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.webview_flutter_android.WebViewFlutterApi.onRenderProcessGone",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(
+              Arrays.asList(webViewInstanceIdArg, didCrashArg, crashCountArg, willRestoreStateArg)),
+          channelReply -> callback.reply(null));
+    }
+
+    public void onRenderProcessUnresponsive(
+        @NonNull Long webViewInstanceIdArg,
+        @NonNull Long unresponsiveMillisArg,
+        @NonNull Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.webview_flutter_android.WebViewFlutterApi.onRenderProcessUnresponsive",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(webViewInstanceIdArg, unresponsiveMillisArg)),
+          channelReply -> callback.reply(null));
+    }
+
+    public void onRenderProcessResponsive(
+        @NonNull Long webViewInstanceIdArg,
+        @NonNull Long unresponsiveMillisArg,
+        @NonNull Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.webview_flutter_android.WebViewFlutterApi.onRenderProcessResponsive",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(webViewInstanceIdArg, unresponsiveMillisArg)),
+          channelReply -> callback.reply(null));
+    }
+
+    public void onNavigationTiming(
+        @NonNull Long webViewInstanceIdArg,
+        @NonNull String urlArg,
+        @Nullable Long commitVisibleMillisArg,
+        @Nullable Long firstVisualStateMillisArg,
+        @NonNull Long pageFinishedMillisArg,
+        @NonNull Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.webview_flutter_android.WebViewFlutterApi.onNavigationTiming",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(
+              Arrays.asList(
+                  webViewInstanceIdArg,
+                  urlArg,
+                  commitVisibleMillisArg,
+                  firstVisualStateMillisArg,
+                  pageFinishedMillisArg)),
+          channelReply -> callback.reply(null));
+    }
+  }
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface WebSettingsHostApi {
+
+    void create(@NonNull Long instanceId, @NonNull Long webViewInstanceId);
+
+    void setDomStorageEnabled(@NonNull Long instanceId, @NonNull Boolean flag);
+
+    void setJavaScriptCanOpenWindowsAutomatically(@NonNull Long instanceId, @NonNull Boolean flag);
+
+    void setSupportMultipleWindows(@NonNull Long instanceId, @NonNull Boolean support);
+
+    void setJavaScriptEnabled(@NonNull Long instanceId, @NonNull Boolean flag);
+
     void setUserAgentString(@NonNull Long instanceId, @Nullable String userAgentString);
 
     void setMediaPlaybackRequiresUserGesture(@NonNull Long instanceId, @NonNull Boolean require);
@@ -2286,6 +3575,20 @@ public class GeneratedAndroidWebView {
 
     void create(@NonNull Long instanceId, @NonNull String channelName);
 
+    void enableRpc(@NonNull Long instanceId, @Nullable Long timeoutMillis);
+
+    @NonNull
+    Map<String, Object> getRpcStats(@NonNull Long instanceId);
+
+    void setMessageQueueLimits(
+        @NonNull Long instanceId,
+        @NonNull Long maxQueued,
+        @NonNull String policy,
+        @Nullable String coalesceKeyDelimiter);
+
+    @NonNull
+    Map<String, Object> getMessageQueueStats(@NonNull Long instanceId);
+
     /** The codec used by JavaScriptChannelHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return new StandardMessageCodec();
@@ -2323,6 +3626,119 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.enableRpc",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Number timeoutMillisArg = (Number) args.get(1);
+                try {
+                  api.enableRpc(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (timeoutMillisArg == null) ? null : timeoutMillisArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.getRpcStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                try {
+                  Map<String, Object> output =
+                      api.getRpcStats((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.setMessageQueueLimits",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Number maxQueuedArg = (Number) args.get(1);
+                String policyArg = (String) args.get(2);
+                String coalesceKeyDelimiterArg = (String) args.get(3);
+                try {
+                  api.setMessageQueueLimits(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (maxQueuedArg == null) ? null : maxQueuedArg.longValue(),
+                      policyArg,
+                      coalesceKeyDelimiterArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.getMessageQueueStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                try {
+                  Map<String, Object> output =
+                      api.getMessageQueueStats(
+                          (instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
@@ -2354,6 +3770,46 @@ public class GeneratedAndroidWebView {
           new ArrayList<Object>(Arrays.asList(instanceIdArg, messageArg)),
           channelReply -> callback.reply(null));
     }
+
+    public void postWebMessage(
+        @NonNull Long instanceIdArg,
+        @NonNull String messageArg,
+        @NonNull String sourceOriginArg,
+        @NonNull Boolean isMainFrameArg,
+        @NonNull Reply<String> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelFlutterApi.postWebMessage",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(
+              Arrays.asList(instanceIdArg, messageArg, sourceOriginArg, isMainFrameArg)),
+          channelReply -> {
+            @SuppressWarnings("ConstantConditions")
+            String output = (String) channelReply;
+            callback.reply(output);
+          });
+    }
+
+    public void callRpcMethod(
+        @NonNull Long instanceIdArg,
+        @NonNull String methodArg,
+        @Nullable Object paramsArg,
+        @NonNull Reply<String> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelFlutterApi.callRpcMethod",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, methodArg, paramsArg)),
+          channelReply -> {
+            @SuppressWarnings("ConstantConditions")
+            String output = (String) channelReply;
+            callback.reply(output);
+          });
+    }
   }
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface WebViewClientHostApi {
@@ -2644,6 +4100,19 @@ public class GeneratedAndroidWebView {
 
     void create(@NonNull Long instanceId);
 
+    void enableNativeDownloads(@NonNull Long instanceId, @NonNull String directory);
+
+    void setMaxConcurrentDownloads(@NonNull Long maxConcurrentDownloads);
+
+    void cancelDownload(@NonNull Long downloadId);
+
+    void resumeDownload(@NonNull Long downloadId);
+
+    void setDownloadCacheBudget(@NonNull Long budgetBytes);
+
+    @NonNull
+    Long getDownloadCacheSize();
+
     /** The codec used by DownloadListenerHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return new StandardMessageCodec();
@@ -2658,16 +4127,145 @@ public class GeneratedAndroidWebView {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
                 binaryMessenger,
-                "dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.create",
+                "dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.create",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                try {
+                  api.create((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.enableNativeDownloads",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                String directoryArg = (String) args.get(1);
+                try {
+                  api.enableNativeDownloads(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), directoryArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.setMaxConcurrentDownloads",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number maxConcurrentDownloadsArg = (Number) args.get(0);
+                try {
+                  api.setMaxConcurrentDownloads(
+                      (maxConcurrentDownloadsArg == null) ? null : maxConcurrentDownloadsArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.cancelDownload",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number downloadIdArg = (Number) args.get(0);
+                try {
+                  api.cancelDownload((downloadIdArg == null) ? null : downloadIdArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.resumeDownload",
                 getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Number instanceIdArg = (Number) args.get(0);
+                Number downloadIdArg = (Number) args.get(0);
                 try {
-                  api.create((instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  api.resumeDownload((downloadIdArg == null) ? null : downloadIdArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.setDownloadCacheBudget",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number budgetBytesArg = (Number) args.get(0);
+                try {
+                  api.setDownloadCacheBudget(
+                      (budgetBytesArg == null) ? null : budgetBytesArg.longValue());
                   wrapped.add(0, null);
                 } catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -2679,6 +4277,29 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.getDownloadCacheSize",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  Long output = api.getDownloadCacheSize();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
@@ -2723,6 +4344,57 @@ public class GeneratedAndroidWebView {
                   contentLengthArg)),
           channelReply -> callback.reply(null));
     }
+
+    public void onNativeDownloadStart(
+        @NonNull Long instanceIdArg,
+        @NonNull Long downloadIdArg,
+        @NonNull String urlArg,
+        @NonNull String filePathArg,
+        @NonNull String mimetypeArg,
+        @NonNull Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.webview_flutter_android.DownloadListenerFlutterApi.onNativeDownloadStart",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(
+              Arrays.asList(instanceIdArg, downloadIdArg, urlArg, filePathArg, mimetypeArg)),
+          channelReply -> callback.reply(null));
+    }
+
+    public void onDownloadProgress(
+        @NonNull Long instanceIdArg,
+        @NonNull Long downloadIdArg,
+        @NonNull Long receivedBytesArg,
+        @NonNull Long totalBytesArg,
+        @NonNull Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.webview_flutter_android.DownloadListenerFlutterApi.onDownloadProgress",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(
+              Arrays.asList(instanceIdArg, downloadIdArg, receivedBytesArg, totalBytesArg)),
+          channelReply -> callback.reply(null));
+    }
+
+    public void onDownloadFinished(
+        @NonNull Long instanceIdArg,
+        @NonNull Long downloadIdArg,
+        @Nullable String filePathArg,
+        @Nullable String errorArg,
+        @NonNull Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.webview_flutter_android.DownloadListenerFlutterApi.onDownloadFinished",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, downloadIdArg, filePathArg, errorArg)),
+          channelReply -> callback.reply(null));
+    }
   }
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface WebChromeClientHostApi {
@@ -3208,6 +4880,21 @@ public class GeneratedAndroidWebView {
 
     void deleteAllData(@NonNull Long instanceId);
 
+    void getOrigins(@NonNull Long instanceId, @NonNull Result<List<Object>> result);
+
+    void getUsageForOrigin(
+        @NonNull Long instanceId, @NonNull String origin, @NonNull Result<Long> result);
+
+    void getQuotaForOrigin(
+        @NonNull Long instanceId, @NonNull String origin, @NonNull Result<Long> result);
+
+    void deleteOrigin(@NonNull Long instanceId, @NonNull String origin);
+
+    void trimToBudget(
+        @NonNull Long instanceId, @NonNull Long budgetBytes, @NonNull Result<List<String>> result);
+
+    void createForProfile(@NonNull Long instanceId, @NonNull String profileName);
+
     /** The codec used by WebStorageHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return new StandardMessageCodec();
@@ -3266,6 +4953,197 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.getOrigins",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Result<List<Object>> resultCallback =
+                    new Result<List<Object>>() {
+                      public void success(List<Object> result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.getOrigins(
+                    (instanceIdArg == null) ? null : instanceIdArg.longValue(), resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.getUsageForOrigin",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                String originArg = (String) args.get(1);
+                Result<Long> resultCallback =
+                    new Result<Long>() {
+                      public void success(Long result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.getUsageForOrigin(
+                    (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                    originArg,
+                    resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.getQuotaForOrigin",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                String originArg = (String) args.get(1);
+                Result<Long> resultCallback =
+                    new Result<Long>() {
+                      public void success(Long result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.getQuotaForOrigin(
+                    (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                    originArg,
+                    resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.deleteOrigin",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                String originArg = (String) args.get(1);
+                try {
+                  api.deleteOrigin(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), originArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.trimToBudget",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Number budgetBytesArg = (Number) args.get(1);
+                Result<List<String>> resultCallback =
+                    new Result<List<String>>() {
+                      public void success(List<String> result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.trimToBudget(
+                    (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                    (budgetBytesArg == null) ? null : budgetBytesArg.longValue(),
+                    resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.createForProfile",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                String profileNameArg = (String) args.get(1);
+                try {
+                  api.createForProfile(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), profileNameArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /**
@@ -11,7 +11,9 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.WeakHashMap;
 
 /**
@@ -183,6 +185,68 @@ public class InstanceManager {
     return identifiers.containsKey(instance);
   }
 
+  /**
+   * Pairs the identifier of `oldInstance` with `newInstance`.
+   *
+   * <p>The Dart object paired with the identifier is not disposed and will communicate with
+   * `newInstance` afterwards. `oldInstance` is no longer stored in this manager.
+   *
+   * @param oldInstance the instance currently paired with an identifier.
+   * @param newInstance the instance to pair with the identifier. This must not already be added.
+   * @return the identifier now paired with `newInstance`, otherwise `null` if the manager doesn't
+   *     contain `oldInstance`.
+   */
+  @Nullable
+  public Long replaceInstance(@NonNull Object oldInstance, @NonNull Object newInstance) {
+    logWarningIfFinalizationListenerHasStopped();
+
+    final Long identifier = identifiers.get(oldInstance);
+    if (identifier == null) {
+      return null;
+    }
+    if (containsInstance(newInstance)) {
+      throw new IllegalArgumentException(
+          "Instance of " + newInstance.getClass() + " has already been added.");
+    }
+
+    identifiers.remove(oldInstance);
+    final WeakReference<Object> oldWeakReference = weakInstances.remove(identifier);
+    if (oldWeakReference != null) {
+      weakReferencesToIdentifiers.remove(oldWeakReference);
+    }
+    final boolean hasStrongReference = strongInstances.remove(identifier) != null;
+
+    addInstance(newInstance, identifier);
+    if (!hasStrongReference) {
+      strongInstances.remove(identifier);
+    }
+    return identifier;
+  }
+
+  /**
+   * Retrieves every instance in this manager that is an instance of `type`.
+   *
+   * <p>Instances that have already been garbage collected are skipped. The returned list is a
+   * snapshot and is not updated when instances are added or removed afterwards.
+   *
+   * @param type the class the returned instances must be assignable to.
+   * @param <T> the expected type of the returned instances.
+   * @return a new list containing every matching instance.
+   */
+  @NonNull
+  public <T> List<T> getInstancesOfType(@NonNull Class<T> type) {
+    logWarningIfFinalizationListenerHasStopped();
+
+    final List<T> instances = new ArrayList<>();
+    for (WeakReference<Object> reference : weakInstances.values()) {
+      final Object instance = reference.get();
+      if (type.isInstance(instance)) {
+        instances.add(type.cast(instance));
+      }
+    }
+    return instances;
+  }
+
   /**
    * Stop the periodic run of the {@link FinalizationListener} for instances that have been garbage
    * collected.
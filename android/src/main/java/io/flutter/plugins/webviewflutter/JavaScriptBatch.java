@@ -0,0 +1,116 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Combines several scripts into a single script that is evaluated with one call to {@link
+ * android.webkit.WebView#evaluateJavascript}.
+ *
+ * <p>Each script is passed to an indirect `eval` as a string literal, so a syntax error or an
+ * exception only fails that script, and the scripts run in the global scope in order. Top-level
+ * `let`, `const` and `class` declarations are scoped to their script.
+ *
+ * <p>The combined script evaluates to an array with one entry per script. An entry is either
+ * `{"result": json}`, where `json` is the result of the script serialized as JSON the same way
+ * `evaluateJavascript` serializes it, or `{"error": message}` if the script threw.
+ *
+ * <p>A Content-Security-Policy without `'unsafe-eval'` blocks `eval`, while it doesn't block {@link
+ * android.webkit.WebView#evaluateJavascript}. The combined script then evaluates to {@link
+ * #EVAL_BLOCKED_RESULT} without running any script, and the scripts have to be evaluated one at a
+ * time instead, see {@link #buildSequentialResult}.
+ */
+public class JavaScriptBatch {
+  /** The result of the combined script if the page blocks `eval`. */
+  public static final String EVAL_BLOCKED_RESULT = "false";
+
+  private JavaScriptBatch() {}
+
+  /** Creates the script that evaluates each of `scripts`. */
+  @NonNull
+  public static String buildScript(@NonNull List<String> scripts) {
+    final StringBuilder builder = new StringBuilder();
+    builder.append("(function(){try{(0,eval)('0');}catch(e){return false;}var s=[");
+    for (int i = 0; i < scripts.size(); i++) {
+      if (i > 0) {
+        builder.append(',');
+      }
+      appendQuoted(builder, scripts.get(i));
+    }
+    builder
+        .append("],r=[];")
+        .append("for(var i=0;i<s.length;i++){")
+        .append("try{var v=(0,eval)(s[i]),j=JSON.stringify(v);")
+        .append("r.push({result:j===undefined?'null':j});")
+        .append("}catch(e){r.push({error:String(e)});}")
+        .append("}return r;})()");
+    return builder.toString();
+  }
+
+  /**
+   * Creates the result of the combined script from the results of evaluating each script with
+   * {@link android.webkit.WebView#evaluateJavascript}.
+   *
+   * <p>`evaluateJavascript` doesn't report exceptions, so a script that threw has a null result
+   * instead of an error.
+   */
+  @NonNull
+  public static String buildSequentialResult(@NonNull List<String> results) {
+    final StringBuilder builder = new StringBuilder();
+    builder.append('[');
+    for (int i = 0; i < results.size(); i++) {
+      if (i > 0) {
+        builder.append(',');
+      }
+      final String result = results.get(i);
+      builder.append("{\"result\":");
+      appendQuoted(builder, result == null ? "null" : result);
+      builder.append('}');
+    }
+    builder.append(']');
+    return builder.toString();
+  }
+
+  /** Appends `value` to `builder` as a JavaScript string literal. */
+  static void appendQuoted(@NonNull StringBuilder builder, @Nullable String value) {
+    if (value == null) {
+      builder.append("''");
+      return;
+    }
+    builder.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          builder.append("\\\"");
+          break;
+        case '\\':
+          builder.append("\\\\");
+          break;
+        case '\n':
+          builder.append("\\n");
+          break;
+        case '\r':
+          builder.append("\\r");
+          break;
+        case '\t':
+          builder.append("\\t");
+          break;
+        default:
+          // Line and paragraph separators end string literals in older JavaScript engines.
+          if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+            builder.append(String.format(Locale.US, "\\u%04x", (int) c));
+          } else {
+            builder.append(c);
+          }
+      }
+    }
+    builder.append('"');
+  }
+}
@@ -4,10 +4,16 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import android.annotation.SuppressLint;
+import android.net.Uri;
 import android.os.Handler;
-import android.os.Looper;
 import android.webkit.JavascriptInterface;
+import android.webkit.WebView;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.webkit.JavaScriptReplyProxy;
+import androidx.webkit.WebMessageCompat;
+import androidx.webkit.WebViewCompat;
 
 /**
  * Added as a JavaScript interface to the WebView for any JavaScript channel that the Dart code sets
@@ -15,11 +21,26 @@ import androidx.annotation.NonNull;
  *
  * <p>Exposes a single method named `postMessage` to JavaScript, which sends a message to the Dart
  * code.
+ *
+ * <p>The channel can also be added with {@link WebViewCompat#addWebMessageListener}. The WebView
+ * then calls `postMessage` asynchronously instead of blocking the JavaScript thread, delivers the
+ * message on the main thread without posting it to the {@link Handler}, and only exposes the
+ * channel to frames of the allowed origins. The reply of the Dart code is sent back to the frame,
+ * which receives it as a `message` event of the channel object.
+ *
+ * <p>Messages posted to the JavaScript interface are passed to the main thread by a {@link
+ * JavaScriptMessageQueue}, which can be bounded so a page that posts messages in a loop can't flood
+ * the main thread.
+ *
+ * <p>When {@link #enableRpc(Long)} was called, calls made with the `call` function of the channel
+ * object are answered by a {@link JavaScriptRpcDispatcher}.
  */
-public class JavaScriptChannel {
+public class JavaScriptChannel implements WebViewCompat.WebMessageListener {
   private final Handler platformThreadHandler;
   final String javaScriptChannelName;
   private final JavaScriptChannelFlutterApiImpl flutterApi;
+  private final JavaScriptMessageQueue messageQueue;
+  @Nullable private JavaScriptRpcDispatcher rpcDispatcher;
 
   /**
    * Creates a {@link JavaScriptChannel} that passes arguments of callback methods to Dart.
@@ -35,19 +56,68 @@ public class JavaScriptChannel {
     this.flutterApi = flutterApi;
     this.javaScriptChannelName = channelName;
     this.platformThreadHandler = platformThreadHandler;
+    this.messageQueue =
+        new JavaScriptMessageQueue(
+            platformThreadHandler,
+            message -> flutterApi.postMessage(JavaScriptChannel.this, message, reply -> {}));
   }
 
   // Suppressing unused warning as this is invoked from JavaScript.
   @SuppressWarnings("unused")
   @JavascriptInterface
   public void postMessage(@NonNull final String message) {
-    final Runnable postMessageRunnable =
-        () -> flutterApi.postMessage(JavaScriptChannel.this, message, reply -> {});
+    messageQueue.post(message);
+  }
+
+  /** The queue of the messages posted to the JavaScript interface. */
+  @NonNull
+  public JavaScriptMessageQueue getMessageQueue() {
+    return messageQueue;
+  }
+
+  /**
+   * Answers the calls that are made through this channel when it is added with a
+   * `WebMessageListener`.
+   *
+   * @param timeoutMillis the time Dart has to answer a call, or null for no timeout
+   */
+  public void enableRpc(@Nullable Long timeoutMillis) {
+    rpcDispatcher = new JavaScriptRpcDispatcher(platformThreadHandler, timeoutMillis);
+  }
+
+  /** The dispatcher of the calls made through this channel, or null if RPC isn't enabled. */
+  @Nullable
+  public JavaScriptRpcDispatcher getRpcDispatcher() {
+    return rpcDispatcher;
+  }
 
-    if (platformThreadHandler.getLooper() == Looper.myLooper()) {
-      postMessageRunnable.run();
-    } else {
-      platformThreadHandler.post(postMessageRunnable);
+  // This method is only called when the WebViewFeature.WEB_MESSAGE_LISTENER feature is supported.
+  @SuppressLint("RequiresFeature")
+  @Override
+  public void onPostMessage(
+      @NonNull WebView view,
+      @NonNull WebMessageCompat message,
+      @NonNull Uri sourceOrigin,
+      boolean isMainFrame,
+      @NonNull JavaScriptReplyProxy replyProxy) {
+    final String data = message.getData();
+    if (rpcDispatcher != null
+        && data != null
+        && rpcDispatcher.dispatch(
+            data,
+            (method, params, reply) -> flutterApi.callRpcMethod(this, method, params, reply),
+            replyProxy::postMessage)) {
+      return;
     }
+    flutterApi.postWebMessage(
+        this,
+        data != null ? data : "",
+        sourceOrigin.toString(),
+        isMainFrame,
+        reply -> {
+          if (reply != null) {
+            replyProxy.postMessage(reply);
+          }
+        });
   }
 }
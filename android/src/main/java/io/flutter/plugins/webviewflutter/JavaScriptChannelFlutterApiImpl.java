@@ -5,6 +5,7 @@
 package io.flutter.plugins.webviewflutter;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelFlutterApi;
 
@@ -36,6 +37,39 @@ public class JavaScriptChannelFlutterApiImpl extends JavaScriptChannelFlutterApi
     super.postMessage(getIdentifierForJavaScriptChannel(javaScriptChannel), messageArg, callback);
   }
 
+  /**
+   * Passes arguments from {@link JavaScriptChannel#onPostMessage} to Dart.
+   *
+   * <p>`callback` receives the reply to the message, or null if there is no reply.
+   */
+  public void postWebMessage(
+      @NonNull JavaScriptChannel javaScriptChannel,
+      @NonNull String messageArg,
+      @NonNull String sourceOriginArg,
+      @NonNull Boolean isMainFrameArg,
+      @NonNull Reply<String> callback) {
+    super.postWebMessage(
+        getIdentifierForJavaScriptChannel(javaScriptChannel),
+        messageArg,
+        sourceOriginArg,
+        isMainFrameArg,
+        callback);
+  }
+
+  /**
+   * Passes a call from {@link JavaScriptRpcDispatcher} to Dart.
+   *
+   * <p>`callback` receives the JSON response to the call.
+   */
+  public void callRpcMethod(
+      @NonNull JavaScriptChannel javaScriptChannel,
+      @NonNull String methodArg,
+      @Nullable Object paramsArg,
+      @NonNull Reply<String> callback) {
+    super.callRpcMethod(
+        getIdentifierForJavaScriptChannel(javaScriptChannel), methodArg, paramsArg, callback);
+  }
+
   private long getIdentifierForJavaScriptChannel(JavaScriptChannel javaScriptChannel) {
     final Long identifier = instanceManager.getIdentifierForStrongReference(javaScriptChannel);
     if (identifier == null) {
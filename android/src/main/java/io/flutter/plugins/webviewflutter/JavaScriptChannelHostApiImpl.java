@@ -6,7 +6,10 @@ package io.flutter.plugins.webviewflutter;
 
 import android.os.Handler;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelHostApi;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Host api implementation for {@link JavaScriptChannel}.
@@ -74,4 +77,45 @@ public class JavaScriptChannelHostApiImpl implements JavaScriptChannelHostApi {
             flutterApi, channelName, platformThreadHandler);
     instanceManager.addDartCreatedInstance(javaScriptChannel, instanceId);
   }
+
+  @Override
+  public void enableRpc(@NonNull Long instanceId, @Nullable Long timeoutMillis) {
+    final JavaScriptChannel javaScriptChannel =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    javaScriptChannel.enableRpc(timeoutMillis);
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Object> getRpcStats(@NonNull Long instanceId) {
+    final JavaScriptChannel javaScriptChannel =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    final JavaScriptRpcDispatcher rpcDispatcher = javaScriptChannel.getRpcDispatcher();
+    if (rpcDispatcher == null) {
+      throw new IllegalStateException("RPC is not enabled for this channel.");
+    }
+    return rpcDispatcher.getStats();
+  }
+
+  @Override
+  public void setMessageQueueLimits(
+      @NonNull Long instanceId,
+      @NonNull Long maxQueued,
+      @NonNull String policy,
+      @Nullable String coalesceKeyDelimiter) {
+    final JavaScriptChannel javaScriptChannel =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    javaScriptChannel
+        .getMessageQueue()
+        .setLimits(
+            maxQueued, JavaScriptMessageQueue.Policy.fromName(policy), coalesceKeyDelimiter);
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Object> getMessageQueueStats(@NonNull Long instanceId) {
+    final JavaScriptChannel javaScriptChannel =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    return javaScriptChannel.getMessageQueue().getStats();
+  }
 }
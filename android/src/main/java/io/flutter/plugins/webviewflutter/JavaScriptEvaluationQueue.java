@@ -0,0 +1,266 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Bounds the {@link WebView#evaluateJavascript} calls of a WebView.
+ *
+ * <p>At most `maxInFlight` scripts are evaluated at the same time. Further scripts wait in a queue
+ * of at most `maxQueued` scripts, and scripts that don't fit in the queue fail immediately. When a
+ * timeout is set, a script that didn't complete within the timeout after it was queued fails with
+ * a {@link TimeoutException}.
+ *
+ * <p>Queued scripts fail with a {@link CancellationException} when a new page starts loading,
+ * since they were meant for the replaced page. Evaluating scripts keep waiting for their result,
+ * but no longer count against `maxInFlight`, because a WebView doesn't always call back for
+ * scripts of a replaced page. They still time out and still fail when the queue is cancelled.
+ * Without limits, scripts are never queued, so a new page doesn't affect them. Every script fails
+ * when the view is disposed.
+ *
+ * <p>Every method must be called on the main thread.
+ */
+public class JavaScriptEvaluationQueue {
+  private static class Evaluation {
+    final WebView webView;
+    final String script;
+    final GeneratedAndroidWebView.Result<String> result;
+    final long enqueuedMillis;
+    long dispatchedMillis;
+    @Nullable Runnable timeout;
+    boolean isComplete = false;
+
+    Evaluation(
+        WebView webView,
+        String script,
+        GeneratedAndroidWebView.Result<String> result,
+        long enqueuedMillis) {
+      this.webView = webView;
+      this.script = script;
+      this.result = result;
+      this.enqueuedMillis = enqueuedMillis;
+    }
+  }
+
+  private final Handler handler;
+  private final ArrayDeque<Evaluation> queued = new ArrayDeque<>();
+  private final List<Evaluation> inFlight = new ArrayList<>();
+  // Scripts of replaced pages that are still waiting for their result.
+  private final List<Evaluation> detached = new ArrayList<>();
+
+  private int maxInFlight = Integer.MAX_VALUE;
+  private int maxQueued = Integer.MAX_VALUE;
+  @Nullable private Long timeoutMillis;
+
+  private final LatencyHistogram evaluationHistogram = new LatencyHistogram();
+  private final LatencyHistogram queueWaitHistogram = new LatencyHistogram();
+  private long completedCount = 0;
+  private long timedOutCount = 0;
+  private long cancelledCount = 0;
+  private long rejectedCount = 0;
+  private int maxQueueDepth = 0;
+
+  /** Creates a {@link JavaScriptEvaluationQueue} without limits. */
+  public JavaScriptEvaluationQueue() {
+    this(new Handler(Looper.getMainLooper()));
+  }
+
+  @VisibleForTesting
+  JavaScriptEvaluationQueue(@NonNull Handler handler) {
+    this.handler = handler;
+  }
+
+  /**
+   * Retrieves the queue of `view`.
+   *
+   * @return the queue, or null if `view` wasn't created by this plugin
+   */
+  @Nullable
+  public static JavaScriptEvaluationQueue forWebView(@NonNull WebView view) {
+    if (view instanceof WebViewHostApiImpl.WebViewPlatformView) {
+      return ((WebViewHostApiImpl.WebViewPlatformView) view).getJavaScriptEvaluationQueue();
+    }
+    return null;
+  }
+
+  /**
+   * Sets the limits of the queue.
+   *
+   * <p>The limits apply to scripts that are evaluated after this call.
+   *
+   * @param maxInFlight the number of scripts evaluated at the same time, or null for no limit
+   * @param maxQueued the number of scripts waiting to be evaluated, or null for no limit
+   * @param timeoutMillis the time a script may take from being queued to completing, or null for no
+   *     timeout
+   */
+  public void setLimits(
+      @Nullable Long maxInFlight, @Nullable Long maxQueued, @Nullable Long timeoutMillis) {
+    if ((maxInFlight != null && maxInFlight < 1)
+        || (maxQueued != null && maxQueued < 0)
+        || (timeoutMillis != null && timeoutMillis < 1)) {
+      throw new IllegalArgumentException("Limits must be positive.");
+    }
+    this.maxInFlight = toIntLimit(maxInFlight);
+    this.maxQueued = toIntLimit(maxQueued);
+    this.timeoutMillis = timeoutMillis;
+    dispatchQueued();
+  }
+
+  /**
+   * Evaluates `script` in `webView` once fewer than `maxInFlight` scripts are evaluating.
+   *
+   * <p>`result` completes with the result of the script, or with an error if the queue is full, the
+   * script timed out or it was cancelled.
+   */
+  public void evaluate(
+      @NonNull WebView webView,
+      @NonNull String script,
+      @NonNull GeneratedAndroidWebView.Result<String> result) {
+    if (inFlight.size() >= maxInFlight && queued.size() >= maxQueued) {
+      rejectedCount++;
+      result.error(
+          new IllegalStateException(
+              "Too many pending JavaScript evaluations: " + (inFlight.size() + queued.size())));
+      return;
+    }
+
+    final Evaluation evaluation =
+        new Evaluation(webView, script, result, SystemClock.uptimeMillis());
+    if (timeoutMillis != null) {
+      final long timeout = timeoutMillis;
+      evaluation.timeout = () -> onTimeout(evaluation, timeout);
+      handler.postDelayed(evaluation.timeout, timeout);
+    }
+    queued.add(evaluation);
+    maxQueueDepth = Math.max(maxQueueDepth, queued.size());
+    dispatchQueued();
+  }
+
+  /**
+   * Cancels every queued script because a new page started loading, and stops counting the
+   * evaluating scripts against `maxInFlight`.
+   */
+  public void onPageStarted() {
+    final List<Evaluation> cancelled = new ArrayList<>(queued);
+    queued.clear();
+    // Their results are still delivered if the WebView calls back.
+    detached.addAll(inFlight);
+    inFlight.clear();
+    for (Evaluation evaluation : cancelled) {
+      cancelledCount++;
+      fail(
+          evaluation,
+          new CancellationException("Cancelled because the WebView started loading a new page."));
+    }
+  }
+
+  /** Cancels every queued and evaluating script, including those of replaced pages. */
+  public void cancelAll(@NonNull String reason) {
+    final List<Evaluation> cancelled = new ArrayList<>(detached);
+    cancelled.addAll(inFlight);
+    cancelled.addAll(queued);
+    detached.clear();
+    inFlight.clear();
+    queued.clear();
+    for (Evaluation evaluation : cancelled) {
+      cancelledCount++;
+      fail(evaluation, new CancellationException(reason));
+    }
+  }
+
+  /**
+   * Creates a snapshot of the queue that can be sent to Dart.
+   *
+   * <p>Contains `inFlightCount`, `queueDepth`, `maxQueueDepth`, `completedCount`,
+   * `timedOutCount`, `cancelledCount` and `rejectedCount`, along with `evaluation` and `queueWait`,
+   * which each map to {@link LatencyHistogram#toMap()}.
+   */
+  @NonNull
+  public Map<String, Object> getStats() {
+    final Map<String, Object> stats = new HashMap<>();
+    stats.put("inFlightCount", (long) inFlight.size());
+    stats.put("queueDepth", (long) queued.size());
+    stats.put("maxQueueDepth", (long) maxQueueDepth);
+    stats.put("completedCount", completedCount);
+    stats.put("timedOutCount", timedOutCount);
+    stats.put("cancelledCount", cancelledCount);
+    stats.put("rejectedCount", rejectedCount);
+    stats.put("evaluation", evaluationHistogram.toMap());
+    stats.put("queueWait", queueWaitHistogram.toMap());
+    return stats;
+  }
+
+  private static int toIntLimit(@Nullable Long limit) {
+    return limit != null ? (int) Math.min(limit, Integer.MAX_VALUE) : Integer.MAX_VALUE;
+  }
+
+  private void dispatchQueued() {
+    while (inFlight.size() < maxInFlight && !queued.isEmpty()) {
+      final Evaluation evaluation = queued.poll();
+      evaluation.dispatchedMillis = SystemClock.uptimeMillis();
+      queueWaitHistogram.record(evaluation.dispatchedMillis - evaluation.enqueuedMillis);
+      inFlight.add(evaluation);
+      evaluation.webView.evaluateJavascript(
+          evaluation.script, value -> onResult(evaluation, value));
+    }
+  }
+
+  private void onResult(Evaluation evaluation, @Nullable String value) {
+    // The evaluation may already have timed out or been cancelled.
+    if (evaluation.isComplete) {
+      return;
+    }
+    evaluation.isComplete = true;
+    removeTimeout(evaluation);
+    inFlight.remove(evaluation);
+    detached.remove(evaluation);
+    completedCount++;
+    evaluationHistogram.record(SystemClock.uptimeMillis() - evaluation.dispatchedMillis);
+    evaluation.result.success(value);
+    dispatchQueued();
+  }
+
+  private void onTimeout(Evaluation evaluation, long timeout) {
+    if (evaluation.isComplete) {
+      return;
+    }
+    inFlight.remove(evaluation);
+    detached.remove(evaluation);
+    queued.remove(evaluation);
+    timedOutCount++;
+    fail(
+        evaluation,
+        new TimeoutException(
+            "JavaScript evaluation did not complete within " + timeout + " ms."));
+    dispatchQueued();
+  }
+
+  private void fail(Evaluation evaluation, Throwable error) {
+    evaluation.isComplete = true;
+    removeTimeout(evaluation);
+    evaluation.result.error(error);
+  }
+
+  private void removeTimeout(Evaluation evaluation) {
+    if (evaluation.timeout != null) {
+      handler.removeCallbacks(evaluation.timeout);
+      evaluation.timeout = null;
+    }
+  }
+}
@@ -0,0 +1,264 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Passes the messages a page posts to a {@link JavaScriptChannel} from the JavaScript thread to the
+ * main thread.
+ *
+ * <p>Messages are collected in a queue that is drained by a single {@link Runnable}, instead of
+ * posting a {@link Runnable} per message. The queue holds at most `maxQueued` messages, and the
+ * {@link Policy} decides what happens to a message that doesn't fit.
+ *
+ * <p>The methods of this class may be called on any thread.
+ */
+public class JavaScriptMessageQueue {
+  // The longest time the JavaScript thread is blocked by Policy.BLOCK before a message is dropped,
+  // so a main thread that stopped draining the queue can't hang the page forever.
+  private static final long MAX_BLOCK_MILLIS = 5000;
+
+  /** What happens to a message that is posted while the queue is full. */
+  public enum Policy {
+    /** The oldest queued message is dropped. */
+    DROP_OLDEST,
+    /** The new message is dropped. */
+    DROP_NEWEST,
+    /**
+     * A queued message with the same key is replaced by the new message, even if the queue isn't
+     * full. If there is none, the oldest queued message is dropped.
+     */
+    COALESCE_BY_KEY,
+    /** The JavaScript thread waits until the queue has room for the message. */
+    BLOCK;
+
+    /**
+     * Retrieves the policy named `name` by Dart.
+     *
+     * @throws IllegalArgumentException if there is no policy named `name`
+     */
+    @NonNull
+    public static Policy fromName(@NonNull String name) {
+      switch (name) {
+        case "dropOldest":
+          return DROP_OLDEST;
+        case "dropNewest":
+          return DROP_NEWEST;
+        case "coalesceByKey":
+          return COALESCE_BY_KEY;
+        case "block":
+          return BLOCK;
+        default:
+          throw new IllegalArgumentException("Unknown message queue policy: " + name);
+      }
+    }
+  }
+
+  /** Receives the messages on the main thread. */
+  public interface Receiver {
+    void onMessage(@NonNull String message);
+  }
+
+  private static class Message {
+    @Nullable final String key;
+    String text;
+
+    Message(@Nullable String key, String text) {
+      this.key = key;
+      this.text = text;
+    }
+  }
+
+  private final Handler handler;
+  private final Receiver receiver;
+  private final ArrayDeque<Message> messages = new ArrayDeque<>();
+  // Queued messages by key when the policy is Policy.COALESCE_BY_KEY.
+  private final Map<String, Message> messagesByKey = new HashMap<>();
+  private final Runnable drainRunnable = this::drain;
+  private boolean isDrainScheduled = false;
+
+  private int maxQueued = Integer.MAX_VALUE;
+  private Policy policy = Policy.DROP_OLDEST;
+  @Nullable private String coalesceKeyDelimiter;
+
+  private long deliveredCount = 0;
+  private long droppedCount = 0;
+  private long coalescedCount = 0;
+  private long blockedCount = 0;
+  private int maxQueueDepth = 0;
+
+  /**
+   * Creates a {@link JavaScriptMessageQueue} without a limit.
+   *
+   * @param handler handler of the main thread
+   * @param receiver receives the messages on the main thread
+   */
+  public JavaScriptMessageQueue(@NonNull Handler handler, @NonNull Receiver receiver) {
+    this.handler = handler;
+    this.receiver = receiver;
+  }
+
+  /**
+   * Sets the limit of the queue.
+   *
+   * @param maxQueued the number of messages waiting to be delivered
+   * @param policy what happens to a message that doesn't fit in the queue
+   * @param coalesceKeyDelimiter the key of a message for {@link Policy#COALESCE_BY_KEY} is the text
+   *     before the first occurrence of this delimiter, or the whole message if it doesn't contain
+   *     the delimiter or the delimiter is null
+   */
+  public synchronized void setLimits(
+      long maxQueued, @NonNull Policy policy, @Nullable String coalesceKeyDelimiter) {
+    if (maxQueued < 1) {
+      throw new IllegalArgumentException("The queue must hold at least one message.");
+    }
+    this.maxQueued = (int) Math.min(maxQueued, Integer.MAX_VALUE);
+    this.policy = policy;
+    this.coalesceKeyDelimiter =
+        coalesceKeyDelimiter != null && !coalesceKeyDelimiter.isEmpty()
+            ? coalesceKeyDelimiter
+            : null;
+    // Keys of queued messages are only tracked while coalescing.
+    messagesByKey.clear();
+    // Blocked threads may fit in a larger queue or no longer need to wait.
+    notifyAll();
+  }
+
+  /**
+   * Queues `message` to be delivered on the main thread.
+   *
+   * <p>A message posted on the main thread while the queue is empty is delivered immediately. The
+   * main thread is never blocked, so {@link Policy#BLOCK} drops the oldest message there instead.
+   */
+  public void post(@NonNull String message) {
+    final boolean isMainThread = handler.getLooper() == Looper.myLooper();
+    synchronized (this) {
+      if (!isMainThread || !messages.isEmpty()) {
+        enqueue(message, isMainThread);
+        return;
+      }
+      deliveredCount++;
+    }
+    receiver.onMessage(message);
+  }
+
+  /**
+   * Creates a snapshot of the queue that can be sent to Dart.
+   *
+   * <p>Contains `queueDepth`, `maxQueueDepth`, `deliveredCount`, `droppedCount`, `coalescedCount`
+   * and `blockedCount`, which counts the messages that made the JavaScript thread wait.
+   */
+  @NonNull
+  public synchronized Map<String, Object> getStats() {
+    final Map<String, Object> stats = new HashMap<>();
+    stats.put("queueDepth", (long) messages.size());
+    stats.put("maxQueueDepth", (long) maxQueueDepth);
+    stats.put("deliveredCount", deliveredCount);
+    stats.put("droppedCount", droppedCount);
+    stats.put("coalescedCount", coalescedCount);
+    stats.put("blockedCount", blockedCount);
+    return stats;
+  }
+
+  private void enqueue(String message, boolean isMainThread) {
+    final String key = policy == Policy.COALESCE_BY_KEY ? keyOf(message) : null;
+    if (key != null) {
+      final Message queued = messagesByKey.get(key);
+      if (queued != null) {
+        queued.text = message;
+        coalescedCount++;
+        return;
+      }
+    }
+
+    if (messages.size() >= maxQueued) {
+      if (policy == Policy.DROP_NEWEST) {
+        droppedCount++;
+        return;
+      } else if (policy == Policy.BLOCK && !isMainThread) {
+        if (!awaitRoom()) {
+          droppedCount++;
+          return;
+        }
+      } else {
+        final Message oldest = messages.poll();
+        forgetKey(oldest);
+        droppedCount++;
+      }
+    }
+
+    final Message queued = new Message(key, message);
+    messages.add(queued);
+    if (key != null) {
+      messagesByKey.put(key, queued);
+    }
+    maxQueueDepth = Math.max(maxQueueDepth, messages.size());
+    if (!isDrainScheduled) {
+      isDrainScheduled = true;
+      handler.post(drainRunnable);
+    }
+  }
+
+  // Waits until the queue has room and returns whether it does.
+  private boolean awaitRoom() {
+    blockedCount++;
+    final long deadline = System.nanoTime() + MAX_BLOCK_MILLIS * 1000000;
+    while (messages.size() >= maxQueued) {
+      final long remainingMillis = (deadline - System.nanoTime()) / 1000000;
+      if (remainingMillis <= 0) {
+        return false;
+      }
+      try {
+        wait(remainingMillis);
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Nullable
+  private String keyOf(String message) {
+    if (coalesceKeyDelimiter == null) {
+      return message;
+    }
+    final int index = message.indexOf(coalesceKeyDelimiter);
+    return index >= 0 ? message.substring(0, index) : message;
+  }
+
+  private void forgetKey(@Nullable Message message) {
+    if (message != null && message.key != null && messagesByKey.get(message.key) == message) {
+      messagesByKey.remove(message.key);
+    }
+  }
+
+  private void drain() {
+    final List<String> drained;
+    synchronized (this) {
+      isDrainScheduled = false;
+      drained = new ArrayList<>(messages.size());
+      for (Message message : messages) {
+        drained.add(message.text);
+      }
+      messages.clear();
+      messagesByKey.clear();
+      deliveredCount += drained.size();
+      notifyAll();
+    }
+    for (String message : drained) {
+      receiver.onMessage(message);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Decodes the JSON results of {@link android.webkit.WebView#evaluateJavascript} with {@link
+ * JsonValueParser}, so Dart receives codec values instead of a JSON string it has to parse again.
+ *
+ * <p>Small results are decoded on the main thread. Larger results are decoded on a background
+ * thread and the result is completed on the main thread. The background thread is stopped by
+ * {@link #close}.
+ */
+public class JavaScriptResultDecoder {
+  // Results up to this many characters are decoded without switching threads.
+  private static final int MAX_MAIN_THREAD_LENGTH = 16 * 1024;
+
+  private final ExecutorService decodeExecutor = Executors.newSingleThreadExecutor();
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+  /**
+   * Decodes `json` and completes `result` with the decoded value.
+   *
+   * @param json the JSON result of a script, or null if the script didn't complete
+   */
+  public void decode(
+      @Nullable String json, @NonNull GeneratedAndroidWebView.Result<Object> result) {
+    if (json == null || json.length() <= MAX_MAIN_THREAD_LENGTH) {
+      try {
+        result.success(json != null ? JsonValueParser.parse(json) : null);
+      } catch (IllegalArgumentException exception) {
+        result.error(exception);
+      }
+      return;
+    }
+    if (decodeExecutor.isShutdown()) {
+      result.error(new IllegalStateException("The decoder is closed."));
+      return;
+    }
+    decodeExecutor.execute(
+        () -> {
+          try {
+            final Object value = JsonValueParser.parse(json);
+            mainHandler.post(() -> result.success(value));
+          } catch (IllegalArgumentException exception) {
+            mainHandler.post(() -> result.error(exception));
+          }
+        });
+  }
+
+  /**
+   * Stops the background thread, e.g. because the plugin was detached from its engine. Larger
+   * results fail afterwards.
+   */
+  public void close() {
+    decodeExecutor.shutdown();
+  }
+}
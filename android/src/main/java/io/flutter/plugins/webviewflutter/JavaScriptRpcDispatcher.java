@@ -0,0 +1,210 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Handler;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answers calls that a page makes through a {@link JavaScriptChannel} added with a
+ * `WebMessageListener`.
+ *
+ * <p>The script created by {@link #buildScript(String)} adds a `call(method, params)` function to
+ * the channel object that returns a Promise. A call is posted to the channel as the JSON array
+ * `[MESSAGE_MARKER, id, method, params]`, so regular messages of any shape still reach Dart as
+ * messages. The params are decoded with {@link JsonValueParser}, whose nesting limit bounds the
+ * work a page can cause, and passed to Dart. The JSON response of Dart is posted back to the
+ * calling frame as `{"rpc": MESSAGE_MARKER, "id": id, "response": response}`, where the response
+ * is either `{"result": value}` or `{"error": message}`.
+ *
+ * <p>A call that isn't answered within the timeout is answered with an error, and the late
+ * response of Dart is dropped.
+ *
+ * <p>Every method must be called on the main thread.
+ */
+public class JavaScriptRpcDispatcher {
+  /** Marks the messages of calls and their responses. */
+  public static final String MESSAGE_MARKER = "webview_flutter.rpc";
+
+  private static final String CALL_PREFIX = "[\"" + MESSAGE_MARKER + "\",";
+  /** Calls the Dart handler of a method. */
+  public interface MethodHandler {
+    void call(
+        @NonNull String method,
+        @Nullable Object params,
+        @NonNull GeneratedAndroidWebView.JavaScriptChannelFlutterApi.Reply<String> reply);
+  }
+
+  /** Posts a response to the frame that made a call. */
+  public interface ResponseSender {
+    void send(@NonNull String response);
+  }
+
+  private static class Call {
+    final long id;
+    final ResponseSender sender;
+    final long startMillis;
+    @Nullable Runnable timeout;
+    boolean isComplete = false;
+
+    Call(long id, ResponseSender sender, long startMillis) {
+      this.id = id;
+      this.sender = sender;
+      this.startMillis = startMillis;
+    }
+  }
+
+  private final Handler handler;
+  @Nullable private final Long timeoutMillis;
+
+  private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+  private int inFlightCount = 0;
+  private int maxInFlightCount = 0;
+  private long completedCount = 0;
+  private long failedCount = 0;
+  private long timedOutCount = 0;
+  private long invalidCount = 0;
+
+  /**
+   * Creates a {@link JavaScriptRpcDispatcher}.
+   *
+   * @param handler handler of the main thread that runs the timeouts
+   * @param timeoutMillis the time Dart has to answer a call, or null for no timeout
+   */
+  public JavaScriptRpcDispatcher(@NonNull Handler handler, @Nullable Long timeoutMillis) {
+    if (timeoutMillis != null && timeoutMillis < 1) {
+      throw new IllegalArgumentException("The timeout must be positive.");
+    }
+    this.handler = handler;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * Creates the script that adds the `call` function to the channel object named `channelName`.
+   *
+   * <p>The script must run before the page uses the channel, e.g. as a document-start script.
+   */
+  @NonNull
+  public static String buildScript(@NonNull String channelName) {
+    final StringBuilder builder = new StringBuilder();
+    builder.append("(function(){var c=window[");
+    JavaScriptBatch.appendQuoted(builder, channelName);
+    builder.append("];if(!c||c.call)return;var k=");
+    JavaScriptBatch.appendQuoted(builder, MESSAGE_MARKER);
+    builder
+        .append(",n=0,p={};")
+        .append("c.addEventListener('message',function(e){var m;")
+        .append("try{m=JSON.parse(e.data);}catch(x){return;}")
+        .append("var q=m&&m.rpc===k&&p[m.id];if(!q)return;delete p[m.id];var r=m.response;")
+        .append("if('error' in r){q[1](new Error(r.error));}else{q[0](r.result);}});")
+        .append("c.call=function(method,params){return new Promise(function(resolve,reject){")
+        .append("var id=++n;p[id]=[resolve,reject];")
+        .append("c.postMessage(JSON.stringify([k,id,String(method),")
+        .append("params===undefined?null:params]));});};})();");
+    return builder.toString();
+  }
+
+  /**
+   * Answers `message` if it is a call.
+   *
+   * <p>Only messages that start with the {@link #MESSAGE_MARKER} are parsed. A marked message that
+   * isn't a valid call, e.g. because it is nested too deeply, is consumed without a response.
+   *
+   * @return whether `message` was a call, otherwise it should be handled as a regular message
+   */
+  public boolean dispatch(
+      @NonNull String message,
+      @NonNull MethodHandler methodHandler,
+      @NonNull ResponseSender sender) {
+    if (!message.startsWith(CALL_PREFIX)) {
+      return false;
+    }
+    final Object value;
+    try {
+      value = JsonValueParser.parse(message);
+    } catch (IllegalArgumentException exception) {
+      invalidCount++;
+      return true;
+    }
+    final List<?> envelope = (List<?>) value;
+    if (envelope.size() != 4
+        || !(envelope.get(1) instanceof Long)
+        || !(envelope.get(2) instanceof String)) {
+      invalidCount++;
+      return true;
+    }
+
+    final Call call = new Call((Long) envelope.get(1), sender, SystemClock.uptimeMillis());
+    inFlightCount++;
+    maxInFlightCount = Math.max(maxInFlightCount, inFlightCount);
+    if (timeoutMillis != null) {
+      final long timeout = timeoutMillis;
+      call.timeout =
+          () -> {
+            timedOutCount++;
+            complete(call, "{\"error\":\"The call did not complete within " + timeout + " ms.\"}");
+          };
+      handler.postDelayed(call.timeout, timeout);
+    }
+    methodHandler.call(
+        (String) envelope.get(2),
+        envelope.get(3),
+        response -> {
+          // The call may already have timed out.
+          if (call.isComplete) {
+            return;
+          }
+          if (response == null || response.startsWith("{\"error\"")) {
+            failedCount++;
+          } else {
+            completedCount++;
+          }
+          complete(call, response != null ? response : "{\"error\":\"No response.\"}");
+        });
+    return true;
+  }
+
+  /**
+   * Creates a snapshot of the calls that can be sent to Dart.
+   *
+   * <p>Contains `inFlightCount`, `maxInFlightCount`, `completedCount`, `failedCount`,
+   * `timedOutCount` and `invalidCount`, along with `latency`, which maps to {@link
+   * LatencyHistogram#toMap()}.
+   */
+  @NonNull
+  public Map<String, Object> getStats() {
+    final Map<String, Object> stats = new HashMap<>();
+    stats.put("inFlightCount", (long) inFlightCount);
+    stats.put("maxInFlightCount", (long) maxInFlightCount);
+    stats.put("completedCount", completedCount);
+    stats.put("failedCount", failedCount);
+    stats.put("timedOutCount", timedOutCount);
+    stats.put("invalidCount", invalidCount);
+    stats.put("latency", latencyHistogram.toMap());
+    return stats;
+  }
+
+  private void complete(Call call, String response) {
+    call.isComplete = true;
+    inFlightCount--;
+    if (call.timeout != null) {
+      handler.removeCallbacks(call.timeout);
+    }
+    latencyHistogram.record(SystemClock.uptimeMillis() - call.startMillis);
+    call.sender.send(
+        "{\"rpc\":\""
+            + MESSAGE_MARKER
+            + "\",\"id\":"
+            + call.id
+            + ",\"response\":"
+            + response
+            + "}");
+  }
+}
@@ -0,0 +1,299 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses JSON into values that can be sent with the {@link
+ * io.flutter.plugin.common.StandardMessageCodec}.
+ *
+ * <p>Objects become {@link Map}s that keep the order of their keys, arrays become {@link List}s,
+ * integers that fit into a `long` become {@link Long}s and other numbers become {@link Double}s.
+ *
+ * <p>The text is read in a single pass and values are created as they are read, without a token
+ * list or intermediate tree. Strings without escapes are copied once with {@link
+ * String#substring}.
+ *
+ * <p>Values are read recursively, so arrays and objects may be nested at most {@link #MAX_DEPTH}
+ * levels deep. Deeper JSON is rejected instead of overflowing the stack.
+ */
+public class JsonValueParser {
+  /** The maximum number of arrays and objects a value may be nested in. */
+  public static final int MAX_DEPTH = 512;
+
+  private final String json;
+  private int index = 0;
+  private int depth = 0;
+
+  private JsonValueParser(String json) {
+    this.json = json;
+  }
+
+  /**
+   * Parses `json`.
+   *
+   * @return the value of `json`, which is null for `null`
+   * @throws IllegalArgumentException if `json` isn't valid JSON or is nested more than {@link
+   *     #MAX_DEPTH} levels deep
+   */
+  @Nullable
+  public static Object parse(@NonNull String json) {
+    final JsonValueParser parser = new JsonValueParser(json);
+    final Object value = parser.readValue();
+    parser.skipWhitespace();
+    if (parser.index != json.length()) {
+      throw parser.error("Unexpected trailing characters");
+    }
+    return value;
+  }
+
+  @Nullable
+  private Object readValue() {
+    skipWhitespace();
+    if (index >= json.length()) {
+      throw error("Unexpected end of input");
+    }
+    final char c = json.charAt(index);
+    switch (c) {
+      case '{':
+        enterContainer();
+        final Map<String, Object> map = readObject();
+        depth--;
+        return map;
+      case '[':
+        enterContainer();
+        final List<Object> list = readArray();
+        depth--;
+        return list;
+      case '"':
+        return readString();
+      case 't':
+        readLiteral("true");
+        return true;
+      case 'f':
+        readLiteral("false");
+        return false;
+      case 'n':
+        readLiteral("null");
+        return null;
+      default:
+        if (c == '-' || (c >= '0' && c <= '9')) {
+          return readNumber();
+        }
+        throw error("Unexpected character '" + c + "'");
+    }
+  }
+
+  private void enterContainer() {
+    if (++depth > MAX_DEPTH) {
+      throw error("Nested more than " + MAX_DEPTH + " levels deep");
+    }
+  }
+
+  private Map<String, Object> readObject() {
+    index++;
+    final Map<String, Object> map = new LinkedHashMap<>();
+    skipWhitespace();
+    if (peek() == '}') {
+      index++;
+      return map;
+    }
+    while (true) {
+      skipWhitespace();
+      if (peek() != '"') {
+        throw error("Expected a key");
+      }
+      final String key = readString();
+      skipWhitespace();
+      expect(':');
+      map.put(key, readValue());
+      skipWhitespace();
+      if (peek() == ',') {
+        index++;
+      } else {
+        expect('}');
+        return map;
+      }
+    }
+  }
+
+  private List<Object> readArray() {
+    index++;
+    final List<Object> list = new ArrayList<>();
+    skipWhitespace();
+    if (peek() == ']') {
+      index++;
+      return list;
+    }
+    while (true) {
+      list.add(readValue());
+      skipWhitespace();
+      if (peek() == ',') {
+        index++;
+      } else {
+        expect(']');
+        return list;
+      }
+    }
+  }
+
+  private String readString() {
+    index++;
+    final int start = index;
+    // Most strings don't contain escapes and can be copied directly.
+    while (index < json.length()) {
+      final char c = json.charAt(index);
+      if (c == '"') {
+        return json.substring(start, index++);
+      } else if (c == '\\') {
+        break;
+      }
+      index++;
+    }
+
+    final StringBuilder builder = new StringBuilder(index - start + 16);
+    builder.append(json, start, index);
+    while (index < json.length()) {
+      final char c = json.charAt(index++);
+      if (c == '"') {
+        return builder.toString();
+      } else if (c != '\\') {
+        builder.append(c);
+        continue;
+      }
+      if (index >= json.length()) {
+        break;
+      }
+      final char escaped = json.charAt(index++);
+      switch (escaped) {
+        case '"':
+        case '\\':
+        case '/':
+          builder.append(escaped);
+          break;
+        case 'b':
+          builder.append('\b');
+          break;
+        case 'f':
+          builder.append('\f');
+          break;
+        case 'n':
+          builder.append('\n');
+          break;
+        case 'r':
+          builder.append('\r');
+          break;
+        case 't':
+          builder.append('\t');
+          break;
+        case 'u':
+          if (index + 4 > json.length()) {
+            throw error("Invalid unicode escape");
+          }
+          try {
+            builder.append((char) Integer.parseInt(json.substring(index, index + 4), 16));
+          } catch (NumberFormatException exception) {
+            throw error("Invalid unicode escape");
+          }
+          index += 4;
+          break;
+        default:
+          throw error("Invalid escape '\\" + escaped + "'");
+      }
+    }
+    throw error("Unterminated string");
+  }
+
+  private Object readNumber() {
+    final int start = index;
+    boolean isInteger = true;
+    if (peek() == '-') {
+      index++;
+    }
+    // The integer part has no leading zeros.
+    if (index < json.length() && json.charAt(index) == '0') {
+      index++;
+    } else if (skipDigits() == 0) {
+      throw error("Invalid number");
+    }
+    if (index < json.length() && json.charAt(index) == '.') {
+      isInteger = false;
+      index++;
+      if (skipDigits() == 0) {
+        throw error("Invalid number");
+      }
+    }
+    if (index < json.length() && (json.charAt(index) == 'e' || json.charAt(index) == 'E')) {
+      isInteger = false;
+      index++;
+      if (index < json.length() && (json.charAt(index) == '+' || json.charAt(index) == '-')) {
+        index++;
+      }
+      if (skipDigits() == 0) {
+        throw error("Invalid number");
+      }
+    }
+    final String number = json.substring(start, index);
+    try {
+      if (isInteger && number.length() <= 19) {
+        return Long.parseLong(number);
+      }
+      return Double.parseDouble(number);
+    } catch (NumberFormatException exception) {
+      // Integers that overflow a long are still valid JSON numbers.
+      return Double.parseDouble(number);
+    }
+  }
+
+  // Returns the number of digits skipped.
+  private int skipDigits() {
+    final int start = index;
+    while (index < json.length() && json.charAt(index) >= '0' && json.charAt(index) <= '9') {
+      index++;
+    }
+    return index - start;
+  }
+
+  private void readLiteral(String literal) {
+    if (!json.startsWith(literal, index)) {
+      throw error("Unexpected character '" + json.charAt(index) + "'");
+    }
+    index += literal.length();
+  }
+
+  private void expect(char c) {
+    if (peek() != c) {
+      throw error("Expected '" + c + "'");
+    }
+    index++;
+  }
+
+  private char peek() {
+    if (index >= json.length()) {
+      throw error("Unexpected end of input");
+    }
+    return json.charAt(index);
+  }
+
+  private void skipWhitespace() {
+    while (index < json.length()) {
+      final char c = json.charAt(index);
+      if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+        return;
+      }
+      index++;
+    }
+  }
+
+  private IllegalArgumentException error(String message) {
+    return new IllegalArgumentException(message + " at index " + index + ".");
+  }
+}
@@ -0,0 +1,136 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Histogram of latencies in milliseconds with exponentially sized buckets.
+ *
+ * <p>Recording a value doesn't allocate, so this can be updated from frequently called callbacks.
+ * Bucket `i` contains values in the range (2^(i-1), 2^i], with bucket 0 containing values <= 1
+ * and the last bucket containing every value that doesn't fit in the others. Percentiles are
+ * estimated with the upper bound of the bucket that contains them.
+ *
+ * <p>This class is not thread safe.
+ */
+public class LatencyHistogram {
+  private static final int BUCKET_COUNT = 24;
+
+  private final long[] bucketCounts = new long[BUCKET_COUNT];
+  private long count = 0;
+  private long sumMillis = 0;
+  private long minMillis = Long.MAX_VALUE;
+  private long maxMillis = 0;
+
+  /** Records a latency. Negative values are recorded as 0. */
+  public void record(long millis) {
+    final long value = Math.max(0, millis);
+    bucketCounts[getBucketIndex(value)]++;
+    count++;
+    sumMillis += value;
+    minMillis = Math.min(minMillis, value);
+    maxMillis = Math.max(maxMillis, value);
+  }
+
+  /** The number of recorded latencies. */
+  public long getCount() {
+    return count;
+  }
+
+  /** The largest recorded latency, or 0 if nothing was recorded. */
+  public long getMaxMillis() {
+    return maxMillis;
+  }
+
+  /**
+   * Estimates the latency below which `percentile` percent of the recorded latencies fall.
+   *
+   * @param percentile a value in the range [0, 100].
+   * @return the estimated latency, or 0 if nothing was recorded.
+   */
+  public long getPercentileMillis(double percentile) {
+    if (count == 0) {
+      return 0;
+    }
+    final long target = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+    long cumulativeCount = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      cumulativeCount += bucketCounts[i];
+      if (cumulativeCount >= target) {
+        return Math.min(getBucketUpperBound(i), maxMillis);
+      }
+    }
+    return maxMillis;
+  }
+
+  /** Removes all recorded latencies. */
+  public void reset() {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      bucketCounts[i] = 0;
+    }
+    count = 0;
+    sumMillis = 0;
+    minMillis = Long.MAX_VALUE;
+    maxMillis = 0;
+  }
+
+  /** Adds every latency recorded in `other` to this histogram. */
+  public void merge(@NonNull LatencyHistogram other) {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      bucketCounts[i] += other.bucketCounts[i];
+    }
+    count += other.count;
+    sumMillis += other.sumMillis;
+    minMillis = Math.min(minMillis, other.minMillis);
+    maxMillis = Math.max(maxMillis, other.maxMillis);
+  }
+
+  /**
+   * Creates a snapshot of this histogram that can be sent to Dart.
+   *
+   * <p>The map contains the keys `count`, `sumMillis`, `minMillis`, `maxMillis`, `p50Millis`,
+   * `p90Millis`, `p99Millis` and `bucketCounts`.
+   */
+  @NonNull
+  public Map<String, Object> toMap() {
+    final List<Long> buckets = new ArrayList<>(BUCKET_COUNT);
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      buckets.add(bucketCounts[i]);
+    }
+
+    final Map<String, Object> map = new HashMap<>();
+    map.put("count", count);
+    map.put("sumMillis", sumMillis);
+    map.put("minMillis", count == 0 ? 0L : minMillis);
+    map.put("maxMillis", maxMillis);
+    map.put("p50Millis", getPercentileMillis(50));
+    map.put("p90Millis", getPercentileMillis(90));
+    map.put("p99Millis", getPercentileMillis(99));
+    map.put("bucketCounts", buckets);
+    return map;
+  }
+
+  private static int getBucketIndex(long value) {
+    if (value <= 1) {
+      return 0;
+    }
+    // The number of bits needed to represent value - 1 is the exponent of the smallest power of two
+    // that is >= value.
+    final int index = 64 - Long.numberOfLeadingZeros(value - 1);
+    return Math.min(index, BUCKET_COUNT - 1);
+  }
+
+  private static long getBucketUpperBound(int index) {
+    if (index == BUCKET_COUNT - 1) {
+      return Long.MAX_VALUE;
+    }
+    return 1L << index;
+  }
+}
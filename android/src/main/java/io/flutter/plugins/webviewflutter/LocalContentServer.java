@@ -0,0 +1,527 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Build;
+import android.webkit.MimeTypeMap;
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Serves files from app directories to a WebView through a virtual http(s) origin.
+ *
+ * <p>Unlike `file://` urls, the files are served without enabling file access, have a regular web
+ * origin and are read without going through the WebView's file loader. Each response maps the
+ * requested part of the file into memory with {@link FileChannel#map}, so no copy of the file is
+ * made on the Java heap. Parts that can't be mapped, e.g. because they are larger than 2 GiB, are
+ * streamed from the file instead.
+ *
+ * <p>Single `Range` requests are answered with `206 Partial Content`, which media elements use to
+ * seek. Responses have a strong `ETag`, `Last-Modified` and a configurable `Cache-Control` max age.
+ * A WebView can't be answered with `304 Not Modified` from an intercepted request, so conditional
+ * requests always receive the file.
+ */
+@RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
+public class LocalContentServer implements RequestInterceptorChain.RequestInterceptor {
+  private static final Map<String, String> MIME_TYPES = new HashMap<>();
+
+  static {
+    MIME_TYPES.put("html", "text/html");
+    MIME_TYPES.put("htm", "text/html");
+    MIME_TYPES.put("js", "text/javascript");
+    MIME_TYPES.put("mjs", "text/javascript");
+    MIME_TYPES.put("css", "text/css");
+    MIME_TYPES.put("json", "application/json");
+    MIME_TYPES.put("map", "application/json");
+    MIME_TYPES.put("wasm", "application/wasm");
+    MIME_TYPES.put("svg", "image/svg+xml");
+    MIME_TYPES.put("png", "image/png");
+    MIME_TYPES.put("jpg", "image/jpeg");
+    MIME_TYPES.put("jpeg", "image/jpeg");
+    MIME_TYPES.put("gif", "image/gif");
+    MIME_TYPES.put("webp", "image/webp");
+    MIME_TYPES.put("ico", "image/x-icon");
+    MIME_TYPES.put("woff", "font/woff");
+    MIME_TYPES.put("woff2", "font/woff2");
+    MIME_TYPES.put("ttf", "font/ttf");
+    MIME_TYPES.put("mp4", "video/mp4");
+    MIME_TYPES.put("webm", "video/webm");
+    MIME_TYPES.put("mp3", "audio/mpeg");
+    MIME_TYPES.put("wav", "audio/wav");
+    MIME_TYPES.put("txt", "text/plain");
+    MIME_TYPES.put("xml", "text/xml");
+    MIME_TYPES.put("pdf", "application/pdf");
+  }
+
+  private static class Mount {
+    final String origin;
+    final String pathPrefix;
+    final File directory;
+    final long cacheMaxAgeSeconds;
+
+    Mount(String origin, String pathPrefix, File directory, long cacheMaxAgeSeconds) {
+      this.origin = origin;
+      this.pathPrefix = pathPrefix;
+      this.directory = directory;
+      this.cacheMaxAgeSeconds = cacheMaxAgeSeconds;
+    }
+  }
+
+  /** The response to a request, before it is converted to a {@link WebResourceResponse}. */
+  @VisibleForTesting
+  static class Response {
+    final int statusCode;
+    final String reasonPhrase;
+    final String mimeType;
+    final Map<String, String> headers;
+    @Nullable final File file;
+    final long start;
+    final long length;
+
+    Response(
+        int statusCode,
+        String reasonPhrase,
+        String mimeType,
+        Map<String, String> headers,
+        @Nullable File file,
+        long start,
+        long length) {
+      this.statusCode = statusCode;
+      this.reasonPhrase = reasonPhrase;
+      this.mimeType = mimeType;
+      this.headers = headers;
+      this.file = file;
+      this.start = start;
+      this.length = length;
+    }
+  }
+
+  private final List<Mount> mounts = new CopyOnWriteArrayList<>();
+
+  /**
+   * Retrieves the server of `view`.
+   *
+   * @return the server, or null if `view` wasn't created by this plugin
+   */
+  @Nullable
+  public static LocalContentServer forWebView(@NonNull WebView view) {
+    if (view instanceof WebViewHostApiImpl.WebViewPlatformView) {
+      return ((WebViewHostApiImpl.WebViewPlatformView) view).getLocalContentServer();
+    }
+    return null;
+  }
+
+  /**
+   * Serves the files in `directory` at `origin` + `pathPrefix`.
+   *
+   * @param origin an http or https origin without a path, e.g. `https://appassets.example`
+   * @param pathPrefix the path the directory is served at, starting and ending with `/`
+   * @param directory the directory containing the files
+   * @param cacheMaxAgeSeconds the `max-age` of the `Cache-Control` header of each response
+   */
+  public void addDirectory(
+      @NonNull String origin,
+      @NonNull String pathPrefix,
+      @NonNull File directory,
+      long cacheMaxAgeSeconds) {
+    final URI originUri = URI.create(origin);
+    if (!("http".equals(originUri.getScheme()) || "https".equals(originUri.getScheme()))
+        || originUri.getHost() == null
+        || !(originUri.getPath() == null || originUri.getPath().isEmpty())) {
+      throw new IllegalArgumentException("Origin must be an http(s) origin without a path.");
+    }
+    if (!pathPrefix.startsWith("/") || !pathPrefix.endsWith("/")) {
+      throw new IllegalArgumentException("Path prefix must start and end with '/'.");
+    }
+    if (cacheMaxAgeSeconds < 0) {
+      throw new IllegalArgumentException("Cache max age must be >= 0: " + cacheMaxAgeSeconds);
+    }
+    final File canonicalDirectory;
+    try {
+      canonicalDirectory = directory.getCanonicalFile();
+    } catch (IOException exception) {
+      throw new IllegalArgumentException("Invalid directory: " + directory, exception);
+    }
+    mounts.add(new Mount(origin, pathPrefix, canonicalDirectory, cacheMaxAgeSeconds));
+  }
+
+  /** Stops serving every directory. */
+  public void clearDirectories() {
+    mounts.clear();
+  }
+
+  /**
+   * Finds the url `file` is served at.
+   *
+   * @return the url, or null if `file` isn't in a served directory
+   */
+  @Nullable
+  public String getUrl(@NonNull File file) {
+    final String path;
+    try {
+      path = file.getCanonicalPath();
+    } catch (IOException exception) {
+      return null;
+    }
+    for (Mount mount : mounts) {
+      final String directoryPath = mount.directory.getPath() + File.separator;
+      if (path.startsWith(directoryPath)) {
+        final String relativePath = path.substring(directoryPath.length());
+        final String urlPath = mount.pathPrefix + relativePath.replace(File.separatorChar, '/');
+        try {
+          return mount.origin + new URI(null, null, urlPath, null).getRawPath();
+        } catch (URISyntaxException exception) {
+          return null;
+        }
+      }
+    }
+    return null;
+  }
+
+  @Nullable
+  @Override
+  public WebResourceResponse shouldInterceptRequest(
+      @NonNull WebView view, @NonNull WebResourceRequest request) {
+    if (mounts.isEmpty()) {
+      return null;
+    }
+    final Response response =
+        resolve(request.getMethod(), request.getUrl().toString(), request.getRequestHeaders());
+    if (response == null) {
+      return null;
+    }
+
+    InputStream body = new ByteArrayInputStream(new byte[0]);
+    if (response.file != null && response.length > 0) {
+      try {
+        body = openBody(response.file, response.start, response.length);
+      } catch (IOException exception) {
+        return toWebResourceResponse(createErrorResponse(500, "Internal Server Error"), body);
+      }
+    }
+    return toWebResourceResponse(response, body);
+  }
+
+  /**
+   * Resolves a request to a served file.
+   *
+   * @return the response, or null if `url` isn't in a served directory
+   */
+  @VisibleForTesting
+  @Nullable
+  Response resolve(
+      @Nullable String method, @NonNull String url, @Nullable Map<String, String> requestHeaders) {
+    final Mount mount = findMount(url);
+    if (mount == null) {
+      return null;
+    }
+    if (!"GET".equalsIgnoreCase(method) && !"HEAD".equalsIgnoreCase(method)) {
+      return createErrorResponse(405, "Method Not Allowed");
+    }
+
+    final String encodedPath = url.substring(mount.origin.length() + mount.pathPrefix.length());
+    final File file;
+    try {
+      final String path = URI.create("/" + stripQueryAndFragment(encodedPath)).getPath();
+      final File requested = new File(mount.directory, path).getCanonicalFile();
+      file = requested.isDirectory() ? new File(requested, "index.html") : requested;
+    } catch (IllegalArgumentException | IOException exception) {
+      return createErrorResponse(400, "Bad Request");
+    }
+    // Rejects paths that resolve outside of the directory, e.g. with `..` or symbolic links.
+    if (!file.getPath().startsWith(mount.directory.getPath() + File.separator)
+        || !file.isFile()) {
+      return createErrorResponse(404, "Not Found");
+    }
+
+    final long size = file.length();
+    final Map<String, String> headers = new HashMap<>();
+    headers.put("Accept-Ranges", "bytes");
+    headers.put("Cache-Control", "max-age=" + mount.cacheMaxAgeSeconds);
+    headers.put(
+        "ETag",
+        "\"" + Long.toHexString(size) + "-" + Long.toHexString(file.lastModified()) + "\"");
+    headers.put("Last-Modified", formatHttpDate(file.lastModified()));
+    final String mimeType = getMimeType(file.getName());
+
+    final String range = getHeader(requestHeaders, "Range");
+    final long[] bounds = range != null ? parseRange(range, size) : null;
+    if (range != null && bounds == null) {
+      headers.put("Content-Range", "bytes */" + size);
+      return new Response(416, "Range Not Satisfiable", mimeType, headers, null, 0, 0);
+    }
+    if (bounds != null) {
+      final long length = bounds[1] - bounds[0] + 1;
+      headers.put("Content-Range", "bytes " + bounds[0] + "-" + bounds[1] + "/" + size);
+      headers.put("Content-Length", String.valueOf(length));
+      return new Response(
+          206,
+          "Partial Content",
+          mimeType,
+          headers,
+          "HEAD".equalsIgnoreCase(method) ? null : file,
+          bounds[0],
+          length);
+    }
+    headers.put("Content-Length", String.valueOf(size));
+    return new Response(
+        200, "OK", mimeType, headers, "HEAD".equalsIgnoreCase(method) ? null : file, 0, size);
+  }
+
+  /**
+   * Parses a single `bytes` range of a file with `size` bytes.
+   *
+   * @return the first and last byte of the range, or null if it can't be satisfied
+   */
+  @VisibleForTesting
+  @Nullable
+  static long[] parseRange(@NonNull String range, long size) {
+    final String trimmed = range.trim();
+    if (!trimmed.startsWith("bytes=") || trimmed.contains(",")) {
+      return null;
+    }
+    final String spec = trimmed.substring("bytes=".length()).trim();
+    final int separator = spec.indexOf('-');
+    if (separator < 0) {
+      return null;
+    }
+    try {
+      final String first = spec.substring(0, separator).trim();
+      final String last = spec.substring(separator + 1).trim();
+      if (first.isEmpty()) {
+        // A suffix range, e.g. `bytes=-500` requests the last 500 bytes.
+        final long suffixLength = Long.parseLong(last);
+        if (suffixLength <= 0 || size == 0) {
+          return null;
+        }
+        return new long[] {Math.max(0, size - suffixLength), size - 1};
+      }
+      final long start = Long.parseLong(first);
+      final long end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+      if (start < 0 || start >= size || end < start) {
+        return null;
+      }
+      return new long[] {start, end};
+    } catch (NumberFormatException exception) {
+      return null;
+    }
+  }
+
+  @VisibleForTesting
+  @NonNull
+  static String getMimeType(@NonNull String fileName) {
+    final int separator = fileName.lastIndexOf('.');
+    if (separator < 0) {
+      return "application/octet-stream";
+    }
+    final String extension = fileName.substring(separator + 1).toLowerCase(Locale.US);
+    String mimeType = MIME_TYPES.get(extension);
+    if (mimeType == null) {
+      mimeType = MimeTypeMap.getSingleton().getMimeTypeFromExtension(extension);
+    }
+    return mimeType != null ? mimeType : "application/octet-stream";
+  }
+
+  @Nullable
+  private Mount findMount(String url) {
+    for (Mount mount : mounts) {
+      if (url.startsWith(mount.origin)
+          && url.startsWith(mount.pathPrefix, mount.origin.length())) {
+        return mount;
+      }
+    }
+    return null;
+  }
+
+  private static String stripQueryAndFragment(String path) {
+    int end = path.length();
+    final int query = path.indexOf('?');
+    if (query >= 0) {
+      end = query;
+    }
+    final int fragment = path.indexOf('#');
+    if (fragment >= 0 && fragment < end) {
+      end = fragment;
+    }
+    return path.substring(0, end);
+  }
+
+  @Nullable
+  private static String getHeader(@Nullable Map<String, String> headers, String name) {
+    if (headers == null) {
+      return null;
+    }
+    for (Map.Entry<String, String> header : headers.entrySet()) {
+      if (name.equalsIgnoreCase(header.getKey())) {
+        return header.getValue();
+      }
+    }
+    return null;
+  }
+
+  private static String formatHttpDate(long millis) {
+    final SimpleDateFormat dateFormat =
+        new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US);
+    dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+    return dateFormat.format(new Date(millis));
+  }
+
+  private static Response createErrorResponse(int statusCode, String reasonPhrase) {
+    return new Response(statusCode, reasonPhrase, "text/plain", new HashMap<>(), null, 0, 0);
+  }
+
+  /** Opens `length` bytes of `file` from `start`. */
+  @VisibleForTesting
+  @NonNull
+  static InputStream openBody(@NonNull File file, long start, long length) throws IOException {
+    if (length <= Integer.MAX_VALUE) {
+      // The mapping stays valid after the channel is closed, so no file descriptor is kept open
+      // while the WebView reads the response.
+      try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+          FileChannel channel = randomAccessFile.getChannel()) {
+        return new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, start, length));
+      } catch (IOException exception) {
+        // Mapping fails when the address space is exhausted, e.g. on 32-bit devices.
+      }
+    }
+    final FileInputStream input = new FileInputStream(file);
+    try {
+      input.getChannel().position(start);
+    } catch (IOException exception) {
+      input.close();
+      throw exception;
+    }
+    return new BoundedInputStream(input, length);
+  }
+
+  private static WebResourceResponse toWebResourceResponse(Response response, InputStream body) {
+    return new WebResourceResponse(
+        response.mimeType,
+        null,
+        response.statusCode,
+        response.reasonPhrase,
+        response.headers,
+        body);
+  }
+
+  /** Reads at most a number of bytes from another stream. */
+  @VisibleForTesting
+  static class BoundedInputStream extends InputStream {
+    private final InputStream input;
+    private long remaining;
+
+    BoundedInputStream(@NonNull InputStream input, long length) {
+      this.input = input;
+      this.remaining = length;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (remaining <= 0) {
+        return -1;
+      }
+      final int value = input.read();
+      if (value >= 0) {
+        remaining--;
+      }
+      return value;
+    }
+
+    @Override
+    public int read(@NonNull byte[] bytes, int offset, int length) throws IOException {
+      if (length == 0) {
+        return 0;
+      }
+      if (remaining <= 0) {
+        return -1;
+      }
+      final int count = input.read(bytes, offset, (int) Math.min(length, remaining));
+      if (count > 0) {
+        remaining -= count;
+      }
+      return count;
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+      final long skipped = input.skip(Math.max(0, Math.min(count, remaining)));
+      remaining -= skipped;
+      return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+      return (int) Math.min(input.available(), remaining);
+    }
+
+    @Override
+    public void close() throws IOException {
+      input.close();
+    }
+  }
+
+  /** Reads a {@link ByteBuffer} from its position to its limit. */
+  @VisibleForTesting
+  static class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(@NonNull ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(@NonNull byte[] bytes, int offset, int length) {
+      if (length == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      final int count = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, count);
+      return count;
+    }
+
+    @Override
+    public long skip(long count) {
+      final int skipped = (int) Math.max(0, Math.min(count, buffer.remaining()));
+      buffer.position(buffer.position() + skipped);
+      return skipped;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
+}
@@ -0,0 +1,639 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Downloads files natively for a {@link DownloadListenerHostApiImpl.DownloadListenerImpl}.
+ *
+ * <p>Each download sends the cookies of its URL and the user agent of the WebView that started it,
+ * and streams the response to a `.part` file through a fixed size buffer, so a large file is never
+ * held in memory. The `.part` file is created when the download is queued, which reserves the name
+ * of the destination, and is moved to the destination once it is complete. A destination that
+ * something else created in the meantime is never replaced.
+ *
+ * <p>A download that failed can be resumed: the request asks for the bytes after the end of the
+ * `.part` file with an HTTP `Range` header, guarded by `If-Range` so a changed resource is
+ * downloaded again from the start. If the server reports that the range can't be satisfied, the
+ * `.part` file is only completed when its length matches the length of the resource in the
+ * `Content-Range` header; otherwise the download starts over.
+ *
+ * <p>The paths of the `.part` files are saved in a list, so the `.part` files left behind by a
+ * process that ended during a download are deleted by the first engine of the next process. The
+ * downloads of an engine can't be resumed once it is closed.
+ *
+ * <p>At most {@link #setMaxConcurrentDownloads} downloads run at once, the others wait in order.
+ * Progress is reported at most once per {@link #PROGRESS_INTERVAL_MILLIS} per download.
+ *
+ * <p>A download of a URL that is already queued or running with the same cookies joins that
+ * transfer. Completed files are copied to a {@link DownloadStore}; a later download of the same URL
+ * asks the server whether the content changed, with `If-None-Match` and `If-Modified-Since`, and
+ * copies the stored file to its destination if it didn't.
+ */
+public class NativeDownloadEngine {
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int TIMEOUT_MILLIS = 30000;
+  private static final int DEFAULT_MAX_CONCURRENT_DOWNLOADS = 3;
+  @VisibleForTesting static final long PROGRESS_INTERVAL_MILLIS = 250;
+
+  // The lists of `.part` files whose entries of earlier processes were deleted. Engines of several
+  // Flutter engines can share a list.
+  private static final Set<File> cleanedPartFileLists = new HashSet<>();
+  // The `.part` files of downloads of this process, by list.
+  private static final Map<File, Set<String>> partFilesByList = new HashMap<>();
+
+  /** Receives the events of downloads. Called on the result executor. */
+  public interface Listener {
+    /**
+     * Called while a download receives data.
+     *
+     * @param totalBytes the size of the file, or -1 if the server didn't send it
+     */
+    void onProgress(long downloadId, long receivedBytes, long totalBytes);
+
+    /**
+     * Called when a download ended.
+     *
+     * @param filePath the downloaded file, or null if the download failed
+     * @param error why the download failed, or null if it succeeded
+     */
+    void onFinished(long downloadId, @Nullable String filePath, @Nullable String error);
+  }
+
+  /**
+   * Retrieves the cookies sent with the requests of a download.
+   *
+   * <p>Downloads only join each other if their sources are equal.
+   */
+  public interface CookieSource {
+    @Nullable
+    String getCookie(@NonNull String url);
+  }
+
+  /** Opens the connections of downloads. */
+  public interface ConnectionFactory {
+    @NonNull
+    HttpURLConnection open(@NonNull URL url) throws IOException;
+  }
+
+  /** A queued download. */
+  public static class Handle {
+    /** The id of the download. */
+    public final long id;
+
+    /** The file the download is written to. */
+    @NonNull public final File file;
+
+    Handle(long id, @NonNull File file) {
+      this.id = id;
+      this.file = file;
+    }
+  }
+
+  private static class Download {
+    final long id;
+    final String url;
+    final String userAgent;
+    final CookieSource cookieSource;
+    final File file;
+    // More than one listener when later downloads of the URL joined this transfer.
+    final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    // The ETag or Last-Modified header of the response the `.part` file was written from.
+    @Nullable String validator;
+    // The ETag, Last-Modified and Content-Length of the full response, which identify the content
+    // in the store.
+    @Nullable String etag;
+    @Nullable String lastModified;
+    long contentLength = -1;
+    boolean isQueued;
+    volatile boolean isCancelled;
+
+    Download(
+        long id,
+        String url,
+        String userAgent,
+        CookieSource cookieSource,
+        File file,
+        Listener listener) {
+      this.id = id;
+      this.url = url;
+      this.userAgent = userAgent;
+      this.cookieSource = cookieSource;
+      this.file = file;
+      listeners.add(listener);
+    }
+
+    File getPartFile() {
+      return new File(file.getPath() + ".part");
+    }
+  }
+
+  private final ThreadPoolExecutor downloadExecutor;
+  private final Executor resultExecutor;
+  private final ConnectionFactory connectionFactory;
+  private final DownloadStore store;
+  private final File partFileList;
+  private final AtomicLong nextDownloadId = new AtomicLong(1);
+  // Downloads that are queued, running or can be resumed.
+  private final Map<Long, Download> downloads = new HashMap<>();
+  // Guarded by `downloads`.
+  private boolean isClosed = false;
+
+  /**
+   * Creates a {@link NativeDownloadEngine}.
+   *
+   * @param resultExecutor runs the callbacks of the {@link Listener}s
+   * @param connectionFactory opens the connections of downloads
+   * @param store keeps copies of completed downloads to reuse them
+   * @param partFileList a file of the plugin that keeps the paths of the `.part` files of downloads
+   */
+  public NativeDownloadEngine(
+      @NonNull Executor resultExecutor,
+      @NonNull ConnectionFactory connectionFactory,
+      @NonNull DownloadStore store,
+      @NonNull File partFileList) {
+    this.resultExecutor = resultExecutor;
+    this.connectionFactory = connectionFactory;
+    this.store = store;
+    this.partFileList = partFileList;
+    downloadExecutor =
+        new ThreadPoolExecutor(
+            DEFAULT_MAX_CONCURRENT_DOWNLOADS,
+            DEFAULT_MAX_CONCURRENT_DOWNLOADS,
+            30,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>());
+    downloadExecutor.allowCoreThreadTimeOut(true);
+    // Deletes the `.part` files of earlier processes without waiting for the first download.
+    downloadExecutor.execute(() -> updatePartFileList(null, null));
+  }
+
+  /** Sets how many downloads may run at once. Queued downloads wait for a free slot. */
+  public void setMaxConcurrentDownloads(int maxConcurrentDownloads) {
+    if (maxConcurrentDownloads < 1) {
+      throw new IllegalArgumentException("At least one download must be able to run.");
+    }
+    // The core size may never exceed the maximum size, so the order depends on the direction.
+    if (maxConcurrentDownloads > downloadExecutor.getMaximumPoolSize()) {
+      downloadExecutor.setMaximumPoolSize(maxConcurrentDownloads);
+      downloadExecutor.setCorePoolSize(maxConcurrentDownloads);
+    } else {
+      downloadExecutor.setCorePoolSize(maxConcurrentDownloads);
+      downloadExecutor.setMaximumPoolSize(maxConcurrentDownloads);
+    }
+  }
+
+  /** The store of completed downloads. */
+  @NonNull
+  public DownloadStore getStore() {
+    return store;
+  }
+
+  /**
+   * Queues the download of `url` to a file named `fileName` in `directory`.
+   *
+   * <p>A counter is appended to the name if a file, a `.part` file or another download already
+   * uses it.
+   *
+   * <p>If a download of `url` with an equal `cookieSource` is already queued or running, `listener`
+   * joins it instead and the returned handle is the one of that download.
+   *
+   * @throws IOException if the engine is closed or the `.part` file couldn't be created
+   */
+  @NonNull
+  public Handle enqueue(
+      @NonNull String url,
+      @NonNull String userAgent,
+      @NonNull CookieSource cookieSource,
+      @NonNull File directory,
+      @NonNull String fileName,
+      @NonNull Listener listener)
+      throws IOException {
+    synchronized (downloads) {
+      if (isClosed) {
+        throw new IOException("The download engine is closed.");
+      }
+      for (Download download : downloads.values()) {
+        if (download.url.equals(url)
+            && download.cookieSource.equals(cookieSource)
+            && download.isQueued
+            && !download.isCancelled) {
+          download.listeners.add(listener);
+          return new Handle(download.id, download.file);
+        }
+      }
+      final File file = reserveFile(directory, fileName);
+      final Download download =
+          new Download(
+              nextDownloadId.getAndIncrement(), url, userAgent, cookieSource, file, listener);
+      downloads.put(download.id, download);
+      submit(download);
+      return new Handle(download.id, download.file);
+    }
+  }
+
+  /**
+   * Cancels a queued or running download and deletes its `.part` file.
+   *
+   * <p>Every listener that joined the download is notified. Does nothing if there is no such
+   * download.
+   */
+  public void cancel(long downloadId) {
+    final Download download;
+    synchronized (downloads) {
+      download = downloads.remove(downloadId);
+      if (download == null) {
+        return;
+      }
+      download.isCancelled = true;
+      // A queued or running download deletes its `.part` file once it notices it was cancelled.
+      if (download.isQueued) {
+        return;
+      }
+    }
+    deletePartFile(download.getPartFile());
+  }
+
+  /**
+   * Cancels every download and shuts down the download threads, e.g. because the plugin was
+   * detached from its engine.
+   *
+   * <p>The `.part` files of the downloads are deleted. Downloads can't be queued afterwards.
+   */
+  public void close() {
+    final List<Download> idleDownloads = new ArrayList<>();
+    synchronized (downloads) {
+      isClosed = true;
+      for (Download download : downloads.values()) {
+        download.isCancelled = true;
+        // A queued or running download deletes its `.part` file once it notices it was cancelled.
+        if (!download.isQueued) {
+          idleDownloads.add(download);
+        }
+      }
+      downloads.clear();
+    }
+    for (Download download : idleDownloads) {
+      deletePartFile(download.getPartFile());
+    }
+    downloadExecutor.shutdown();
+  }
+
+  /**
+   * Queues a failed download again. It continues from the end of its `.part` file.
+   *
+   * @throws IllegalStateException if the download doesn't exist, is queued or is running
+   */
+  public void resume(long downloadId) {
+    synchronized (downloads) {
+      final Download download = downloads.get(downloadId);
+      if (isClosed || download == null || download.isQueued) {
+        throw new IllegalStateException("No failed download with id " + downloadId + ".");
+      }
+      submit(download);
+    }
+  }
+
+  // Returns the first unused name of `fileName` with a counter, and creates its `.part` file, which
+  // keeps the name reserved until the download is complete or cancelled. Must be called while
+  // holding the lock of `downloads`.
+  private File reserveFile(File directory, String fileName) throws IOException {
+    final int extensionIndex = fileName.lastIndexOf('.');
+    final String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+    final String extension = extensionIndex > 0 ? fileName.substring(extensionIndex) : "";
+    File file = new File(directory, fileName);
+    for (int i = 1; ; i++) {
+      // Creating the `.part` file fails if it exists, so even other processes can't take the name.
+      final File partFile = new File(file.getPath() + ".part");
+      if (!file.exists() && !isDestinationOfDownload(file) && partFile.createNewFile()) {
+        updatePartFileList(partFile, null);
+        return file;
+      }
+      file = new File(directory, baseName + " (" + i + ")" + extension);
+    }
+  }
+
+  private boolean isDestinationOfDownload(File file) {
+    for (Download download : downloads.values()) {
+      if (download.file.equals(file)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void submit(Download download) {
+    download.isQueued = true;
+    downloadExecutor.execute(() -> run(download));
+  }
+
+  private void run(Download download) {
+    final File partFile = download.getPartFile();
+    File result = null;
+    String error = null;
+    try {
+      if (!download.isCancelled) {
+        result = transfer(download, partFile);
+      }
+    } catch (IOException | RuntimeException exception) {
+      error = exception.getMessage() != null ? exception.getMessage() : exception.toString();
+    }
+
+    final boolean isFinished;
+    synchronized (downloads) {
+      download.isQueued = false;
+      isFinished = error == null || download.isCancelled;
+      if (isFinished) {
+        downloads.remove(download.id);
+      }
+    }
+    if (download.isCancelled) {
+      deletePartFile(partFile);
+      reportFinished(download, null, "The download was cancelled.");
+    } else if (error != null) {
+      reportFinished(download, null, error);
+    } else {
+      reportFinished(download, result.getPath(), null);
+    }
+  }
+
+  // Returns the downloaded file, or null if the download was cancelled.
+  @Nullable
+  private File transfer(Download download, File partFile) throws IOException {
+    long offset = partFile.length();
+    final DownloadStore.Entry cached = offset == 0 ? store.findLatest(download.url) : null;
+    final HttpURLConnection connection = connectionFactory.open(new URL(download.url));
+    try {
+      connection.setConnectTimeout(TIMEOUT_MILLIS);
+      connection.setReadTimeout(TIMEOUT_MILLIS);
+      connection.setRequestProperty("User-Agent", download.userAgent);
+      final String cookie = download.cookieSource.getCookie(download.url);
+      if (cookie != null && !cookie.isEmpty()) {
+        connection.setRequestProperty("Cookie", cookie);
+      }
+      if (offset > 0) {
+        connection.setRequestProperty("Range", "bytes=" + offset + "-");
+        if (download.validator != null) {
+          connection.setRequestProperty("If-Range", download.validator);
+        }
+      } else if (cached != null) {
+        if (cached.etag != null) {
+          connection.setRequestProperty("If-None-Match", cached.etag);
+        }
+        if (cached.lastModified != null) {
+          connection.setRequestProperty("If-Modified-Since", cached.lastModified);
+        }
+      }
+
+      final int responseCode = connection.getResponseCode();
+      if (cached != null && responseCode == HttpURLConnection.HTTP_NOT_MODIFIED) {
+        return reuse(download, cached, partFile);
+      }
+      final boolean isResumed = offset > 0 && responseCode == HttpURLConnection.HTTP_PARTIAL;
+      if (offset > 0 && responseCode == 416) {
+        final long resourceLength =
+            parseUnsatisfiedRangeLength(connection.getHeaderField("Content-Range"));
+        if ((resourceLength >= 0 ? resourceLength : download.contentLength) == offset) {
+          // The range starts at the end of the resource, so the `.part` file is already complete.
+          return complete(download, partFile, offset, offset);
+        }
+        // The `.part` file doesn't match the resource, e.g. because it was written by a response
+        // of another version, so the download starts over.
+        new FileOutputStream(partFile).close();
+        download.validator = null;
+        return transfer(download, partFile);
+      } else if (!isResumed && (responseCode < 200 || responseCode >= 300)) {
+        throw new IOException("The server responded with HTTP status " + responseCode + ".");
+      }
+      final long contentLength = parseContentLength(connection.getHeaderField("Content-Length"));
+      if (!isResumed) {
+        offset = 0;
+        download.etag = connection.getHeaderField("ETag");
+        download.lastModified = connection.getHeaderField("Last-Modified");
+        download.contentLength = contentLength;
+        download.validator = download.etag != null ? download.etag : download.lastModified;
+        // Servers that ignore conditional requests still identify unchanged content.
+        if (cached != null && cached.matches(download.etag, download.lastModified, contentLength)) {
+          return reuse(download, cached, partFile);
+        }
+      }
+      final long totalBytes = contentLength >= 0 ? offset + contentLength : -1;
+
+      long receivedBytes = offset;
+      long lastProgressMillis = SystemClock.elapsedRealtime();
+      try (InputStream input = connection.getInputStream();
+          OutputStream output = new FileOutputStream(partFile, isResumed)) {
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+          if (download.isCancelled) {
+            return null;
+          }
+          output.write(buffer, 0, read);
+          receivedBytes += read;
+          final long nowMillis = SystemClock.elapsedRealtime();
+          if (nowMillis - lastProgressMillis >= PROGRESS_INTERVAL_MILLIS) {
+            lastProgressMillis = nowMillis;
+            reportProgress(download, receivedBytes, totalBytes);
+          }
+        }
+      }
+      if (totalBytes >= 0 && receivedBytes != totalBytes) {
+        throw new IOException("The connection closed before the download was complete.");
+      }
+      return complete(download, partFile, receivedBytes, totalBytes);
+    } finally {
+      connection.disconnect();
+    }
+  }
+
+  private File complete(Download download, File partFile, long receivedBytes, long totalBytes)
+      throws IOException {
+    final File file = moveToDestination(download, partFile);
+    try {
+      store.put(download.url, download.etag, download.lastModified, receivedBytes, file);
+    } catch (IOException exception) {
+      // The download is complete even if it can't be reused.
+    }
+    reportProgress(download, receivedBytes, totalBytes);
+    return file;
+  }
+
+  // Moves `partFile` to the destination of `download`, or to a new name if something else created
+  // the destination.
+  private File moveToDestination(Download download, File partFile) throws IOException {
+    File file = download.file;
+    File reservedPartFile = null;
+    if (file.exists()) {
+      // Something else created the destination after it was reserved, so it isn't replaced.
+      final File directory = file.getParentFile();
+      synchronized (downloads) {
+        file = reserveFile(directory != null ? directory : new File("."), file.getName());
+      }
+      reservedPartFile = new File(file.getPath() + ".part");
+    }
+    final boolean isMoved = partFile.renameTo(file);
+    if (reservedPartFile != null) {
+      deletePartFile(reservedPartFile);
+    }
+    if (!isMoved) {
+      throw new IOException("Failed to move the download to " + file.getPath() + ".");
+    }
+    updatePartFileList(null, partFile);
+    return file;
+  }
+
+  private File reuse(Download download, DownloadStore.Entry cached, File partFile)
+      throws IOException {
+    DownloadStore.copy(cached.file, partFile);
+    store.reuse(cached);
+    final File file = moveToDestination(download, partFile);
+    reportProgress(download, cached.length, cached.length);
+    return file;
+  }
+
+  private void reportProgress(Download download, long receivedBytes, long totalBytes) {
+    resultExecutor.execute(
+        () -> {
+          for (Listener listener : download.listeners) {
+            listener.onProgress(download.id, receivedBytes, totalBytes);
+          }
+        });
+  }
+
+  private void reportFinished(
+      Download download, @Nullable String filePath, @Nullable String error) {
+    resultExecutor.execute(
+        () -> {
+          for (Listener listener : download.listeners) {
+            listener.onFinished(download.id, filePath, error);
+          }
+        });
+  }
+
+  private void deletePartFile(File partFile) {
+    partFile.delete();
+    updatePartFileList(null, partFile);
+  }
+
+  // Adds `added` to or removes `removed` from the list of `.part` files, after deleting the `.part`
+  // files that earlier processes left in the list. Failures are ignored, because the list only
+  // serves to delete leftovers.
+  private void updatePartFileList(@Nullable File added, @Nullable File removed) {
+    synchronized (partFilesByList) {
+      Set<String> partFiles = partFilesByList.get(partFileList);
+      if (partFiles == null) {
+        partFiles = new LinkedHashSet<>();
+        partFilesByList.put(partFileList, partFiles);
+      }
+      if (cleanedPartFileLists.add(partFileList)) {
+        for (String path : readLines(partFileList)) {
+          new File(path).delete();
+        }
+      } else if ((added == null || partFiles.contains(added.getPath()))
+          && (removed == null || !partFiles.contains(removed.getPath()))) {
+        return;
+      }
+      if (added != null) {
+        partFiles.add(added.getPath());
+      }
+      if (removed != null) {
+        partFiles.remove(removed.getPath());
+      }
+      writeLines(partFileList, partFiles);
+    }
+  }
+
+  private static List<String> readLines(File file) {
+    final List<String> lines = new ArrayList<>();
+    if (!file.exists()) {
+      return lines;
+    }
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (!line.isEmpty()) {
+          lines.add(line);
+        }
+      }
+    } catch (IOException exception) {
+      // The leftovers are kept.
+    }
+    return lines;
+  }
+
+  private static void writeLines(File file, Set<String> lines) {
+    final File parent = file.getParentFile();
+    if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+      return;
+    }
+    try (Writer writer =
+        new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+      for (String line : lines) {
+        writer.write(line);
+        writer.write('\n');
+      }
+    } catch (IOException exception) {
+      // A later update writes the list again.
+    }
+  }
+
+  // Returns the length of the resource from the `Content-Range: bytes */length` header of a 416
+  // response, or -1 if it isn't known.
+  @VisibleForTesting
+  static long parseUnsatisfiedRangeLength(@Nullable String contentRange) {
+    if (contentRange == null) {
+      return -1;
+    }
+    final int separator = contentRange.lastIndexOf('/');
+    if (separator < 0 || !contentRange.trim().startsWith("bytes")) {
+      return -1;
+    }
+    return parseContentLength(contentRange.substring(separator + 1));
+  }
+
+  private static long parseContentLength(@Nullable String contentLength) {
+    if (contentLength == null) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(contentLength.trim());
+    } catch (NumberFormatException exception) {
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,204 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Build;
+import android.os.SystemClock;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Records native timestamps of the milestones of each main frame navigation in a WebView.
+ *
+ * <p>Every milestone is measured in milliseconds since the {@link android.webkit.WebViewClient}
+ * received `onPageStarted`, using the monotonic {@link SystemClock#uptimeMillis()} clock:
+ *
+ * <ul>
+ *   <li>`commitVisible`: `onPageCommitVisible` was called.
+ *   <li>`firstVisualState`: the first visual state callback posted after the commit completed.
+ *   <li>`pageFinished`: `onPageFinished` was called.
+ * </ul>
+ *
+ * <p>Durations are aggregated in a histogram per milestone. When a parent recorder is set, the
+ * durations are also added to the histograms of the parent, which aggregates every WebView.
+ */
+public class NavigationTimingRecorder {
+  /** The milestones of a single navigation. */
+  public static class NavigationTiming {
+    @Nullable public final Long commitVisibleMillis;
+    @Nullable public final Long firstVisualStateMillis;
+    public final long pageFinishedMillis;
+
+    NavigationTiming(
+        @Nullable Long commitVisibleMillis,
+        @Nullable Long firstVisualStateMillis,
+        long pageFinishedMillis) {
+      this.commitVisibleMillis = commitVisibleMillis;
+      this.firstVisualStateMillis = firstVisualStateMillis;
+      this.pageFinishedMillis = pageFinishedMillis;
+    }
+  }
+
+  private final LatencyHistogram commitVisibleHistogram = new LatencyHistogram();
+  private final LatencyHistogram firstVisualStateHistogram = new LatencyHistogram();
+  private final LatencyHistogram pageFinishedHistogram = new LatencyHistogram();
+  private long navigationCount = 0;
+
+  @Nullable private NavigationTimingRecorder parent;
+  @Nullable private WebViewFlutterApiImpl flutterApi;
+  private boolean navigationTimingEventsEnabled = false;
+
+  private long navigationId = 0;
+  private boolean isNavigating = false;
+  private long navigationStartMillis = 0;
+  @Nullable private Long commitVisibleMillis;
+  @Nullable private Long firstVisualStateMillis;
+
+  /** Creates a {@link NavigationTimingRecorder} that doesn't send events to Dart. */
+  public NavigationTimingRecorder() {}
+
+  /**
+   * Creates a {@link NavigationTimingRecorder}.
+   *
+   * @param flutterApi handles sending navigation timing events to Dart
+   */
+  public NavigationTimingRecorder(@NonNull WebViewFlutterApiImpl flutterApi) {
+    this.flutterApi = flutterApi;
+  }
+
+  /**
+   * Retrieves the recorder of `view`.
+   *
+   * @return the recorder, or null if `view` wasn't created by this plugin
+   */
+  @Nullable
+  public static NavigationTimingRecorder forWebView(@NonNull WebView view) {
+    if (view instanceof WebViewHostApiImpl.WebViewPlatformView) {
+      return ((WebViewHostApiImpl.WebViewPlatformView) view).getNavigationTimingRecorder();
+    }
+    return null;
+  }
+
+  /** Sets the recorder that additionally aggregates the durations measured by this recorder. */
+  public void setParent(@Nullable NavigationTimingRecorder parent) {
+    this.parent = parent;
+  }
+
+  /** Sets whether the timing of each finished navigation is sent to Dart. */
+  public void setNavigationTimingEventsEnabled(boolean enabled) {
+    navigationTimingEventsEnabled = enabled;
+  }
+
+  /** Marks the start of a new navigation. */
+  public void onPageStarted() {
+    navigationId++;
+    isNavigating = true;
+    navigationStartMillis = SystemClock.uptimeMillis();
+    commitVisibleMillis = null;
+    firstVisualStateMillis = null;
+  }
+
+  /**
+   * Marks that the new page is about to become visible and waits for its first visual state.
+   *
+   * @param view the WebView displaying the navigation
+   */
+  @RequiresApi(api = Build.VERSION_CODES.M)
+  public void onPageCommitVisible(@NonNull WebView view) {
+    if (!isNavigating || commitVisibleMillis != null) {
+      return;
+    }
+    commitVisibleMillis = SystemClock.uptimeMillis() - navigationStartMillis;
+    recordCommitVisible(commitVisibleMillis);
+
+    view.postVisualStateCallback(
+        navigationId,
+        new WebView.VisualStateCallback() {
+          @Override
+          public void onComplete(long requestId) {
+            onVisualStateComplete(requestId);
+          }
+        });
+  }
+
+  /** Marks that the visual state callback posted for navigation `requestId` completed. */
+  public void onVisualStateComplete(long requestId) {
+    // The callback may complete after `onPageFinished`, so only a newer navigation invalidates it.
+    if (requestId != navigationId || firstVisualStateMillis != null) {
+      return;
+    }
+    firstVisualStateMillis = SystemClock.uptimeMillis() - navigationStartMillis;
+    recordFirstVisualState(firstVisualStateMillis);
+  }
+
+  /**
+   * Marks the end of the current navigation.
+   *
+   * @param view the WebView displaying the navigation
+   * @param url the url of the finished page
+   * @return the milestones of the navigation, or null if no navigation was started
+   */
+  @Nullable
+  public NavigationTiming onPageFinished(@NonNull WebView view, @NonNull String url) {
+    if (!isNavigating) {
+      return null;
+    }
+    isNavigating = false;
+
+    final NavigationTiming timing =
+        new NavigationTiming(
+            commitVisibleMillis,
+            firstVisualStateMillis,
+            SystemClock.uptimeMillis() - navigationStartMillis);
+    recordPageFinished(timing.pageFinishedMillis);
+
+    if (navigationTimingEventsEnabled && flutterApi != null) {
+      flutterApi.onNavigationTiming(view, url, timing, reply -> {});
+    }
+    return timing;
+  }
+
+  /**
+   * Creates a snapshot of the recorded durations that can be sent to Dart.
+   *
+   * <p>Contains `navigationCount` and the keys `commitVisible`, `firstVisualState` and
+   * `pageFinished`, which each map to {@link LatencyHistogram#toMap()}.
+   */
+  @NonNull
+  public Map<String, Object> getStats() {
+    final Map<String, Object> stats = new HashMap<>();
+    stats.put("navigationCount", navigationCount);
+    stats.put("commitVisible", commitVisibleHistogram.toMap());
+    stats.put("firstVisualState", firstVisualStateHistogram.toMap());
+    stats.put("pageFinished", pageFinishedHistogram.toMap());
+    return stats;
+  }
+
+  private void recordCommitVisible(long millis) {
+    commitVisibleHistogram.record(millis);
+    if (parent != null) {
+      parent.recordCommitVisible(millis);
+    }
+  }
+
+  private void recordFirstVisualState(long millis) {
+    firstVisualStateHistogram.record(millis);
+    if (parent != null) {
+      parent.recordFirstVisualState(millis);
+    }
+  }
+
+  private void recordPageFinished(long millis) {
+    navigationCount++;
+    pageFinishedHistogram.record(millis);
+    if (parent != null) {
+      parent.recordPageFinished(millis);
+    }
+  }
+}
@@ -0,0 +1,293 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.content.ComponentCallbacks2;
+import android.os.SystemClock;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * Bounded log of the requests made by a WebView.
+ *
+ * <p>Requests are added from `shouldInterceptRequest` and updated by `onLoadResource`,
+ * `onReceivedHttpError` and `onReceivedError`. The log is a ring buffer of entries that are
+ * allocated once when the capacity is set, so recording requests doesn't allocate. When the log is
+ * full, the oldest request is overwritten.
+ *
+ * <p>The WebView doesn't report when a request completes successfully, so only requests that
+ * failed have a status code, and the main frame request is completed by `onPageFinished`.
+ *
+ * <p>The log is disabled until a capacity is set with {@link #setCapacity(int)}. Requests are
+ * intercepted on a background thread, so every method is synchronized.
+ *
+ * <p>When memory is low, the log is cleared, because the urls it keeps can be large, e.g. `data:`
+ * urls.
+ */
+public class NetworkRequestLog implements WebViewMemoryPressureCoordinator.MemoryTrimListener {
+  // Timestamp of a milestone that wasn't reported.
+  private static final long UNKNOWN = -1;
+
+  private static class Entry {
+    String url;
+    String method;
+    boolean isForMainFrame;
+    long startWallTimeMillis;
+    long startMillis;
+    long loadResourceMillis;
+    long endMillis;
+    int statusCode;
+    @Nullable String reasonPhrase;
+    int errorCode;
+    @Nullable CharSequence errorDescription;
+    boolean isComplete;
+
+    void reset(String url, String method, boolean isForMainFrame, long startMillis) {
+      this.url = url;
+      this.method = method;
+      this.isForMainFrame = isForMainFrame;
+      this.startWallTimeMillis = System.currentTimeMillis();
+      this.startMillis = startMillis;
+      loadResourceMillis = UNKNOWN;
+      endMillis = UNKNOWN;
+      statusCode = 0;
+      reasonPhrase = null;
+      errorCode = 0;
+      errorDescription = null;
+      isComplete = false;
+    }
+
+    // Drops the strings of the request, so they can be garbage collected.
+    void release() {
+      url = null;
+      method = null;
+      reasonPhrase = null;
+      errorDescription = null;
+    }
+  }
+
+  private Entry[] entries = new Entry[0];
+  // Index of the slot the next request is written to.
+  private int nextIndex = 0;
+  private int size = 0;
+
+  /**
+   * Retrieves the log of `view`.
+   *
+   * @return the log, or null if `view` wasn't created by this plugin
+   */
+  @Nullable
+  public static NetworkRequestLog forWebView(@NonNull WebView view) {
+    if (view instanceof WebViewHostApiImpl.WebViewPlatformView) {
+      return ((WebViewHostApiImpl.WebViewPlatformView) view).getNetworkRequestLog();
+    }
+    return null;
+  }
+
+  /**
+   * Sets the maximum number of requests kept in the log and clears it.
+   *
+   * @param capacity the number of requests, or 0 to disable the log
+   */
+  public synchronized void setCapacity(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity must be >= 0: " + capacity);
+    }
+    entries = new Entry[capacity];
+    for (int i = 0; i < capacity; i++) {
+      entries[i] = new Entry();
+    }
+    nextIndex = 0;
+    size = 0;
+  }
+
+  /** Whether requests are recorded. */
+  public synchronized boolean isEnabled() {
+    return entries.length > 0;
+  }
+
+  /** Removes every request from the log. */
+  public synchronized void clear() {
+    for (Entry entry : entries) {
+      entry.release();
+    }
+    nextIndex = 0;
+    size = 0;
+  }
+
+  @Override
+  public void onTrimMemory(int level) {
+    if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE
+        || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+      clear();
+    }
+  }
+
+  /** Records a request that is about to be loaded. */
+  public synchronized void onRequestStarted(
+      @NonNull String url, @NonNull String method, boolean isForMainFrame) {
+    if (entries.length == 0) {
+      return;
+    }
+    entries[nextIndex].reset(url, method, isForMainFrame, SystemClock.uptimeMillis());
+    nextIndex = (nextIndex + 1) % entries.length;
+    size = Math.min(size + 1, entries.length);
+  }
+
+  /** Records that the WebView started loading the resource of a request. */
+  public synchronized void onLoadResource(@NonNull String url) {
+    final Entry entry = findPendingEntry(url);
+    if (entry != null && entry.loadResourceMillis == UNKNOWN) {
+      entry.loadResourceMillis = SystemClock.uptimeMillis();
+    }
+  }
+
+  /** Records the HTTP error response of a request. */
+  public synchronized void onReceivedHttpError(
+      @NonNull String url, int statusCode, @Nullable String reasonPhrase) {
+    final Entry entry = findPendingEntry(url);
+    if (entry != null) {
+      entry.statusCode = statusCode;
+      entry.reasonPhrase = reasonPhrase;
+      complete(entry);
+    }
+  }
+
+  /** Records a request that failed without a response. */
+  public synchronized void onReceivedError(
+      @NonNull String url, int errorCode, @Nullable CharSequence description) {
+    final Entry entry = findPendingEntry(url);
+    if (entry != null) {
+      entry.errorCode = errorCode;
+      entry.errorDescription = description;
+      complete(entry);
+    }
+  }
+
+  /** Records that the main frame request of `url` finished loading. */
+  public synchronized void onPageFinished(@NonNull String url) {
+    final Entry entry = findPendingEntry(url);
+    if (entry != null && entry.isForMainFrame) {
+      complete(entry);
+    }
+  }
+
+  /**
+   * Exports the log in the HAR 1.2 format that can be sent to Dart.
+   *
+   * <p>Timings that weren't reported by the WebView are -1. Fields that aren't part of HAR start
+   * with an underscore.
+   */
+  @NonNull
+  public synchronized Map<String, Object> toHar() {
+    final SimpleDateFormat dateFormat =
+        new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", Locale.US);
+    dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+    final List<Object> harEntries = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      final int index = (nextIndex - size + i + entries.length) % entries.length;
+      harEntries.add(toHarEntry(entries[index], dateFormat));
+    }
+
+    final Map<String, Object> creator = new HashMap<>();
+    creator.put("name", "webview_flutter_android");
+    creator.put("version", "");
+
+    final Map<String, Object> log = new HashMap<>();
+    log.put("version", "1.2");
+    log.put("creator", creator);
+    log.put("entries", harEntries);
+
+    final Map<String, Object> har = new HashMap<>();
+    har.put("log", log);
+    return har;
+  }
+
+  private static Map<String, Object> toHarEntry(Entry entry, SimpleDateFormat dateFormat) {
+    final Map<String, Object> request = new HashMap<>();
+    request.put("method", entry.method);
+    request.put("url", entry.url);
+    request.put("httpVersion", "");
+    request.put("cookies", Collections.emptyList());
+    request.put("headers", Collections.emptyList());
+    request.put("queryString", Collections.emptyList());
+    request.put("headersSize", -1L);
+    request.put("bodySize", -1L);
+
+    final Map<String, Object> content = new HashMap<>();
+    content.put("size", -1L);
+    content.put("mimeType", "");
+
+    final Map<String, Object> response = new HashMap<>();
+    response.put("status", (long) entry.statusCode);
+    response.put("statusText", entry.reasonPhrase != null ? entry.reasonPhrase : "");
+    response.put("httpVersion", "");
+    response.put("cookies", Collections.emptyList());
+    response.put("headers", Collections.emptyList());
+    response.put("content", content);
+    response.put("redirectURL", "");
+    response.put("headersSize", -1L);
+    response.put("bodySize", -1L);
+
+    final long waitMillis =
+        entry.loadResourceMillis != UNKNOWN ? entry.loadResourceMillis - entry.startMillis : -1;
+    final long receiveMillis =
+        entry.loadResourceMillis != UNKNOWN && entry.endMillis != UNKNOWN
+            ? entry.endMillis - entry.loadResourceMillis
+            : -1;
+    final Map<String, Object> timings = new HashMap<>();
+    timings.put("blocked", -1L);
+    timings.put("dns", -1L);
+    timings.put("connect", -1L);
+    timings.put("send", 0L);
+    timings.put("wait", waitMillis);
+    timings.put("receive", receiveMillis);
+
+    final Map<String, Object> harEntry = new HashMap<>();
+    harEntry.put("startedDateTime", dateFormat.format(new Date(entry.startWallTimeMillis)));
+    harEntry.put("time", entry.endMillis != UNKNOWN ? entry.endMillis - entry.startMillis : -1L);
+    harEntry.put("request", request);
+    harEntry.put("response", response);
+    harEntry.put("cache", new HashMap<String, Object>());
+    harEntry.put("timings", timings);
+    harEntry.put("_isForMainFrame", entry.isForMainFrame);
+    harEntry.put("_isComplete", entry.isComplete);
+    if (entry.errorCode != 0) {
+      harEntry.put("_errorCode", (long) entry.errorCode);
+      harEntry.put(
+          "_errorDescription",
+          entry.errorDescription != null ? entry.errorDescription.toString() : "");
+    }
+    return harEntry;
+  }
+
+  // Searches from the most recent request, so the latest request of a url is updated.
+  @Nullable
+  private Entry findPendingEntry(String url) {
+    for (int i = 1; i <= size; i++) {
+      final Entry entry = entries[(nextIndex - i + entries.length) % entries.length];
+      if (!entry.isComplete && entry.url.equals(url)) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  private static void complete(Entry entry) {
+    entry.endMillis = SystemClock.uptimeMillis();
+    entry.isComplete = true;
+  }
+}
@@ -0,0 +1,146 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.annotation.SuppressLint;
+import android.os.SystemClock;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.webkit.WebViewRenderProcess;
+import androidx.webkit.WebViewRenderProcessClient;
+import java.util.Map;
+
+/**
+ * {@link WebViewRenderProcessClient} that measures how long the render process of a WebView stays
+ * unresponsive and forwards hang events to Dart.
+ *
+ * <p>WebView only reports a render process as unresponsive after it failed to handle an input event
+ * or navigation for about five seconds, so every measured interval includes that delay.
+ *
+ * <p>When a hang budget is set, a render process that stays unresponsive for longer than the budget
+ * is terminated. The WebView is then recreated and its page restored by {@link
+ * WebViewHostApiImpl.WebViewPlatformView}.
+ */
+public class RenderProcessHangMonitor extends WebViewRenderProcessClient {
+  @VisibleForTesting static final long UNRESPONSIVE_DETECTION_DELAY_MILLIS = 5000;
+
+  private final LatencyHistogram unresponsiveHistogram = new LatencyHistogram();
+  private WebViewFlutterApiImpl flutterApi;
+
+  @Nullable private Long hangBudgetMillis;
+  private boolean isUnresponsive = false;
+  private long unresponsiveSinceMillis = 0;
+  @Nullable private WebViewRenderProcess unresponsiveRenderProcess;
+  private long unresponsiveCount = 0;
+  private long terminatedCount = 0;
+
+  /**
+   * Creates a {@link RenderProcessHangMonitor}.
+   *
+   * @param flutterApi handles sending messages to Dart
+   */
+  public RenderProcessHangMonitor(@NonNull WebViewFlutterApiImpl flutterApi) {
+    this.flutterApi = flutterApi;
+  }
+
+  @Override
+  public void onRenderProcessUnresponsive(
+      @NonNull WebView view, @Nullable WebViewRenderProcess renderer) {
+    final long now = SystemClock.uptimeMillis();
+    if (!isUnresponsive) {
+      isUnresponsive = true;
+      unresponsiveSinceMillis = now - UNRESPONSIVE_DETECTION_DELAY_MILLIS;
+      unresponsiveCount++;
+    }
+    unresponsiveRenderProcess = renderer;
+
+    final long unresponsiveMillis = now - unresponsiveSinceMillis;
+    flutterApi.onRenderProcessUnresponsive(view, unresponsiveMillis, reply -> {});
+
+    if (hangBudgetMillis != null) {
+      final long since = unresponsiveSinceMillis;
+      final long remainingMillis = Math.max(0, hangBudgetMillis - unresponsiveMillis);
+      view.postDelayed(
+          () -> {
+            if (isUnresponsive && unresponsiveSinceMillis == since) {
+              terminateUnresponsiveRenderProcess();
+            }
+          },
+          remainingMillis);
+    }
+  }
+
+  @Override
+  public void onRenderProcessResponsive(
+      @NonNull WebView view, @Nullable WebViewRenderProcess renderer) {
+    if (!isUnresponsive) {
+      return;
+    }
+    final long unresponsiveMillis = finishUnresponsiveInterval();
+    flutterApi.onRenderProcessResponsive(view, unresponsiveMillis, reply -> {});
+  }
+
+  /**
+   * Sets how long a render process may stay unresponsive before it is terminated.
+   *
+   * @param hangBudgetMillis the budget in milliseconds, or null to never terminate the render
+   *     process
+   */
+  public void setHangBudgetMillis(@Nullable Long hangBudgetMillis) {
+    this.hangBudgetMillis = hangBudgetMillis;
+  }
+
+  /** Called when the render process is gone, which also ends any unresponsive interval. */
+  public void onRenderProcessGone() {
+    if (isUnresponsive) {
+      finishUnresponsiveInterval();
+    }
+  }
+
+  /**
+   * Creates a snapshot of the unresponsive intervals that can be sent to Dart.
+   *
+   * <p>Contains the keys of {@link LatencyHistogram#toMap()} along with `unresponsiveCount`,
+   * `terminatedCount` and `isUnresponsive`.
+   */
+  @NonNull
+  public Map<String, Object> getStats() {
+    final Map<String, Object> stats = unresponsiveHistogram.toMap();
+    stats.put("unresponsiveCount", unresponsiveCount);
+    stats.put("terminatedCount", terminatedCount);
+    stats.put("isUnresponsive", isUnresponsive);
+    return stats;
+  }
+
+  /**
+   * Flutter API used to send messages back to Dart.
+   *
+   * <p>This is only visible for testing.
+   */
+  @VisibleForTesting
+  void setFlutterApi(@NonNull WebViewFlutterApiImpl flutterApi) {
+    this.flutterApi = flutterApi;
+  }
+
+  // Support for terminating the render process is checked before a hang budget can be set.
+  @SuppressLint("RequiresFeature")
+  private void terminateUnresponsiveRenderProcess() {
+    final WebViewRenderProcess renderProcess = unresponsiveRenderProcess;
+    finishUnresponsiveInterval();
+    if (renderProcess != null && renderProcess.terminate()) {
+      terminatedCount++;
+    }
+  }
+
+  private long finishUnresponsiveInterval() {
+    final long unresponsiveMillis = SystemClock.uptimeMillis() - unresponsiveSinceMillis;
+    unresponsiveHistogram.record(unresponsiveMillis);
+    isUnresponsive = false;
+    unresponsiveRenderProcess = null;
+    return unresponsiveMillis;
+  }
+}
@@ -0,0 +1,81 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Ordered list of {@link RequestInterceptor}s that can serve the requests of a WebView.
+ *
+ * <p>The chain is consulted from `shouldInterceptRequest` of the WebViewClients created by this
+ * plugin. The first interceptor that returns a response serves the request. When no interceptor
+ * returns a response, the WebView loads the request itself.
+ *
+ * <p>Requests are intercepted on a background thread, so interceptors can be added and removed
+ * from any thread.
+ */
+public class RequestInterceptorChain {
+  /** Serves a request instead of the network. */
+  public interface RequestInterceptor {
+    /**
+     * Called on a background thread for every request made by a WebView.
+     *
+     * @return the response to the request, or null to let the next interceptor handle it
+     */
+    @Nullable
+    WebResourceResponse shouldInterceptRequest(
+        @NonNull WebView view, @NonNull WebResourceRequest request);
+  }
+
+  private final List<RequestInterceptor> interceptors = new CopyOnWriteArrayList<>();
+
+  /**
+   * Retrieves the chain of `view`.
+   *
+   * @return the chain, or null if `view` wasn't created by this plugin
+   */
+  @Nullable
+  public static RequestInterceptorChain forWebView(@NonNull WebView view) {
+    if (view instanceof WebViewHostApiImpl.WebViewPlatformView) {
+      return ((WebViewHostApiImpl.WebViewPlatformView) view).getRequestInterceptorChain();
+    }
+    return null;
+  }
+
+  /** Adds `interceptor` to the end of the chain unless it was already added. */
+  public void addInterceptor(@NonNull RequestInterceptor interceptor) {
+    if (!interceptors.contains(interceptor)) {
+      interceptors.add(interceptor);
+    }
+  }
+
+  /** Removes `interceptor` from the chain. */
+  public void removeInterceptor(@NonNull RequestInterceptor interceptor) {
+    interceptors.remove(interceptor);
+  }
+
+  /**
+   * Passes `request` to each interceptor until one of them returns a response.
+   *
+   * @return the response of the first interceptor that handled the request, or null
+   */
+  @Nullable
+  public WebResourceResponse shouldInterceptRequest(
+      @NonNull WebView view, @NonNull WebResourceRequest request) {
+    for (RequestInterceptor interceptor : interceptors) {
+      final WebResourceResponse response = interceptor.shouldInterceptRequest(view, request);
+      if (response != null) {
+        return response;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,326 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.content.ComponentCallbacks2;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.ParcelFileDescriptor;
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serves documents to a WebView while they are still being received from Dart.
+ *
+ * <p>A streamed load registers a url with a pipe. When the WebView requests the url, the read end
+ * of the pipe is returned as the response body, so the WebView starts parsing and rendering the
+ * document while the remaining chunks are written to the pipe. This avoids sending the whole
+ * document as a single string over the platform channel.
+ *
+ * <p>Writes block while the pipe is full, so they are made on a background thread and complete once
+ * the WebView has read enough of the document. A write that the WebView doesn't make room for
+ * within {@link #WRITE_TIMEOUT_MILLIS}, e.g. because it never requested the url, cancels its load,
+ * so it can't block the writes of other loads. Each url is only served once; reloading the page
+ * requests it from the network.
+ *
+ * <p>When memory is critically low, the loads that hidden WebViews haven't requested yet are
+ * cancelled, so their pipes and the chunks buffered in them are released. The loads of a WebView
+ * must be cancelled with {@link #cancelLoadsOf} when it is disposed, because they keep it alive.
+ */
+public class StreamingContentLoader
+    implements RequestInterceptorChain.RequestInterceptor,
+        WebViewMemoryPressureCoordinator.MemoryTrimListener {
+  /** The time a write may block before its load is cancelled. */
+  public static final long WRITE_TIMEOUT_MILLIS = 30000;
+
+  private final Map<Long, PendingLoad> pendingLoads = new ConcurrentHashMap<>();
+  private final ExecutorService writeExecutor;
+  private final Handler mainHandler;
+  private final long writeTimeoutMillis;
+
+  private long nextLoadId = 0;
+
+  /** Constructs a {@link StreamingContentLoader}. */
+  public StreamingContentLoader() {
+    this(
+        Executors.newSingleThreadExecutor(),
+        new Handler(Looper.getMainLooper()),
+        WRITE_TIMEOUT_MILLIS);
+  }
+
+  @VisibleForTesting
+  StreamingContentLoader(
+      @NonNull ExecutorService writeExecutor,
+      @NonNull Handler mainHandler,
+      long writeTimeoutMillis) {
+    this.writeExecutor = writeExecutor;
+    this.mainHandler = mainHandler;
+    this.writeTimeoutMillis = writeTimeoutMillis;
+  }
+
+  private static class PendingLoad {
+    final WebView webView;
+    final String url;
+    final String mimeType;
+    @Nullable final String encoding;
+    @Nullable final File file;
+    @Nullable final InputStream pipeInput;
+    @Nullable final OutputStream pipeOutput;
+    volatile boolean isServed = false;
+    boolean isFinished = false;
+
+    PendingLoad(
+        WebView webView,
+        String url,
+        String mimeType,
+        @Nullable String encoding,
+        @Nullable File file,
+        @Nullable InputStream pipeInput,
+        @Nullable OutputStream pipeOutput) {
+      this.webView = webView;
+      this.url = url;
+      this.mimeType = mimeType;
+      this.encoding = encoding;
+      this.file = file;
+      this.pipeInput = pipeInput;
+      this.pipeOutput = pipeOutput;
+    }
+  }
+
+  /**
+   * Registers `url` to be served from a pipe that is filled with {@link #write}.
+   *
+   * <p>A load that was previously registered for `webView` and isn't finished is cancelled.
+   *
+   * @return the identifier of the load
+   * @throws IOException if the pipe couldn't be created
+   */
+  public long beginLoad(
+      @NonNull WebView webView,
+      @NonNull String url,
+      @NonNull String mimeType,
+      @Nullable String encoding)
+      throws IOException {
+    cancelUnservedLoadsOf(webView);
+    final ParcelFileDescriptor[] pipe = ParcelFileDescriptor.createPipe();
+    return addLoad(
+        new PendingLoad(
+            webView,
+            url,
+            mimeType,
+            encoding,
+            null,
+            new ParcelFileDescriptor.AutoCloseInputStream(pipe[0]),
+            new ParcelFileDescriptor.AutoCloseOutputStream(pipe[1])));
+  }
+
+  /**
+   * Registers `url` to be served from the contents of `file`.
+   *
+   * <p>The file is read by the WebView on a background thread when it requests `url`.
+   *
+   * @return the identifier of the load
+   */
+  public long beginFileLoad(
+      @NonNull WebView webView,
+      @NonNull String url,
+      @NonNull File file,
+      @NonNull String mimeType,
+      @Nullable String encoding) {
+    cancelUnservedLoadsOf(webView);
+    return addLoad(new PendingLoad(webView, url, mimeType, encoding, file, null, null));
+  }
+
+  /**
+   * Appends `chunk` to the document of a load.
+   *
+   * <p>`result` completes on the main thread once the chunk was written to the pipe, or with a
+   * {@link TimeoutException} if the write blocked for longer than the write timeout.
+   */
+  public void write(
+      long loadId, @NonNull byte[] chunk, @NonNull GeneratedAndroidWebView.Result<Void> result) {
+    final PendingLoad load = pendingLoads.get(loadId);
+    if (load == null || load.pipeOutput == null) {
+      result.error(new IllegalStateException("No streamed load with identifier: " + loadId));
+      return;
+    }
+    writeExecutor.execute(
+        () -> {
+          final AtomicBoolean timedOut = new AtomicBoolean(false);
+          // Closing the pipe makes the blocked write fail.
+          final Runnable timeout =
+              () -> {
+                timedOut.set(true);
+                cancelLoad(loadId);
+              };
+          mainHandler.postDelayed(timeout, writeTimeoutMillis);
+          try {
+            load.pipeOutput.write(chunk);
+            mainHandler.post(() -> result.success(null));
+          } catch (IOException exception) {
+            // The WebView stopped reading the document, e.g. because it navigated away.
+            cancelLoad(loadId);
+            final Throwable error =
+                timedOut.get()
+                    ? new TimeoutException(
+                        "The WebView didn't read the document within "
+                            + writeTimeoutMillis
+                            + " ms.")
+                    : exception;
+            mainHandler.post(() -> result.error(error));
+          } finally {
+            mainHandler.removeCallbacks(timeout);
+          }
+        });
+  }
+
+  /** Marks the end of the document of a load. */
+  public void finishLoad(long loadId) {
+    final PendingLoad load = pendingLoads.get(loadId);
+    if (load == null || load.pipeOutput == null) {
+      return;
+    }
+    // Closing after the pending writes lets the WebView read the whole document.
+    writeExecutor.execute(
+        () -> {
+          closeQuietly(load.pipeOutput);
+          synchronized (load) {
+            load.isFinished = true;
+            if (load.isServed) {
+              pendingLoads.remove(loadId);
+            }
+          }
+        });
+  }
+
+  /** Cancels a load and closes its pipe. */
+  public void cancelLoad(long loadId) {
+    final PendingLoad load = pendingLoads.remove(loadId);
+    if (load != null) {
+      closeQuietly(load.pipeInput);
+      closeQuietly(load.pipeOutput);
+    }
+  }
+
+  /**
+   * Cancels every load of `webView`, including the ones it is reading, e.g. because it was
+   * disposed.
+   */
+  public void cancelLoadsOf(@NonNull WebView webView) {
+    for (Map.Entry<Long, PendingLoad> entry : pendingLoads.entrySet()) {
+      if (entry.getValue().webView == webView) {
+        cancelLoad(entry.getKey());
+      }
+    }
+  }
+
+  /**
+   * Cancels every load and stops the write thread, e.g. because the plugin was detached from its
+   * engine.
+   */
+  public void close() {
+    for (Long loadId : pendingLoads.keySet()) {
+      cancelLoad(loadId);
+    }
+    writeExecutor.shutdown();
+  }
+
+  @Override
+  public void onTrimMemory(int level) {
+    if (level < ComponentCallbacks2.TRIM_MEMORY_COMPLETE
+        && level != ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+      return;
+    }
+    for (Map.Entry<Long, PendingLoad> entry : pendingLoads.entrySet()) {
+      final PendingLoad load = entry.getValue();
+      if (!load.isServed
+          && load.webView instanceof WebViewHostApiImpl.WebViewPlatformView
+          && !((WebViewHostApiImpl.WebViewPlatformView) load.webView).isVisibleToUser()) {
+        cancelLoad(entry.getKey());
+      }
+    }
+  }
+
+  @Nullable
+  @Override
+  public WebResourceResponse shouldInterceptRequest(
+      @NonNull WebView view, @NonNull WebResourceRequest request) {
+    if (pendingLoads.isEmpty() || !"GET".equalsIgnoreCase(request.getMethod())) {
+      return null;
+    }
+    final String url = request.getUrl().toString();
+    for (Map.Entry<Long, PendingLoad> entry : pendingLoads.entrySet()) {
+      final PendingLoad load = entry.getValue();
+      if (load.webView == view && !load.isServed && load.url.equals(url)) {
+        return serve(entry.getKey(), load);
+      }
+    }
+    return null;
+  }
+
+  @Nullable
+  private WebResourceResponse serve(long loadId, PendingLoad load) {
+    synchronized (load) {
+      load.isServed = true;
+      if (load.file != null || load.isFinished) {
+        pendingLoads.remove(loadId);
+      }
+    }
+    if (load.file != null) {
+      try {
+        return new WebResourceResponse(
+            load.mimeType, load.encoding, new FileInputStream(load.file));
+      } catch (FileNotFoundException exception) {
+        return null;
+      }
+    }
+    return new WebResourceResponse(load.mimeType, load.encoding, load.pipeInput);
+  }
+
+  private long addLoad(PendingLoad load) {
+    final long loadId;
+    synchronized (this) {
+      loadId = nextLoadId++;
+    }
+    pendingLoads.put(loadId, load);
+    return loadId;
+  }
+
+  private void cancelUnservedLoadsOf(WebView webView) {
+    for (Map.Entry<Long, PendingLoad> entry : pendingLoads.entrySet()) {
+      if (entry.getValue().webView == webView && !entry.getValue().isServed) {
+        cancelLoad(entry.getKey());
+      }
+    }
+  }
+
+  private static void closeQuietly(@Nullable Closeable closeable) {
+    if (closeable == null) {
+      return;
+    }
+    try {
+      closeable.close();
+    } catch (IOException exception) {
+      // The stream is discarded either way.
+    }
+  }
+}
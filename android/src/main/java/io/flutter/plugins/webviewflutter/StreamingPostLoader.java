@@ -0,0 +1,295 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.net.Uri;
+import android.os.Build;
+import android.webkit.CookieManager;
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads a url with a POST request whose body is streamed from a file or content URI.
+ *
+ * <p>{@link WebView#postUrl(String, byte[])} requires the whole body in memory. Instead, the url is
+ * loaded with a regular navigation and the request is intercepted. The POST request is then made
+ * with an {@link HttpURLConnection} that streams the body through a fixed size buffer, and the
+ * response is returned to the WebView. Cookies are shared with the WebView through the {@link
+ * CookieManager} of its profile.
+ *
+ * <p>Redirects within a protocol are followed by the connection, so the WebView keeps displaying
+ * the posted url. A {@link WebResourceResponse} can't describe a redirect, so other redirects and
+ * status codes it doesn't accept are shown as an error page. Each post is only made once; reloading
+ * the page makes a GET request.
+ */
+@RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
+public class StreamingPostLoader implements RequestInterceptorChain.RequestInterceptor {
+  @VisibleForTesting static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Map<WebView, PendingPost> pendingPosts = new ConcurrentHashMap<>();
+  private final CookieManagerHostApiImpl.CookieManagerProxy cookieManagerProxy;
+
+  private static class PendingPost {
+    final String url;
+    final String source;
+    final String contentType;
+    // The cookie jar of the profile of the WebView.
+    final CookieManager cookieManager;
+
+    PendingPost(String url, String source, String contentType, CookieManager cookieManager) {
+      this.url = url;
+      this.source = source;
+      this.contentType = contentType;
+      this.cookieManager = cookieManager;
+    }
+  }
+
+  /** Creates a {@link StreamingPostLoader}. */
+  public StreamingPostLoader() {
+    this(new CookieManagerHostApiImpl.CookieManagerProxy());
+  }
+
+  @VisibleForTesting
+  StreamingPostLoader(@NonNull CookieManagerHostApiImpl.CookieManagerProxy cookieManagerProxy) {
+    this.cookieManagerProxy = cookieManagerProxy;
+  }
+
+  /**
+   * Registers a POST request to `url` that is made when `webView` loads `url`.
+   *
+   * <p>A post that was previously registered for `webView` is replaced. Must be called on the main
+   * thread, because it looks up the profile of `webView`.
+   *
+   * @param source an absolute file path or a `content://` URI containing the body
+   * @param contentType the `Content-Type` of the body
+   */
+  public void beginPost(
+      @NonNull WebView webView,
+      @NonNull String url,
+      @NonNull String source,
+      @NonNull String contentType) {
+    final String profileName =
+        webView instanceof WebViewHostApiImpl.WebViewPlatformView
+            ? ((WebViewHostApiImpl.WebViewPlatformView) webView).getProfileName()
+            : null;
+    final CookieManager cookieManager =
+        profileName != null
+            ? cookieManagerProxy.getInstance(profileName)
+            : cookieManagerProxy.getInstance();
+    pendingPosts.put(webView, new PendingPost(url, source, contentType, cookieManager));
+  }
+
+  @Nullable
+  @Override
+  public WebResourceResponse shouldInterceptRequest(
+      @NonNull WebView view, @NonNull WebResourceRequest request) {
+    if (pendingPosts.isEmpty()
+        || !request.isForMainFrame()
+        || !"GET".equalsIgnoreCase(request.getMethod())) {
+      return null;
+    }
+    final PendingPost post = pendingPosts.get(view);
+    if (post == null || !post.url.equals(request.getUrl().toString())) {
+      return null;
+    }
+    pendingPosts.remove(view);
+
+    try {
+      return post(view, post, request.getRequestHeaders());
+    } catch (IOException | RuntimeException exception) {
+      // Exceptions must not escape to the IO thread of the WebView, which would crash the app.
+      return createErrorResponse(
+          exception.getMessage() != null ? exception.getMessage() : exception.toString());
+    }
+  }
+
+  private WebResourceResponse post(
+      WebView view, PendingPost post, @Nullable Map<String, String> requestHeaders)
+      throws IOException {
+    // The body is opened first, so a missing file fails without making a request.
+    final File file = post.source.startsWith("content://") ? null : new File(post.source);
+    final InputStream body =
+        file != null
+            ? new FileInputStream(file)
+            : view.getContext().getContentResolver().openInputStream(Uri.parse(post.source));
+    if (body == null) {
+      throw new IOException("Unable to open " + post.source);
+    }
+
+    final HttpURLConnection connection;
+    final CookieManager cookieManager = post.cookieManager;
+    try (InputStream input = body) {
+      connection = (HttpURLConnection) new URL(post.url).openConnection();
+      connection.setRequestMethod("POST");
+      connection.setDoOutput(true);
+      if (requestHeaders != null) {
+        for (Map.Entry<String, String> header : requestHeaders.entrySet()) {
+          connection.setRequestProperty(header.getKey(), header.getValue());
+        }
+      }
+      connection.setRequestProperty("Content-Type", post.contentType);
+      final String cookies = cookieManager.getCookie(post.url);
+      if (cookies != null) {
+        connection.setRequestProperty("Cookie", cookies);
+      }
+      if (file != null) {
+        connection.setFixedLengthStreamingMode(file.length());
+      } else {
+        connection.setChunkedStreamingMode(BUFFER_SIZE);
+      }
+      try (OutputStream output = connection.getOutputStream()) {
+        copy(input, output);
+      }
+    }
+
+    final int statusCode = connection.getResponseCode();
+    if (!isValidStatusCode(statusCode)) {
+      final String location = connection.getHeaderField("Location");
+      connection.disconnect();
+      return createErrorResponse(
+          location != null
+              ? "The redirect to " + location + " (" + statusCode + ") was not followed."
+              : "Unexpected status code " + statusCode + ".");
+    }
+    final Map<String, String> responseHeaders = new HashMap<>();
+    for (Map.Entry<String, List<String>> header : connection.getHeaderFields().entrySet()) {
+      if (header.getKey() == null || header.getValue().isEmpty()) {
+        continue;
+      }
+      if (header.getKey().equalsIgnoreCase("Set-Cookie")) {
+        for (String cookie : header.getValue()) {
+          cookieManager.setCookie(post.url, cookie);
+        }
+      }
+      responseHeaders.put(header.getKey(), header.getValue().get(0));
+    }
+
+    final String reasonPhrase = connection.getResponseMessage();
+    return new WebResourceResponse(
+        getMimeType(connection.getContentType()),
+        getCharset(connection.getContentType()),
+        statusCode,
+        reasonPhrase != null && !reasonPhrase.trim().isEmpty()
+            ? reasonPhrase
+            : getDefaultReasonPhrase(statusCode),
+        responseHeaders,
+        statusCode >= 400 ? connection.getErrorStream() : connection.getInputStream());
+  }
+
+  /** Copies `input` to `output` through a buffer of {@link #BUFFER_SIZE} bytes. */
+  @VisibleForTesting
+  static long copy(@NonNull InputStream input, @NonNull OutputStream output) throws IOException {
+    final byte[] buffer = new byte[BUFFER_SIZE];
+    long total = 0;
+    int read;
+    while ((read = input.read(buffer)) != -1) {
+      output.write(buffer, 0, read);
+      total += read;
+    }
+    return total;
+  }
+
+  @VisibleForTesting
+  @NonNull
+  static String getMimeType(@Nullable String contentType) {
+    if (contentType == null) {
+      return "text/html";
+    }
+    final int separator = contentType.indexOf(';');
+    return (separator >= 0 ? contentType.substring(0, separator) : contentType).trim();
+  }
+
+  @VisibleForTesting
+  @Nullable
+  static String getCharset(@Nullable String contentType) {
+    if (contentType == null) {
+      return null;
+    }
+    for (String parameter : contentType.split(";")) {
+      final String trimmed = parameter.trim();
+      if (trimmed.regionMatches(true, 0, "charset=", 0, "charset=".length())) {
+        return trimmed.substring("charset=".length()).replace("\"", "");
+      }
+    }
+    return null;
+  }
+
+  /** Whether {@link WebResourceResponse} accepts `statusCode`, which excludes redirects. */
+  @VisibleForTesting
+  static boolean isValidStatusCode(int statusCode) {
+    return statusCode >= 100 && statusCode <= 599 && (statusCode < 300 || statusCode > 399);
+  }
+
+  /** The reason phrase of `statusCode` for responses without one, which is never empty. */
+  @VisibleForTesting
+  @NonNull
+  static String getDefaultReasonPhrase(int statusCode) {
+    switch (statusCode) {
+      case 200:
+        return "OK";
+      case 201:
+        return "Created";
+      case 204:
+        return "No Content";
+      case 400:
+        return "Bad Request";
+      case 401:
+        return "Unauthorized";
+      case 403:
+        return "Forbidden";
+      case 404:
+        return "Not Found";
+      case 413:
+        return "Payload Too Large";
+      case 500:
+        return "Internal Server Error";
+      case 502:
+        return "Bad Gateway";
+      case 503:
+        return "Service Unavailable";
+      default:
+        if (statusCode >= 500) {
+          return "Server Error";
+        } else if (statusCode >= 400) {
+          return "Client Error";
+        } else if (statusCode >= 200) {
+          return "Success";
+        }
+        return "Informational";
+    }
+  }
+
+  // Shown instead of falling back to a GET request, which could have unintended effects.
+  private static WebResourceResponse createErrorResponse(@NonNull String message) {
+    // The message contains urls, so it is encoded as the charset declared to the WebView.
+    final Map<String, String> headers = new HashMap<>();
+    headers.put("Content-Type", "text/plain; charset=UTF-8");
+    return new WebResourceResponse(
+        "text/plain",
+        "UTF-8",
+        502,
+        "Bad Gateway",
+        headers,
+        new ByteArrayInputStream(message.getBytes(StandardCharsets.UTF_8)));
+  }
+}
@@ -0,0 +1,320 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Matrix;
+import android.media.ExifInterface;
+import android.net.Uri;
+import android.os.Build;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
+import androidx.core.content.FileProvider;
+import io.flutter.Log;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Downscales and re-encodes the photos chosen for an upload, so pages don't upload the full
+ * resolution of the camera.
+ *
+ * <p>A photo is decoded at the smallest power-of-two sample size that keeps it above the maximum
+ * dimensions, then scaled to fit them and rotated upright. It is re-encoded without its EXIF
+ * metadata, which also removes the location of the photo, into a directory that is trimmed to a
+ * byte budget. Photos younger than {@link #MIN_AGE_MILLIS} are kept, because a page may hold them
+ * in an input until it is submitted.
+ *
+ * <p>Only JPEG and HEIF photos are processed: other images can be animated or transparent. The
+ * orientation of a photo is read from a stream, which requires Android N, so nothing is processed
+ * on older versions. A photo that can't be processed is uploaded unchanged. Runs on a background
+ * thread.
+ */
+public class UploadImageProcessor {
+  private static final String TAG = "UploadImageProcessor";
+  private static final String DIRECTORY_NAME = "webview_flutter_uploads";
+
+  /** The age before which a processed photo isn't deleted to stay within the budget. */
+  @VisibleForTesting static final long MIN_AGE_MILLIS = 60L * 60 * 1000;
+
+  private final int maxWidth;
+  private final int maxHeight;
+  @NonNull private final Bitmap.CompressFormat format;
+  private final int quality;
+  private final long cacheBudgetBytes;
+
+  /**
+   * Constructs an {@link UploadImageProcessor}.
+   *
+   * @param maxWidth the maximum width of a processed photo in pixels
+   * @param maxHeight the maximum height of a processed photo in pixels
+   * @param format `jpeg` or `webp`
+   * @param quality the quality of the encoder in the range [0, 100]
+   * @param cacheBudgetBytes how many bytes the processed photos may use
+   * @throws IllegalArgumentException if an argument is out of range
+   */
+  public UploadImageProcessor(
+      int maxWidth, int maxHeight, @NonNull String format, int quality, long cacheBudgetBytes) {
+    if (maxWidth <= 0 || maxHeight <= 0) {
+      throw new IllegalArgumentException("The maximum dimensions must be positive.");
+    }
+    if (quality < 0 || quality > 100) {
+      throw new IllegalArgumentException("The quality must be in the range [0, 100].");
+    }
+    if (cacheBudgetBytes < 0) {
+      throw new IllegalArgumentException("The cache budget must not be negative.");
+    }
+    this.maxWidth = maxWidth;
+    this.maxHeight = maxHeight;
+    this.format = toCompressFormat(format);
+    this.quality = quality;
+    this.cacheBudgetBytes = cacheBudgetBytes;
+  }
+
+  /** Whether a file of `mimeType` is a photo that can be processed. */
+  public static boolean canProcess(@Nullable String mimeType) {
+    return Arrays.asList("image/jpeg", "image/heic", "image/heif").contains(mimeType);
+  }
+
+  /** The MIME type of the processed photos. */
+  @NonNull
+  public String getMimeType() {
+    return format == Bitmap.CompressFormat.JPEG ? "image/jpeg" : "image/webp";
+  }
+
+  /**
+   * Processes the photo of `uri` into the upload directory of `context`.
+   *
+   * @return the URI of the processed photo, or null if it couldn't be processed
+   */
+  @RequiresApi(api = Build.VERSION_CODES.N)
+  @Nullable
+  public Uri process(@NonNull Context context, @NonNull Uri uri) {
+    final ContentResolver contentResolver = context.getContentResolver();
+    File output = null;
+    Bitmap decoded = null;
+    Bitmap transformed = null;
+    try {
+      final BitmapFactory.Options bounds = new BitmapFactory.Options();
+      bounds.inJustDecodeBounds = true;
+      try (InputStream input = contentResolver.openInputStream(uri)) {
+        BitmapFactory.decodeStream(input, null, bounds);
+      }
+      if (bounds.outWidth <= 0 || bounds.outHeight <= 0) {
+        return null;
+      }
+
+      final int orientation;
+      try (InputStream input = contentResolver.openInputStream(uri)) {
+        orientation =
+            new ExifInterface(input)
+                .getAttributeInt(ExifInterface.TAG_ORIENTATION, ExifInterface.ORIENTATION_NORMAL);
+      }
+      final boolean transposed = isTransposed(orientation);
+      final int width = transposed ? bounds.outHeight : bounds.outWidth;
+      final int height = transposed ? bounds.outWidth : bounds.outHeight;
+
+      final BitmapFactory.Options options = new BitmapFactory.Options();
+      options.inSampleSize = computeSampleSize(width, height, maxWidth, maxHeight);
+      try (InputStream input = contentResolver.openInputStream(uri)) {
+        decoded = BitmapFactory.decodeStream(input, null, options);
+      }
+      if (decoded == null) {
+        return null;
+      }
+
+      final float scale =
+          computeScale(
+              transposed ? decoded.getHeight() : decoded.getWidth(),
+              transposed ? decoded.getWidth() : decoded.getHeight(),
+              maxWidth,
+              maxHeight);
+      final Matrix matrix = createOrientationMatrix(orientation);
+      matrix.postScale(scale, scale);
+      transformed =
+          Bitmap.createBitmap(decoded, 0, 0, decoded.getWidth(), decoded.getHeight(), matrix, true);
+
+      final File directory = getDirectory(context);
+      if (directory == null || (!directory.isDirectory() && !directory.mkdirs())) {
+        return null;
+      }
+      output = File.createTempFile("upload-", getExtension(), directory);
+      try (OutputStream stream = new FileOutputStream(output)) {
+        if (!transformed.compress(format, quality, stream)) {
+          throw new IOException("The photo couldn't be encoded.");
+        }
+      }
+      return FileProvider.getUriForFile(
+          context, context.getPackageName() + ".fileprovider", output);
+    } catch (IOException | RuntimeException | OutOfMemoryError exception) {
+      Log.e(TAG, "Failed to process a photo, uploading the original.", exception);
+      if (output != null) {
+        output.delete();
+      }
+      return null;
+    } finally {
+      if (transformed != null && transformed != decoded) {
+        transformed.recycle();
+      }
+      if (decoded != null) {
+        decoded.recycle();
+      }
+    }
+  }
+
+  /**
+   * Deletes the least recently written photos of the upload directory of `context` until the
+   * others fit in the budget, keeping the photos in `inUse` and those younger than {@link
+   * #MIN_AGE_MILLIS}.
+   */
+  public void trimCache(@NonNull Context context, @NonNull Collection<Uri> inUse) {
+    final File directory = getDirectory(context);
+    if (directory == null) {
+      return;
+    }
+    final List<String> inUseNames = new ArrayList<>();
+    for (Uri uri : inUse) {
+      inUseNames.add(uri.getLastPathSegment());
+    }
+    trimDirectory(directory, cacheBudgetBytes, inUseNames, System.currentTimeMillis());
+  }
+
+  /**
+   * Deletes the least recently modified files of `directory` that are older than {@link
+   * #MIN_AGE_MILLIS} until the others fit in `budgetBytes`, keeping the files named in `keptNames`.
+   */
+  @VisibleForTesting
+  static void trimDirectory(
+      @NonNull File directory,
+      long budgetBytes,
+      @NonNull Collection<String> keptNames,
+      long nowMillis) {
+    final File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    long totalBytes = 0;
+    for (File file : files) {
+      totalBytes += file.length();
+    }
+    Arrays.sort(
+        files, (first, second) -> Long.compare(first.lastModified(), second.lastModified()));
+    for (File file : files) {
+      // The remaining files are newer, so they are too young as well.
+      if (totalBytes <= budgetBytes || nowMillis - file.lastModified() < MIN_AGE_MILLIS) {
+        return;
+      }
+      if (keptNames.contains(file.getName())) {
+        continue;
+      }
+      final long length = file.length();
+      if (file.delete()) {
+        totalBytes -= length;
+      }
+    }
+  }
+
+  /**
+   * Computes the largest power of two by which an image of `width` by `height` can be subsampled
+   * while still covering `maxWidth` by `maxHeight`, or its full size if it is smaller.
+   */
+  @VisibleForTesting
+  static int computeSampleSize(int width, int height, int maxWidth, int maxHeight) {
+    final float scale = computeScale(width, height, maxWidth, maxHeight);
+    int sampleSize = 1;
+    while (width / (sampleSize * 2) >= width * scale
+        && height / (sampleSize * 2) >= height * scale) {
+      sampleSize *= 2;
+    }
+    return sampleSize;
+  }
+
+  /** Computes the factor that fits an image of `width` by `height` in `maxWidth` by `maxHeight`. */
+  @VisibleForTesting
+  static float computeScale(int width, int height, int maxWidth, int maxHeight) {
+    return Math.min(1f, Math.min((float) maxWidth / width, (float) maxHeight / height));
+  }
+
+  // Returns null if the external storage isn't available.
+  @Nullable
+  private static File getDirectory(@NonNull Context context) {
+    final File externalFilesDir = context.getExternalFilesDir(null);
+    // A sibling of the directory of the camera captures, so the FileProvider of the app serves it
+    // the same way.
+    return externalFilesDir != null ? new File(externalFilesDir, DIRECTORY_NAME) : null;
+  }
+
+  @NonNull
+  private String getExtension() {
+    return format == Bitmap.CompressFormat.JPEG ? ".jpg" : ".webp";
+  }
+
+  @SuppressWarnings("deprecation")
+  @NonNull
+  private static Bitmap.CompressFormat toCompressFormat(@NonNull String format) {
+    switch (format) {
+      case "jpeg":
+        return Bitmap.CompressFormat.JPEG;
+      case "webp":
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.R
+            ? Bitmap.CompressFormat.WEBP_LOSSY
+            : Bitmap.CompressFormat.WEBP;
+      default:
+        throw new IllegalArgumentException("Unsupported format: " + format);
+    }
+  }
+
+  // Orientations that swap the width and the height of the image.
+  private static boolean isTransposed(int orientation) {
+    return orientation == ExifInterface.ORIENTATION_ROTATE_90
+        || orientation == ExifInterface.ORIENTATION_ROTATE_270
+        || orientation == ExifInterface.ORIENTATION_TRANSPOSE
+        || orientation == ExifInterface.ORIENTATION_TRANSVERSE;
+  }
+
+  @NonNull
+  private static Matrix createOrientationMatrix(int orientation) {
+    final Matrix matrix = new Matrix();
+    switch (orientation) {
+      case ExifInterface.ORIENTATION_FLIP_HORIZONTAL:
+        matrix.setScale(-1, 1);
+        break;
+      case ExifInterface.ORIENTATION_ROTATE_180:
+        matrix.setRotate(180);
+        break;
+      case ExifInterface.ORIENTATION_FLIP_VERTICAL:
+        matrix.setScale(1, -1);
+        break;
+      case ExifInterface.ORIENTATION_TRANSPOSE:
+        matrix.setRotate(90);
+        matrix.postScale(-1, 1);
+        break;
+      case ExifInterface.ORIENTATION_ROTATE_90:
+        matrix.setRotate(90);
+        break;
+      case ExifInterface.ORIENTATION_TRANSVERSE:
+        matrix.setRotate(-90);
+        matrix.postScale(-1, 1);
+        break;
+      case ExifInterface.ORIENTATION_ROTATE_270:
+        matrix.setRotate(-90);
+        break;
+      default:
+        break;
+    }
+    return matrix;
+  }
+}
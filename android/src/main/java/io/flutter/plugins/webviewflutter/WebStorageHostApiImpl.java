@@ -4,10 +4,19 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import android.annotation.SuppressLint;
 import android.webkit.WebStorage;
 import androidx.annotation.NonNull;
+import androidx.webkit.Profile;
+import androidx.webkit.ProfileStore;
+import androidx.webkit.WebViewFeature;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebStorageHostApi;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
 
 /**
  * Host api implementation for {@link WebStorage}.
@@ -17,6 +26,9 @@ import java.util.Objects;
 public class WebStorageHostApiImpl implements WebStorageHostApi {
   private final InstanceManager instanceManager;
   private final WebStorageCreator webStorageCreator;
+  private final WebStorageOriginTracker originTracker;
+  // The profiles of the WebStorages created for a profile. The others belong to the default one.
+  private final Map<WebStorage, String> profileNames = new WeakHashMap<>();
 
   /** Handles creating {@link WebStorage} for a {@link WebStorageHostApiImpl}. */
   public static class WebStorageCreator {
@@ -29,6 +41,20 @@ public class WebStorageHostApiImpl implements WebStorageHostApi {
     public WebStorage createWebStorage() {
       return WebStorage.getInstance();
     }
+
+    /**
+     * Creates the {@link WebStorage} of the profile named `profileName`.
+     *
+     * @return the created {@link WebStorage}. Defaults to {@link Profile#getWebStorage}
+     */
+    @SuppressLint("RequiresFeature")
+    @NonNull
+    public WebStorage createWebStorage(@NonNull String profileName) {
+      if (!WebViewFeature.isFeatureSupported(WebViewFeature.MULTI_PROFILE)) {
+        throw new UnsupportedOperationException("Profiles are not supported on this device.");
+      }
+      return ProfileStore.getInstance().getOrCreateProfile(profileName).getWebStorage();
+    }
   }
 
   /**
@@ -39,8 +65,23 @@ public class WebStorageHostApiImpl implements WebStorageHostApi {
    */
   public WebStorageHostApiImpl(
       @NonNull InstanceManager instanceManager, @NonNull WebStorageCreator webStorageCreator) {
+    this(instanceManager, webStorageCreator, new WebStorageOriginTracker());
+  }
+
+  /**
+   * Creates a host API that handles creating {@link WebStorage} and invoke its methods.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param webStorageCreator handles creating {@link WebStorage}s
+   * @param originTracker decides which origins {@link #trimToBudget} deletes first
+   */
+  public WebStorageHostApiImpl(
+      @NonNull InstanceManager instanceManager,
+      @NonNull WebStorageCreator webStorageCreator,
+      @NonNull WebStorageOriginTracker originTracker) {
     this.instanceManager = instanceManager;
     this.webStorageCreator = webStorageCreator;
+    this.originTracker = originTracker;
   }
 
   @Override
@@ -48,9 +89,101 @@ public class WebStorageHostApiImpl implements WebStorageHostApi {
     instanceManager.addDartCreatedInstance(webStorageCreator.createWebStorage(), instanceId);
   }
 
+  @Override
+  public void createForProfile(@NonNull Long instanceId, @NonNull String profileName) {
+    final WebStorage webStorage = webStorageCreator.createWebStorage(profileName);
+    profileNames.put(webStorage, profileName);
+    instanceManager.addDartCreatedInstance(webStorage, instanceId);
+  }
+
   @Override
   public void deleteAllData(@NonNull Long instanceId) {
     final WebStorage webStorage = Objects.requireNonNull(instanceManager.getInstance(instanceId));
     webStorage.deleteAllData();
   }
+
+  @Override
+  public void getOrigins(
+      @NonNull Long instanceId, @NonNull GeneratedAndroidWebView.Result<List<Object>> result) {
+    final WebStorage webStorage = Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    webStorage.getOrigins(
+        origins -> {
+          final List<Object> usages = new ArrayList<>();
+          for (WebStorage.Origin origin : toOrigins(origins)) {
+            final Map<String, Object> usage = new HashMap<>();
+            usage.put("origin", origin.getOrigin());
+            usage.put("usage", origin.getUsage());
+            usage.put("quota", origin.getQuota());
+            usages.add(usage);
+          }
+          result.success(usages);
+        });
+  }
+
+  @Override
+  public void getUsageForOrigin(
+      @NonNull Long instanceId,
+      @NonNull String origin,
+      @NonNull GeneratedAndroidWebView.Result<Long> result) {
+    final WebStorage webStorage = Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    webStorage.getUsageForOrigin(origin, result::success);
+  }
+
+  @Override
+  public void getQuotaForOrigin(
+      @NonNull Long instanceId,
+      @NonNull String origin,
+      @NonNull GeneratedAndroidWebView.Result<Long> result) {
+    final WebStorage webStorage = Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    webStorage.getQuotaForOrigin(origin, result::success);
+  }
+
+  @Override
+  public void deleteOrigin(@NonNull Long instanceId, @NonNull String origin) {
+    final WebStorage webStorage = Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    webStorage.deleteOrigin(origin);
+    originTracker.remove(profileNames.get(webStorage), origin);
+  }
+
+  @Override
+  public void trimToBudget(
+      @NonNull Long instanceId,
+      @NonNull Long budgetBytes,
+      @NonNull GeneratedAndroidWebView.Result<List<String>> result) {
+    final WebStorage webStorage = Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    final String profileName = profileNames.get(webStorage);
+    webStorage.getOrigins(
+        origins -> {
+          final Map<String, Long> usageByOrigin = new HashMap<>();
+          long totalUsage = 0;
+          for (WebStorage.Origin origin : toOrigins(origins)) {
+            usageByOrigin.put(origin.getOrigin(), origin.getUsage());
+            totalUsage += origin.getUsage();
+          }
+
+          final List<String> deletedOrigins = new ArrayList<>();
+          for (String origin :
+              originTracker.sortLeastRecentlyUsedFirst(profileName, usageByOrigin)) {
+            if (totalUsage <= budgetBytes) {
+              break;
+            }
+            webStorage.deleteOrigin(origin);
+            originTracker.remove(profileName, origin);
+            totalUsage -= Objects.requireNonNull(usageByOrigin.get(origin));
+            deletedOrigins.add(origin);
+          }
+          result.success(deletedOrigins);
+        });
+  }
+
+  // WebStorage#getOrigins passes a raw map of origin names to WebStorage.Origin.
+  private static List<WebStorage.Origin> toOrigins(Map<?, ?> origins) {
+    final List<WebStorage.Origin> values = new ArrayList<>();
+    if (origins != null) {
+      for (Object origin : origins.values()) {
+        values.add((WebStorage.Origin) origin);
+      }
+    }
+    return values;
+  }
 }
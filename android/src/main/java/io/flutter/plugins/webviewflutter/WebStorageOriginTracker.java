@@ -0,0 +1,243 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.webkit.Profile;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Tracks when the origins of {@link android.webkit.WebStorage} were last used, per profile.
+ *
+ * <p>An origin is used when a page of the origin finishes loading in a view created by this
+ * plugin. The times are saved in {@link SharedPreferences}, so they survive restarts of the app.
+ * Origins that were never used are treated as the least recently used. At most {@link
+ * #MAX_ORIGINS} origins are remembered per profile, forgetting the least recently used first.
+ */
+public class WebStorageOriginTracker {
+  /** The name of the {@link SharedPreferences} that keep the times. */
+  public static final String PREFERENCES_NAME =
+      "io.flutter.plugins.webviewflutter.WebStorageOriginTracker";
+
+  @VisibleForTesting static final int MAX_ORIGINS = 1000;
+
+  // Origins can't contain spaces, so the key of a time is the origin, a space and the profile.
+  private static final char KEY_SEPARATOR = ' ';
+
+  @Nullable private final SharedPreferences preferences;
+  // The times at which origins were last used, by profile. Read from the preferences when first
+  // needed.
+  @Nullable private Map<String, Map<String, Long>> lastUsedMillisByProfile;
+  // Times are strictly increasing, so origins used in the same millisecond keep their order.
+  private long lastUsedMillis = 0;
+
+  /** Creates a tracker that keeps the times in memory only. */
+  public WebStorageOriginTracker() {
+    this.preferences = null;
+  }
+
+  /**
+   * Creates a tracker that saves the times in the preferences named {@link #PREFERENCES_NAME}.
+   *
+   * @param context used to open the preferences, or null to keep the times in memory only
+   */
+  public WebStorageOriginTracker(@Nullable Context context) {
+    this(
+        context != null
+            ? context.getSharedPreferences(PREFERENCES_NAME, Context.MODE_PRIVATE)
+            : null);
+  }
+
+  @VisibleForTesting
+  WebStorageOriginTracker(@Nullable SharedPreferences preferences) {
+    this.preferences = preferences;
+  }
+
+  /**
+   * Retrieves the tracker of `view`.
+   *
+   * @return the tracker, or null if `view` wasn't created by this plugin
+   */
+  @Nullable
+  public static WebStorageOriginTracker forWebView(@NonNull WebView view) {
+    if (view instanceof WebViewHostApiImpl.WebViewPlatformView) {
+      return ((WebViewHostApiImpl.WebViewPlatformView) view).getWebStorageOriginTracker();
+    }
+    return null;
+  }
+
+  /**
+   * Retrieves the origin of `url` in the format of {@link android.webkit.WebStorage.Origin}.
+   *
+   * @return the origin, or null if `url` isn't an http or https URL
+   */
+  @Nullable
+  public static String originOf(@NonNull String url) {
+    final URI uri;
+    try {
+      uri = new URI(url);
+    } catch (URISyntaxException exception) {
+      return null;
+    }
+    final String scheme = uri.getScheme();
+    final String host = uri.getHost();
+    if (host == null
+        || scheme == null
+        || !(scheme.equalsIgnoreCase("http") || scheme.equalsIgnoreCase("https"))) {
+      return null;
+    }
+    final String origin = scheme.toLowerCase(Locale.ROOT) + "://" + host.toLowerCase(Locale.ROOT);
+    return uri.getPort() != -1 ? origin + ":" + uri.getPort() : origin;
+  }
+
+  /** Marks the origin of `url` as the most recently used in the profile of `view`. */
+  public void onPageFinished(@NonNull WebView view, @NonNull String url) {
+    final String profileName =
+        view instanceof WebViewHostApiImpl.WebViewPlatformView
+            ? ((WebViewHostApiImpl.WebViewPlatformView) view).getProfileName()
+            : null;
+    recordUse(profileName, url);
+  }
+
+  /**
+   * Marks the origin of `url` as the most recently used in the profile named `profileName`.
+   *
+   * @param profileName the profile, or null for the default profile
+   */
+  public synchronized void recordUse(@Nullable String profileName, @NonNull String url) {
+    final String origin = originOf(url);
+    if (origin == null) {
+      return;
+    }
+    final String profile = toProfile(profileName);
+    final Map<String, Long> lastUsedMillisByOrigin = getLastUsedMillisByOrigin(profile);
+    lastUsedMillis = Math.max(System.currentTimeMillis(), lastUsedMillis + 1);
+    lastUsedMillisByOrigin.put(origin, lastUsedMillis);
+
+    String forgottenOrigin = null;
+    if (lastUsedMillisByOrigin.size() > MAX_ORIGINS) {
+      forgottenOrigin =
+          Collections.min(
+              lastUsedMillisByOrigin.keySet(),
+              (first, second) ->
+                  Long.compare(
+                      getOrZero(lastUsedMillisByOrigin, first),
+                      getOrZero(lastUsedMillisByOrigin, second)));
+      lastUsedMillisByOrigin.remove(forgottenOrigin);
+    }
+    if (preferences != null) {
+      final SharedPreferences.Editor editor =
+          preferences.edit().putLong(keyOf(profile, origin), lastUsedMillis);
+      if (forgottenOrigin != null) {
+        editor.remove(keyOf(profile, forgottenOrigin));
+      }
+      editor.apply();
+    }
+  }
+
+  /**
+   * Forgets `origin` in the profile named `profileName`, e.g. because its data was deleted.
+   *
+   * @param profileName the profile, or null for the default profile
+   */
+  public synchronized void remove(@Nullable String profileName, @NonNull String origin) {
+    final String profile = toProfile(profileName);
+    if (getLastUsedMillisByOrigin(profile).remove(origin) != null && preferences != null) {
+      preferences.edit().remove(keyOf(profile, origin)).apply();
+    }
+  }
+
+  /**
+   * Sorts the origins of `usageByOrigin` from the least to the most recently used in the profile
+   * named `profileName`.
+   *
+   * <p>Origins that were never used come first. Origins that were used at the same time are sorted
+   * by their usage, largest first, so trimming deletes as few origins as possible.
+   *
+   * @param profileName the profile, or null for the default profile
+   * @param usageByOrigin the number of bytes used by each origin
+   */
+  @NonNull
+  public synchronized List<String> sortLeastRecentlyUsedFirst(
+      @Nullable String profileName, @NonNull Map<String, Long> usageByOrigin) {
+    final Map<String, Long> lastUsedMillisByOrigin =
+        getLastUsedMillisByOrigin(toProfile(profileName));
+    final List<String> sorted = new ArrayList<>(usageByOrigin.keySet());
+    Collections.sort(
+        sorted,
+        (first, second) -> {
+          final int comparison =
+              Long.compare(
+                  getOrZero(lastUsedMillisByOrigin, first),
+                  getOrZero(lastUsedMillisByOrigin, second));
+          return comparison != 0
+              ? comparison
+              : Long.compare(getOrZero(usageByOrigin, second), getOrZero(usageByOrigin, first));
+        });
+    return sorted;
+  }
+
+  // The default profile is tracked under its name, so views without a profile share its times.
+  private static String toProfile(@Nullable String profileName) {
+    return profileName != null ? profileName : Profile.DEFAULT_PROFILE_NAME;
+  }
+
+  private static String keyOf(String profile, String origin) {
+    return origin + KEY_SEPARATOR + profile;
+  }
+
+  private static long getOrZero(Map<String, Long> values, String key) {
+    final Long value = values.get(key);
+    return value != null ? value : 0;
+  }
+
+  private Map<String, Long> getLastUsedMillisByOrigin(String profile) {
+    if (lastUsedMillisByProfile == null) {
+      lastUsedMillisByProfile = readPreferences();
+    }
+    Map<String, Long> lastUsedMillisByOrigin = lastUsedMillisByProfile.get(profile);
+    if (lastUsedMillisByOrigin == null) {
+      lastUsedMillisByOrigin = new HashMap<>();
+      lastUsedMillisByProfile.put(profile, lastUsedMillisByOrigin);
+    }
+    return lastUsedMillisByOrigin;
+  }
+
+  private Map<String, Map<String, Long>> readPreferences() {
+    final Map<String, Map<String, Long>> times = new HashMap<>();
+    if (preferences == null) {
+      return times;
+    }
+    for (Map.Entry<String, ?> entry : preferences.getAll().entrySet()) {
+      final int separatorIndex = entry.getKey().indexOf(KEY_SEPARATOR);
+      if (separatorIndex == -1 || !(entry.getValue() instanceof Long)) {
+        continue;
+      }
+      final String origin = entry.getKey().substring(0, separatorIndex);
+      final String profile = entry.getKey().substring(separatorIndex + 1);
+      final long millis = (Long) entry.getValue();
+      Map<String, Long> lastUsedMillisByOrigin = times.get(profile);
+      if (lastUsedMillisByOrigin == null) {
+        lastUsedMillisByOrigin = new HashMap<>();
+        times.put(profile, lastUsedMillisByOrigin);
+      }
+      lastUsedMillisByOrigin.put(origin, millis);
+      lastUsedMillis = Math.max(lastUsedMillis, millis);
+    }
+    return times;
+  }
+}
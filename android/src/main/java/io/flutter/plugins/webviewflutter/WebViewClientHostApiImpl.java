@@ -10,12 +10,14 @@ import android.graphics.Bitmap;
 import android.os.Build;
 import android.view.KeyEvent;
 import android.webkit.HttpAuthHandler;
+import android.webkit.RenderProcessGoneDetail;
 import android.webkit.WebResourceError;
 import android.webkit.WebResourceRequest;
 import android.webkit.WebResourceResponse;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.RequiresApi;
 import androidx.webkit.WebResourceErrorCompat;
 import androidx.webkit.WebViewClientCompat;
@@ -48,11 +50,40 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
 
     @Override
     public void onPageStarted(@NonNull WebView view, @NonNull String url, @NonNull Bitmap favicon) {
+      final NavigationTimingRecorder timingRecorder = NavigationTimingRecorder.forWebView(view);
+      if (timingRecorder != null) {
+        timingRecorder.onPageStarted();
+      }
+      final JavaScriptEvaluationQueue evaluationQueue = JavaScriptEvaluationQueue.forWebView(view);
+      if (evaluationQueue != null) {
+        evaluationQueue.onPageStarted();
+      }
       flutterApi.onPageStarted(this, view, url, reply -> {});
     }
 
+    @RequiresApi(api = Build.VERSION_CODES.M)
+    @Override
+    public void onPageCommitVisible(@NonNull WebView view, @NonNull String url) {
+      final NavigationTimingRecorder timingRecorder = NavigationTimingRecorder.forWebView(view);
+      if (timingRecorder != null) {
+        timingRecorder.onPageCommitVisible(view);
+      }
+    }
+
     @Override
     public void onPageFinished(@NonNull WebView view, @NonNull String url) {
+      final NavigationTimingRecorder timingRecorder = NavigationTimingRecorder.forWebView(view);
+      if (timingRecorder != null) {
+        timingRecorder.onPageFinished(view, url);
+      }
+      final NetworkRequestLog requestLog = NetworkRequestLog.forWebView(view);
+      if (requestLog != null) {
+        requestLog.onPageFinished(url);
+      }
+      final WebStorageOriginTracker originTracker = WebStorageOriginTracker.forWebView(view);
+      if (originTracker != null) {
+        originTracker.onPageFinished(view, url);
+      }
       flutterApi.onPageFinished(this, view, url, reply -> {});
     }
 
@@ -61,14 +92,47 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
         @NonNull WebView view,
         @NonNull WebResourceRequest request,
         @NonNull WebResourceResponse response) {
+      final NetworkRequestLog requestLog = NetworkRequestLog.forWebView(view);
+      if (requestLog != null) {
+        requestLog.onReceivedHttpError(
+            request.getUrl().toString(), response.getStatusCode(), response.getReasonPhrase());
+      }
       flutterApi.onReceivedHttpError(this, view, request, response, reply -> {});
     }
 
+    @Nullable
+    @Override
+    public WebResourceResponse shouldInterceptRequest(
+        @NonNull WebView view, @NonNull WebResourceRequest request) {
+      final NetworkRequestLog requestLog = NetworkRequestLog.forWebView(view);
+      if (requestLog != null && requestLog.isEnabled()) {
+        requestLog.onRequestStarted(
+            request.getUrl().toString(), request.getMethod(), request.isForMainFrame());
+      }
+      final RequestInterceptorChain interceptorChain = RequestInterceptorChain.forWebView(view);
+      return interceptorChain != null
+          ? interceptorChain.shouldInterceptRequest(view, request)
+          : null;
+    }
+
+    @Override
+    public void onLoadResource(@NonNull WebView view, @NonNull String url) {
+      final NetworkRequestLog requestLog = NetworkRequestLog.forWebView(view);
+      if (requestLog != null) {
+        requestLog.onLoadResource(url);
+      }
+    }
+
     @Override
     public void onReceivedError(
         @NonNull WebView view,
         @NonNull WebResourceRequest request,
         @NonNull WebResourceError error) {
+      final NetworkRequestLog requestLog = NetworkRequestLog.forWebView(view);
+      if (requestLog != null) {
+        requestLog.onReceivedError(
+            request.getUrl().toString(), error.getErrorCode(), error.getDescription());
+      }
       flutterApi.onReceivedRequestError(this, view, request, error, reply -> {});
     }
 
@@ -80,6 +144,10 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
         int errorCode,
         @NonNull String description,
         @NonNull String failingUrl) {
+      final NetworkRequestLog requestLog = NetworkRequestLog.forWebView(view);
+      if (requestLog != null) {
+        requestLog.onReceivedError(failingUrl, errorCode, description);
+      }
       flutterApi.onReceivedError(
           this, view, (long) errorCode, description, failingUrl, reply -> {});
     }
@@ -105,6 +173,7 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
     @Override
     public void doUpdateVisitedHistory(
         @NonNull WebView view, @NonNull String url, boolean isReload) {
+      WebViewHostApiImpl.WebViewPlatformView.onHistoryUpdated(view, url);
       flutterApi.doUpdateVisitedHistory(this, view, url, isReload, reply -> {});
     }
 
@@ -117,6 +186,14 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       flutterApi.onReceivedHttpAuthRequest(this, view, handler, host, realm, reply -> {});
     }
 
+    // Recreates the WebView instead of letting the app crash with the render process.
+    @RequiresApi(api = Build.VERSION_CODES.O)
+    @Override
+    public boolean onRenderProcessGone(
+        @NonNull WebView view, @NonNull RenderProcessGoneDetail detail) {
+      return WebViewHostApiImpl.WebViewPlatformView.handleRenderProcessGone(view, detail);
+    }
+
     @Override
     public void onUnhandledKeyEvent(@NonNull WebView view, @NonNull KeyEvent event) {
       // Deliberately empty. Occasionally the webview will mark events as having failed to be
@@ -144,11 +221,40 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
 
     @Override
     public void onPageStarted(@NonNull WebView view, @NonNull String url, @NonNull Bitmap favicon) {
+      final NavigationTimingRecorder timingRecorder = NavigationTimingRecorder.forWebView(view);
+      if (timingRecorder != null) {
+        timingRecorder.onPageStarted();
+      }
+      final JavaScriptEvaluationQueue evaluationQueue = JavaScriptEvaluationQueue.forWebView(view);
+      if (evaluationQueue != null) {
+        evaluationQueue.onPageStarted();
+      }
       flutterApi.onPageStarted(this, view, url, reply -> {});
     }
 
+    @RequiresApi(api = Build.VERSION_CODES.M)
+    @Override
+    public void onPageCommitVisible(@NonNull WebView view, @NonNull String url) {
+      final NavigationTimingRecorder timingRecorder = NavigationTimingRecorder.forWebView(view);
+      if (timingRecorder != null) {
+        timingRecorder.onPageCommitVisible(view);
+      }
+    }
+
     @Override
     public void onPageFinished(@NonNull WebView view, @NonNull String url) {
+      final NavigationTimingRecorder timingRecorder = NavigationTimingRecorder.forWebView(view);
+      if (timingRecorder != null) {
+        timingRecorder.onPageFinished(view, url);
+      }
+      final NetworkRequestLog requestLog = NetworkRequestLog.forWebView(view);
+      if (requestLog != null) {
+        requestLog.onPageFinished(url);
+      }
+      final WebStorageOriginTracker originTracker = WebStorageOriginTracker.forWebView(view);
+      if (originTracker != null) {
+        originTracker.onPageFinished(view, url);
+      }
       flutterApi.onPageFinished(this, view, url, reply -> {});
     }
 
@@ -158,9 +264,38 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
         @NonNull WebView view,
         @NonNull WebResourceRequest request,
         @NonNull WebResourceResponse response) {
+      final NetworkRequestLog requestLog = NetworkRequestLog.forWebView(view);
+      if (requestLog != null) {
+        requestLog.onReceivedHttpError(
+            request.getUrl().toString(), response.getStatusCode(), response.getReasonPhrase());
+      }
       flutterApi.onReceivedHttpError(this, view, request, response, reply -> {});
     }
 
+    @RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
+    @Nullable
+    @Override
+    public WebResourceResponse shouldInterceptRequest(
+        @NonNull WebView view, @NonNull WebResourceRequest request) {
+      final NetworkRequestLog requestLog = NetworkRequestLog.forWebView(view);
+      if (requestLog != null && requestLog.isEnabled()) {
+        requestLog.onRequestStarted(
+            request.getUrl().toString(), request.getMethod(), request.isForMainFrame());
+      }
+      final RequestInterceptorChain interceptorChain = RequestInterceptorChain.forWebView(view);
+      return interceptorChain != null
+          ? interceptorChain.shouldInterceptRequest(view, request)
+          : null;
+    }
+
+    @Override
+    public void onLoadResource(@NonNull WebView view, @NonNull String url) {
+      final NetworkRequestLog requestLog = NetworkRequestLog.forWebView(view);
+      if (requestLog != null) {
+        requestLog.onLoadResource(url);
+      }
+    }
+
     // This method is only called when the WebViewFeature.RECEIVE_WEB_RESOURCE_ERROR feature is
     // enabled. The deprecated method is called when a device doesn't support this.
     @RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
@@ -170,6 +305,11 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
         @NonNull WebView view,
         @NonNull WebResourceRequest request,
         @NonNull WebResourceErrorCompat error) {
+      final NetworkRequestLog requestLog = NetworkRequestLog.forWebView(view);
+      if (requestLog != null) {
+        requestLog.onReceivedError(
+            request.getUrl().toString(), error.getErrorCode(), error.getDescription());
+      }
       flutterApi.onReceivedRequestError(this, view, request, error, reply -> {});
     }
 
@@ -181,6 +321,10 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
         int errorCode,
         @NonNull String description,
         @NonNull String failingUrl) {
+      final NetworkRequestLog requestLog = NetworkRequestLog.forWebView(view);
+      if (requestLog != null) {
+        requestLog.onReceivedError(failingUrl, errorCode, description);
+      }
       flutterApi.onReceivedError(
           this, view, (long) errorCode, description, failingUrl, reply -> {});
     }
@@ -207,6 +351,7 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
     @Override
     public void doUpdateVisitedHistory(
         @NonNull WebView view, @NonNull String url, boolean isReload) {
+      WebViewHostApiImpl.WebViewPlatformView.onHistoryUpdated(view, url);
       flutterApi.doUpdateVisitedHistory(this, view, url, isReload, reply -> {});
     }
 
@@ -220,6 +365,14 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       flutterApi.onReceivedHttpAuthRequest(this, view, handler, host, realm, reply -> {});
     }
 
+    // Recreates the WebView instead of letting the app crash with the render process.
+    @RequiresApi(api = Build.VERSION_CODES.O)
+    @Override
+    public boolean onRenderProcessGone(
+        @NonNull WebView view, @NonNull RenderProcessGoneDetail detail) {
+      return WebViewHostApiImpl.WebViewPlatformView.handleRenderProcessGone(view, detail);
+    }
+
     @Override
     public void onUnhandledKeyEvent(@NonNull WebView view, @NonNull KeyEvent event) {
       // Deliberately empty. Occasionally the webview will mark events as having failed to be
@@ -73,4 +73,52 @@ public class WebViewFlutterApiImpl {
         oldTop,
         callback);
   }
+
+  public void onRenderProcessGone(
+      @NonNull WebView instance,
+      @NonNull Boolean didCrash,
+      @NonNull Long crashCount,
+      @NonNull Boolean willRestoreState,
+      @NonNull WebViewFlutterApi.Reply<Void> callback) {
+    api.onRenderProcessGone(
+        Objects.requireNonNull(instanceManager.getIdentifierForStrongReference(instance)),
+        didCrash,
+        crashCount,
+        willRestoreState,
+        callback);
+  }
+
+  public void onRenderProcessUnresponsive(
+      @NonNull WebView instance,
+      @NonNull Long unresponsiveMillis,
+      @NonNull WebViewFlutterApi.Reply<Void> callback) {
+    api.onRenderProcessUnresponsive(
+        Objects.requireNonNull(instanceManager.getIdentifierForStrongReference(instance)),
+        unresponsiveMillis,
+        callback);
+  }
+
+  public void onRenderProcessResponsive(
+      @NonNull WebView instance,
+      @NonNull Long unresponsiveMillis,
+      @NonNull WebViewFlutterApi.Reply<Void> callback) {
+    api.onRenderProcessResponsive(
+        Objects.requireNonNull(instanceManager.getIdentifierForStrongReference(instance)),
+        unresponsiveMillis,
+        callback);
+  }
+
+  public void onNavigationTiming(
+      @NonNull WebView instance,
+      @NonNull String url,
+      @NonNull NavigationTimingRecorder.NavigationTiming timing,
+      @NonNull WebViewFlutterApi.Reply<Void> callback) {
+    api.onNavigationTiming(
+        Objects.requireNonNull(instanceManager.getIdentifierForStrongReference(instance)),
+        url,
+        timing.commitVisibleMillis,
+        timing.firstVisualStateMillis,
+        timing.pageFinishedMillis,
+        callback);
+  }
 }
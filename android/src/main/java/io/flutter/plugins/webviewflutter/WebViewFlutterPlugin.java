@@ -4,12 +4,8 @@
 
 package io.flutter.plugins.webviewflutter;
 
-import android.annotation.SuppressLint;
-import android.app.Activity;
-import android.content.Intent;
-import io.flutter.app.FlutterApplication;
-import io.flutter.plugin.common.PluginRegistry;
 import android.content.Context;
+import android.content.Intent;
 import android.os.Build;
 import android.os.Handler;
 import androidx.annotation.NonNull;
@@ -18,6 +14,7 @@ import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.embedding.engine.plugins.activity.ActivityAware;
 import io.flutter.embedding.engine.plugins.activity.ActivityPluginBinding;
 import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.PluginRegistry;
 import io.flutter.plugin.platform.PlatformViewRegistry;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.CookieManagerHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.CustomViewCallbackHostApi;
@@ -34,23 +31,24 @@ import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebSettingsHost
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebStorageHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewClientHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
+import java.io.File;
 
 /**
  * Java platform implementation of the webview_flutter plugin.
  *
  * <p>Register this in an add to app scenario to gracefully handle activity and context changes.
  */
-public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware, PluginRegistry.ActivityResultListener {
-
-  @SuppressLint("StaticFieldLeak")
-  public static Activity activity;
-
+public class WebViewFlutterPlugin
+    implements FlutterPlugin, ActivityAware, PluginRegistry.ActivityResultListener {
   @Nullable private InstanceManager instanceManager;
 
   private FlutterPluginBinding pluginBinding;
+  @Nullable private ActivityPluginBinding activityPluginBinding;
   private WebViewHostApiImpl webViewHostApi;
   private JavaScriptChannelHostApiImpl javaScriptChannelHostApi;
-  private WebChromeClientHostApiImpl webChromeClientHostApi;
+  @Nullable private CookieManagerHostApiImpl cookieManagerHostApi;
+  @Nullable private DownloadListenerHostApiImpl downloadListenerHostApi;
+  @Nullable private WebViewMemoryPressureCoordinator memoryPressureCoordinator;
   /**
    * Add an instance of this to {@link io.flutter.embedding.engine.plugins.PluginRegistry} to
    * register it.
@@ -96,31 +94,35 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware, Plugi
             new WebViewClientHostApiImpl.WebViewClientCreator(),
             new WebViewClientFlutterApiImpl(binaryMessenger, instanceManager)));
 
-    // TODO:修改位置 1
-    webChromeClientHostApi = new WebChromeClientHostApiImpl(
+    WebChromeClientHostApi.setup(
+        binaryMessenger,
+        new WebChromeClientHostApiImpl(
             instanceManager,
             new WebChromeClientHostApiImpl.WebChromeClientCreator(),
-            new WebChromeClientFlutterApiImpl(binaryMessenger, instanceManager));
-    WebChromeClientHostApi.setup(binaryMessenger, webChromeClientHostApi);
-    // -----------------------
+            new WebChromeClientFlutterApiImpl(binaryMessenger, instanceManager)));
 
-    DownloadListenerHostApi.setup(
-        binaryMessenger,
+    downloadListenerHostApi =
         new DownloadListenerHostApiImpl(
             instanceManager,
             new DownloadListenerHostApiImpl.DownloadListenerCreator(),
-            new DownloadListenerFlutterApiImpl(binaryMessenger, instanceManager)));
+            new DownloadListenerFlutterApiImpl(binaryMessenger, instanceManager),
+            new File(context.getCacheDir(), "webview_flutter_downloads"));
+    DownloadListenerHostApi.setup(binaryMessenger, downloadListenerHostApi);
+    webViewHostApi.getMemoryPressureCoordinator().addMemoryTrimListener(downloadListenerHostApi);
     WebSettingsHostApi.setup(
         binaryMessenger,
         new WebSettingsHostApiImpl(
             instanceManager, new WebSettingsHostApiImpl.WebSettingsCreator()));
     FlutterAssetManagerHostApi.setup(
         binaryMessenger, new FlutterAssetManagerHostApiImpl(flutterAssetManager));
-    CookieManagerHostApi.setup(
-        binaryMessenger, new CookieManagerHostApiImpl(binaryMessenger, instanceManager));
+    cookieManagerHostApi = new CookieManagerHostApiImpl(binaryMessenger, instanceManager);
+    CookieManagerHostApi.setup(binaryMessenger, cookieManagerHostApi);
     WebStorageHostApi.setup(
         binaryMessenger,
-        new WebStorageHostApiImpl(instanceManager, new WebStorageHostApiImpl.WebStorageCreator()));
+        new WebStorageHostApiImpl(
+            instanceManager,
+            new WebStorageHostApiImpl.WebStorageCreator(),
+            webViewHostApi.getWebStorageOriginTracker()));
 
     if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
       PermissionRequestHostApi.setup(
@@ -144,10 +146,28 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware, Plugi
         binding.getApplicationContext(),
         new FlutterAssetManager.PluginBindingFlutterAssetManager(
             binding.getApplicationContext().getAssets(), binding.getFlutterAssets()));
+
+    memoryPressureCoordinator = webViewHostApi.getMemoryPressureCoordinator();
+    binding.getApplicationContext().registerComponentCallbacks(memoryPressureCoordinator);
   }
 
   @Override
   public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {
+    if (memoryPressureCoordinator != null) {
+      binding.getApplicationContext().unregisterComponentCallbacks(memoryPressureCoordinator);
+      memoryPressureCoordinator = null;
+    }
+    if (webViewHostApi != null) {
+      webViewHostApi.close();
+    }
+    if (cookieManagerHostApi != null) {
+      cookieManagerHostApi.close();
+      cookieManagerHostApi = null;
+    }
+    if (downloadListenerHostApi != null) {
+      downloadListenerHostApi.close();
+      downloadListenerHostApi = null;
+    }
     if (instanceManager != null) {
       instanceManager.stopFinalizationListener();
       instanceManager = null;
@@ -156,25 +176,40 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware, Plugi
 
   @Override
   public void onAttachedToActivity(@NonNull ActivityPluginBinding activityPluginBinding) {
-    activity = activityPluginBinding.getActivity();
-    activityPluginBinding.addActivityResultListener(this);
-    updateContext(activityPluginBinding.getActivity());
+    attachToActivity(activityPluginBinding);
   }
 
   @Override
   public void onDetachedFromActivityForConfigChanges() {
-    updateContext(pluginBinding.getApplicationContext());
+    // Choosers stay open, because their results are delivered to the recreated activity.
+    detachFromActivity();
   }
 
   @Override
   public void onReattachedToActivityForConfigChanges(
       @NonNull ActivityPluginBinding activityPluginBinding) {
-    updateContext(activityPluginBinding.getActivity());
+    attachToActivity(activityPluginBinding);
   }
 
   @Override
   public void onDetachedFromActivity() {
-    activity = null;
+    detachFromActivity();
+    webViewHostApi.getFileChooserSessionRegistry().cancelAll();
+  }
+
+  private void attachToActivity(@NonNull ActivityPluginBinding activityPluginBinding) {
+    this.activityPluginBinding = activityPluginBinding;
+    activityPluginBinding.addActivityResultListener(this);
+    webViewHostApi.getFileChooserSessionRegistry().setActivity(activityPluginBinding.getActivity());
+    updateContext(activityPluginBinding.getActivity());
+  }
+
+  private void detachFromActivity() {
+    if (activityPluginBinding != null) {
+      activityPluginBinding.removeActivityResultListener(this);
+      activityPluginBinding = null;
+    }
+    webViewHostApi.getFileChooserSessionRegistry().setActivity(null);
     updateContext(pluginBinding.getApplicationContext());
   }
 
@@ -189,9 +224,16 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware, Plugi
     return instanceManager;
   }
 
+  /** Releases memory held by WebViews when the system reports memory pressure. */
+  @Nullable
+  public WebViewMemoryPressureCoordinator getMemoryPressureCoordinator() {
+    return memoryPressureCoordinator;
+  }
 
   @Override
-  public boolean onActivityResult(int requestCode, int resultCode, Intent data) {
-    return webChromeClientHostApi.resultHandler.handleResult(requestCode, resultCode, data);
+  public boolean onActivityResult(int requestCode, int resultCode, @Nullable Intent data) {
+    return webViewHostApi
+        .getFileChooserSessionRegistry()
+        .handleResult(requestCode, resultCode, data);
   }
 }
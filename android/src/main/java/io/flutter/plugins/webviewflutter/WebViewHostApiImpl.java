@@ -6,23 +6,46 @@ package io.flutter.plugins.webviewflutter;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.hardware.display.DisplayManager;
 import android.os.Build;
+import android.os.Bundle;
+import android.os.SystemClock;
 import android.view.View;
+import android.view.ViewGroup;
 import android.view.ViewParent;
+import android.webkit.DownloadListener;
+import android.webkit.RenderProcessGoneDetail;
 import android.webkit.WebChromeClient;
+import android.webkit.WebResourceError;
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
+import android.webkit.WebSettings;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import androidx.annotation.ChecksSdkIntAtLeast;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
 import androidx.annotation.VisibleForTesting;
+import androidx.webkit.Profile;
+import androidx.webkit.ProfileStore;
+import androidx.webkit.WebViewCompat;
+import androidx.webkit.WebViewFeature;
 import io.flutter.embedding.android.FlutterView;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.platform.PlatformView;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Host api implementation for {@link WebView}.
@@ -33,6 +56,17 @@ public class WebViewHostApiImpl implements WebViewHostApi {
   private final InstanceManager instanceManager;
   private final WebViewProxy webViewProxy;
   private final BinaryMessenger binaryMessenger;
+  private final NavigationTimingRecorder globalNavigationTimingRecorder =
+      new NavigationTimingRecorder();
+  @Nullable private StreamingContentLoader streamingContentLoader;
+  @Nullable private StreamingPostLoader streamingPostLoader;
+  @Nullable private JavaScriptResultDecoder javaScriptResultDecoder;
+  private final DocumentStartScriptRegistry documentStartScriptRegistry =
+      new DocumentStartScriptRegistry();
+  private final WebStorageOriginTracker webStorageOriginTracker;
+  private final FileChooserSessionRegistry fileChooserSessionRegistry =
+      new FileChooserSessionRegistry();
+  private final WebViewMemoryPressureCoordinator memoryPressureCoordinator;
 
   private Context context;
 
@@ -55,6 +89,48 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       return new WebViewPlatformView(context, binaryMessenger, instanceManager);
     }
 
+    /**
+     * Creates a {@link WebViewPlatformView} that uses the profile named `profileName`.
+     *
+     * @param context an Activity Context to access application assets
+     * @param binaryMessenger used to communicate with Dart over asynchronous messages
+     * @param instanceManager mangages instances used to communicate with the corresponding objects
+     *     in Dart
+     * @param profileName the profile with the cookies, storage and HTTP cache of the view
+     * @return the created {@link WebViewPlatformView}
+     */
+    @NonNull
+    public WebViewPlatformView createWebView(
+        @NonNull Context context,
+        @NonNull BinaryMessenger binaryMessenger,
+        @NonNull InstanceManager instanceManager,
+        @NonNull String profileName) {
+      return new WebViewPlatformView(context, binaryMessenger, instanceManager, profileName);
+    }
+
+    /** Forwards call to {@link WebViewFeature#isFeatureSupported} for multiple profiles. */
+    public boolean isMultiProfileSupported() {
+      return WebViewFeature.isFeatureSupported(WebViewFeature.MULTI_PROFILE);
+    }
+
+    /** Forwards call to {@link ProfileStore#getAllProfileNames}. */
+    @SuppressLint("RequiresFeature")
+    @NonNull
+    public List<String> getProfileNames() {
+      return ProfileStore.getInstance().getAllProfileNames();
+    }
+
+    /**
+     * Forwards call to {@link ProfileStore#deleteProfile}.
+     *
+     * @throws IllegalStateException if a view uses the profile
+     * @throws IllegalArgumentException if `profileName` is the default profile
+     */
+    @SuppressLint("RequiresFeature")
+    public void deleteProfile(@NonNull String profileName) {
+      ProfileStore.getInstance().deleteProfile(profileName);
+    }
+
     /**
      * Forwards call to {@link WebView#setWebContentsDebuggingEnabled}.
      *
@@ -68,15 +144,195 @@ public class WebViewHostApiImpl implements WebViewHostApi {
   /** Implementation of {@link WebView} that can be used as a Flutter {@link PlatformView}s. */
   @SuppressLint("ViewConstructor")
   public static class WebViewPlatformView extends WebView implements PlatformView {
+    // Render process crashes closer together than this are counted as repeated crashes.
+    private static final long RENDER_PROCESS_CRASH_WINDOW_MILLIS = 60000;
+    private static final long RENDER_PROCESS_RESTORE_BASE_DELAY_MILLIS = 500;
+    private static final int MAX_RENDER_PROCESS_RESTORES = 3;
+
     // To ease adding callback methods, this value is added prematurely.
     @SuppressWarnings("unused")
     private WebViewFlutterApiImpl api;
 
+    private final BinaryMessenger binaryMessenger;
+    private final InstanceManager instanceManager;
+    @Nullable private final String profileName;
+
     private WebViewClient currentWebViewClient;
     private WebChromeClientHostApiImpl.SecureWebChromeClient currentWebChromeClient;
+    @Nullable private DownloadListener currentDownloadListener;
+    @Nullable private Integer currentBackgroundColor;
+    private final Map<String, Object> javaScriptInterfaces = new HashMap<>();
+    private final Map<String, WebMessageListenerRegistration> webMessageListeners =
+        new HashMap<>();
 
     private final @NonNull AndroidSdkChecker sdkChecker;
 
+    private RenderProcessHangMonitor renderProcessHangMonitor;
+    private NavigationTimingRecorder navigationTimingRecorder;
+    private NetworkRequestLog networkRequestLog = new NetworkRequestLog();
+    private RequestInterceptorChain requestInterceptorChain = new RequestInterceptorChain();
+    @Nullable private LocalContentServer localContentServer;
+    private JavaScriptEvaluationQueue javaScriptEvaluationQueue = new JavaScriptEvaluationQueue();
+    private DocumentStartScripts documentStartScripts = new DocumentStartScripts();
+    @Nullable private WebStorageOriginTracker webStorageOriginTracker;
+    @Nullable private FileChooserSessionRegistry fileChooserSessionRegistry;
+    @Nullable private StreamingContentLoader streamingContentLoader;
+
+    private boolean isWindowVisible = false;
+    private long lastVisibleTimeMillis = SystemClock.uptimeMillis();
+    private boolean isPausedForMemoryPressure = false;
+    @Nullable private Bundle discardedState;
+    @Nullable private String discardedUrl;
+    @Nullable private String lastCommittedUrl;
+
+    private long restoreNotBeforeMillis = 0;
+
+    @Nullable private WebViewPlatformView replacementWebView;
+    private long renderProcessGoneCount = 0;
+    private int repeatedRenderProcessGoneCount = 0;
+    private long lastRenderProcessGoneTimeMillis = 0;
+
+    private static class WebMessageListenerRegistration {
+      final WebViewCompat.WebMessageListener listener;
+      final Set<String> allowedOriginRules;
+      // Handle of the document-start script that was added with the listener.
+      @Nullable final Long scriptHandle;
+
+      WebMessageListenerRegistration(
+          WebViewCompat.WebMessageListener listener,
+          Set<String> allowedOriginRules,
+          @Nullable Long scriptHandle) {
+        this.listener = listener;
+        this.allowedOriginRules = allowedOriginRules;
+        this.scriptHandle = scriptHandle;
+      }
+    }
+
+    /**
+     * {@link WebViewClient} used until a client is set from Dart.
+     *
+     * <p>This keeps the app alive when the render process is gone. Like the clients created from
+     * Dart, it serves requests from the {@link RequestInterceptorChain} and records them in the
+     * {@link NetworkRequestLog}.
+     */
+    static class DefaultWebViewClient extends WebViewClient {
+      @Override
+      public void onPageStarted(
+          @NonNull WebView view, @NonNull String url, @Nullable Bitmap favicon) {
+        final NavigationTimingRecorder timingRecorder = NavigationTimingRecorder.forWebView(view);
+        if (timingRecorder != null) {
+          timingRecorder.onPageStarted();
+        }
+        final JavaScriptEvaluationQueue evaluationQueue =
+            JavaScriptEvaluationQueue.forWebView(view);
+        if (evaluationQueue != null) {
+          evaluationQueue.onPageStarted();
+        }
+      }
+
+      @RequiresApi(api = Build.VERSION_CODES.M)
+      @Override
+      public void onPageCommitVisible(@NonNull WebView view, @NonNull String url) {
+        final NavigationTimingRecorder timingRecorder = NavigationTimingRecorder.forWebView(view);
+        if (timingRecorder != null) {
+          timingRecorder.onPageCommitVisible(view);
+        }
+      }
+
+      @Override
+      public void onPageFinished(@NonNull WebView view, @NonNull String url) {
+        final NavigationTimingRecorder timingRecorder = NavigationTimingRecorder.forWebView(view);
+        if (timingRecorder != null) {
+          timingRecorder.onPageFinished(view, url);
+        }
+        final NetworkRequestLog requestLog = NetworkRequestLog.forWebView(view);
+        if (requestLog != null) {
+          requestLog.onPageFinished(url);
+        }
+        final WebStorageOriginTracker originTracker = WebStorageOriginTracker.forWebView(view);
+        if (originTracker != null) {
+          originTracker.onPageFinished(view, url);
+        }
+      }
+
+      @RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
+      @Nullable
+      @Override
+      public WebResourceResponse shouldInterceptRequest(
+          @NonNull WebView view, @NonNull WebResourceRequest request) {
+        final NetworkRequestLog requestLog = NetworkRequestLog.forWebView(view);
+        if (requestLog != null && requestLog.isEnabled()) {
+          requestLog.onRequestStarted(
+              request.getUrl().toString(), request.getMethod(), request.isForMainFrame());
+        }
+        final RequestInterceptorChain interceptorChain = RequestInterceptorChain.forWebView(view);
+        return interceptorChain != null
+            ? interceptorChain.shouldInterceptRequest(view, request)
+            : null;
+      }
+
+      @Override
+      public void onLoadResource(@NonNull WebView view, @NonNull String url) {
+        final NetworkRequestLog requestLog = NetworkRequestLog.forWebView(view);
+        if (requestLog != null) {
+          requestLog.onLoadResource(url);
+        }
+      }
+
+      @RequiresApi(api = Build.VERSION_CODES.M)
+      @Override
+      public void onReceivedHttpError(
+          @NonNull WebView view,
+          @NonNull WebResourceRequest request,
+          @NonNull WebResourceResponse response) {
+        final NetworkRequestLog requestLog = NetworkRequestLog.forWebView(view);
+        if (requestLog != null) {
+          requestLog.onReceivedHttpError(
+              request.getUrl().toString(), response.getStatusCode(), response.getReasonPhrase());
+        }
+      }
+
+      @RequiresApi(api = Build.VERSION_CODES.M)
+      @Override
+      public void onReceivedError(
+          @NonNull WebView view,
+          @NonNull WebResourceRequest request,
+          @NonNull WebResourceError error) {
+        final NetworkRequestLog requestLog = NetworkRequestLog.forWebView(view);
+        if (requestLog != null) {
+          requestLog.onReceivedError(
+              request.getUrl().toString(), error.getErrorCode(), error.getDescription());
+        }
+      }
+
+      // Legacy codepath for < 23; newer versions use the variant above.
+      @SuppressWarnings("deprecation")
+      @Override
+      public void onReceivedError(
+          @NonNull WebView view,
+          int errorCode,
+          @NonNull String description,
+          @NonNull String failingUrl) {
+        final NetworkRequestLog requestLog = NetworkRequestLog.forWebView(view);
+        if (requestLog != null) {
+          requestLog.onReceivedError(failingUrl, errorCode, description);
+        }
+      }
+
+      @Override
+      public void doUpdateVisitedHistory(
+          @NonNull WebView view, @NonNull String url, boolean isReload) {
+        onHistoryUpdated(view, url);
+      }
+
+      @RequiresApi(api = Build.VERSION_CODES.O)
+      @Override
+      public boolean onRenderProcessGone(
+          @NonNull WebView view, @NonNull RenderProcessGoneDetail detail) {
+        return handleRenderProcessGone(view, detail);
+      }
+    }
+
     // Interface for an injectable SDK version checker.
     @VisibleForTesting
     interface AndroidSdkChecker {
@@ -93,10 +349,28 @@ public class WebViewHostApiImpl implements WebViewHostApi {
         @NonNull Context context,
         @NonNull BinaryMessenger binaryMessenger,
         @NonNull InstanceManager instanceManager) {
+      this(context, binaryMessenger, instanceManager, (String) null);
+    }
+
+    /**
+     * Creates a {@link WebViewPlatformView} that uses the profile named `profileName`.
+     *
+     * <p>The profile holds the cookies, storage and HTTP cache of the view, and is created if it
+     * doesn't exist. Requires {@link WebViewFeature#MULTI_PROFILE}.
+     *
+     * @param context an Activity Context to access application assets. This value cannot be null.
+     * @param profileName the profile of the view, or null for the default profile
+     */
+    public WebViewPlatformView(
+        @NonNull Context context,
+        @NonNull BinaryMessenger binaryMessenger,
+        @NonNull InstanceManager instanceManager,
+        @Nullable String profileName) {
       this(
           context,
           binaryMessenger,
           instanceManager,
+          profileName,
           (int version) -> Build.VERSION.SDK_INT >= version);
     }
 
@@ -106,24 +380,62 @@ public class WebViewHostApiImpl implements WebViewHostApi {
         @NonNull BinaryMessenger binaryMessenger,
         @NonNull InstanceManager instanceManager,
         @NonNull AndroidSdkChecker sdkChecker) {
+      this(context, binaryMessenger, instanceManager, null, sdkChecker);
+    }
+
+    // The caller checks that multiple profiles are supported.
+    @SuppressLint("RequiresFeature")
+    @VisibleForTesting
+    WebViewPlatformView(
+        @NonNull Context context,
+        @NonNull BinaryMessenger binaryMessenger,
+        @NonNull InstanceManager instanceManager,
+        @Nullable String profileName,
+        @NonNull AndroidSdkChecker sdkChecker) {
       super(context);
-      currentWebViewClient = new WebViewClient();
+      this.profileName = profileName;
+      if (profileName != null) {
+        // The profile can't be changed once the view is used, so it is set before anything else.
+        WebViewCompat.setProfile(this, profileName);
+      }
+      currentWebViewClient = new DefaultWebViewClient();
       currentWebChromeClient = new WebChromeClientHostApiImpl.SecureWebChromeClient();
       api = new WebViewFlutterApiImpl(binaryMessenger, instanceManager);
+      this.binaryMessenger = binaryMessenger;
+      this.instanceManager = instanceManager;
       this.sdkChecker = sdkChecker;
 
       setWebViewClient(currentWebViewClient);
       setWebChromeClient(currentWebChromeClient);
+      setRenderProcessHangMonitor(new RenderProcessHangMonitor(api));
+      navigationTimingRecorder = new NavigationTimingRecorder(api);
     }
 
     @Nullable
     @Override
     public View getView() {
+      if (replacementWebView != null) {
+        return replacementWebView.getView();
+      }
       return this;
     }
 
     @Override
-    public void dispose() {}
+    public void dispose() {
+      // Flutter disposes the view it created, which may have been replaced since.
+      if (replacementWebView != null) {
+        replacementWebView.dispose();
+        return;
+      }
+      javaScriptEvaluationQueue.cancelAll("Cancelled because the WebView was disposed.");
+      documentStartScripts.removeAll();
+      if (fileChooserSessionRegistry != null) {
+        fileChooserSessionRegistry.cancel(this);
+      }
+      if (streamingContentLoader != null) {
+        streamingContentLoader.cancelLoadsOf(this);
+      }
+    }
 
     // TODO(bparrishMines): This should be removed once https://github.com/flutter/engine/pull/40771 makes it to stable.
     // Temporary fix for https://github.com/flutter/flutter/issues/92165. The FlutterView is setting
@@ -140,6 +452,104 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       }
     }
 
+    @Override
+    protected void onDetachedFromWindow() {
+      super.onDetachedFromWindow();
+      updateVisibility(false);
+    }
+
+    @Override
+    protected void onWindowVisibilityChanged(int visibility) {
+      super.onWindowVisibilityChanged(visibility);
+      updateVisibility(visibility == View.VISIBLE);
+    }
+
+    private void updateVisibility(boolean isVisible) {
+      if (isWindowVisible || isVisible) {
+        lastVisibleTimeMillis = SystemClock.uptimeMillis();
+      }
+      isWindowVisible = isVisible;
+
+      if (isVisible) {
+        if (isPausedForMemoryPressure) {
+          isPausedForMemoryPressure = false;
+          onResume();
+        }
+        if (isDiscarded() && SystemClock.uptimeMillis() >= restoreNotBeforeMillis) {
+          restoreDiscardedState();
+        }
+      }
+    }
+
+    /** Whether the window this view is attached to is currently visible to the user. */
+    public boolean isVisibleToUser() {
+      return isWindowVisible;
+    }
+
+    /**
+     * The value of {@link SystemClock#uptimeMillis()} when this view was last visible to the user.
+     */
+    public long getLastVisibleTimeMillis() {
+      return lastVisibleTimeMillis;
+    }
+
+    /**
+     * Pauses processing that can be paused safely while this view is hidden.
+     *
+     * <p>Processing is resumed the next time this view becomes visible.
+     */
+    public void pauseForMemoryPressure() {
+      if (!isPausedForMemoryPressure && !isWindowVisible) {
+        isPausedForMemoryPressure = true;
+        onPause();
+      }
+    }
+
+    /** Whether {@link #discard()} was called and the page has not been restored yet. */
+    public boolean isDiscarded() {
+      return discardedState != null || discardedUrl != null;
+    }
+
+    /**
+     * Saves the state of the current page and replaces this view with a new {@link
+     * WebViewPlatformView} to release the memory held by the renderer.
+     *
+     * <p>Nothing is loaded in the new view, so no navigation callbacks are made and the page isn't
+     * added to its history. The saved page is restored the next time the new view becomes visible.
+     *
+     * @return the view that replaced this one, or null if this view wasn't discarded
+     */
+    @Nullable
+    public WebViewPlatformView discard() {
+      if (isDiscarded() || replacementWebView != null || !canBeReplaced()) {
+        return null;
+      }
+
+      final Bundle state = new Bundle();
+      final Bundle savedState = saveState(state) != null ? state : null;
+      final String url = getUrl();
+      if (savedState == null && url == null) {
+        return null;
+      }
+
+      final WebViewPlatformView replacement =
+          replaceWithNewView("Cancelled because the WebView was discarded.");
+      replacement.discardedState = savedState;
+      replacement.discardedUrl = url;
+      return replacement;
+    }
+
+    private void restoreDiscardedState() {
+      final Bundle state = discardedState;
+      final String url = discardedUrl;
+      discardedState = null;
+      discardedUrl = null;
+
+      if ((state == null || restoreState(state) == null) && url != null) {
+        loadUrl(url);
+      }
+    }
+
     // Attempt to traverse the parents of this view until a FlutterView is found.
     private FlutterView tryFindFlutterView() {
       ViewParent currentView = this;
@@ -180,6 +590,78 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       return currentWebChromeClient;
     }
 
+    @Override
+    public void setDownloadListener(@Nullable DownloadListener listener) {
+      if (listener instanceof DownloadListenerHostApiImpl.DownloadListenerImpl) {
+        // Native downloads send the cookies of the profile of this view.
+        super.setDownloadListener(
+            ((DownloadListenerHostApiImpl.DownloadListenerImpl) listener).forProfile(profileName));
+      } else {
+        super.setDownloadListener(listener);
+      }
+      currentDownloadListener = listener;
+    }
+
+    @Override
+    public void setBackgroundColor(int color) {
+      super.setBackgroundColor(color);
+      currentBackgroundColor = color;
+    }
+
+    @SuppressLint({"JavascriptInterface", "AddJavascriptInterface"})
+    @Override
+    public void addJavascriptInterface(@NonNull Object object, @NonNull String name) {
+      super.addJavascriptInterface(object, name);
+      javaScriptInterfaces.put(name, object);
+    }
+
+    @Override
+    public void removeJavascriptInterface(@NonNull String name) {
+      super.removeJavascriptInterface(name);
+      javaScriptInterfaces.remove(name);
+    }
+
+    /**
+     * Forwards call to {@link WebViewCompat#addWebMessageListener} and keeps the listener, so it is
+     * added again to the view that replaces this view when the render process is gone.
+     *
+     * @param documentStartScript a script that is added to {@link #getDocumentStartScripts()} for
+     *     the same origins and removed with the listener, or null
+     */
+    public void addWebMessageListener(
+        @NonNull String name,
+        @NonNull Set<String> allowedOriginRules,
+        @NonNull WebViewCompat.WebMessageListener listener,
+        @Nullable String documentStartScript) {
+      final Long scriptHandle =
+          documentStartScript != null
+              ? documentStartScripts.add(this, documentStartScript, allowedOriginRules)
+              : null;
+      putWebMessageListener(
+          name, new WebMessageListenerRegistration(listener, allowedOriginRules, scriptHandle));
+    }
+
+    /** Forwards call to {@link WebViewCompat#removeWebMessageListener}. */
+    @SuppressLint("RequiresFeature")
+    public void removeWebMessageListener(@NonNull String name) {
+      final WebMessageListenerRegistration registration = webMessageListeners.remove(name);
+      if (registration != null) {
+        WebViewCompat.removeWebMessageListener(this, name);
+        if (registration.scriptHandle != null) {
+          documentStartScripts.remove(registration.scriptHandle);
+        }
+      }
+    }
+
+    // Callers check the WebViewFeature.WEB_MESSAGE_LISTENER feature.
+    @SuppressLint("RequiresFeature")
+    private void putWebMessageListener(
+        @NonNull String name, @NonNull WebMessageListenerRegistration registration) {
+      WebViewCompat.addWebMessageListener(
+          this, name, registration.allowedOriginRules, registration.listener);
+      webMessageListeners.put(name, registration);
+    }
+
     @Override
     protected void onScrollChanged(int left, int top, int oldLeft, int oldTop) {
       super.onScrollChanged(left, top, oldLeft, oldTop);
@@ -187,6 +669,310 @@ public class WebViewHostApiImpl implements WebViewHostApi {
           this, (long) left, (long) top, (long) oldLeft, (long) oldTop, reply -> {});
     }
 
+    /**
+     * Records `url` as the last url committed to the history of `view` if it is a {@link
+     * WebViewPlatformView}, so its page can be restored after its render process is gone.
+     */
+    static void onHistoryUpdated(@NonNull WebView view, @NonNull String url) {
+      if (view instanceof WebViewPlatformView) {
+        ((WebViewPlatformView) view).lastCommittedUrl = url;
+      }
+    }
+
+    /**
+     * Handles the render process of `view` being gone if it is a {@link WebViewPlatformView}.
+     *
+     * @return whether the app can continue executing
+     */
+    @RequiresApi(api = Build.VERSION_CODES.O)
+    static boolean handleRenderProcessGone(
+        @NonNull WebView view, @NonNull RenderProcessGoneDetail detail) {
+      return view instanceof WebViewPlatformView
+          && ((WebViewPlatformView) view).recoverFromRenderProcessGone(detail.didCrash()) != null;
+    }
+
+    /**
+     * Replaces this view with a new {@link WebViewPlatformView} after its render process is gone.
+     *
+     * <p>This view is removed from its parent and destroyed. The new view inherits the clients,
+     * listeners, JavaScript channels and settings of this view, takes its place in the parent and
+     * in the {@link InstanceManager}, and restores the saved state of the page. When the page keeps
+     * crashing, restoring is delayed with an exponential backoff and eventually skipped.
+     *
+     * @param didCrash whether the render process crashed or was killed by the system
+     * @return the view that replaced this one, or null if this view could not be replaced
+     */
+    @Nullable
+    @VisibleForTesting
+    WebViewPlatformView recoverFromRenderProcessGone(boolean didCrash) {
+      if (replacementWebView != null) {
+        return replacementWebView;
+      }
+      if (!canBeReplaced()) {
+        return null;
+      }
+
+      final long now = SystemClock.uptimeMillis();
+      if (renderProcessGoneCount == 0
+          || now - lastRenderProcessGoneTimeMillis > RENDER_PROCESS_CRASH_WINDOW_MILLIS) {
+        repeatedRenderProcessGoneCount = 0;
+      }
+      repeatedRenderProcessGoneCount++;
+      renderProcessGoneCount++;
+      lastRenderProcessGoneTimeMillis = now;
+
+      Bundle state = discardedState;
+      String url = discardedUrl;
+      if (!isDiscarded()) {
+        try {
+          final Bundle savedState = new Bundle();
+          state = saveState(savedState) != null ? savedState : null;
+          url = getUrl();
+        } catch (RuntimeException exception) {
+          // The view may reject calls once its render process is gone.
+          state = null;
+          url = null;
+        }
+        if (url == null) {
+          url = lastCommittedUrl;
+        }
+      }
+
+      renderProcessHangMonitor.onRenderProcessGone();
+      final WebViewPlatformView replacement =
+          replaceWithNewView("Cancelled because the render process is gone.");
+      replacement.lastCommittedUrl = url;
+
+      final boolean willRestoreState =
+          repeatedRenderProcessGoneCount <= MAX_RENDER_PROCESS_RESTORES
+              && (state != null || url != null);
+      if (willRestoreState) {
+        final long delay =
+            (repeatedRenderProcessGoneCount == 1)
+                ? 0
+                : RENDER_PROCESS_RESTORE_BASE_DELAY_MILLIS << (repeatedRenderProcessGoneCount - 2);
+        replacement.discardedState = state;
+        replacement.discardedUrl = url;
+        replacement.restoreNotBeforeMillis = now + delay;
+        replacement.postDelayed(
+            () -> {
+              if (replacement.isDiscarded() && replacement.isVisibleToUser()) {
+                replacement.restoreDiscardedState();
+              }
+            },
+            delay);
+      }
+
+      replacement.api.onRenderProcessGone(
+          replacement, didCrash, renderProcessGoneCount, willRestoreState, reply -> {});
+      return replacement;
+    }
+
+    private boolean canBeReplaced() {
+      return instanceManager != null && instanceManager.containsInstance(this);
+    }
+
+    /**
+     * Replaces this view with a new {@link WebViewPlatformView} that has nothing loaded.
+     *
+     * <p>This view is removed from its parent and destroyed. The new view inherits the clients,
+     * listeners, JavaScript channels and settings of this view, and takes its place in the parent
+     * and in the {@link InstanceManager}.
+     *
+     * @param cancelReason the error message of the scripts that were still being evaluated
+     */
+    private WebViewPlatformView replaceWithNewView(@NonNull String cancelReason) {
+      final WebViewPlatformView replacement =
+          new WebViewPlatformView(
+              getContext(), binaryMessenger, instanceManager, profileName, sdkChecker);
+      replacement.api = api;
+      replacement.lastCommittedUrl = lastCommittedUrl;
+      replacement.lastVisibleTimeMillis = lastVisibleTimeMillis;
+      replacement.renderProcessGoneCount = renderProcessGoneCount;
+      replacement.repeatedRenderProcessGoneCount = repeatedRenderProcessGoneCount;
+      replacement.lastRenderProcessGoneTimeMillis = lastRenderProcessGoneTimeMillis;
+      replacement.setRenderProcessHangMonitor(renderProcessHangMonitor);
+      replacement.navigationTimingRecorder = navigationTimingRecorder;
+      replacement.networkRequestLog = networkRequestLog;
+      replacement.requestInterceptorChain = requestInterceptorChain;
+      replacement.localContentServer = localContentServer;
+      replacement.webStorageOriginTracker = webStorageOriginTracker;
+      // The destroyed view can't receive the files of its chooser.
+      if (fileChooserSessionRegistry != null) {
+        fileChooserSessionRegistry.cancel(this);
+      }
+      replacement.fileChooserSessionRegistry = fileChooserSessionRegistry;
+      // The destroyed view can't read the documents streamed to it.
+      if (streamingContentLoader != null) {
+        streamingContentLoader.cancelLoadsOf(this);
+      }
+      replacement.streamingContentLoader = streamingContentLoader;
+      // The destroyed view doesn't call back for the scripts it was evaluating.
+      javaScriptEvaluationQueue.cancelAll(cancelReason);
+      replacement.javaScriptEvaluationQueue = javaScriptEvaluationQueue;
+      documentStartScripts.transferTo(replacement);
+      replacement.documentStartScripts = documentStartScripts;
+      copySettings(getSettings(), replacement.getSettings());
+      replacement.setWebViewClient(currentWebViewClient);
+      replacement.setWebChromeClient(currentWebChromeClient);
+      replacement.setDownloadListener(currentDownloadListener);
+      if (currentBackgroundColor != null) {
+        replacement.setBackgroundColor(currentBackgroundColor);
+      }
+      for (Map.Entry<String, Object> entry : javaScriptInterfaces.entrySet()) {
+        replacement.addJavascriptInterface(entry.getValue(), entry.getKey());
+      }
+      for (Map.Entry<String, WebMessageListenerRegistration> entry :
+          webMessageListeners.entrySet()) {
+        // The document-start scripts of the listeners are transferred with the other scripts.
+        replacement.putWebMessageListener(entry.getKey(), entry.getValue());
+      }
+
+      instanceManager.replaceInstance(this, replacement);
+      instanceManager.replaceInstance(getSettings(), replacement.getSettings());
+
+      final ViewParent parent = getParent();
+      if (parent instanceof ViewGroup) {
+        final ViewGroup viewGroup = (ViewGroup) parent;
+        final int index = viewGroup.indexOfChild(this);
+        final ViewGroup.LayoutParams layoutParams = getLayoutParams();
+        viewGroup.removeView(this);
+        if (layoutParams != null) {
+          viewGroup.addView(replacement, index, layoutParams);
+        } else {
+          viewGroup.addView(replacement, index);
+        }
+      }
+      replacementWebView = replacement;
+      destroy();
+      return replacement;
+    }
+
+    /** Measures how long the render process of this view stays unresponsive. */
+    @NonNull
+    public RenderProcessHangMonitor getRenderProcessHangMonitor() {
+      return renderProcessHangMonitor;
+    }
+
+    /** Records the timing of the navigations of this view. */
+    @NonNull
+    public NavigationTimingRecorder getNavigationTimingRecorder() {
+      return navigationTimingRecorder;
+    }
+
+    /** Log of the requests made by this view. */
+    @NonNull
+    public NetworkRequestLog getNetworkRequestLog() {
+      return networkRequestLog;
+    }
+
+    /** Bounds the JavaScript evaluations of this view. */
+    @NonNull
+    public JavaScriptEvaluationQueue getJavaScriptEvaluationQueue() {
+      return javaScriptEvaluationQueue;
+    }
+
+    /** Scripts that run at the start of every document of this view. */
+    @NonNull
+    public DocumentStartScripts getDocumentStartScripts() {
+      return documentStartScripts;
+    }
+
+    /** Interceptors that can serve the requests of this view. */
+    @NonNull
+    public RequestInterceptorChain getRequestInterceptorChain() {
+      return requestInterceptorChain;
+    }
+
+    /**
+     * Serves local directories to this view.
+     *
+     * <p>The server is created and added to the {@link #getRequestInterceptorChain()} when first
+     * used.
+     */
+    @RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
+    @NonNull
+    public LocalContentServer getLocalContentServer() {
+      if (localContentServer == null) {
+        localContentServer = new LocalContentServer();
+        requestInterceptorChain.addInterceptor(localContentServer);
+      }
+      return localContentServer;
+    }
+
+    /** Sets the recorder that aggregates the navigation timing of every view. */
+    public void setGlobalNavigationTimingRecorder(@Nullable NavigationTimingRecorder recorder) {
+      navigationTimingRecorder.setParent(recorder);
+    }
+
+    /** Sets the registry that shares document-start scripts with other views. */
+    public void setDocumentStartScriptRegistry(@NonNull DocumentStartScriptRegistry registry) {
+      documentStartScripts.setRegistry(registry);
+    }
+
+    /** The profile of this view, or null if it uses the default profile. */
+    @Nullable
+    public String getProfileName() {
+      return profileName;
+    }
+
+    /** Tracks the web storage origins used by this view. */
+    @Nullable
+    public WebStorageOriginTracker getWebStorageOriginTracker() {
+      return webStorageOriginTracker;
+    }
+
+    /** Sets the tracker of the web storage origins used by this view. */
+    public void setWebStorageOriginTracker(@Nullable WebStorageOriginTracker tracker) {
+      webStorageOriginTracker = tracker;
+    }
+
+    /** Tracks the file choosers opened by this view. */
+    @Nullable
+    public FileChooserSessionRegistry getFileChooserSessionRegistry() {
+      return fileChooserSessionRegistry;
+    }
+
+    /** Sets the registry that tracks the file choosers opened by this view. */
+    public void setFileChooserSessionRegistry(@Nullable FileChooserSessionRegistry registry) {
+      fileChooserSessionRegistry = registry;
+    }
+
+    /** Sets the loader of the documents streamed to this view, which are cancelled on dispose. */
+    public void setStreamingContentLoader(@Nullable StreamingContentLoader loader) {
+      streamingContentLoader = loader;
+    }
+
+    private void setRenderProcessHangMonitor(@NonNull RenderProcessHangMonitor monitor) {
+      renderProcessHangMonitor = monitor;
+      if (sdkChecker.sdkIsAtLeast(Build.VERSION_CODES.Q)
+          && WebViewFeature.isFeatureSupported(
+              WebViewFeature.WEB_VIEW_RENDERER_CLIENT_BASIC_USAGE)) {
+        WebViewCompat.setWebViewRenderProcessClient(this, monitor);
+      }
+    }
+
+    /** The number of times the render process of this view, or the views it replaced, was gone. */
+    public long getRenderProcessGoneCount() {
+      return renderProcessGoneCount;
+    }
+
+    private static void copySettings(@NonNull WebSettings from, @NonNull WebSettings to) {
+      to.setDomStorageEnabled(from.getDomStorageEnabled());
+      to.setJavaScriptCanOpenWindowsAutomatically(from.getJavaScriptCanOpenWindowsAutomatically());
+      to.setSupportMultipleWindows(from.supportMultipleWindows());
+      to.setJavaScriptEnabled(from.getJavaScriptEnabled());
+      to.setUserAgentString(from.getUserAgentString());
+      to.setMediaPlaybackRequiresUserGesture(from.getMediaPlaybackRequiresUserGesture());
+      to.setSupportZoom(from.supportZoom());
+      to.setLoadWithOverviewMode(from.getLoadWithOverviewMode());
+      to.setUseWideViewPort(from.getUseWideViewPort());
+      to.setDisplayZoomControls(from.getDisplayZoomControls());
+      to.setBuiltInZoomControls(from.getBuiltInZoomControls());
+      to.setAllowFileAccess(from.getAllowFileAccess());
+      to.setTextZoom(from.getTextZoom());
+    }
+
     /**
      * Flutter API used to send messages back to Dart.
      *
@@ -216,6 +1002,22 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     this.binaryMessenger = binaryMessenger;
     this.webViewProxy = webViewProxy;
     this.context = context;
+    this.webStorageOriginTracker = new WebStorageOriginTracker(context);
+    this.memoryPressureCoordinator = new WebViewMemoryPressureCoordinator(instanceManager);
+    memoryPressureCoordinator.addMemoryTrimListener(fileChooserSessionRegistry);
+    memoryPressureCoordinator.addMemoryTrimListener(
+        level -> {
+          if (streamingContentLoader != null) {
+            streamingContentLoader.onTrimMemory(level);
+          }
+        });
+    memoryPressureCoordinator.addMemoryTrimListener(
+        level -> {
+          for (WebViewPlatformView webView :
+              instanceManager.getInstancesOfType(WebViewPlatformView.class)) {
+            webView.getNetworkRequestLog().onTrimMemory(level);
+          }
+        });
   }
 
   /**
@@ -227,14 +1029,66 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     this.context = context;
   }
 
+  /** Tracks the web storage origins used by the views created by this host API. */
+  @NonNull
+  public WebStorageOriginTracker getWebStorageOriginTracker() {
+    return webStorageOriginTracker;
+  }
+
+  /** Tracks the file choosers opened by the views created by this host API. */
+  @NonNull
+  public FileChooserSessionRegistry getFileChooserSessionRegistry() {
+    return fileChooserSessionRegistry;
+  }
+
+  /**
+   * Cancels the file choosers and streamed documents of the views created by this host API and
+   * stops their background threads and the one that decodes script results, e.g. because the
+   * plugin was detached from its engine.
+   */
+  public void close() {
+    fileChooserSessionRegistry.close();
+    if (streamingContentLoader != null) {
+      streamingContentLoader.close();
+    }
+    if (javaScriptResultDecoder != null) {
+      javaScriptResultDecoder.close();
+    }
+  }
+
+  /** Releases memory held by the views created by this host API when memory is low. */
+  @NonNull
+  public WebViewMemoryPressureCoordinator getMemoryPressureCoordinator() {
+    return memoryPressureCoordinator;
+  }
+
   @Override
   public void create(@NonNull Long instanceId) {
+    create(instanceId, null);
+  }
+
+  @Override
+  public void createWithProfile(@NonNull Long instanceId, @NonNull String profileName) {
+    if (!webViewProxy.isMultiProfileSupported()) {
+      throw new UnsupportedOperationException("Profiles are not supported on this device.");
+    }
+    create(instanceId, profileName);
+  }
+
+  private void create(@NonNull Long instanceId, @Nullable String profileName) {
     DisplayListenerProxy displayListenerProxy = new DisplayListenerProxy();
     DisplayManager displayManager =
         (DisplayManager) context.getSystemService(Context.DISPLAY_SERVICE);
     displayListenerProxy.onPreWebViewInitialization(displayManager);
 
-    final WebView webView = webViewProxy.createWebView(context, binaryMessenger, instanceManager);
+    final WebViewPlatformView webView =
+        profileName != null
+            ? webViewProxy.createWebView(context, binaryMessenger, instanceManager, profileName)
+            : webViewProxy.createWebView(context, binaryMessenger, instanceManager);
+    webView.setGlobalNavigationTimingRecorder(globalNavigationTimingRecorder);
+    webView.setDocumentStartScriptRegistry(documentStartScriptRegistry);
+    webView.setWebStorageOriginTracker(webStorageOriginTracker);
+    webView.setFileChooserSessionRegistry(fileChooserSessionRegistry);
 
     displayListenerProxy.onPostWebViewInitialization(displayManager);
     instanceManager.addDartCreatedInstance(webView, instanceId);
@@ -326,7 +1180,116 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       @NonNull String javascriptString,
       @NonNull GeneratedAndroidWebView.Result<String> result) {
     final WebView webView = Objects.requireNonNull(instanceManager.getInstance(instanceId));
-    webView.evaluateJavascript(javascriptString, result::success);
+    evaluate(webView, javascriptString, result);
+  }
+
+  @Override
+  public void evaluateJavascriptBatch(
+      @NonNull Long instanceId,
+      @NonNull List<String> scripts,
+      @NonNull GeneratedAndroidWebView.Result<String> result) {
+    final WebView webView = Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    evaluate(
+        webView,
+        JavaScriptBatch.buildScript(scripts),
+        new GeneratedAndroidWebView.Result<String>() {
+          @Override
+          public void success(@Nullable String value) {
+            if (JavaScriptBatch.EVAL_BLOCKED_RESULT.equals(value)) {
+              evaluateSequentially(webView, scripts, new ArrayList<>(), result);
+            } else {
+              result.success(value);
+            }
+          }
+
+          @Override
+          public void error(@NonNull Throwable error) {
+            result.error(error);
+          }
+        });
+  }
+
+  // Evaluates the remaining `scripts` one at a time, for pages whose policy blocks `eval`.
+  private static void evaluateSequentially(
+      WebView webView,
+      List<String> scripts,
+      List<String> results,
+      GeneratedAndroidWebView.Result<String> result) {
+    if (results.size() == scripts.size()) {
+      result.success(JavaScriptBatch.buildSequentialResult(results));
+      return;
+    }
+    evaluate(
+        webView,
+        scripts.get(results.size()),
+        new GeneratedAndroidWebView.Result<String>() {
+          @Override
+          public void success(@Nullable String value) {
+            results.add(value);
+            evaluateSequentially(webView, scripts, results, result);
+          }
+
+          @Override
+          public void error(@NonNull Throwable error) {
+            result.error(error);
+          }
+        });
+  }
+
+  @Override
+  public void evaluateJavascriptDecoded(
+      @NonNull Long instanceId,
+      @NonNull String javascriptString,
+      @NonNull GeneratedAndroidWebView.Result<Object> result) {
+    final WebView webView = Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    if (javaScriptResultDecoder == null) {
+      javaScriptResultDecoder = new JavaScriptResultDecoder();
+    }
+    final JavaScriptResultDecoder decoder = javaScriptResultDecoder;
+    evaluate(
+        webView,
+        javascriptString,
+        new GeneratedAndroidWebView.Result<String>() {
+          @Override
+          public void success(@Nullable String value) {
+            decoder.decode(value, result);
+          }
+
+          @Override
+          public void error(@NonNull Throwable error) {
+            result.error(error);
+          }
+        });
+  }
+
+  @Override
+  public void setJavaScriptEvaluationLimits(
+      @NonNull Long instanceId,
+      @Nullable Long maxInFlight,
+      @Nullable Long maxQueued,
+      @Nullable Long timeoutMillis) {
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    webView.getJavaScriptEvaluationQueue().setLimits(maxInFlight, maxQueued, timeoutMillis);
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Object> getJavaScriptEvaluationStats(@NonNull Long instanceId) {
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    return webView.getJavaScriptEvaluationQueue().getStats();
+  }
+
+  // Evaluations of views created by this plugin are bounded by their JavaScriptEvaluationQueue.
+  private static void evaluate(
+      WebView webView, String script, GeneratedAndroidWebView.Result<String> result) {
+    final JavaScriptEvaluationQueue queue = JavaScriptEvaluationQueue.forWebView(webView);
+    if (queue != null) {
+      queue.evaluate(webView, script, result);
+    } else {
+      webView.evaluateJavascript(script, result::success);
+    }
   }
 
   @Nullable
@@ -402,6 +1365,46 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     webView.removeJavascriptInterface(javaScriptChannel.javaScriptChannelName);
   }
 
+  @Override
+  public void addWebMessageListener(
+      @NonNull Long instanceId,
+      @NonNull Long javaScriptChannelInstanceId,
+      @NonNull List<String> allowedOriginRules) {
+    if (!WebViewFeature.isFeatureSupported(WebViewFeature.WEB_MESSAGE_LISTENER)) {
+      throw new UnsupportedOperationException(
+          "Web message listeners are not supported on this device.");
+    }
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    final JavaScriptChannel javaScriptChannel =
+        Objects.requireNonNull(instanceManager.getInstance(javaScriptChannelInstanceId));
+    String rpcScript = null;
+    if (javaScriptChannel.getRpcDispatcher() != null) {
+      // The `call` function of the channel object is added before the scripts of the page run.
+      if (!WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)) {
+        throw new UnsupportedOperationException(
+            "JavaScript channel calls require document start scripts, which are not supported on "
+                + "this device.");
+      }
+      rpcScript = JavaScriptRpcDispatcher.buildScript(javaScriptChannel.javaScriptChannelName);
+    }
+    webView.addWebMessageListener(
+        javaScriptChannel.javaScriptChannelName,
+        new HashSet<>(allowedOriginRules),
+        javaScriptChannel,
+        rpcScript);
+  }
+
+  @Override
+  public void removeWebMessageListener(
+      @NonNull Long instanceId, @NonNull Long javaScriptChannelInstanceId) {
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    final JavaScriptChannel javaScriptChannel =
+        Objects.requireNonNull(instanceManager.getInstance(javaScriptChannelInstanceId));
+    webView.removeWebMessageListener(javaScriptChannel.javaScriptChannelName);
+  }
+
   @Override
   public void setDownloadListener(@NonNull Long instanceId, @Nullable Long listenerInstanceId) {
     final WebView webView = Objects.requireNonNull(instanceManager.getInstance(instanceId));
@@ -422,9 +1425,276 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     webView.setBackgroundColor(color.intValue());
   }
 
+  @Override
+  public void setRenderProcessHangBudget(@NonNull Long instanceId, @Nullable Long budgetMillis) {
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    if (budgetMillis != null
+        && !WebViewFeature.isFeatureSupported(WebViewFeature.WEB_VIEW_RENDERER_TERMINATE)) {
+      throw new UnsupportedOperationException(
+          "Terminating the render process of a WebView is not supported on this device.");
+    }
+    webView.getRenderProcessHangMonitor().setHangBudgetMillis(budgetMillis);
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Object> getRenderProcessHangStats(@NonNull Long instanceId) {
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    return webView.getRenderProcessHangMonitor().getStats();
+  }
+
+  @Override
+  public void setNavigationTimingEventsEnabled(@NonNull Long instanceId, @NonNull Boolean enabled) {
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    webView.getNavigationTimingRecorder().setNavigationTimingEventsEnabled(enabled);
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Object> getNavigationTimingStats(@NonNull Long instanceId) {
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    return webView.getNavigationTimingRecorder().getStats();
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Object> getGlobalNavigationTimingStats() {
+    return globalNavigationTimingRecorder.getStats();
+  }
+
+  @Override
+  public void setDiscardHiddenWebViews(@NonNull Boolean discard) {
+    memoryPressureCoordinator.setDiscardHiddenWebViews(discard);
+  }
+
+  @Override
+  public void setNetworkRequestLogCapacity(@NonNull Long instanceId, @NonNull Long capacity) {
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    webView.getNetworkRequestLog().setCapacity(capacity.intValue());
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Object> exportNetworkRequestLog(@NonNull Long instanceId) {
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    return webView.getNetworkRequestLog().toHar();
+  }
+
+  @NonNull
+  @Override
+  public Long beginStreamingLoad(
+      @NonNull Long instanceId,
+      @NonNull String url,
+      @NonNull String mimeType,
+      @Nullable String encoding) {
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+      throw new UnsupportedOperationException(
+          "Streaming a document requires Android Lollipop or higher.");
+    }
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    final StreamingContentLoader loader = getStreamingContentLoader();
+    webView.getRequestInterceptorChain().addInterceptor(loader);
+    webView.setStreamingContentLoader(loader);
+    final long loadId;
+    try {
+      loadId = loader.beginLoad(webView, url, mimeType, encoding);
+    } catch (IOException ex) {
+      throw new RuntimeException(ex.getMessage());
+    }
+    webView.loadUrl(url);
+    return loadId;
+  }
+
+  @NonNull
+  @Override
+  public Long beginFileLoad(
+      @NonNull Long instanceId,
+      @NonNull String url,
+      @NonNull String filePath,
+      @NonNull String mimeType,
+      @Nullable String encoding) {
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+      throw new UnsupportedOperationException(
+          "Loading a document from a file requires Android Lollipop or higher.");
+    }
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    final StreamingContentLoader loader = getStreamingContentLoader();
+    webView.getRequestInterceptorChain().addInterceptor(loader);
+    webView.setStreamingContentLoader(loader);
+    final long loadId = loader.beginFileLoad(webView, url, new File(filePath), mimeType, encoding);
+    webView.loadUrl(url);
+    return loadId;
+  }
+
+  @Override
+  public void writeStreamingLoadChunk(
+      @NonNull Long loadId,
+      @NonNull byte[] chunk,
+      @NonNull GeneratedAndroidWebView.Result<Void> result) {
+    getStreamingContentLoader().write(loadId, chunk, result);
+  }
+
+  @Override
+  public void finishStreamingLoad(@NonNull Long loadId) {
+    getStreamingContentLoader().finishLoad(loadId);
+  }
+
+  @Override
+  public void cancelStreamingLoad(@NonNull Long loadId) {
+    getStreamingContentLoader().cancelLoad(loadId);
+  }
+
+  @Override
+  public void postUrlFromFile(
+      @NonNull Long instanceId,
+      @NonNull String url,
+      @NonNull String source,
+      @NonNull String contentType) {
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+      throw new UnsupportedOperationException(
+          "Posting a body from a file requires Android Lollipop or higher.");
+    }
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    if (streamingPostLoader == null) {
+      streamingPostLoader = new StreamingPostLoader();
+    }
+    webView.getRequestInterceptorChain().addInterceptor(streamingPostLoader);
+    streamingPostLoader.beginPost(webView, url, source, contentType);
+    webView.loadUrl(url);
+  }
+
+  @Override
+  public void addLocalContentDirectory(
+      @NonNull Long instanceId,
+      @NonNull String origin,
+      @NonNull String pathPrefix,
+      @NonNull String directory,
+      @NonNull Long cacheMaxAgeSeconds) {
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+      throw new UnsupportedOperationException(
+          "Serving local content requires Android Lollipop or higher.");
+    }
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    webView
+        .getLocalContentServer()
+        .addDirectory(origin, pathPrefix, new File(directory), cacheMaxAgeSeconds);
+  }
+
+  @Override
+  public void clearLocalContentDirectories(@NonNull Long instanceId) {
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+      webView.getLocalContentServer().clearDirectories();
+    }
+  }
+
+  @Nullable
+  @Override
+  public String getLocalContentUrl(@NonNull Long instanceId, @NonNull String filePath) {
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+      return null;
+    }
+    return webView.getLocalContentServer().getUrl(new File(filePath));
+  }
+
+  @NonNull
+  @Override
+  public Long addDocumentStartJavaScript(
+      @NonNull Long instanceId,
+      @NonNull String script,
+      @NonNull List<String> allowedOriginRules) {
+    if (!WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)) {
+      throw new UnsupportedOperationException(
+          "Document start scripts are not supported on this device.");
+    }
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    return webView
+        .getDocumentStartScripts()
+        .add(webView, script, new HashSet<>(allowedOriginRules));
+  }
+
+  @Override
+  public void removeDocumentStartJavaScript(@NonNull Long instanceId, @NonNull Long handle) {
+    final WebViewPlatformView webView =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    webView.getDocumentStartScripts().remove(handle);
+  }
+
+  // Created when first used, so its write thread is only started by apps that stream documents.
+  private StreamingContentLoader getStreamingContentLoader() {
+    if (streamingContentLoader == null) {
+      streamingContentLoader = new StreamingContentLoader();
+    }
+    return streamingContentLoader;
+  }
+
   /** Maintains instances used to communicate with the corresponding WebView Dart object. */
   @NonNull
   public InstanceManager getInstanceManager() {
     return instanceManager;
   }
+
+  @NonNull
+  @Override
+  public Boolean isMultiProfileSupported() {
+    return webViewProxy.isMultiProfileSupported();
+  }
+
+  @NonNull
+  @Override
+  public List<String> getProfileNames() {
+    if (!webViewProxy.isMultiProfileSupported()) {
+      return Collections.singletonList(Profile.DEFAULT_PROFILE_NAME);
+    }
+    return webViewProxy.getProfileNames();
+  }
+
+  @Override
+  public void deleteProfile(@NonNull String profileName) {
+    if (!webViewProxy.isMultiProfileSupported()) {
+      throw new UnsupportedOperationException("Profiles are not supported on this device.");
+    }
+    webViewProxy.deleteProfile(profileName);
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Object> getFileChooserStats() {
+    return fileChooserSessionRegistry.getStats();
+  }
+
+  @Override
+  public void enableUploadImageProcessing(
+      @NonNull Long maxWidth,
+      @NonNull Long maxHeight,
+      @NonNull String format,
+      @NonNull Long quality,
+      @NonNull Long cacheBudgetBytes) {
+    fileChooserSessionRegistry.setUploadImageProcessor(
+        new UploadImageProcessor(
+            maxWidth.intValue(),
+            maxHeight.intValue(),
+            format,
+            quality.intValue(),
+            cacheBudgetBytes));
+  }
+
+  @Override
+  public void disableUploadImageProcessing() {
+    fileChooserSessionRegistry.setUploadImageProcessor(null);
+  }
 }
@@ -0,0 +1,136 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Releases memory held by the {@link WebViewPlatformView}s in an {@link InstanceManager} when the
+ * system reports memory pressure.
+ *
+ * <p>Depending on the trim level, hidden WebViews have their in-memory caches cleared and their
+ * processing paused. The cache is shared by the WebViews of a profile, so it is cleared once per
+ * profile. When {@link #setDiscardHiddenWebViews(boolean)} is enabled, the least recently visible
+ * WebViews are also discarded at critical levels. A discarded WebView saves the state of its page
+ * and is replaced by a new WebView that restores the page the next time it becomes visible.
+ *
+ * <p>Other caches maintained by the plugin can be released by registering a {@link
+ * MemoryTrimListener}.
+ */
+public class WebViewMemoryPressureCoordinator implements ComponentCallbacks2 {
+  private final InstanceManager instanceManager;
+  private final List<MemoryTrimListener> memoryTrimListeners = new ArrayList<>();
+
+  private boolean discardHiddenWebViews = false;
+
+  /** Listener for caches that should be released when the system reports memory pressure. */
+  public interface MemoryTrimListener {
+    /**
+     * Called when the system reports memory pressure.
+     *
+     * @param level the trim level provided by {@link ComponentCallbacks2#onTrimMemory(int)}
+     */
+    void onTrimMemory(int level);
+  }
+
+  /**
+   * Creates a {@link WebViewMemoryPressureCoordinator}.
+   *
+   * @param instanceManager maintains the WebViews that are trimmed when memory is low
+   */
+  public WebViewMemoryPressureCoordinator(@NonNull InstanceManager instanceManager) {
+    this.instanceManager = instanceManager;
+  }
+
+  /**
+   * Sets whether hidden WebViews are discarded when memory is critically low.
+   *
+   * <p>This is disabled by default.
+   */
+  public void setDiscardHiddenWebViews(boolean discardHiddenWebViews) {
+    this.discardHiddenWebViews = discardHiddenWebViews;
+  }
+
+  /** Adds a listener that is notified for every trim request. */
+  public void addMemoryTrimListener(@NonNull MemoryTrimListener listener) {
+    memoryTrimListeners.add(listener);
+  }
+
+  /** Removes a listener added with {@link #addMemoryTrimListener(MemoryTrimListener)}. */
+  public void removeMemoryTrimListener(@NonNull MemoryTrimListener listener) {
+    memoryTrimListeners.remove(listener);
+  }
+
+  @Override
+  public void onTrimMemory(int level) {
+    final List<WebViewPlatformView> hiddenWebViews = getHiddenWebViewsByLastVisibleTime();
+
+    // The default profile doesn't have a name, so it is added as null.
+    final Set<String> clearedProfileNames = new HashSet<>();
+    for (WebViewPlatformView webView : hiddenWebViews) {
+      if (clearedProfileNames.add(webView.getProfileName())) {
+        webView.clearCache(false);
+      }
+      if (level >= TRIM_MEMORY_UI_HIDDEN || level == TRIM_MEMORY_RUNNING_CRITICAL) {
+        webView.pauseForMemoryPressure();
+      }
+    }
+
+    if (discardHiddenWebViews) {
+      final int discardCount = getDiscardCount(level, hiddenWebViews.size());
+      for (int i = 0; i < discardCount; i++) {
+        hiddenWebViews.get(i).discard();
+      }
+    }
+
+    for (MemoryTrimListener listener : new ArrayList<>(memoryTrimListeners)) {
+      listener.onTrimMemory(level);
+    }
+  }
+
+  @Override
+  public void onLowMemory() {
+    onTrimMemory(TRIM_MEMORY_COMPLETE);
+  }
+
+  @Override
+  public void onConfigurationChanged(@NonNull Configuration newConfig) {}
+
+  // Returns how many of the least recently visible hidden WebViews should be discarded.
+  @VisibleForTesting
+  static int getDiscardCount(int level, int hiddenWebViewCount) {
+    if (level >= TRIM_MEMORY_COMPLETE) {
+      return hiddenWebViewCount;
+    } else if (level >= TRIM_MEMORY_MODERATE || level == TRIM_MEMORY_RUNNING_CRITICAL) {
+      return (hiddenWebViewCount + 1) / 2;
+    }
+    return 0;
+  }
+
+  private List<WebViewPlatformView> getHiddenWebViewsByLastVisibleTime() {
+    final List<WebViewPlatformView> hiddenWebViews = new ArrayList<>();
+    final List<WebViewPlatformView> webViews =
+        instanceManager.getInstancesOfType(WebViewPlatformView.class);
+    for (WebViewPlatformView webView : webViews) {
+      if (!webView.isVisibleToUser()) {
+        hiddenWebViews.add(webView);
+      }
+    }
+    Collections.sort(
+        hiddenWebViews,
+        (first, second) ->
+            Long.compare(first.getLastVisibleTimeMillis(), second.getLastVisibleTimeMillis()));
+    return hiddenWebViews;
+  }
+}
@@ -0,0 +1,104 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CaptureStoreTest {
+  private static final long NOW_MILLIS = 100000;
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File directory;
+  private CaptureStore store;
+
+  @Before
+  public void setUp() {
+    directory = new File(temporaryFolder.getRoot(), "captures");
+    store = new CaptureStore(directory, 10, 1000, 200);
+  }
+
+  @Test
+  public void releaseDeletesCaptureThatWasNotChosen() throws IOException {
+    final File chosen = store.create("image-", ".jpg");
+    final File notChosen = store.create("image-", ".jpg");
+
+    store.release(chosen, true);
+    store.release(notChosen, false);
+
+    assertTrue(chosen.exists());
+    assertFalse(notChosen.exists());
+  }
+
+  @Test
+  public void trimDeletesExpiredCaptures() throws IOException {
+    final File expired = createCapture(1, NOW_MILLIS - 2000);
+    final File recent = createCapture(1, NOW_MILLIS - 500);
+
+    store.trim(NOW_MILLIS);
+
+    assertFalse(expired.exists());
+    assertTrue(recent.exists());
+  }
+
+  @Test
+  public void trimDeletesOldestCapturesOverBudget() throws IOException {
+    final File oldest = createCapture(6, NOW_MILLIS - 300);
+    final File newest = createCapture(6, NOW_MILLIS - 100);
+
+    store.trim(NOW_MILLIS);
+
+    assertFalse(oldest.exists());
+    assertTrue(newest.exists());
+  }
+
+  @Test
+  public void trimKeepsRecentCapturesOverBudget() throws IOException {
+    final File older = createCapture(6, NOW_MILLIS - 150);
+    final File newer = createCapture(6, NOW_MILLIS - 100);
+
+    store.trim(NOW_MILLIS);
+
+    assertTrue(older.exists());
+    assertTrue(newer.exists());
+  }
+
+  @Test
+  public void trimKeepsNewestCaptureLargerThanBudget() throws IOException {
+    final File capture = createCapture(20, NOW_MILLIS - 500);
+
+    store.trim(NOW_MILLIS);
+
+    assertTrue(capture.exists());
+  }
+
+  @Test
+  public void trimKeepsPendingCaptures() throws IOException {
+    final File pending = store.create("image-", ".jpg");
+    Files.write(pending.toPath(), new byte[20]);
+    assertTrue(pending.setLastModified(NOW_MILLIS - 2000));
+
+    store.trim(NOW_MILLIS);
+
+    assertTrue(pending.exists());
+  }
+
+  private File createCapture(int length, long lastModified) throws IOException {
+    final File file = store.create("image-", ".jpg");
+    store.release(file, true);
+    Files.write(file.toPath(), new byte[length]);
+    assertTrue(file.setLastModified(lastModified));
+    return file;
+  }
+}
@@ -0,0 +1,132 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.webkit.CookieManager;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CookieJarSnapshotTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void writeAndRead() throws IOException {
+    final Map<String, List<Object>> cookies = new LinkedHashMap<>();
+    cookies.put(
+        "https://flutter.dev",
+        Arrays.asList(
+            Arrays.asList("session", "abc", "", "/account", true, true, 1445412480000L, "Lax"),
+            Arrays.asList("theme", "dark", "flutter.dev", "/", false, false, 0L, "")));
+    cookies.put("https://dart.dev", Collections.emptyList());
+    final File file = new File(temporaryFolder.getRoot(), "cookies.bin");
+
+    final long byteCount = CookieJarSnapshot.write(file, cookies);
+
+    assertEquals(file.length(), byteCount);
+    assertFalse(new File(file.getPath() + ".tmp").exists());
+    assertEquals(cookies, CookieJarSnapshot.read(file));
+    assertEquals(2L, CookieJarSnapshot.countCookies(cookies));
+  }
+
+  @Test
+  public void captureInfersDomainPathAndSecure() {
+    final CookieManager mockCookieManager = mock(CookieManager.class);
+    when(mockCookieManager.getCookie("https://flutter.dev/account/settings"))
+        .thenReturn("session=abc; theme=dark; anonymous");
+    when(mockCookieManager.getCookie("https://flutter.dev/")).thenReturn("theme=dark");
+    when(mockCookieManager.getCookie("https://flutter.dev/account"))
+        .thenReturn("theme=dark; session=abc; anonymous");
+    when(mockCookieManager.getCookie(
+            "https://webview-flutter-cookie-probe.flutter.dev/account/settings"))
+        .thenReturn("theme=dark");
+    when(mockCookieManager.getCookie("http://flutter.dev/account/settings"))
+        .thenReturn("theme=dark; anonymous");
+
+    final CookieJarSnapshot.SetCookieAttributes knownAttributes =
+        new CookieJarSnapshot.SetCookieAttributes();
+    knownAttributes.record("theme=dark; Path=/; Max-Age=60; SameSite=Lax", 1000L);
+
+    assertEquals(
+        Arrays.asList(
+            Arrays.asList("session", "abc", "", "/account", true, true, 0L, ""),
+            Arrays.asList("theme", "dark", "flutter.dev", "/", false, false, 61000L, "Lax"),
+            Arrays.asList("", "anonymous", "", "/account", false, true, 0L, "")),
+        CookieJarSnapshot.capture(
+            mockCookieManager, "https://flutter.dev/account/settings", knownAttributes));
+  }
+
+  @Test
+  public void setCookieAttributesRecordsHttpOnlyAndExpires() {
+    final CookieJarSnapshot.SetCookieAttributes attributes =
+        new CookieJarSnapshot.SetCookieAttributes();
+    attributes.record("session = abc; HttpOnly; Expires=Wed, 21 Oct 2015 07:28:00 GMT", 0L);
+    attributes.record("old=1; Expires=Wed, 21 Oct 2015 07:28:00 GMT", 1445412480000L);
+
+    assertEquals(Arrays.asList(true, 1445412480000L, ""), attributes.get("session", "abc"));
+    assertNull(attributes.get("old", "1"));
+  }
+
+  @Test
+  public void toSetCookieValue() {
+    assertEquals(
+        "session=abc; Path=/account; Secure; HttpOnly",
+        CookieJarSnapshot.toSetCookieValue(
+            Arrays.asList("session", "abc", "", "/account", true, true, 0L, "")));
+    assertEquals(
+        "theme=dark; Domain=flutter.dev; Path=/; Expires=Wed, 21 Oct 2015 07:28:00 GMT;"
+            + " SameSite=Lax",
+        CookieJarSnapshot.toSetCookieValue(
+            Arrays.asList(
+                "theme", "dark", "flutter.dev", "/", false, false, 1445412480000L, "Lax")));
+    assertEquals(
+        "anonymous",
+        CookieJarSnapshot.toSetCookieValue(
+            Arrays.asList("", "anonymous", "", "", false, false, 0L, "")));
+  }
+
+  @Test
+  public void getPathPrefixes() {
+    assertEquals(Collections.singletonList("/"), CookieJarSnapshot.getPathPrefixes("/"));
+    assertEquals(Arrays.asList("/", "/a", "/a/b"), CookieJarSnapshot.getPathPrefixes("/a/b"));
+    assertEquals(Arrays.asList("/", "/a", "/a/"), CookieJarSnapshot.getPathPrefixes("/a/"));
+  }
+
+  @Test
+  public void getDomainSuffixes() {
+    assertEquals(
+        Arrays.asList("flutter.dev", "docs.flutter.dev"),
+        CookieJarSnapshot.getDomainSuffixes("docs.flutter.dev"));
+    assertEquals(
+        Collections.singletonList("localhost"), CookieJarSnapshot.getDomainSuffixes("localhost"));
+    assertEquals(Collections.emptyList(), CookieJarSnapshot.getDomainSuffixes("10.0.2.2"));
+  }
+
+  @Test
+  public void readRejectsOtherFiles() throws IOException {
+    final File file = temporaryFolder.newFile("cookies.bin");
+    try (FileOutputStream output = new FileOutputStream(file)) {
+      output.write("session=abc".getBytes(StandardCharsets.UTF_8));
+    }
+
+    assertThrows(IOException.class, () -> CookieJarSnapshot.read(file));
+  }
+}
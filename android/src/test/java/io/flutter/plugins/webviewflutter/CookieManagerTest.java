@@ -5,7 +5,12 @@
 package io.flutter.plugins.webviewflutter;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -15,11 +20,20 @@ import android.webkit.ValueCallback;
 import android.webkit.WebView;
 import androidx.annotation.NonNull;
 import io.flutter.plugin.common.BinaryMessenger;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -29,6 +43,7 @@ public class CookieManagerTest {
   @Mock public CookieManager mockCookieManager;
   @Mock public BinaryMessenger mockBinaryMessenger;
   @Mock public CookieManagerHostApiImpl.CookieManagerProxy mockProxy;
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
   InstanceManager instanceManager;
 
   @Before
@@ -129,4 +144,144 @@ public class CookieManagerTest {
 
     verify(mockCookieManager).setAcceptThirdPartyCookies(mockWebView, accept);
   }
+
+  @Test
+  public void setCookiesFlushesOnce() {
+    final long instanceIdentifier = 0;
+    instanceManager.addDartCreatedInstance(mockCookieManager, instanceIdentifier);
+
+    final CookieManagerHostApiImpl hostApi =
+        new CookieManagerHostApiImpl(
+            mockBinaryMessenger,
+            instanceManager,
+            new CookieManagerHostApiImpl.CookieManagerProxy(),
+            (int version) -> version <= Build.VERSION_CODES.LOLLIPOP,
+            Runnable::run,
+            Runnable::run);
+
+    final boolean[] isComplete = new boolean[1];
+    hostApi.setCookies(
+        instanceIdentifier,
+        Arrays.asList("https://a.dev", "https://b.dev"),
+        Arrays.asList("a=1", "b=2"),
+        new GeneratedAndroidWebView.Result<Void>() {
+          @Override
+          public void success(Void result) {
+            isComplete[0] = true;
+          }
+
+          @Override
+          public void error(@NonNull Throwable error) {}
+        });
+
+    final InOrder inOrder = inOrder(mockCookieManager);
+    inOrder.verify(mockCookieManager).setCookie("https://a.dev", "a=1");
+    inOrder.verify(mockCookieManager).setCookie("https://b.dev", "b=2");
+    inOrder.verify(mockCookieManager, times(1)).flush();
+    assertTrue(isComplete[0]);
+  }
+
+  @Test
+  public void getCookies() {
+    final long instanceIdentifier = 0;
+    instanceManager.addDartCreatedInstance(mockCookieManager, instanceIdentifier);
+    when(mockCookieManager.getCookie("https://a.dev")).thenReturn("a=1; b=x=y");
+
+    final CookieManagerHostApiImpl hostApi =
+        new CookieManagerHostApiImpl(
+            mockBinaryMessenger,
+            instanceManager,
+            new CookieManagerHostApiImpl.CookieManagerProxy(),
+            (int version) -> version <= Build.VERSION_CODES.LOLLIPOP,
+            Runnable::run,
+            Runnable::run);
+
+    final List<Map<String, Object>> successResult = new ArrayList<>();
+    hostApi.getCookies(
+        instanceIdentifier,
+        Arrays.asList("https://a.dev", "https://b.dev"),
+        new GeneratedAndroidWebView.Result<Map<String, Object>>() {
+          @Override
+          public void success(Map<String, Object> result) {
+            successResult.add(result);
+          }
+
+          @Override
+          public void error(@NonNull Throwable error) {}
+        });
+
+    assertEquals(
+        Arrays.asList(Arrays.asList("a", "1"), Arrays.asList("b", "x=y")),
+        successResult.get(0).get("https://a.dev"));
+    assertEquals(Collections.emptyList(), successResult.get(0).get("https://b.dev"));
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  @Test
+  public void saveAndRestoreCookieSnapshot() throws IOException {
+    final long instanceIdentifier = 0;
+    instanceManager.addDartCreatedInstance(mockCookieManager, instanceIdentifier);
+    when(mockCookieManager.getCookie("https://a.dev")).thenReturn("a=1; b=2");
+    when(mockCookieManager.getCookie("http://a.dev/")).thenReturn("b=2");
+    doAnswer(
+            invocation -> {
+              ((ValueCallback<Boolean>) invocation.getArgument(0)).onReceiveValue(true);
+              return null;
+            })
+        .when(mockCookieManager)
+        .removeAllCookies(any());
+
+    final CookieManagerHostApiImpl hostApi =
+        new CookieManagerHostApiImpl(
+            mockBinaryMessenger,
+            instanceManager,
+            new CookieManagerHostApiImpl.CookieManagerProxy(),
+            (int version) -> version <= Build.VERSION_CODES.LOLLIPOP,
+            Runnable::run,
+            Runnable::run);
+    final String path = temporaryFolder.newFile().getPath();
+
+    final List<Map<String, Object>> stats = new ArrayList<>();
+    final GeneratedAndroidWebView.Result<Map<String, Object>> statsResult =
+        new GeneratedAndroidWebView.Result<Map<String, Object>>() {
+          @Override
+          public void success(Map<String, Object> result) {
+            stats.add(result);
+          }
+
+          @Override
+          public void error(@NonNull Throwable error) {}
+        };
+    hostApi.setCookie(instanceIdentifier, "https://a.dev", "b=2; SameSite=Strict");
+    hostApi.saveCookieSnapshot(
+        instanceIdentifier, Collections.singletonList("https://a.dev"), path, statsResult);
+    hostApi.restoreCookieSnapshot(instanceIdentifier, path, true, statsResult);
+
+    final InOrder inOrder = inOrder(mockCookieManager);
+    inOrder.verify(mockCookieManager).removeAllCookies(any());
+    // Cookies without recorded attributes are restored as HttpOnly.
+    inOrder.verify(mockCookieManager).setCookie("https://a.dev", "a=1; Path=/; Secure; HttpOnly");
+    inOrder.verify(mockCookieManager).setCookie("https://a.dev", "b=2; Path=/; SameSite=Strict");
+    inOrder.verify(mockCookieManager).flush();
+    assertEquals(2L, stats.get(0).get("cookieCount"));
+    assertEquals(2L, stats.get(1).get("cookieCount"));
+    assertEquals(stats.get(0).get("byteCount"), stats.get(1).get("byteCount"));
+  }
+
+  @Test
+  public void closeShutsDownBackgroundExecutor() {
+    final ExecutorService mockExecutor = mock(ExecutorService.class);
+    final CookieManagerHostApiImpl hostApi =
+        new CookieManagerHostApiImpl(
+            mockBinaryMessenger,
+            instanceManager,
+            new CookieManagerHostApiImpl.CookieManagerProxy(),
+            (int version) -> version <= Build.VERSION_CODES.LOLLIPOP,
+            mockExecutor,
+            Runnable::run);
+
+    hostApi.close();
+
+    verify(mockExecutor).shutdown();
+  }
 }
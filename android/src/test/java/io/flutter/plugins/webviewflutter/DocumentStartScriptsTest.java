@@ -0,0 +1,134 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.webkit.WebView;
+import androidx.webkit.ScriptHandler;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class DocumentStartScriptsTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public WebView mockWebView;
+
+  @Mock public ScriptHandler mockScriptHandler;
+
+  @Mock public DocumentStartScripts.ScriptInjector mockInjector;
+
+  final Set<String> allOrigins = Collections.singleton("*");
+
+  DocumentStartScriptRegistry registry;
+
+  DocumentStartScripts scripts;
+
+  @Before
+  public void setUp() {
+    when(mockInjector.addDocumentStartJavaScript(any(), anyString(), any()))
+        .thenReturn(mockScriptHandler);
+    registry = new DocumentStartScriptRegistry();
+    scripts = new DocumentStartScripts(mockInjector);
+    scripts.setRegistry(registry);
+  }
+
+  @Test
+  public void addInjectsScriptOnce() {
+    final long handle = scripts.add(mockWebView, "bootstrap()", allOrigins);
+
+    assertEquals(handle, scripts.add(mockWebView, "bootstrap()", allOrigins));
+    verify(mockInjector, times(1))
+        .addDocumentStartJavaScript(mockWebView, "bootstrap()", allOrigins);
+    assertEquals(1, scripts.getScriptCount());
+  }
+
+  @Test
+  public void addInjectsScriptForEachSetOfOriginRules() {
+    final long handle = scripts.add(mockWebView, "bootstrap()", allOrigins);
+    final long otherHandle =
+        scripts.add(mockWebView, "bootstrap()", Collections.singleton("https://flutter.dev"));
+
+    assertNotEquals(handle, otherHandle);
+    assertEquals(2, scripts.getScriptCount());
+    assertEquals(1, registry.getScriptCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void addRequiresOriginRules() {
+    scripts.add(mockWebView, "bootstrap()", new HashSet<>());
+  }
+
+  @Test
+  public void viewsShareScriptsWithSameContent() {
+    final DocumentStartScripts otherScripts = new DocumentStartScripts(mockInjector);
+    otherScripts.setRegistry(registry);
+
+    scripts.add(mockWebView, "bootstrap()", allOrigins);
+    otherScripts.add(mock(WebView.class), "bootstrap()", allOrigins);
+
+    assertEquals(1, registry.getScriptCount());
+    assertSame(registry.acquire("bootstrap()"), registry.acquire("bootstrap()"));
+  }
+
+  @Test
+  public void removeReleasesScriptWhenNoLongerUsed() {
+    final long handle = scripts.add(mockWebView, "bootstrap()", allOrigins);
+
+    assertTrue(scripts.remove(handle));
+
+    verify(mockScriptHandler).remove();
+    assertEquals(0, registry.getScriptCount());
+    assertFalse(scripts.remove(handle));
+  }
+
+  @Test
+  public void transferToAddsScriptsToReplacement() {
+    final long handle = scripts.add(mockWebView, "bootstrap()", allOrigins);
+    final WebView replacement = mock(WebView.class);
+
+    scripts.transferTo(replacement);
+    scripts.remove(handle);
+
+    verify(mockInjector).addDocumentStartJavaScript(replacement, "bootstrap()", allOrigins);
+    verify(mockScriptHandler).remove();
+  }
+
+  @Test
+  public void removeAllRemovesEveryScript() {
+    scripts.add(mockWebView, "a()", allOrigins);
+    scripts.add(mockWebView, "b()", allOrigins);
+
+    scripts.removeAll();
+
+    verify(mockScriptHandler, times(2)).remove();
+    assertEquals(0, scripts.getScriptCount());
+    assertEquals(0, registry.getScriptCount());
+  }
+
+  @Test
+  public void hashIsSha256OfContent() {
+    assertEquals(
+        "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855",
+        DocumentStartScriptRegistry.hash(""));
+  }
+}
@@ -4,22 +4,36 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import android.webkit.CookieManager;
+import android.webkit.URLUtil;
 import io.flutter.plugins.webviewflutter.DownloadListenerHostApiImpl.DownloadListenerCreator;
 import io.flutter.plugins.webviewflutter.DownloadListenerHostApiImpl.DownloadListenerImpl;
+import java.io.File;
+import java.io.IOException;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
 public class DownloadListenerTest {
   @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
   @Mock public DownloadListenerFlutterApiImpl mockFlutterApi;
 
@@ -42,7 +56,11 @@ public class DownloadListenerTest {
         };
 
     hostApiImpl =
-        new DownloadListenerHostApiImpl(instanceManager, downloadListenerCreator, mockFlutterApi);
+        new DownloadListenerHostApiImpl(
+            instanceManager,
+            downloadListenerCreator,
+            mockFlutterApi,
+            new File(temporaryFolder.getRoot(), "cache"));
     hostApiImpl.create(0L);
   }
 
@@ -65,4 +83,89 @@ public class DownloadListenerTest {
             eq(54L),
             any());
   }
+
+  @Test
+  public void nativeDownloadsAreEnqueued() throws IOException {
+    final NativeDownloadEngine mockEngine = mock(NativeDownloadEngine.class);
+    final File directory = temporaryFolder.getRoot();
+    final File file = new File(directory, "file.pdf");
+    when(mockEngine.enqueue(
+            eq("https://www.google.com/file.pdf"),
+            eq("userAgent"),
+            any(),
+            eq(directory),
+            eq("file.pdf"),
+            any()))
+        .thenReturn(new NativeDownloadEngine.Handle(7L, file));
+
+    hostApiImpl =
+        new DownloadListenerHostApiImpl(
+            instanceManager,
+            new DownloadListenerCreator(),
+            mockFlutterApi,
+            new File(temporaryFolder.getRoot(), "cache"),
+            mockEngine);
+    hostApiImpl.enableNativeDownloads(0L, directory.getPath());
+
+    try (MockedStatic<URLUtil> mockedURLUtil = mockStatic(URLUtil.class)) {
+      mockedURLUtil
+          .when(() -> URLUtil.guessFileName(any(), any(), any()))
+          .thenReturn("file.pdf");
+      downloadListener.onDownloadStart(
+          "https://www.google.com/file.pdf",
+          "userAgent",
+          "contentDisposition",
+          "application/pdf",
+          54);
+    }
+
+    verify(mockFlutterApi)
+        .onNativeDownloadStart(
+            eq(downloadListener),
+            eq(7L),
+            eq("https://www.google.com/file.pdf"),
+            eq(file.getPath()),
+            eq("application/pdf"),
+            any());
+    verify(mockFlutterApi, never())
+        .onDownloadStart(
+            any(DownloadListenerImpl.class), any(), any(), any(), any(), anyLong(), any());
+  }
+
+  @Test
+  public void nativeDownloadsSendCookiesOfProfile() throws IOException {
+    final CookieManagerHostApiImpl.CookieManagerProxy mockProxy =
+        mock(CookieManagerHostApiImpl.CookieManagerProxy.class);
+    final CookieManager mockProfileCookieManager = mock(CookieManager.class);
+    when(mockProxy.getInstance("work")).thenReturn(mockProfileCookieManager);
+    when(mockProfileCookieManager.getCookie("https://www.google.com/file.pdf"))
+        .thenReturn("session=work");
+    final NativeDownloadEngine mockEngine = mock(NativeDownloadEngine.class);
+    final File directory = temporaryFolder.getRoot();
+    when(mockEngine.enqueue(any(), any(), any(), any(), any(), any()))
+        .thenReturn(new NativeDownloadEngine.Handle(7L, new File(directory, "file.pdf")));
+
+    final DownloadListenerImpl listener = new DownloadListenerImpl(mockFlutterApi, mockProxy);
+    listener.enableNativeDownloads(mockEngine, directory);
+    try (MockedStatic<URLUtil> mockedURLUtil = mockStatic(URLUtil.class)) {
+      mockedURLUtil
+          .when(() -> URLUtil.guessFileName(any(), any(), any()))
+          .thenReturn("file.pdf");
+      listener
+          .forProfile("work")
+          .onDownloadStart(
+              "https://www.google.com/file.pdf",
+              "userAgent",
+              "contentDisposition",
+              "application/pdf",
+              54);
+    }
+
+    final ArgumentCaptor<NativeDownloadEngine.CookieSource> cookieSourceCaptor =
+        ArgumentCaptor.forClass(NativeDownloadEngine.CookieSource.class);
+    verify(mockEngine).enqueue(any(), any(), cookieSourceCaptor.capture(), any(), any(), any());
+    assertEquals(
+        "session=work", cookieSourceCaptor.getValue().getCookie("https://www.google.com/file.pdf"));
+    verify(mockProxy, never()).getInstance();
+  }
 }
@@ -0,0 +1,152 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.content.ComponentCallbacks2;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DownloadStoreTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void keyOf() {
+    final String date = "Wed, 21 Oct 2015 07:28:00 GMT";
+    assertEquals(
+        DownloadStore.keyOf("https://flutter.dev/a", "\"tag\"", null, 5),
+        DownloadStore.keyOf("https://flutter.dev/a", "\"tag\"", date, 6));
+    assertNotEquals(
+        DownloadStore.keyOf("https://flutter.dev/a", null, date, 5),
+        DownloadStore.keyOf("https://flutter.dev/a", null, date, 6));
+    assertNotEquals(
+        DownloadStore.keyOf("https://flutter.dev/a", null, date, 5),
+        DownloadStore.keyOf("https://flutter.dev/a", null, "Thu, 22 Oct 2015 07:28:00 GMT", 5));
+    assertNotEquals(
+        DownloadStore.keyOf("https://flutter.dev/a", "\"tag\"", null, 5),
+        DownloadStore.keyOf("https://flutter.dev/b", "\"tag\"", null, 5));
+    assertNull(DownloadStore.keyOf("https://flutter.dev/a", null, null, 5));
+  }
+
+  @Test
+  public void putStoresCopy() throws IOException {
+    final DownloadStore store = createStore();
+    final File file = createFile("a.txt", 5);
+    store.put("https://flutter.dev/a", "\"tag\"", null, 5, file);
+
+    final DownloadStore.Entry entry = store.findLatest("https://flutter.dev/a");
+    assertNotEquals(file, entry.file);
+    assertEquals(new File(temporaryFolder.getRoot(), "cache"), entry.file.getParentFile());
+    assertEquals(5, entry.file.length());
+  }
+
+  @Test
+  public void putWithoutValidatorsStoresNothing() throws IOException {
+    final DownloadStore store = createStore();
+
+    assertFalse(store.put("https://flutter.dev/a", null, null, 5, createFile("a.txt", 5)));
+
+    assertNull(store.findLatest("https://flutter.dev/a"));
+    assertEquals(0, store.getStoredBytes());
+  }
+
+  @Test
+  public void putOfSameContentKeepsEarlierDownload() throws IOException {
+    final DownloadStore store = createStore();
+    final File first = createFile("a.txt", 5);
+    final File second = createFile("a (1).txt", 5);
+    store.put("https://flutter.dev/a", "\"tag\"", null, 5, first);
+    final File firstCopy = store.findLatest("https://flutter.dev/a").file;
+
+    store.put("https://flutter.dev/a", "\"tag\"", null, 5, second);
+
+    assertTrue(first.exists());
+    assertTrue(second.exists());
+    assertFalse(firstCopy.exists());
+    assertEquals(5, store.getStoredBytes());
+  }
+
+  @Test
+  public void findLatestForgetsDeletedCopies() throws IOException {
+    final DownloadStore store = createStore();
+    store.put("https://flutter.dev/a", "\"tag\"", null, 5, createFile("a.txt", 5));
+
+    assertTrue(store.findLatest("https://flutter.dev/a").file.delete());
+
+    assertNull(store.findLatest("https://flutter.dev/a"));
+    assertEquals(0, store.getStoredBytes());
+  }
+
+  @Test
+  public void budgetEvictsLeastRecentlyUsedCopies() throws IOException {
+    final DownloadStore store = createStore();
+    final File first = createFile("a.txt", 5);
+    final File second = createFile("b.txt", 5);
+    final File third = createFile("c.txt", 5);
+    store.put("https://flutter.dev/a", "\"a\"", null, 5, first);
+    store.put("https://flutter.dev/b", "\"b\"", null, 5, second);
+    final File secondCopy = store.findLatest("https://flutter.dev/b").file;
+    store.reuse(store.findLatest("https://flutter.dev/a"));
+
+    store.setBudgetBytes(10);
+    store.put("https://flutter.dev/c", "\"c\"", null, 5, third);
+
+    assertNotNull(store.findLatest("https://flutter.dev/a"));
+    assertNull(store.findLatest("https://flutter.dev/b"));
+    assertFalse(secondCopy.exists());
+    assertNotNull(store.findLatest("https://flutter.dev/c"));
+    assertEquals(10, store.getStoredBytes());
+    // The downloads themselves belong to the user.
+    assertTrue(first.exists());
+    assertTrue(second.exists());
+    assertTrue(third.exists());
+  }
+
+  @Test
+  public void budgetKeepsMostRecentlyUsed() throws IOException {
+    final DownloadStore store = createStore();
+    store.put("https://flutter.dev/a", "\"a\"", null, 5, createFile("a.txt", 5));
+
+    store.setBudgetBytes(0);
+
+    assertNotNull(store.findLatest("https://flutter.dev/a"));
+    assertEquals(5, store.getStoredBytes());
+  }
+
+  @Test
+  public void onTrimMemoryKeepsMostRecentlyUsedCopy() throws IOException {
+    final DownloadStore store = createStore();
+    store.put("https://flutter.dev/a", "\"a\"", null, 5, createFile("a.txt", 5));
+    store.put("https://flutter.dev/b", "\"b\"", null, 5, createFile("b.txt", 5));
+
+    store.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+    assertEquals(10, store.getStoredBytes());
+
+    store.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+    assertNull(store.findLatest("https://flutter.dev/a"));
+    assertNotNull(store.findLatest("https://flutter.dev/b"));
+    assertEquals(5, store.getStoredBytes());
+  }
+
+  private DownloadStore createStore() {
+    return new DownloadStore(new File(temporaryFolder.getRoot(), "cache"));
+  }
+
+  private File createFile(String name, int length) throws IOException {
+    final File file = temporaryFolder.newFile(name);
+    Files.write(file.toPath(), new byte[length]);
+    return file;
+  }
+}
@@ -0,0 +1,363 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.app.Activity;
+import android.content.ClipData;
+import android.content.ContentResolver;
+import android.content.Context;
+import android.content.Intent;
+import android.database.Cursor;
+import android.net.Uri;
+import android.webkit.ValueCallback;
+import android.webkit.WebChromeClient;
+import android.webkit.WebView;
+import androidx.core.content.FileProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class FileChooserSessionRegistryTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Mock public Activity mockActivity;
+
+  @Mock public Context mockContext;
+
+  @Mock public ContentResolver mockContentResolver;
+
+  @Mock public WebChromeClient.FileChooserParams mockParams;
+
+  final Queue<Runnable> backgroundTasks = new ArrayDeque<>();
+  final Queue<Runnable> resultTasks = new ArrayDeque<>();
+  final Queue<Runnable> idleTasks = new ArrayDeque<>();
+  FileChooserSessionRegistry registry;
+
+  @Before
+  public void setUp() {
+    when(mockActivity.getApplicationContext()).thenReturn(mockContext);
+    when(mockContext.getContentResolver()).thenReturn(mockContentResolver);
+    // Documents don't need capture files, which would require a FileProvider.
+    when(mockParams.getAcceptTypes()).thenReturn(new String[] {"application/pdf"});
+    when(mockParams.createIntent()).thenReturn(mock(Intent.class));
+
+    registry =
+        new FileChooserSessionRegistry(backgroundTasks::add, resultTasks::add, idleTasks::add);
+    registry.setActivity(mockActivity);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void sessionsOfWebViewsAreIndependent() {
+    final ValueCallback<Uri[]> firstCallback = mock(ValueCallback.class);
+    final ValueCallback<Uri[]> secondCallback = mock(ValueCallback.class);
+
+    assertTrue(registry.open(mock(WebView.class), firstCallback, mockParams));
+    assertTrue(registry.open(mock(WebView.class), secondCallback, mockParams));
+    final List<Integer> requestCodes = captureRequestCodes(2);
+    assertNotEquals(requestCodes.get(0), requestCodes.get(1));
+    assertEquals(2, registry.getSessionCount());
+
+    assertTrue(registry.handleResult(requestCodes.get(1), Activity.RESULT_CANCELED, null));
+
+    verify(secondCallback).onReceiveValue(isNull());
+    verify(firstCallback, never()).onReceiveValue(any());
+    assertEquals(1, registry.getSessionCount());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void openCancelsPreviousSessionOfWebView() {
+    final WebView webView = mock(WebView.class);
+    final ValueCallback<Uri[]> firstCallback = mock(ValueCallback.class);
+    final ValueCallback<Uri[]> secondCallback = mock(ValueCallback.class);
+
+    registry.open(webView, firstCallback, mockParams);
+    registry.open(webView, secondCallback, mockParams);
+
+    verify(firstCallback).onReceiveValue(isNull());
+    verify(secondCallback, never()).onReceiveValue(any());
+    assertEquals(1, registry.getSessionCount());
+    assertFalse(registry.handleResult(captureRequestCodes(2).get(0), Activity.RESULT_OK, null));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void cancelEndsSessionOfWebView() {
+    final WebView webView = mock(WebView.class);
+    final ValueCallback<Uri[]> callback = mock(ValueCallback.class);
+    final ValueCallback<Uri[]> otherCallback = mock(ValueCallback.class);
+    registry.open(webView, callback, mockParams);
+    registry.open(mock(WebView.class), otherCallback, mockParams);
+
+    registry.cancel(webView);
+
+    verify(callback).onReceiveValue(isNull());
+    verify(otherCallback, never()).onReceiveValue(any());
+    assertEquals(1, registry.getSessionCount());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void cancelAllEndsEverySession() {
+    final ValueCallback<Uri[]> callback = mock(ValueCallback.class);
+    final ValueCallback<Uri[]> otherCallback = mock(ValueCallback.class);
+    registry.open(mock(WebView.class), callback, mockParams);
+    registry.open(mock(WebView.class), otherCallback, mockParams);
+
+    registry.cancelAll();
+
+    verify(callback).onReceiveValue(isNull());
+    verify(otherCallback).onReceiveValue(isNull());
+    assertEquals(0, registry.getSessionCount());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void registriesOfEnginesUseDifferentRequestCodes() {
+    final FileChooserSessionRegistry otherRegistry =
+        new FileChooserSessionRegistry(backgroundTasks::add, resultTasks::add, idleTasks::add);
+    otherRegistry.setActivity(mockActivity);
+    final ValueCallback<Uri[]> callback = mock(ValueCallback.class);
+    final ValueCallback<Uri[]> otherCallback = mock(ValueCallback.class);
+
+    registry.open(mock(WebView.class), callback, mockParams);
+    otherRegistry.open(mock(WebView.class), otherCallback, mockParams);
+    final List<Integer> requestCodes = captureRequestCodes(2);
+    assertNotEquals(requestCodes.get(0), requestCodes.get(1));
+
+    assertFalse(registry.handleResult(requestCodes.get(1), Activity.RESULT_CANCELED, null));
+    assertTrue(otherRegistry.handleResult(requestCodes.get(1), Activity.RESULT_CANCELED, null));
+    verify(otherCallback).onReceiveValue(isNull());
+    verify(callback, never()).onReceiveValue(any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void closeEndsSessionsAndShutsDownExecutor() {
+    final ExecutorService mockExecutor = mock(ExecutorService.class);
+    registry = new FileChooserSessionRegistry(mockExecutor, resultTasks::add, idleTasks::add);
+    registry.setActivity(mockActivity);
+    final ValueCallback<Uri[]> callback = mock(ValueCallback.class);
+    registry.open(mock(WebView.class), callback, mockParams);
+
+    registry.close();
+
+    verify(callback).onReceiveValue(isNull());
+    verify(mockExecutor).shutdown();
+    assertEquals(0, registry.getSessionCount());
+    assertFalse(registry.open(mock(WebView.class), mock(ValueCallback.class), mockParams));
+  }
+
+  @Test
+  public void handleResultIgnoresUnknownRequestCode() {
+    assertFalse(
+        registry.handleResult(
+            FileChooserSessionRegistry.FIRST_REQUEST_CODE, Activity.RESULT_OK, null));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void openWithoutActivityFails() {
+    final ValueCallback<Uri[]> callback = mock(ValueCallback.class);
+    registry.setActivity(null);
+
+    assertFalse(registry.open(mock(WebView.class), callback, mockParams));
+
+    verify(callback, never()).onReceiveValue(any());
+    assertEquals(0, registry.getSessionCount());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void resultIsResolvedInBackground() {
+    final ValueCallback<Uri[]> callback = mock(ValueCallback.class);
+    registry.open(mock(WebView.class), callback, mockParams);
+    final Uri uri = mock(Uri.class);
+    final Intent data = mock(Intent.class);
+    when(data.getData()).thenReturn(uri);
+    when(mockContentResolver.getType(uri)).thenReturn("application/pdf");
+
+    assertTrue(registry.handleResult(captureRequestCodes(1).get(0), Activity.RESULT_OK, data));
+    verify(mockContentResolver, never()).getType(any());
+
+    runTasks(backgroundTasks);
+    verify(mockContentResolver).getType(uri);
+    verify(callback, never()).onReceiveValue(any());
+
+    runTasks(resultTasks);
+    verify(callback).onReceiveValue(new Uri[] {uri});
+    assertEquals(0, registry.getSessionCount());
+
+    final Map<String, Object> stats = registry.getStats();
+    assertEquals(1L, stats.get("resolvedFileCount"));
+    assertEquals(1L, ((Map<?, ?>) stats.get("resolution")).get("count"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void resultExpandsClipData() {
+    final ValueCallback<Uri[]> callback = mock(ValueCallback.class);
+    registry.open(mock(WebView.class), callback, mockParams);
+    final Uri firstUri = mock(Uri.class);
+    final Uri secondUri = mock(Uri.class);
+    final ClipData clipData = mock(ClipData.class);
+    when(clipData.getItemCount()).thenReturn(2);
+    when(clipData.getItemAt(0)).thenReturn(mockClipDataItem(firstUri));
+    when(clipData.getItemAt(1)).thenReturn(mockClipDataItem(secondUri));
+    final Intent data = mock(Intent.class);
+    when(data.getClipData()).thenReturn(clipData);
+
+    registry.handleResult(captureRequestCodes(1).get(0), Activity.RESULT_OK, data);
+    runTasks(backgroundTasks);
+    runTasks(resultTasks);
+
+    final ArgumentCaptor<Uri[]> resultCaptor = ArgumentCaptor.forClass(Uri[].class);
+    verify(callback).onReceiveValue(resultCaptor.capture());
+    assertArrayEquals(new Uri[] {firstUri, secondUri}, resultCaptor.getValue());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void cancelWhileResolvingDeliversNull() {
+    final WebView webView = mock(WebView.class);
+    final ValueCallback<Uri[]> callback = mock(ValueCallback.class);
+    registry.open(webView, callback, mockParams);
+    final Intent data = mock(Intent.class);
+    when(data.getData()).thenReturn(mock(Uri.class));
+    registry.handleResult(captureRequestCodes(1).get(0), Activity.RESULT_OK, data);
+
+    registry.cancel(webView);
+    runTasks(backgroundTasks);
+    runTasks(resultTasks);
+
+    verify(callback).onReceiveValue(isNull());
+    assertEquals(1L, registry.getStats().get("cancelledCount"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void nonEmptyCaptureIsChosenAndCursorIsClosed() throws IOException {
+    final Uri captureUri = mock(Uri.class);
+    final Cursor cursor = mock(Cursor.class);
+    when(cursor.moveToFirst()).thenReturn(true);
+    when(cursor.getColumnIndex(any())).thenReturn(0);
+    when(cursor.getLong(0)).thenReturn(1024L);
+    when(mockContentResolver.query(eq(captureUri), any(), isNull(), isNull(), isNull()))
+        .thenReturn(cursor);
+
+    final ValueCallback<Uri[]> callback = mock(ValueCallback.class);
+    final File capture = openWithCapture(callback, captureUri);
+    Files.write(capture.toPath(), new byte[1024]);
+    registry.handleResult(captureRequestCodes(1).get(0), Activity.RESULT_OK, null);
+    runTasks(backgroundTasks);
+    runTasks(resultTasks);
+    runTasks(backgroundTasks);
+
+    verify(callback).onReceiveValue(new Uri[] {captureUri});
+    verify(cursor).close();
+    assertTrue(capture.exists());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void captureThatWasNotChosenIsDeleted() {
+    final ValueCallback<Uri[]> callback = mock(ValueCallback.class);
+    final File capture = openWithCapture(callback, mock(Uri.class));
+    assertTrue(capture.exists());
+
+    registry.handleResult(captureRequestCodes(1).get(0), Activity.RESULT_CANCELED, null);
+    runTasks(backgroundTasks);
+
+    assertFalse(capture.exists());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void capturesAreTrimmedWhenIdle() throws IOException {
+    final File captureDirectory = new File(temporaryFolder.getRoot(), "webview_flutter_captures");
+    final ValueCallback<Uri[]> callback = mock(ValueCallback.class);
+    openWithCapture(callback, mock(Uri.class));
+    final File expired = new File(captureDirectory, "image-_expired.jpg");
+    Files.write(expired.toPath(), new byte[1]);
+    assertTrue(expired.setLastModified(0));
+
+    registry.cancelAll();
+    runTasks(backgroundTasks);
+    assertTrue(expired.exists());
+
+    assertEquals(1, idleTasks.size());
+    runTasks(idleTasks);
+    runTasks(backgroundTasks);
+    assertFalse(expired.exists());
+  }
+
+  // Opens a chooser that accepts images and returns the file of its photo capture.
+  private File openWithCapture(ValueCallback<Uri[]> callback, Uri captureUri) {
+    when(mockParams.getAcceptTypes()).thenReturn(new String[] {"image/*"});
+    when(mockContext.getExternalFilesDir(null)).thenReturn(temporaryFolder.getRoot());
+    when(mockContext.getPackageName()).thenReturn("io.flutter.test");
+    final ArgumentCaptor<File> fileCaptor = ArgumentCaptor.forClass(File.class);
+    try (MockedStatic<FileProvider> mockedFileProvider = mockStatic(FileProvider.class)) {
+      mockedFileProvider
+          .when(() -> FileProvider.getUriForFile(any(), any(), any(File.class)))
+          .thenReturn(captureUri);
+      assertTrue(registry.open(mock(WebView.class), callback, mockParams));
+      mockedFileProvider.verify(
+          () -> FileProvider.getUriForFile(any(), any(), fileCaptor.capture()));
+    }
+    return fileCaptor.getValue();
+  }
+
+  private static ClipData.Item mockClipDataItem(Uri uri) {
+    final ClipData.Item item = mock(ClipData.Item.class);
+    when(item.getUri()).thenReturn(uri);
+    return item;
+  }
+
+  private static void runTasks(Queue<Runnable> tasks) {
+    while (!tasks.isEmpty()) {
+      tasks.remove().run();
+    }
+  }
+
+  private List<Integer> captureRequestCodes(int count) {
+    final ArgumentCaptor<Integer> requestCodeCaptor = ArgumentCaptor.forClass(Integer.class);
+    verify(mockActivity, times(count))
+        .startActivityForResult(any(Intent.class), requestCodeCaptor.capture());
+    return requestCodeCaptor.getAllValues();
+  }
+}
@@ -10,6 +10,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.List;
 import org.junit.Test;
 
 public class InstanceManagerTest {
@@ -137,4 +138,44 @@ public class InstanceManagerTest {
     assertEquals(instanceManager.getIdentifierForStrongReference(instance), (Long) identifier);
     assertTrue(instanceManager.containsInstance(instance));
   }
+
+  @Test
+  public void getInstancesOfType() {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+
+    final String stringInstance = "instance";
+    instanceManager.addDartCreatedInstance(stringInstance, 0);
+    instanceManager.addDartCreatedInstance(new Object(), 1);
+
+    final List<String> instances = instanceManager.getInstancesOfType(String.class);
+    assertEquals(1, instances.size());
+    assertEquals(stringInstance, instances.get(0));
+
+    instanceManager.stopFinalizationListener();
+  }
+
+  @Test
+  public void replaceInstance() {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+
+    final Object oldInstance = new Object();
+    final Object newInstance = new Object();
+    instanceManager.addDartCreatedInstance(oldInstance, 0);
+
+    assertEquals((Long) 0L, instanceManager.replaceInstance(oldInstance, newInstance));
+    assertEquals(newInstance, instanceManager.getInstance(0));
+    assertFalse(instanceManager.containsInstance(oldInstance));
+    assertEquals((Long) 0L, instanceManager.getIdentifierForStrongReference(newInstance));
+
+    instanceManager.stopFinalizationListener();
+  }
+
+  @Test
+  public void replaceInstanceReturnsNullForMissingInstance() {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+
+    assertNull(instanceManager.replaceInstance(new Object(), new Object()));
+
+    instanceManager.stopFinalizationListener();
+  }
 }
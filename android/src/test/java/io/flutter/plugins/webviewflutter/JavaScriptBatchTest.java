@@ -0,0 +1,49 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import org.junit.Test;
+
+public class JavaScriptBatchTest {
+  @Test
+  public void buildScriptPassesEachScriptAsStringLiteral() {
+    final String script = JavaScriptBatch.buildScript(Arrays.asList("1 + 1", "document.title"));
+
+    assertTrue(script.startsWith("(function(){try{(0,eval)('0');}catch(e){return false;}"));
+    assertTrue(script.contains("var s=[\"1 + 1\",\"document.title\"],r=[];"));
+    assertTrue(script.endsWith("return r;})()"));
+  }
+
+  @Test
+  public void buildSequentialResultWrapsEachResult() {
+    final String result =
+        JavaScriptBatch.buildSequentialResult(Arrays.asList("2", "\"title\"", null));
+
+    assertEquals(
+        "[{\"result\":\"2\"},{\"result\":\"\\\"title\\\"\"},{\"result\":\"null\"}]", result);
+  }
+
+  @Test
+  public void appendQuotedEscapesCharactersThatEndStringLiterals() {
+    final StringBuilder builder = new StringBuilder();
+
+    JavaScriptBatch.appendQuoted(builder, "a\"b\\c\nd\u2028e\u0001");
+
+    assertEquals("\"a\\\"b\\\\c\\nd\\u2028e\\u0001\"", builder.toString());
+  }
+
+  @Test
+  public void appendQuotedWritesNullAsEmptyString() {
+    final StringBuilder builder = new StringBuilder();
+
+    JavaScriptBatch.appendQuoted(builder, null);
+
+    assertEquals("''", builder.toString());
+  }
+}
@@ -6,15 +6,23 @@ package io.flutter.plugins.webviewflutter;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import android.net.Uri;
 import android.os.Handler;
 import android.os.Looper;
+import android.webkit.WebView;
+import androidx.webkit.JavaScriptReplyProxy;
+import androidx.webkit.WebMessageCompat;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelFlutterApi;
 import io.flutter.plugins.webviewflutter.JavaScriptChannelHostApiImpl.JavaScriptChannelCreator;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -65,4 +73,28 @@ public class JavaScriptChannelTest {
     javaScriptChannel.postMessage("A message post.");
     verify(mockFlutterApi).postMessage(eq(javaScriptChannel), eq("A message post."), any());
   }
+
+  @Test
+  public void onPostMessageSendsReplyToFrame() {
+    final WebMessageCompat message = mock(WebMessageCompat.class);
+    when(message.getData()).thenReturn("ping");
+    final Uri sourceOrigin = mock(Uri.class);
+    when(sourceOrigin.toString()).thenReturn("https://flutter.dev");
+    final JavaScriptReplyProxy replyProxy = mock(JavaScriptReplyProxy.class);
+
+    javaScriptChannel.onPostMessage(mock(WebView.class), message, sourceOrigin, true, replyProxy);
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<JavaScriptChannelFlutterApi.Reply<String>> replyCaptor =
+        ArgumentCaptor.forClass(JavaScriptChannelFlutterApi.Reply.class);
+    verify(mockFlutterApi)
+        .postWebMessage(
+            eq(javaScriptChannel),
+            eq("ping"),
+            eq("https://flutter.dev"),
+            eq(true),
+            replyCaptor.capture());
+    replyCaptor.getValue().reply("pong");
+    verify(replyProxy).postMessage("pong");
+  }
 }
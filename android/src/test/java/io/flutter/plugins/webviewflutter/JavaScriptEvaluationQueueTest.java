@@ -0,0 +1,190 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import android.os.Handler;
+import android.webkit.ValueCallback;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class JavaScriptEvaluationQueueTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public WebView mockWebView;
+
+  @Mock public Handler mockHandler;
+
+  JavaScriptEvaluationQueue queue;
+
+  static class TestResult implements GeneratedAndroidWebView.Result<String> {
+    String value;
+    Throwable error;
+    boolean isComplete = false;
+
+    @Override
+    public void success(String result) {
+      value = result;
+      isComplete = true;
+    }
+
+    @Override
+    public void error(@NonNull Throwable error) {
+      this.error = error;
+      isComplete = true;
+    }
+  }
+
+  @Before
+  public void setUp() {
+    queue = new JavaScriptEvaluationQueue(mockHandler);
+  }
+
+  @Test
+  public void evaluatesAtMostMaxInFlightScripts() {
+    queue.setLimits(1L, null, null);
+    final TestResult first = new TestResult();
+    final TestResult second = new TestResult();
+
+    queue.evaluate(mockWebView, "1", first);
+    queue.evaluate(mockWebView, "2", second);
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(eq("1"), callbackCaptor.capture());
+    verify(mockWebView, never()).evaluateJavascript(eq("2"), any());
+    assertEquals(1L, queue.getStats().get("queueDepth"));
+
+    callbackCaptor.getValue().onReceiveValue("1");
+
+    assertEquals("1", first.value);
+    verify(mockWebView).evaluateJavascript(eq("2"), any());
+    assertEquals(0L, queue.getStats().get("queueDepth"));
+    assertEquals(1L, queue.getStats().get("maxQueueDepth"));
+  }
+
+  @Test
+  public void rejectsScriptsWhenQueueIsFull() {
+    queue.setLimits(1L, 0L, null);
+    final TestResult first = new TestResult();
+    final TestResult second = new TestResult();
+
+    queue.evaluate(mockWebView, "1", first);
+    queue.evaluate(mockWebView, "2", second);
+
+    assertTrue(second.error instanceof IllegalStateException);
+    assertEquals(1L, queue.getStats().get("rejectedCount"));
+  }
+
+  @Test
+  public void failsScriptsThatTimeOut() {
+    queue.setLimits(null, null, 100L);
+    final TestResult result = new TestResult();
+
+    queue.evaluate(mockWebView, "1", result);
+
+    final ArgumentCaptor<Runnable> timeoutCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler).postDelayed(timeoutCaptor.capture(), eq(100L));
+    timeoutCaptor.getValue().run();
+
+    assertTrue(result.error instanceof TimeoutException);
+    assertEquals(1L, queue.getStats().get("timedOutCount"));
+    assertEquals(0L, queue.getStats().get("inFlightCount"));
+  }
+
+  @Test
+  public void ignoresResultsAfterTimeout() {
+    queue.setLimits(null, null, 100L);
+    final TestResult result = new TestResult();
+    queue.evaluate(mockWebView, "1", result);
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(eq("1"), callbackCaptor.capture());
+    final ArgumentCaptor<Runnable> timeoutCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler).postDelayed(timeoutCaptor.capture(), anyLong());
+    timeoutCaptor.getValue().run();
+    callbackCaptor.getValue().onReceiveValue("1");
+
+    assertNull(result.value);
+    assertEquals(0L, queue.getStats().get("completedCount"));
+  }
+
+  @Test
+  public void onPageStartedCancelsOnlyQueuedScripts() {
+    queue.setLimits(1L, null, null);
+    final TestResult first = new TestResult();
+    final TestResult second = new TestResult();
+    queue.evaluate(mockWebView, "1", first);
+    queue.evaluate(mockWebView, "2", second);
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(eq("1"), callbackCaptor.capture());
+
+    queue.onPageStarted();
+    callbackCaptor.getValue().onReceiveValue("1");
+
+    assertEquals("1", first.value);
+    assertTrue(second.error instanceof CancellationException);
+    assertEquals(1L, queue.getStats().get("cancelledCount"));
+    verify(mockWebView, never()).evaluateJavascript(eq("2"), any());
+  }
+
+  @Test
+  public void onPageStartedFreesSlotsOfEvaluatingScripts() {
+    queue.setLimits(1L, null, null);
+    queue.evaluate(mockWebView, "1", new TestResult());
+
+    queue.onPageStarted();
+    queue.evaluate(mockWebView, "2", new TestResult());
+
+    verify(mockWebView).evaluateJavascript(eq("2"), any());
+    assertEquals(1L, queue.getStats().get("inFlightCount"));
+  }
+
+  @Test
+  public void cancelAllFailsScriptsOfReplacedPages() {
+    queue.setLimits(1L, null, null);
+    final TestResult result = new TestResult();
+    queue.evaluate(mockWebView, "1", result);
+
+    queue.onPageStarted();
+    queue.cancelAll("Disposed.");
+
+    assertTrue(result.error instanceof CancellationException);
+    assertEquals(1L, queue.getStats().get("cancelledCount"));
+  }
+
+  @Test
+  public void onPageStartedWithoutLimitsCancelsNothing() {
+    final TestResult result = new TestResult();
+    queue.evaluate(mockWebView, "1", result);
+
+    queue.onPageStarted();
+
+    assertNull(result.error);
+    assertEquals(0L, queue.getStats().get("cancelledCount"));
+  }
+}
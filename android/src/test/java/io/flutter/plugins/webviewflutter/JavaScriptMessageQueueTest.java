@@ -0,0 +1,129 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.os.Handler;
+import android.os.Looper;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class JavaScriptMessageQueueTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public Handler mockHandler;
+
+  final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+  JavaScriptMessageQueue queue;
+
+  @Before
+  public void setUp() {
+    // Messages are posted from a thread other than the one of the handler.
+    when(mockHandler.getLooper()).thenReturn(mock(Looper.class));
+    queue = new JavaScriptMessageQueue(mockHandler, messages::add);
+  }
+
+  void postAll(String... messages) {
+    for (String message : messages) {
+      queue.post(message);
+    }
+  }
+
+  Runnable captureDrain(int postCount) {
+    final ArgumentCaptor<Runnable> drainCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler, times(postCount)).post(drainCaptor.capture());
+    return drainCaptor.getValue();
+  }
+
+  @Test
+  public void postDrainsMessagesWithOneRunnable() {
+    postAll("a", "b", "c");
+    captureDrain(1).run();
+
+    assertEquals(Arrays.asList("a", "b", "c"), messages);
+    assertEquals(3L, queue.getStats().get("deliveredCount"));
+    assertEquals(0L, queue.getStats().get("queueDepth"));
+  }
+
+  @Test
+  public void postOnMainThreadDeliversImmediately() {
+    when(mockHandler.getLooper()).thenReturn(Looper.myLooper());
+
+    queue.post("a");
+
+    assertEquals(Collections.singletonList("a"), messages);
+    verify(mockHandler, times(0)).post(any());
+  }
+
+  @Test
+  public void dropOldest() {
+    queue.setLimits(2L, JavaScriptMessageQueue.Policy.DROP_OLDEST, null);
+    postAll("a", "b", "c", "d");
+    captureDrain(1).run();
+
+    assertEquals(Arrays.asList("c", "d"), messages);
+    assertEquals(2L, queue.getStats().get("droppedCount"));
+  }
+
+  @Test
+  public void dropNewest() {
+    queue.setLimits(2L, JavaScriptMessageQueue.Policy.DROP_NEWEST, null);
+    postAll("a", "b", "c", "d");
+    captureDrain(1).run();
+
+    assertEquals(Arrays.asList("a", "b"), messages);
+    assertEquals(2L, queue.getStats().get("droppedCount"));
+  }
+
+  @Test
+  public void coalesceByKey() {
+    queue.setLimits(2L, JavaScriptMessageQueue.Policy.COALESCE_BY_KEY, ":");
+    postAll("scroll:1", "size:1", "scroll:2", "scroll:3", "click");
+    captureDrain(1).run();
+
+    assertEquals(Arrays.asList("size:1", "click"), messages);
+    assertEquals(2L, queue.getStats().get("coalescedCount"));
+    assertEquals(1L, queue.getStats().get("droppedCount"));
+  }
+
+  @Test
+  public void blockWaitsForRoom() throws InterruptedException {
+    queue.setLimits(1L, JavaScriptMessageQueue.Policy.BLOCK, null);
+    queue.post("a");
+
+    final Thread javaScriptThread = new Thread(() -> queue.post("b"));
+    javaScriptThread.start();
+    while (javaScriptThread.getState() != Thread.State.TIMED_WAITING) {
+      Thread.sleep(1);
+    }
+    captureDrain(1).run();
+    javaScriptThread.join();
+    captureDrain(2).run();
+
+    assertEquals(Arrays.asList("a", "b"), messages);
+    assertEquals(1L, queue.getStats().get("blockedCount"));
+    assertEquals(0L, queue.getStats().get("droppedCount"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void unknownPolicyThrows() {
+    JavaScriptMessageQueue.Policy.fromName("dropAll");
+  }
+}
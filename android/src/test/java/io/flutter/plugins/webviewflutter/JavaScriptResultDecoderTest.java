@@ -0,0 +1,42 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import org.junit.Test;
+
+public class JavaScriptResultDecoderTest {
+  @Test
+  @SuppressWarnings("unchecked")
+  public void smallResultsAreDecodedAfterClose() {
+    final JavaScriptResultDecoder decoder = new JavaScriptResultDecoder();
+    final GeneratedAndroidWebView.Result<Object> mockResult =
+        mock(GeneratedAndroidWebView.Result.class);
+
+    decoder.close();
+    decoder.decode("[1,2]", mockResult);
+
+    verify(mockResult).success(Arrays.asList(1L, 2L));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void largeResultsFailAfterClose() {
+    final JavaScriptResultDecoder decoder = new JavaScriptResultDecoder();
+    final GeneratedAndroidWebView.Result<Object> mockResult =
+        mock(GeneratedAndroidWebView.Result.class);
+    final char[] padding = new char[32 * 1024];
+    Arrays.fill(padding, 'a');
+
+    decoder.close();
+    decoder.decode("\"" + new String(padding) + "\"", mockResult);
+
+    verify(mockResult).error(any(IllegalStateException.class));
+  }
+}
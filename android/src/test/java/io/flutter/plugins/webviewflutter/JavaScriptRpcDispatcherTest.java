@@ -0,0 +1,134 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import android.os.Handler;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelFlutterApi;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class JavaScriptRpcDispatcherTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public Handler mockHandler;
+
+  final List<String> methods = new ArrayList<>();
+  final List<Object> params = new ArrayList<>();
+  final List<JavaScriptChannelFlutterApi.Reply<String>> replies = new ArrayList<>();
+  final List<String> responses = new ArrayList<>();
+
+  static String call(String arguments) {
+    return "[\"" + JavaScriptRpcDispatcher.MESSAGE_MARKER + "\"," + arguments + "]";
+  }
+
+  static String response(String body) {
+    return "{\"rpc\":\"" + JavaScriptRpcDispatcher.MESSAGE_MARKER + "\"," + body + "}";
+  }
+
+  boolean dispatch(JavaScriptRpcDispatcher dispatcher, String message) {
+    return dispatcher.dispatch(
+        message,
+        (method, callParams, reply) -> {
+          methods.add(method);
+          params.add(callParams);
+          replies.add(reply);
+        },
+        responses::add);
+  }
+
+  @Test
+  public void dispatchPassesCallsToDart() {
+    final JavaScriptRpcDispatcher dispatcher = new JavaScriptRpcDispatcher(mockHandler, null);
+
+    assertTrue(dispatch(dispatcher, call("7,\"getUser\",{\"id\":[1,2]}")));
+    replies.get(0).reply("{\"result\":\"Dash\"}");
+
+    assertEquals(Collections.singletonList("getUser"), methods);
+    assertEquals(Collections.singletonMap("id", Arrays.asList(1L, 2L)), params.get(0));
+    assertEquals(
+        Collections.singletonList(response("\"id\":7,\"response\":{\"result\":\"Dash\"}")),
+        responses);
+    assertEquals(1L, dispatcher.getStats().get("completedCount"));
+    assertEquals(0L, dispatcher.getStats().get("inFlightCount"));
+  }
+
+  @Test
+  public void dispatchIgnoresMessagesThatAreNotCalls() {
+    final JavaScriptRpcDispatcher dispatcher = new JavaScriptRpcDispatcher(mockHandler, null);
+
+    assertFalse(dispatch(dispatcher, "hello"));
+    assertFalse(dispatch(dispatcher, "[1, 2"));
+    assertFalse(dispatch(dispatcher, "[\"a\",\"b\",null]"));
+    // Regular messages with the shape of an unmarked call.
+    assertFalse(dispatch(dispatcher, "[1,\"a\",null]"));
+    assertTrue(methods.isEmpty());
+  }
+
+  @Test
+  public void dispatchDropsInvalidCalls() {
+    final JavaScriptRpcDispatcher dispatcher = new JavaScriptRpcDispatcher(mockHandler, null);
+    final StringBuilder nested = new StringBuilder();
+    for (int i = 0; i < JsonValueParser.MAX_DEPTH + 1; i++) {
+      nested.append('[');
+    }
+
+    assertTrue(dispatch(dispatcher, call("1,\"a\"," + nested)));
+    assertTrue(dispatch(dispatcher, call("\"a\",\"b\",null")));
+
+    assertTrue(methods.isEmpty());
+    assertTrue(responses.isEmpty());
+    assertEquals(2L, dispatcher.getStats().get("invalidCount"));
+  }
+
+  @Test
+  public void dispatchCountsErrorResponsesAsFailed() {
+    final JavaScriptRpcDispatcher dispatcher = new JavaScriptRpcDispatcher(mockHandler, null);
+
+    dispatch(dispatcher, call("1,\"a\",null"));
+    replies.get(0).reply("{\"error\":\"Bad state\"}");
+
+    assertEquals(1L, dispatcher.getStats().get("failedCount"));
+    assertEquals(0L, dispatcher.getStats().get("completedCount"));
+  }
+
+  @Test
+  public void callsTimeOut() {
+    final JavaScriptRpcDispatcher dispatcher = new JavaScriptRpcDispatcher(mockHandler, 50L);
+    dispatch(dispatcher, call("1,\"slow\",null"));
+    assertEquals(1L, dispatcher.getStats().get("inFlightCount"));
+
+    final ArgumentCaptor<Runnable> timeoutCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler).postDelayed(timeoutCaptor.capture(), eq(50L));
+    timeoutCaptor.getValue().run();
+    replies.get(0).reply("{\"result\":1}");
+
+    assertEquals(1, responses.size());
+    assertTrue(responses.get(0).startsWith(response("\"id\":1,\"response\":{\"error\":")));
+    assertEquals(1L, dispatcher.getStats().get("timedOutCount"));
+    assertEquals(0L, dispatcher.getStats().get("completedCount"));
+    assertEquals(0L, dispatcher.getStats().get("inFlightCount"));
+  }
+
+  @Test
+  public void buildScriptQuotesChannelName() {
+    assertTrue(
+        JavaScriptRpcDispatcher.buildScript("my\"Channel")
+            .startsWith("(function(){var c=window[\"my\\\"Channel\"];"));
+  }
+}
@@ -0,0 +1,118 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class JsonValueParserTest {
+  @Test
+  public void parsesPrimitives() {
+    assertNull(JsonValueParser.parse("null"));
+    assertEquals(true, JsonValueParser.parse("true"));
+    assertEquals(false, JsonValueParser.parse(" false "));
+    assertEquals(42L, JsonValueParser.parse("42"));
+    assertEquals(-7L, JsonValueParser.parse("-7"));
+    assertEquals(2.5, JsonValueParser.parse("2.5"));
+    assertEquals(1e21, JsonValueParser.parse("1e21"));
+    assertEquals(1e19, JsonValueParser.parse("10000000000000000000"));
+    assertEquals("hello", JsonValueParser.parse("\"hello\""));
+  }
+
+  @Test
+  public void parsesEscapes() {
+    assertEquals(
+        "a\"b\\c/d\n\t\u00e9\ud83d\ude00",
+        JsonValueParser.parse("\"a\\\"b\\\\c\\/d\\n\\t\\u00e9\\ud83d\\ude00\""));
+  }
+
+  @Test
+  public void parsesNestedValues() {
+    final Map<String, Object> expected = new HashMap<>();
+    expected.put("list", Arrays.asList(1L, "two", null, Collections.emptyMap()));
+    expected.put("empty", new ArrayList<>());
+
+    assertEquals(
+        expected, JsonValueParser.parse("{\"list\": [1, \"two\", null, {}], \"empty\": []}"));
+  }
+
+  @Test
+  public void keepsOrderOfKeys() {
+    @SuppressWarnings("unchecked")
+    final Map<String, Object> map =
+        (Map<String, Object>) JsonValueParser.parse("{\"b\":1,\"a\":2}");
+
+    assertEquals(Arrays.asList("b", "a"), new ArrayList<>(map.keySet()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsTrailingCharacters() {
+    JsonValueParser.parse("[1] 2");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsUnterminatedString() {
+    JsonValueParser.parse("\"abc");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsMissingValue() {
+    JsonValueParser.parse("[1,]");
+  }
+
+  @Test
+  public void rejectsMalformedNumbers() {
+    for (String number : Arrays.asList("01", "-", "-01", "1.", ".5", "1e", "1e+", "+1", "1.2.3")) {
+      assertThrows(
+          number, IllegalArgumentException.class, () -> JsonValueParser.parse("[" + number + "]"));
+    }
+  }
+
+  @Test
+  public void parsesNestingUpToMaxDepth() {
+    final List<?> list = (List<?>) JsonValueParser.parse(nestedArrays(JsonValueParser.MAX_DEPTH));
+
+    assertEquals(1, list.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsNestingDeeperThanMaxDepth() {
+    JsonValueParser.parse(nestedArrays(100000));
+  }
+
+  @Test
+  public void parsesLargeArray() {
+    final StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < 10000; i++) {
+      json.append(i > 0 ? "," : "").append(i);
+    }
+    json.append(']');
+
+    final List<?> list = (List<?>) JsonValueParser.parse(json.toString());
+
+    assertEquals(10000, list.size());
+    assertEquals(9999L, list.get(9999));
+  }
+
+  private static String nestedArrays(int depth) {
+    final StringBuilder json = new StringBuilder();
+    for (int i = 0; i < depth; i++) {
+      json.append('[');
+    }
+    for (int i = 0; i < depth; i++) {
+      json.append(']');
+    }
+    return json.toString();
+  }
+}
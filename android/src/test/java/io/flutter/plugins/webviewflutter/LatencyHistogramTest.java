@@ -0,0 +1,65 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+  @Test
+  public void percentilesUseBucketUpperBounds() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 0; i < 90; i++) {
+      histogram.record(3);
+    }
+    for (int i = 0; i < 10; i++) {
+      histogram.record(100);
+    }
+
+    assertEquals(100, histogram.getCount());
+    assertEquals(4, histogram.getPercentileMillis(50));
+    assertEquals(4, histogram.getPercentileMillis(90));
+    assertEquals(100, histogram.getPercentileMillis(99));
+  }
+
+  @Test
+  public void toMap() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(-1);
+    histogram.record(1);
+    histogram.record(2);
+    histogram.record(Long.MAX_VALUE / 2);
+
+    final Map<String, Object> map = histogram.toMap();
+    assertEquals(4L, map.get("count"));
+    assertEquals(0L, map.get("minMillis"));
+    assertEquals(Long.MAX_VALUE / 2, map.get("maxMillis"));
+
+    final List<?> bucketCounts = (List<?>) map.get("bucketCounts");
+    assertEquals(2L, bucketCounts.get(0));
+    assertEquals(1L, bucketCounts.get(1));
+    assertEquals(1L, bucketCounts.get(bucketCounts.size() - 1));
+  }
+
+  @Test
+  public void mergeAndReset() {
+    final LatencyHistogram first = new LatencyHistogram();
+    first.record(10);
+    final LatencyHistogram second = new LatencyHistogram();
+    second.record(20);
+
+    first.merge(second);
+    assertEquals(2, first.getCount());
+    assertEquals(20, first.getMaxMillis());
+
+    first.reset();
+    assertEquals(0, first.getCount());
+    assertEquals(0, first.getPercentileMillis(50));
+    assertEquals(0L, first.toMap().get("minMillis"));
+  }
+}
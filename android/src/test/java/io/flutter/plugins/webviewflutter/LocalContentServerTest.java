@@ -0,0 +1,198 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LocalContentServerTest {
+  private static final String ORIGIN = "https://appassets.example";
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  LocalContentServer server;
+  File directory;
+
+  @Before
+  public void setUp() throws IOException {
+    server = new LocalContentServer();
+    directory = temporaryFolder.newFolder("site");
+    try (FileOutputStream output = new FileOutputStream(new File(directory, "app.js"))) {
+      output.write(new byte[1000]);
+    }
+    try (FileOutputStream output = new FileOutputStream(new File(directory, "index.html"))) {
+      output.write("<html></html>".getBytes());
+    }
+    temporaryFolder.newFile("secret.txt");
+
+    server.addDirectory(ORIGIN, "/site/", directory, 3600);
+  }
+
+  @Test
+  public void resolveServesFileWithCachingHeaders() throws IOException {
+    final LocalContentServer.Response response =
+        server.resolve("GET", ORIGIN + "/site/app.js?v=2", null);
+
+    assertNotNull(response);
+    assertEquals(200, response.statusCode);
+    assertEquals("text/javascript", response.mimeType);
+    assertEquals(new File(directory, "app.js").getCanonicalPath(), response.file.getPath());
+    assertEquals(1000, response.length);
+    assertEquals("max-age=3600", response.headers.get("Cache-Control"));
+    assertEquals("1000", response.headers.get("Content-Length"));
+    assertEquals("bytes", response.headers.get("Accept-Ranges"));
+    assertNotNull(response.headers.get("ETag"));
+    assertNotNull(response.headers.get("Last-Modified"));
+  }
+
+  @Test
+  public void resolveServesIndexOfDirectory() {
+    final LocalContentServer.Response response = server.resolve("GET", ORIGIN + "/site/", null);
+
+    assertNotNull(response);
+    assertEquals(200, response.statusCode);
+    assertEquals("text/html", response.mimeType);
+  }
+
+  @Test
+  public void resolveServesRange() {
+    final LocalContentServer.Response response =
+        server.resolve(
+            "GET", ORIGIN + "/site/app.js", Collections.singletonMap("Range", "bytes=100-199"));
+
+    assertNotNull(response);
+    assertEquals(206, response.statusCode);
+    assertEquals(100, response.start);
+    assertEquals(100, response.length);
+    assertEquals("bytes 100-199/1000", response.headers.get("Content-Range"));
+  }
+
+  @Test
+  public void resolveRejectsUnsatisfiableRange() {
+    final LocalContentServer.Response response =
+        server.resolve(
+            "GET", ORIGIN + "/site/app.js", Collections.singletonMap("range", "bytes=1000-"));
+
+    assertNotNull(response);
+    assertEquals(416, response.statusCode);
+    assertEquals("bytes */1000", response.headers.get("Content-Range"));
+  }
+
+  @Test
+  public void resolveDoesNotServeFilesOutsideOfDirectory() {
+    final LocalContentServer.Response response =
+        server.resolve("GET", ORIGIN + "/site/../secret.txt", null);
+
+    assertNotNull(response);
+    assertEquals(404, response.statusCode);
+    assertNull(response.file);
+  }
+
+  @Test
+  public void resolveOmitsBodyOfHeadRequest() {
+    final LocalContentServer.Response response =
+        server.resolve("HEAD", ORIGIN + "/site/app.js", null);
+
+    assertNotNull(response);
+    assertEquals(200, response.statusCode);
+    assertNull(response.file);
+  }
+
+  @Test
+  public void resolveIgnoresOtherUrls() {
+    assertNull(server.resolve("GET", ORIGIN + "/other/app.js", null));
+    assertNull(server.resolve("GET", "https://other.example/site/app.js", null));
+  }
+
+  @Test
+  public void getUrlOfFileInDirectory() {
+    assertEquals(ORIGIN + "/site/app.js", server.getUrl(new File(directory, "app.js")));
+    assertNull(server.getUrl(new File(temporaryFolder.getRoot(), "secret.txt")));
+  }
+
+  @Test
+  public void parseRange() {
+    assertArrayEquals(new long[] {0, 9}, LocalContentServer.parseRange("bytes=0-9", 100));
+    assertArrayEquals(new long[] {90, 99}, LocalContentServer.parseRange("bytes=90-", 100));
+    assertArrayEquals(new long[] {80, 99}, LocalContentServer.parseRange("bytes=-20", 100));
+    assertArrayEquals(new long[] {50, 99}, LocalContentServer.parseRange("bytes=50-500", 100));
+    assertNull(LocalContentServer.parseRange("bytes=0-1,5-6", 100));
+    assertNull(LocalContentServer.parseRange("bytes=100-", 100));
+    assertNull(LocalContentServer.parseRange("items=0-1", 100));
+  }
+
+  @Test
+  public void openBodyServesRangeBeyond2GiB() throws IOException {
+    final long offset = 5L << 29;
+    final File file = createSparseFile(3L << 30, offset, "hello");
+
+    final LocalContentServer.Response response =
+        server.resolve(
+            "GET",
+            ORIGIN + "/site/movie.mp4",
+            Collections.singletonMap("Range", "bytes=" + (offset - (1L << 31)) + "-"));
+    assertNotNull(response);
+    assertEquals(206, response.statusCode);
+    assertEquals((3L << 30) - (offset - (1L << 31)), response.length);
+
+    try (InputStream input = LocalContentServer.openBody(file, response.start, response.length)) {
+      assertEquals(1L << 31, input.skip(1L << 31));
+      assertEquals("hello", read(input, 5));
+    }
+    try (InputStream input = LocalContentServer.openBody(file, offset, 5)) {
+      assertEquals("hello", read(input, 5));
+      assertEquals(-1, input.read());
+    }
+  }
+
+  @Test
+  public void byteBufferInputStreamReadsRemainingBytes() throws IOException {
+    final LocalContentServer.ByteBufferInputStream input =
+        new LocalContentServer.ByteBufferInputStream(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+    final byte[] bytes = new byte[8];
+
+    assertEquals(3, input.read(bytes, 0, bytes.length));
+    assertEquals(-1, input.read());
+  }
+
+  // Creates a file of `length` bytes in the served directory that only stores `content`.
+  private File createSparseFile(long length, long offset, String content) throws IOException {
+    final File file = new File(directory, "movie.mp4");
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+      randomAccessFile.setLength(length);
+      randomAccessFile.seek(offset);
+      randomAccessFile.write(content.getBytes(StandardCharsets.UTF_8));
+    }
+    return file;
+  }
+
+  private static String read(InputStream input, int length) throws IOException {
+    final byte[] bytes = new byte[length];
+    int read = 0;
+    while (read < length) {
+      final int count = input.read(bytes, read, length - read);
+      if (count < 0) {
+        break;
+      }
+      read += count;
+    }
+    return new String(bytes, 0, read, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,507 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import androidx.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class NativeDownloadEngineTest {
+  private static final NativeDownloadEngine.CookieSource COOKIES =
+      url -> url.equals("https://flutter.dev/file.txt") ? "session=1" : null;
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final Queue<HttpURLConnection> connections = new ConcurrentLinkedQueue<>();
+  private NativeDownloadEngine engine;
+
+  @Before
+  public void setUp() {
+    engine = createEngine(url -> connections.remove());
+  }
+
+  @Test
+  public void enqueueDownloadsFile() throws Exception {
+    final HttpURLConnection connection = mockConnection(200, "hello", "5", "\"tag\"");
+    connections.add(connection);
+    final File file = new File(temporaryFolder.getRoot(), "file.txt");
+
+    final RecordingListener listener = new RecordingListener();
+    enqueue("https://flutter.dev/file.txt", "file.txt", listener);
+    listener.await();
+
+    assertEquals(file.getPath(), listener.filePath);
+    assertNull(listener.error);
+    assertEquals(5, listener.receivedBytes);
+    assertEquals(5, listener.totalBytes);
+    assertEquals("hello", read(file));
+    assertFalse(new File(file.getPath() + ".part").exists());
+    verify(connection).setRequestProperty("User-Agent", "userAgent");
+    verify(connection).setRequestProperty("Cookie", "session=1");
+  }
+
+  @Test
+  public void resumeContinuesFromPartFile() throws Exception {
+    connections.add(mockConnection(200, "hello", "11", "\"tag\""));
+    final File file = new File(temporaryFolder.getRoot(), "file.txt");
+
+    final RecordingListener listener = new RecordingListener();
+    final long downloadId = enqueue("https://flutter.dev/file.txt", "file.txt", listener).id;
+    listener.await();
+    assertNull(listener.filePath);
+    assertEquals("The connection closed before the download was complete.", listener.error);
+
+    final HttpURLConnection resumedConnection = mockConnection(206, " world", "6", null);
+    connections.add(resumedConnection);
+    listener.reset();
+    engine.resume(downloadId);
+    listener.await();
+
+    assertEquals(file.getPath(), listener.filePath);
+    assertEquals(11, listener.totalBytes);
+    assertEquals("hello world", read(file));
+    verify(resumedConnection).setRequestProperty("Range", "bytes=5-");
+    verify(resumedConnection).setRequestProperty("If-Range", "\"tag\"");
+  }
+
+  @Test
+  public void concurrentDownloadsOfUrlJoin() throws Exception {
+    final CountDownLatch opened = new CountDownLatch(1);
+    engine = createEngine(url -> awaitConnection(opened));
+    connections.add(mockConnection(200, "hello", "5", "\"tag\""));
+
+    final RecordingListener firstListener = new RecordingListener();
+    final NativeDownloadEngine.Handle first =
+        enqueue("https://flutter.dev/file.txt", "file.txt", firstListener);
+    final RecordingListener secondListener = new RecordingListener();
+    final NativeDownloadEngine.Handle second =
+        enqueue("https://flutter.dev/file.txt", "file.txt", secondListener);
+    opened.countDown();
+    firstListener.await();
+    secondListener.await();
+
+    assertEquals(first.id, second.id);
+    assertEquals(first.file, second.file);
+    assertEquals(first.file.getPath(), secondListener.filePath);
+    assertFalse(new File(temporaryFolder.getRoot(), "file (1).txt.part").exists());
+  }
+
+  @Test
+  public void downloadsWithOtherCookiesDontJoin() throws Exception {
+    final CountDownLatch opened = new CountDownLatch(1);
+    engine = createEngine(url -> awaitConnection(opened));
+    connections.add(mockConnection(200, "hello", "5", "\"tag\""));
+    connections.add(mockConnection(200, "hello", "5", "\"tag\""));
+
+    final RecordingListener firstListener = new RecordingListener();
+    final NativeDownloadEngine.Handle first =
+        enqueue("https://flutter.dev/file.txt", "file.txt", firstListener);
+    final RecordingListener secondListener = new RecordingListener();
+    final NativeDownloadEngine.Handle second =
+        engine.enqueue(
+            "https://flutter.dev/file.txt",
+            "userAgent",
+            url -> "session=2",
+            temporaryFolder.getRoot(),
+            "file.txt",
+            secondListener);
+    opened.countDown();
+    firstListener.await();
+    secondListener.await();
+
+    assertNotEquals(first.id, second.id);
+    assertEquals(new File(temporaryFolder.getRoot(), "file (1).txt"), second.file);
+  }
+
+  @Test
+  public void enqueueReservesUniqueNames() throws Exception {
+    final CountDownLatch opened = new CountDownLatch(1);
+    engine = createEngine(url -> awaitConnection(opened));
+    engine.setMaxConcurrentDownloads(1);
+    connections.add(mockConnection(200, "first", "5", null));
+    connections.add(mockConnection(200, "second", "6", null));
+    final File root = temporaryFolder.getRoot();
+    assertTrue(new File(root, "file.txt").createNewFile());
+
+    final RecordingListener firstListener = new RecordingListener();
+    final NativeDownloadEngine.Handle first =
+        enqueue("https://flutter.dev/first.txt", "file.txt", firstListener);
+    final RecordingListener secondListener = new RecordingListener();
+    final NativeDownloadEngine.Handle second =
+        enqueue("https://flutter.dev/second.txt", "file.txt", secondListener);
+
+    assertEquals(new File(root, "file (1).txt"), first.file);
+    assertEquals(new File(root, "file (2).txt"), second.file);
+    assertTrue(new File(root, "file (1).txt.part").exists());
+    assertTrue(new File(root, "file (2).txt.part").exists());
+
+    opened.countDown();
+    firstListener.await();
+    secondListener.await();
+    assertEquals("first", read(first.file));
+    assertEquals("second", read(second.file));
+  }
+
+  @Test
+  public void completeDoesNotReplaceFileCreatedAfterEnqueue() throws Exception {
+    final CountDownLatch opened = new CountDownLatch(1);
+    engine = createEngine(url -> awaitConnection(opened));
+    connections.add(mockConnection(200, "hello", "5", "\"tag\""));
+
+    final RecordingListener listener = new RecordingListener();
+    final NativeDownloadEngine.Handle download =
+        enqueue("https://flutter.dev/file.txt", "file.txt", listener);
+    Files.write(download.file.toPath(), "other".getBytes(StandardCharsets.UTF_8));
+    opened.countDown();
+    listener.await();
+
+    final File movedFile = new File(temporaryFolder.getRoot(), "file (1).txt");
+    assertEquals(movedFile.getPath(), listener.filePath);
+    assertEquals("hello", read(movedFile));
+    assertEquals("other", read(download.file));
+    assertFalse(new File(movedFile.getPath() + ".part").exists());
+  }
+
+  @Test
+  public void unchangedContentIsReused() throws Exception {
+    connections.add(mockConnection(200, "hello", "5", "\"tag\""));
+    final RecordingListener listener = new RecordingListener();
+    enqueue("https://flutter.dev/file.txt", "file.txt", listener);
+    listener.await();
+
+    final HttpURLConnection notModifiedConnection = mockConnection(304, "", null, null);
+    connections.add(notModifiedConnection);
+    final File otherFile = new File(temporaryFolder.getRoot(), "file (1).txt");
+    listener.reset();
+    enqueue("https://flutter.dev/file.txt", "file.txt", listener);
+    listener.await();
+
+    assertEquals(otherFile.getPath(), listener.filePath);
+    assertEquals("hello", read(otherFile));
+    assertFalse(new File(otherFile.getPath() + ".part").exists());
+    verify(notModifiedConnection).setRequestProperty("If-None-Match", "\"tag\"");
+    verify(notModifiedConnection, never()).getInputStream();
+  }
+
+  @Test
+  public void reusedContentDoesNotDependOnEarlierDownload() throws Exception {
+    connections.add(mockConnection(200, "hello", "5", "\"tag\""));
+    final File file = new File(temporaryFolder.getRoot(), "file.txt");
+    final RecordingListener listener = new RecordingListener();
+    enqueue("https://flutter.dev/file.txt", "file.txt", listener);
+    listener.await();
+    assertTrue(file.delete());
+
+    connections.add(mockConnection(304, "", null, null));
+    listener.reset();
+    enqueue("https://flutter.dev/file.txt", "file.txt", listener);
+    listener.await();
+
+    assertEquals(file.getPath(), listener.filePath);
+    assertEquals("hello", read(file));
+  }
+
+  @Test
+  public void storeNeverDeletesDownloadedFiles() throws Exception {
+    connections.add(mockConnection(200, "hello", "5", "\"a\""));
+    connections.add(mockConnection(200, "world", "5", "\"b\""));
+    connections.add(mockConnection(200, "hello", "5", "\"a\""));
+    final RecordingListener listener = new RecordingListener();
+    enqueue("https://flutter.dev/a.txt", "a.txt", listener);
+    listener.await();
+    listener.reset();
+    enqueue("https://flutter.dev/b.txt", "b.txt", listener);
+    listener.await();
+    // Evicts the copy of the first download, so it is downloaded again.
+    engine.getStore().setBudgetBytes(5);
+    listener.reset();
+    enqueue("https://flutter.dev/a.txt", "a.txt", listener);
+    listener.await();
+
+    assertEquals("hello", read(new File(temporaryFolder.getRoot(), "a.txt")));
+    assertEquals("world", read(new File(temporaryFolder.getRoot(), "b.txt")));
+    assertEquals("hello", read(new File(temporaryFolder.getRoot(), "a (1).txt")));
+    assertEquals(5, engine.getStore().getStoredBytes());
+  }
+
+  @Test
+  public void unmodifiedContentIsReusedWithoutEtag() throws Exception {
+    final String date = "Wed, 21 Oct 2015 07:28:00 GMT";
+    final HttpURLConnection firstConnection = mockConnection(200, "hello", "5", null);
+    when(firstConnection.getHeaderField("Last-Modified")).thenReturn(date);
+    connections.add(firstConnection);
+    final RecordingListener listener = new RecordingListener();
+    enqueue("https://flutter.dev/file.txt", "file.txt", listener);
+    listener.await();
+
+    final HttpURLConnection connection = mockConnection(304, "", null, null);
+    connections.add(connection);
+    final File otherFile = new File(temporaryFolder.getRoot(), "file (1).txt");
+    listener.reset();
+    enqueue("https://flutter.dev/file.txt", "file.txt", listener);
+    listener.await();
+
+    assertEquals(otherFile.getPath(), listener.filePath);
+    assertEquals("hello", read(otherFile));
+    verify(connection).setRequestProperty("If-Modified-Since", date);
+    verify(connection, never()).getInputStream();
+  }
+
+  @Test
+  public void contentWithSameLengthIsDownloadedAgainWithoutValidators() throws Exception {
+    connections.add(mockConnection(200, "hello", "5", null));
+    final RecordingListener listener = new RecordingListener();
+    enqueue("https://flutter.dev/file.txt", "file.txt", listener);
+    listener.await();
+
+    connections.add(mockConnection(200, "world", "5", null));
+    final File otherFile = new File(temporaryFolder.getRoot(), "file (1).txt");
+    listener.reset();
+    enqueue("https://flutter.dev/file.txt", "file.txt", listener);
+    listener.await();
+
+    assertEquals(otherFile.getPath(), listener.filePath);
+    assertEquals("world", read(otherFile));
+    assertEquals(0, engine.getStore().getStoredBytes());
+  }
+
+  @Test
+  public void changedContentIsDownloadedAgain() throws Exception {
+    connections.add(mockConnection(200, "hello", "5", "\"old\""));
+    final RecordingListener listener = new RecordingListener();
+    enqueue("https://flutter.dev/file.txt", "file.txt", listener);
+    listener.await();
+
+    connections.add(mockConnection(200, "world!", "6", "\"new\""));
+    final File otherFile = new File(temporaryFolder.getRoot(), "file (1).txt");
+    listener.reset();
+    enqueue("https://flutter.dev/file.txt", "file.txt", listener);
+    listener.await();
+
+    assertEquals(otherFile.getPath(), listener.filePath);
+    assertEquals("world!", read(otherFile));
+    assertEquals(11, engine.getStore().getStoredBytes());
+  }
+
+  @Test
+  public void failedResponseReportsError() throws Exception {
+    connections.add(mockConnection(404, "", null, null));
+
+    final RecordingListener listener = new RecordingListener();
+    enqueue("https://flutter.dev/missing.txt", "missing.txt", listener);
+    listener.await();
+
+    assertNull(listener.filePath);
+    assertEquals("The server responded with HTTP status 404.", listener.error);
+  }
+
+  @Test
+  public void unsatisfiableRangeCompletesPartFileWithLengthOfResource() throws Exception {
+    connections.add(mockConnection(200, "hello", "11", "\"tag\""));
+    final File file = new File(temporaryFolder.getRoot(), "file.txt");
+
+    final RecordingListener listener = new RecordingListener();
+    final long downloadId = enqueue("https://flutter.dev/file.txt", "file.txt", listener).id;
+    listener.await();
+
+    final HttpURLConnection unsatisfiedConnection = mockConnection(416, "", null, null);
+    when(unsatisfiedConnection.getHeaderField("Content-Range")).thenReturn("bytes */5");
+    connections.add(unsatisfiedConnection);
+    listener.reset();
+    engine.resume(downloadId);
+    listener.await();
+
+    assertEquals(file.getPath(), listener.filePath);
+    assertEquals("hello", read(file));
+  }
+
+  @Test
+  public void unsatisfiableRangeRestartsPartFileWithOtherLength() throws Exception {
+    connections.add(mockConnection(200, "hello", "11", "\"tag\""));
+    final File file = new File(temporaryFolder.getRoot(), "file.txt");
+
+    final RecordingListener listener = new RecordingListener();
+    final long downloadId = enqueue("https://flutter.dev/file.txt", "file.txt", listener).id;
+    listener.await();
+
+    final HttpURLConnection unsatisfiedConnection = mockConnection(416, "", null, null);
+    when(unsatisfiedConnection.getHeaderField("Content-Range")).thenReturn("bytes */11");
+    connections.add(unsatisfiedConnection);
+    final HttpURLConnection restartedConnection = mockConnection(200, "hello world", "11", null);
+    connections.add(restartedConnection);
+    listener.reset();
+    engine.resume(downloadId);
+    listener.await();
+
+    assertEquals(file.getPath(), listener.filePath);
+    assertEquals("hello world", read(file));
+    verify(restartedConnection, never()).setRequestProperty("Range", "bytes=5-");
+  }
+
+  @Test
+  public void parseUnsatisfiedRangeLength() {
+    assertEquals(5, NativeDownloadEngine.parseUnsatisfiedRangeLength("bytes */5"));
+    assertEquals(-1, NativeDownloadEngine.parseUnsatisfiedRangeLength("bytes */*"));
+    assertEquals(-1, NativeDownloadEngine.parseUnsatisfiedRangeLength(null));
+  }
+
+  @Test
+  public void closeDeletesPartFilesAndRejectsDownloads() throws Exception {
+    connections.add(mockConnection(200, "hello", "11", "\"tag\""));
+    final File partFile = new File(temporaryFolder.getRoot(), "file.txt.part");
+
+    final RecordingListener listener = new RecordingListener();
+    final long downloadId = enqueue("https://flutter.dev/file.txt", "file.txt", listener).id;
+    listener.await();
+    assertTrue(partFile.exists());
+
+    engine.close();
+
+    assertFalse(partFile.exists());
+    assertThrows(IllegalStateException.class, () -> engine.resume(downloadId));
+    assertThrows(
+        IOException.class,
+        () -> enqueue("https://flutter.dev/file.txt", "file.txt", new RecordingListener()));
+  }
+
+  @Test
+  public void partFilesOfEarlierProcessesAreDeleted() throws Exception {
+    final File orphanedPartFile = new File(temporaryFolder.getRoot(), "orphan.txt.part");
+    assertTrue(orphanedPartFile.createNewFile());
+    final File partFileList = new File(temporaryFolder.getRoot(), "earlier.parts");
+    Files.write(
+        partFileList.toPath(),
+        (orphanedPartFile.getPath() + "\n").getBytes(StandardCharsets.UTF_8));
+
+    final CountDownLatch opened = new CountDownLatch(1);
+    engine = createEngine(url -> awaitConnection(opened), partFileList);
+    connections.add(mockConnection(200, "hello", "5", null));
+    final RecordingListener listener = new RecordingListener();
+    enqueue("https://flutter.dev/file.txt", "file.txt", listener);
+
+    assertFalse(orphanedPartFile.exists());
+    final File partFile = new File(temporaryFolder.getRoot(), "file.txt.part");
+    assertEquals(partFile.getPath() + "\n", read(partFileList));
+
+    opened.countDown();
+    listener.await();
+    assertEquals("", read(partFileList));
+  }
+
+  @Test
+  public void resumeUnknownDownloadThrows() {
+    assertThrows(IllegalStateException.class, () -> engine.resume(42));
+  }
+
+  @Test
+  public void setMaxConcurrentDownloadsRejectsZero() {
+    assertThrows(IllegalArgumentException.class, () -> engine.setMaxConcurrentDownloads(0));
+  }
+
+  @Test
+  public void cancelUnknownDownloadDoesNothing() {
+    engine.cancel(42);
+    assertTrue(connections.isEmpty());
+  }
+
+  private NativeDownloadEngine createEngine(NativeDownloadEngine.ConnectionFactory factory) {
+    return createEngine(factory, new File(temporaryFolder.getRoot(), ".parts"));
+  }
+
+  private NativeDownloadEngine createEngine(
+      NativeDownloadEngine.ConnectionFactory factory, File partFileList) {
+    return new NativeDownloadEngine(
+        Runnable::run,
+        factory,
+        new DownloadStore(new File(temporaryFolder.getRoot(), ".cache")),
+        partFileList);
+  }
+
+  private NativeDownloadEngine.Handle enqueue(
+      String url, String fileName, NativeDownloadEngine.Listener listener) throws IOException {
+    return engine.enqueue(url, "userAgent", COOKIES, temporaryFolder.getRoot(), fileName, listener);
+  }
+
+  // Opens the next connection once `opened` is counted down, so downloads stay queued until then.
+  private HttpURLConnection awaitConnection(CountDownLatch opened) throws IOException {
+    try {
+      opened.await();
+    } catch (InterruptedException exception) {
+      throw new IOException(exception);
+    }
+    return connections.remove();
+  }
+
+  private static HttpURLConnection mockConnection(
+      int responseCode,
+      String body,
+      @Nullable String contentLength,
+      @Nullable String etag)
+      throws IOException {
+    final HttpURLConnection connection = mock(HttpURLConnection.class);
+    when(connection.getResponseCode()).thenReturn(responseCode);
+    when(connection.getHeaderField("Content-Length")).thenReturn(contentLength);
+    when(connection.getHeaderField("ETag")).thenReturn(etag);
+    when(connection.getInputStream())
+        .thenReturn(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    return connection;
+  }
+
+  private static String read(File file) throws IOException {
+    return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+  }
+
+  private static class RecordingListener implements NativeDownloadEngine.Listener {
+    private volatile CountDownLatch finished = new CountDownLatch(1);
+    volatile long receivedBytes;
+    volatile long totalBytes;
+    @Nullable volatile String filePath;
+    @Nullable volatile String error;
+
+    @Override
+    public void onProgress(long downloadId, long receivedBytes, long totalBytes) {
+      this.receivedBytes = receivedBytes;
+      this.totalBytes = totalBytes;
+    }
+
+    @Override
+    public void onFinished(long downloadId, @Nullable String filePath, @Nullable String error) {
+      this.filePath = filePath;
+      this.error = error;
+      finished.countDown();
+    }
+
+    void await() throws InterruptedException {
+      assertTrue(finished.await(5, TimeUnit.SECONDS));
+    }
+
+    void reset() {
+      finished = new CountDownLatch(1);
+    }
+  }
+}
@@ -0,0 +1,109 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import android.webkit.WebView;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class NavigationTimingRecorderTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public WebViewFlutterApiImpl mockFlutterApi;
+
+  @Mock public WebView mockWebView;
+
+  NavigationTimingRecorder recorder;
+
+  @Before
+  public void setUp() {
+    recorder = new NavigationTimingRecorder(mockFlutterApi);
+  }
+
+  @Test
+  public void onPageFinishedIgnoredWithoutPageStarted() {
+    assertNull(recorder.onPageFinished(mockWebView, "https://www.google.com"));
+    assertEquals(0L, recorder.getStats().get("navigationCount"));
+  }
+
+  @Test
+  public void onPageCommitVisiblePostsVisualStateCallback() {
+    recorder.onPageStarted();
+    recorder.onPageCommitVisible(mockWebView);
+
+    verify(mockWebView).postVisualStateCallback(eq(1L), any());
+  }
+
+  @Test
+  public void onPageFinishedIncludesCompletedMilestones() {
+    recorder.onPageStarted();
+    recorder.onPageCommitVisible(mockWebView);
+    recorder.onVisualStateComplete(1L);
+
+    final NavigationTimingRecorder.NavigationTiming timing =
+        recorder.onPageFinished(mockWebView, "https://www.google.com");
+
+    assertNotNull(timing);
+    assertNotNull(timing.commitVisibleMillis);
+    assertNotNull(timing.firstVisualStateMillis);
+    verify(mockFlutterApi, never()).onNavigationTiming(any(), any(), any(), any());
+  }
+
+  @Test
+  public void onVisualStateCompleteIgnoresPreviousNavigations() {
+    recorder.onPageStarted();
+    recorder.onPageCommitVisible(mockWebView);
+    recorder.onPageStarted();
+    recorder.onVisualStateComplete(1L);
+
+    final NavigationTimingRecorder.NavigationTiming timing =
+        recorder.onPageFinished(mockWebView, "https://www.google.com");
+
+    assertNotNull(timing);
+    assertNull(timing.firstVisualStateMillis);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void parentAggregatesStats() {
+    final NavigationTimingRecorder parent = new NavigationTimingRecorder();
+    recorder.setParent(parent);
+
+    recorder.onPageStarted();
+    recorder.onPageCommitVisible(mockWebView);
+    recorder.onPageFinished(mockWebView, "https://www.google.com");
+
+    final Map<String, Object> stats = parent.getStats();
+    assertEquals(1L, stats.get("navigationCount"));
+    assertEquals(1L, ((Map<String, Object>) stats.get("commitVisible")).get("count"));
+    assertEquals(1L, ((Map<String, Object>) stats.get("pageFinished")).get("count"));
+    assertEquals(0L, ((Map<String, Object>) stats.get("firstVisualState")).get("count"));
+  }
+
+  @Test
+  public void navigationTimingEventsSentWhenEnabled() {
+    recorder.setNavigationTimingEventsEnabled(true);
+
+    recorder.onPageStarted();
+    final NavigationTimingRecorder.NavigationTiming timing =
+        recorder.onPageFinished(mockWebView, "https://www.google.com");
+
+    verify(mockFlutterApi)
+        .onNavigationTiming(eq(mockWebView), eq("https://www.google.com"), eq(timing), any());
+  }
+}
@@ -0,0 +1,98 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+@SuppressWarnings("unchecked")
+public class NetworkRequestLogTest {
+  @Test
+  public void disabledByDefault() {
+    final NetworkRequestLog log = new NetworkRequestLog();
+    log.onRequestStarted("https://www.google.com", "GET", true);
+
+    assertFalse(log.isEnabled());
+    assertTrue(getEntries(log).isEmpty());
+  }
+
+  @Test
+  public void oldestRequestsAreOverwritten() {
+    final NetworkRequestLog log = new NetworkRequestLog();
+    log.setCapacity(2);
+
+    log.onRequestStarted("https://a.com", "GET", true);
+    log.onRequestStarted("https://b.com", "GET", false);
+    log.onRequestStarted("https://c.com", "POST", false);
+
+    final List<Map<String, Object>> entries = getEntries(log);
+    assertEquals(2, entries.size());
+    assertEquals("https://b.com", getRequest(entries.get(0)).get("url"));
+    assertEquals("https://c.com", getRequest(entries.get(1)).get("url"));
+    assertEquals("POST", getRequest(entries.get(1)).get("method"));
+  }
+
+  @Test
+  public void onReceivedHttpErrorCompletesLatestRequest() {
+    final NetworkRequestLog log = new NetworkRequestLog();
+    log.setCapacity(4);
+
+    log.onRequestStarted("https://a.com", "GET", false);
+    log.onRequestStarted("https://a.com", "GET", false);
+    log.onLoadResource("https://a.com");
+    log.onReceivedHttpError("https://a.com", 404, "Not Found");
+
+    final List<Map<String, Object>> entries = getEntries(log);
+    assertEquals(false, entries.get(0).get("_isComplete"));
+    assertEquals(true, entries.get(1).get("_isComplete"));
+
+    final Map<String, Object> response = (Map<String, Object>) entries.get(1).get("response");
+    assertEquals(404L, response.get("status"));
+    assertEquals("Not Found", response.get("statusText"));
+    final Map<String, Object> timings = (Map<String, Object>) entries.get(1).get("timings");
+    assertEquals(0L, timings.get("wait"));
+  }
+
+  @Test
+  public void onReceivedError() {
+    final NetworkRequestLog log = new NetworkRequestLog();
+    log.setCapacity(1);
+
+    log.onRequestStarted("https://a.com", "GET", true);
+    log.onReceivedError("https://a.com", -2, "net::ERR_NAME_NOT_RESOLVED");
+
+    final Map<String, Object> entry = getEntries(log).get(0);
+    assertEquals(-2L, entry.get("_errorCode"));
+    assertEquals("net::ERR_NAME_NOT_RESOLVED", entry.get("_errorDescription"));
+  }
+
+  @Test
+  public void onPageFinishedOnlyCompletesMainFrameRequests() {
+    final NetworkRequestLog log = new NetworkRequestLog();
+    log.setCapacity(2);
+
+    log.onRequestStarted("https://a.com", "GET", false);
+    log.onPageFinished("https://a.com");
+    assertEquals(false, getEntries(log).get(0).get("_isComplete"));
+
+    log.onRequestStarted("https://b.com", "GET", true);
+    log.onPageFinished("https://b.com");
+    assertEquals(true, getEntries(log).get(1).get("_isComplete"));
+  }
+
+  private static List<Map<String, Object>> getEntries(NetworkRequestLog log) {
+    final Map<String, Object> har = log.toHar();
+    return (List<Map<String, Object>>) ((Map<String, Object>) har.get("log")).get("entries");
+  }
+
+  private static Map<String, Object> getRequest(Map<String, Object> entry) {
+    return (Map<String, Object>) entry.get("request");
+  }
+}
@@ -0,0 +1,110 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.webkit.WebView;
+import androidx.webkit.WebViewRenderProcess;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class RenderProcessHangMonitorTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public WebViewFlutterApiImpl mockFlutterApi;
+
+  @Mock public WebView mockWebView;
+
+  @Mock public WebViewRenderProcess mockRenderProcess;
+
+  RenderProcessHangMonitor monitor;
+
+  @Before
+  public void setUp() {
+    monitor = new RenderProcessHangMonitor(mockFlutterApi);
+  }
+
+  @Test
+  public void onRenderProcessUnresponsiveIncludesDetectionDelay() {
+    monitor.onRenderProcessUnresponsive(mockWebView, mockRenderProcess);
+
+    verify(mockFlutterApi)
+        .onRenderProcessUnresponsive(
+            eq(mockWebView),
+            eq(RenderProcessHangMonitor.UNRESPONSIVE_DETECTION_DELAY_MILLIS),
+            any());
+    assertEquals(true, monitor.getStats().get("isUnresponsive"));
+  }
+
+  @Test
+  public void onRenderProcessResponsiveRecordsInterval() {
+    monitor.onRenderProcessUnresponsive(mockWebView, mockRenderProcess);
+    monitor.onRenderProcessUnresponsive(mockWebView, mockRenderProcess);
+    monitor.onRenderProcessResponsive(mockWebView, mockRenderProcess);
+
+    verify(mockFlutterApi)
+        .onRenderProcessResponsive(
+            eq(mockWebView),
+            eq(RenderProcessHangMonitor.UNRESPONSIVE_DETECTION_DELAY_MILLIS),
+            any());
+
+    final Map<String, Object> stats = monitor.getStats();
+    assertEquals(1L, stats.get("count"));
+    assertEquals(1L, stats.get("unresponsiveCount"));
+    assertEquals(false, stats.get("isUnresponsive"));
+  }
+
+  @Test
+  public void onRenderProcessResponsiveIgnoredWhenNotUnresponsive() {
+    monitor.onRenderProcessResponsive(mockWebView, mockRenderProcess);
+
+    verify(mockFlutterApi, never()).onRenderProcessResponsive(any(), anyLong(), any());
+    assertEquals(0L, monitor.getStats().get("count"));
+  }
+
+  @Test
+  public void hangBudgetTerminatesRenderProcess() {
+    when(mockRenderProcess.terminate()).thenReturn(true);
+    monitor.setHangBudgetMillis(8000L);
+
+    monitor.onRenderProcessUnresponsive(mockWebView, mockRenderProcess);
+
+    final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockWebView).postDelayed(runnableCaptor.capture(), eq(3000L));
+    runnableCaptor.getValue().run();
+
+    verify(mockRenderProcess).terminate();
+    final Map<String, Object> stats = monitor.getStats();
+    assertEquals(1L, stats.get("terminatedCount"));
+    assertEquals(1L, stats.get("count"));
+  }
+
+  @Test
+  public void hangBudgetIgnoredAfterRenderProcessResponds() {
+    monitor.setHangBudgetMillis(8000L);
+
+    monitor.onRenderProcessUnresponsive(mockWebView, mockRenderProcess);
+    monitor.onRenderProcessResponsive(mockWebView, mockRenderProcess);
+
+    final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockWebView).postDelayed(runnableCaptor.capture(), anyLong());
+    runnableCaptor.getValue().run();
+
+    verify(mockRenderProcess, never()).terminate();
+  }
+}
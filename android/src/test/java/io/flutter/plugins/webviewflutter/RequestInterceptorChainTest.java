@@ -0,0 +1,67 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
+import android.webkit.WebView;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class RequestInterceptorChainTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public WebView mockWebView;
+
+  @Mock public WebResourceRequest mockRequest;
+
+  @Mock public WebResourceResponse mockResponse;
+
+  @Mock public RequestInterceptorChain.RequestInterceptor mockFirstInterceptor;
+
+  @Mock public RequestInterceptorChain.RequestInterceptor mockSecondInterceptor;
+
+  @Test
+  public void firstResponseIsUsed() {
+    final RequestInterceptorChain chain = new RequestInterceptorChain();
+    chain.addInterceptor(mockFirstInterceptor);
+    chain.addInterceptor(mockSecondInterceptor);
+    when(mockFirstInterceptor.shouldInterceptRequest(mockWebView, mockRequest))
+        .thenReturn(mockResponse);
+
+    assertEquals(mockResponse, chain.shouldInterceptRequest(mockWebView, mockRequest));
+    verify(mockSecondInterceptor, never()).shouldInterceptRequest(mockWebView, mockRequest);
+  }
+
+  @Test
+  public void fallsThroughInterceptorsWithoutResponse() {
+    final RequestInterceptorChain chain = new RequestInterceptorChain();
+    chain.addInterceptor(mockFirstInterceptor);
+    chain.addInterceptor(mockSecondInterceptor);
+    when(mockSecondInterceptor.shouldInterceptRequest(mockWebView, mockRequest))
+        .thenReturn(mockResponse);
+
+    assertEquals(mockResponse, chain.shouldInterceptRequest(mockWebView, mockRequest));
+  }
+
+  @Test
+  public void removeInterceptor() {
+    final RequestInterceptorChain chain = new RequestInterceptorChain();
+    chain.addInterceptor(mockFirstInterceptor);
+    chain.removeInterceptor(mockFirstInterceptor);
+
+    assertNull(chain.shouldInterceptRequest(mockWebView, mockRequest));
+    verify(mockFirstInterceptor, never()).shouldInterceptRequest(mockWebView, mockRequest);
+  }
+}
@@ -0,0 +1,140 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.ComponentCallbacks2;
+import android.net.Uri;
+import android.os.Handler;
+import android.webkit.WebResourceRequest;
+import android.webkit.WebView;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class StreamingContentLoaderTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Mock public WebView mockWebView;
+
+  @Mock public WebResourceRequest mockRequest;
+
+  @Mock public Uri mockUri;
+
+  StreamingContentLoader loader;
+  File file;
+
+  @Before
+  public void setUp() throws IOException {
+    loader = new StreamingContentLoader();
+    file = temporaryFolder.newFile("report.html");
+
+    when(mockRequest.getMethod()).thenReturn("GET");
+    when(mockRequest.getUrl()).thenReturn(mockUri);
+    when(mockUri.toString()).thenReturn("https://reports.example/");
+  }
+
+  @Test
+  public void fileLoadIsServedOnce() {
+    loader.beginFileLoad(mockWebView, "https://reports.example/", file, "text/html", "UTF-8");
+
+    assertNotNull(loader.shouldInterceptRequest(mockWebView, mockRequest));
+    assertNull(loader.shouldInterceptRequest(mockWebView, mockRequest));
+  }
+
+  @Test
+  public void loadsOfOtherWebViewsAreIgnored() {
+    loader.beginFileLoad(mockWebView, "https://reports.example/", file, "text/html", "UTF-8");
+
+    assertNull(loader.shouldInterceptRequest(mock(WebView.class), mockRequest));
+  }
+
+  @Test
+  public void postRequestsAreIgnored() {
+    when(mockRequest.getMethod()).thenReturn("POST");
+    loader.beginFileLoad(mockWebView, "https://reports.example/", file, "text/html", "UTF-8");
+
+    assertNull(loader.shouldInterceptRequest(mockWebView, mockRequest));
+  }
+
+  @Test
+  public void beginFileLoadCancelsPreviousLoadOfWebView() {
+    loader.beginFileLoad(mockWebView, "https://reports.example/", file, "text/html", "UTF-8");
+    loader.beginFileLoad(mockWebView, "https://other.example/", file, "text/html", "UTF-8");
+
+    assertNull(loader.shouldInterceptRequest(mockWebView, mockRequest));
+  }
+
+  @Test
+  public void onTrimMemoryCancelsLoadsOfHiddenWebViews() {
+    final WebViewHostApiImpl.WebViewPlatformView mockHiddenWebView =
+        mock(WebViewHostApiImpl.WebViewPlatformView.class);
+    final WebViewHostApiImpl.WebViewPlatformView mockVisibleWebView =
+        mock(WebViewHostApiImpl.WebViewPlatformView.class);
+    when(mockVisibleWebView.isVisibleToUser()).thenReturn(true);
+    loader.beginFileLoad(mockHiddenWebView, "https://reports.example/", file, "text/html", null);
+    loader.beginFileLoad(mockVisibleWebView, "https://reports.example/", file, "text/html", null);
+
+    loader.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+    assertNotNull(loader.shouldInterceptRequest(mockHiddenWebView, mockRequest));
+
+    loader.beginFileLoad(mockHiddenWebView, "https://reports.example/", file, "text/html", null);
+    loader.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+    assertNull(loader.shouldInterceptRequest(mockHiddenWebView, mockRequest));
+    assertNotNull(loader.shouldInterceptRequest(mockVisibleWebView, mockRequest));
+  }
+
+  @Test
+  public void cancelLoadsOfCancelsOnlyLoadsOfWebView() {
+    final WebView otherWebView = mock(WebView.class);
+    loader.beginFileLoad(mockWebView, "https://reports.example/", file, "text/html", null);
+    loader.beginFileLoad(otherWebView, "https://reports.example/", file, "text/html", null);
+
+    loader.cancelLoadsOf(mockWebView);
+
+    assertNull(loader.shouldInterceptRequest(mockWebView, mockRequest));
+    assertNotNull(loader.shouldInterceptRequest(otherWebView, mockRequest));
+  }
+
+  @Test
+  public void closeCancelsLoadsAndShutsDownWriteExecutor() {
+    final ExecutorService mockExecutor = mock(ExecutorService.class);
+    loader =
+        new StreamingContentLoader(
+            mockExecutor, mock(Handler.class), StreamingContentLoader.WRITE_TIMEOUT_MILLIS);
+    loader.beginFileLoad(mockWebView, "https://reports.example/", file, "text/html", null);
+
+    loader.close();
+
+    assertNull(loader.shouldInterceptRequest(mockWebView, mockRequest));
+    verify(mockExecutor).shutdown();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void writeToUnknownLoadFails() {
+    final GeneratedAndroidWebView.Result<Void> mockResult =
+        mock(GeneratedAndroidWebView.Result.class);
+
+    loader.write(0, new byte[] {1}, mockResult);
+
+    verify(mockResult).error(any());
+  }
+}
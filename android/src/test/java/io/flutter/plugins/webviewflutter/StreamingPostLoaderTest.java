@@ -0,0 +1,150 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.net.Uri;
+import android.webkit.CookieManager;
+import android.webkit.WebResourceRequest;
+import android.webkit.WebView;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class StreamingPostLoaderTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Mock public WebView mockWebView;
+
+  @Mock public WebResourceRequest mockRequest;
+
+  @Mock public Uri mockUri;
+
+  @Mock public CookieManagerHostApiImpl.CookieManagerProxy mockCookieManagerProxy;
+
+  @Mock public CookieManager mockCookieManager;
+
+  StreamingPostLoader loader;
+
+  @Before
+  public void setUp() {
+    when(mockCookieManagerProxy.getInstance()).thenReturn(mockCookieManager);
+    loader = new StreamingPostLoader(mockCookieManagerProxy);
+
+    when(mockRequest.getMethod()).thenReturn("GET");
+    when(mockRequest.isForMainFrame()).thenReturn(true);
+    when(mockRequest.getUrl()).thenReturn(mockUri);
+    when(mockUri.toString()).thenReturn("https://upload.example/");
+  }
+
+  @Test
+  public void postWithMissingFileIsServedOnceAsError() {
+    loader.beginPost(mockWebView, "https://upload.example/", "/missing/body.bin", "text/plain");
+
+    assertNotNull(loader.shouldInterceptRequest(mockWebView, mockRequest));
+    assertNull(loader.shouldInterceptRequest(mockWebView, mockRequest));
+  }
+
+  @Test
+  public void postsOfOtherWebViewsAreIgnored() {
+    loader.beginPost(mockWebView, "https://upload.example/", "/missing/body.bin", "text/plain");
+
+    assertNull(loader.shouldInterceptRequest(mock(WebView.class), mockRequest));
+  }
+
+  @Test
+  public void subresourceRequestsAreIgnored() {
+    when(mockRequest.isForMainFrame()).thenReturn(false);
+    loader.beginPost(mockWebView, "https://upload.example/", "/missing/body.bin", "text/plain");
+
+    assertNull(loader.shouldInterceptRequest(mockWebView, mockRequest));
+  }
+
+  @Test
+  public void beginPostReplacesPreviousPostOfWebView() {
+    loader.beginPost(mockWebView, "https://upload.example/", "/missing/body.bin", "text/plain");
+    loader.beginPost(mockWebView, "https://other.example/", "/missing/body.bin", "text/plain");
+
+    assertNull(loader.shouldInterceptRequest(mockWebView, mockRequest));
+  }
+
+  @Test
+  public void postOfProfileWebViewUsesCookiesOfProfile() throws IOException {
+    final WebViewHostApiImpl.WebViewPlatformView profileWebView =
+        mock(WebViewHostApiImpl.WebViewPlatformView.class);
+    when(profileWebView.getProfileName()).thenReturn("work");
+    final CookieManager profileCookieManager = mock(CookieManager.class);
+    when(mockCookieManagerProxy.getInstance("work")).thenReturn(profileCookieManager);
+    final File body = temporaryFolder.newFile("body.bin");
+    // Nothing listens on this port, so the request fails after the cookies were read.
+    when(mockUri.toString()).thenReturn("http://127.0.0.1:1/");
+
+    loader.beginPost(profileWebView, "http://127.0.0.1:1/", body.getPath(), "text/plain");
+    assertNotNull(loader.shouldInterceptRequest(profileWebView, mockRequest));
+
+    verify(profileCookieManager).getCookie("http://127.0.0.1:1/");
+    verify(mockCookieManagerProxy, never()).getInstance();
+    verify(mockCookieManager, never()).getCookie(any());
+  }
+
+  @Test
+  public void copyTransfersBodyLargerThanBuffer() throws IOException {
+    final byte[] body = new byte[StreamingPostLoader.BUFFER_SIZE * 3 + 17];
+    for (int i = 0; i < body.length; i++) {
+      body[i] = (byte) i;
+    }
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    assertEquals(body.length, StreamingPostLoader.copy(new ByteArrayInputStream(body), output));
+    assertEquals(body.length, output.size());
+    assertEquals(body[body.length - 1], output.toByteArray()[body.length - 1]);
+  }
+
+  @Test
+  public void parsesContentType() {
+    assertEquals("text/html", StreamingPostLoader.getMimeType("text/html; charset=\"utf-8\""));
+    assertEquals("utf-8", StreamingPostLoader.getCharset("text/html; charset=\"utf-8\""));
+    assertEquals("text/html", StreamingPostLoader.getMimeType(null));
+    assertNull(StreamingPostLoader.getCharset("application/json"));
+  }
+
+  @Test
+  public void rejectsStatusCodesWebResourceResponseDoesNotAccept() {
+    assertTrue(StreamingPostLoader.isValidStatusCode(200));
+    assertTrue(StreamingPostLoader.isValidStatusCode(404));
+    assertFalse(StreamingPostLoader.isValidStatusCode(-1));
+    assertFalse(StreamingPostLoader.isValidStatusCode(302));
+    assertFalse(StreamingPostLoader.isValidStatusCode(304));
+    assertFalse(StreamingPostLoader.isValidStatusCode(600));
+  }
+
+  @Test
+  public void defaultReasonPhraseMatchesStatusCode() {
+    assertEquals("OK", StreamingPostLoader.getDefaultReasonPhrase(200));
+    assertEquals("Not Found", StreamingPostLoader.getDefaultReasonPhrase(404));
+    assertEquals("Client Error", StreamingPostLoader.getDefaultReasonPhrase(418));
+    assertEquals("Server Error", StreamingPostLoader.getDefaultReasonPhrase(599));
+  }
+}
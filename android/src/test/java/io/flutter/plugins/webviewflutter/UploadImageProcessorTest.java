@@ -0,0 +1,102 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class UploadImageProcessorTest {
+  // The files created at the start of the epoch are older than the minimum age.
+  private static final long NOW_MILLIS = UploadImageProcessor.MIN_AGE_MILLIS + 10000;
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void computeScale() {
+    assertEquals(1f, UploadImageProcessor.computeScale(800, 600, 1024, 1024), 0);
+    assertEquals(0.25f, UploadImageProcessor.computeScale(4096, 3072, 1024, 1024), 0);
+    assertEquals(0.5f, UploadImageProcessor.computeScale(1000, 4000, 2048, 2000), 0);
+  }
+
+  @Test
+  public void computeSampleSizeKeepsImageAboveTarget() {
+    assertEquals(1, UploadImageProcessor.computeSampleSize(800, 600, 1024, 1024));
+    assertEquals(4, UploadImageProcessor.computeSampleSize(4096, 3072, 1024, 1024));
+    // 4000 / 4 = 1000 would be smaller than the target of 1200.
+    assertEquals(2, UploadImageProcessor.computeSampleSize(4000, 3000, 1200, 1200));
+  }
+
+  @Test
+  public void canProcessOnlyPhotos() {
+    assertTrue(UploadImageProcessor.canProcess("image/jpeg"));
+    assertTrue(UploadImageProcessor.canProcess("image/heic"));
+    assertFalse(UploadImageProcessor.canProcess("image/gif"));
+    assertFalse(UploadImageProcessor.canProcess("application/pdf"));
+    assertFalse(UploadImageProcessor.canProcess(null));
+  }
+
+  @Test
+  public void constructorRejectsInvalidOptions() {
+    assertThrows(
+        IllegalArgumentException.class, () -> new UploadImageProcessor(0, 1024, "jpeg", 80, 0));
+    assertThrows(
+        IllegalArgumentException.class, () -> new UploadImageProcessor(1024, 1024, "jpeg", 101, 0));
+    assertThrows(
+        IllegalArgumentException.class, () -> new UploadImageProcessor(1024, 1024, "gif", 80, 0));
+  }
+
+  @Test
+  public void trimDirectoryDeletesOldestFiles() throws IOException {
+    final File oldest = createFile("a.jpg", 5, 1000);
+    final File kept = createFile("b.jpg", 5, 2000);
+    final File newest = createFile("c.jpg", 5, 3000);
+
+    UploadImageProcessor.trimDirectory(
+        temporaryFolder.getRoot(), 5, Collections.singletonList("b.jpg"), NOW_MILLIS);
+
+    assertFalse(oldest.exists());
+    assertTrue(kept.exists());
+    assertFalse(newest.exists());
+  }
+
+  @Test
+  public void trimDirectoryWithinBudgetDeletesNothing() throws IOException {
+    final File file = createFile("a.jpg", 5, 1000);
+
+    UploadImageProcessor.trimDirectory(
+        temporaryFolder.getRoot(), 5, Collections.emptyList(), NOW_MILLIS);
+
+    assertTrue(file.exists());
+  }
+
+  @Test
+  public void trimDirectoryKeepsRecentFiles() throws IOException {
+    final File old = createFile("a.jpg", 5, 1000);
+    final File recent = createFile("b.jpg", 5, NOW_MILLIS - 1000);
+
+    UploadImageProcessor.trimDirectory(
+        temporaryFolder.getRoot(), 0, Collections.emptyList(), NOW_MILLIS);
+
+    assertFalse(old.exists());
+    assertTrue(recent.exists());
+  }
+
+  private File createFile(String name, int length, long lastModified) throws IOException {
+    final File file = temporaryFolder.newFile(name);
+    Files.write(file.toPath(), new byte[length]);
+    assertTrue(file.setLastModified(lastModified));
+    return file;
+  }
+}
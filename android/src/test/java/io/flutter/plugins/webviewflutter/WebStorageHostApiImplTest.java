@@ -4,10 +4,23 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import android.webkit.ValueCallback;
 import android.webkit.WebStorage;
+import androidx.annotation.NonNull;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -24,6 +37,7 @@ public class WebStorageHostApiImplTest {
   @Mock WebStorageHostApiImpl.WebStorageCreator mockWebStorageCreator;
 
   InstanceManager testInstanceManager;
+  WebStorageOriginTracker testOriginTracker;
   WebStorageHostApiImpl testHostApiImpl;
 
   @Before
@@ -31,7 +45,9 @@ public class WebStorageHostApiImplTest {
     testInstanceManager = InstanceManager.create(identifier -> {});
 
     when(mockWebStorageCreator.createWebStorage()).thenReturn(mockWebStorage);
-    testHostApiImpl = new WebStorageHostApiImpl(testInstanceManager, mockWebStorageCreator);
+    testOriginTracker = new WebStorageOriginTracker();
+    testHostApiImpl =
+        new WebStorageHostApiImpl(testInstanceManager, mockWebStorageCreator, testOriginTracker);
     testHostApiImpl.create(0L);
   }
 
@@ -45,4 +61,82 @@ public class WebStorageHostApiImplTest {
     testHostApiImpl.deleteAllData(0L);
     verify(mockWebStorage).deleteAllData();
   }
+
+  @Test
+  public void deleteOrigin() {
+    testHostApiImpl.deleteOrigin(0L, "https://flutter.dev");
+    verify(mockWebStorage).deleteOrigin("https://flutter.dev");
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  void stubOrigins(WebStorage.Origin... origins) {
+    final Map originsByName = new HashMap<>();
+    for (WebStorage.Origin origin : origins) {
+      originsByName.put(origin.getOrigin(), origin);
+    }
+    doAnswer(
+            invocation -> {
+              ((ValueCallback<Map>) invocation.getArgument(0)).onReceiveValue(originsByName);
+              return null;
+            })
+        .when(mockWebStorage)
+        .getOrigins(any());
+  }
+
+  WebStorage.Origin mockOrigin(String name, long usage) {
+    final WebStorage.Origin origin = mock(WebStorage.Origin.class);
+    when(origin.getOrigin()).thenReturn(name);
+    when(origin.getUsage()).thenReturn(usage);
+    return origin;
+  }
+
+  @Test
+  public void trimToBudgetDeletesLeastRecentlyUsedOrigins() {
+    stubOrigins(
+        mockOrigin("https://a.dev", 100L),
+        mockOrigin("https://b.dev", 100L),
+        mockOrigin("https://c.dev", 100L));
+    testOriginTracker.recordUse(null, "https://b.dev/index.html");
+    testOriginTracker.recordUse(null, "https://c.dev/");
+    testOriginTracker.recordUse(null, "https://a.dev/page");
+
+    final AtomicReference<List<String>> deletedOrigins = new AtomicReference<>();
+    testHostApiImpl.trimToBudget(
+        0L,
+        150L,
+        new GeneratedAndroidWebView.Result<List<String>>() {
+          @Override
+          public void success(List<String> result) {
+            deletedOrigins.set(result);
+          }
+
+          @Override
+          public void error(@NonNull Throwable error) {}
+        });
+
+    assertEquals(Arrays.asList("https://b.dev", "https://c.dev"), deletedOrigins.get());
+    verify(mockWebStorage).deleteOrigin("https://b.dev");
+    verify(mockWebStorage).deleteOrigin("https://c.dev");
+    verify(mockWebStorage, never()).deleteOrigin("https://a.dev");
+  }
+
+  @Test
+  public void trimToBudgetWithinBudgetDeletesNothing() {
+    stubOrigins(mockOrigin("https://a.dev", 100L));
+
+    testHostApiImpl.trimToBudget(
+        0L,
+        100L,
+        new GeneratedAndroidWebView.Result<List<String>>() {
+          @Override
+          public void success(List<String> result) {
+            assertEquals(0, result.size());
+          }
+
+          @Override
+          public void error(@NonNull Throwable error) {}
+        });
+
+    verify(mockWebStorage, never()).deleteOrigin(anyString());
+  }
 }
@@ -0,0 +1,115 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.SharedPreferences;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class WebStorageOriginTrackerTest {
+  @Test
+  public void originOf() {
+    assertEquals(
+        "https://flutter.dev", WebStorageOriginTracker.originOf("https://Flutter.dev/a?b"));
+    assertEquals(
+        "http://localhost:8080", WebStorageOriginTracker.originOf("http://localhost:8080/index"));
+    assertNull(WebStorageOriginTracker.originOf("file:///android_asset/index.html"));
+    assertNull(WebStorageOriginTracker.originOf("about:blank"));
+  }
+
+  @Test
+  public void sortLeastRecentlyUsedFirst() {
+    final WebStorageOriginTracker tracker = new WebStorageOriginTracker();
+    tracker.recordUse(null, "https://a.dev/");
+    tracker.recordUse(null, "https://b.dev/");
+    tracker.recordUse(null, "https://a.dev/other");
+
+    assertEquals(
+        Arrays.asList("https://c.dev", "https://b.dev", "https://a.dev"),
+        tracker.sortLeastRecentlyUsedFirst(
+            null, usages("https://a.dev", 1L, "https://b.dev", 1L, "https://c.dev", 1L)));
+  }
+
+  @Test
+  public void sortLeastRecentlyUsedFirstSortsUnusedOriginsByLargestUsage() {
+    final WebStorageOriginTracker tracker = new WebStorageOriginTracker();
+
+    assertEquals(
+        Arrays.asList("https://b.dev", "https://c.dev", "https://a.dev"),
+        tracker.sortLeastRecentlyUsedFirst(
+            null, usages("https://a.dev", 1L, "https://b.dev", 3L, "https://c.dev", 2L)));
+  }
+
+  @Test
+  public void originsAreTrackedPerProfile() {
+    final WebStorageOriginTracker tracker = new WebStorageOriginTracker();
+    tracker.recordUse(null, "https://a.dev/");
+    tracker.recordUse("work", "https://b.dev/");
+    tracker.recordUse("work", "https://a.dev/");
+
+    assertEquals(
+        Arrays.asList("https://b.dev", "https://a.dev"),
+        tracker.sortLeastRecentlyUsedFirst(null, usages("https://a.dev", 1L, "https://b.dev", 1L)));
+    assertEquals(
+        Arrays.asList("https://b.dev", "https://a.dev"),
+        tracker.sortLeastRecentlyUsedFirst(
+            "work", usages("https://a.dev", 1L, "https://b.dev", 1L)));
+  }
+
+  @Test
+  public void removeForgetsOrigin() {
+    final WebStorageOriginTracker tracker = new WebStorageOriginTracker();
+    tracker.recordUse(null, "https://a.dev/");
+    tracker.recordUse(null, "https://b.dev/");
+    tracker.remove(null, "https://a.dev");
+
+    assertEquals(
+        Arrays.asList("https://a.dev", "https://b.dev"),
+        tracker.sortLeastRecentlyUsedFirst(null, usages("https://b.dev", 1L, "https://a.dev", 1L)));
+  }
+
+  @Test
+  public void timesAreReadFromAndSavedToPreferences() {
+    final SharedPreferences mockPreferences = mock(SharedPreferences.class);
+    final SharedPreferences.Editor mockEditor = mock(SharedPreferences.Editor.class);
+    final Map<String, Object> saved = new HashMap<>();
+    saved.put("https://a.dev Default", 20L);
+    saved.put("https://b.dev Default", 10L);
+    saved.put("https://c.dev work", 30L);
+    when(mockPreferences.getAll()).thenAnswer(invocation -> saved);
+    when(mockPreferences.edit()).thenReturn(mockEditor);
+    when(mockEditor.putLong(anyString(), anyLong())).thenReturn(mockEditor);
+
+    final WebStorageOriginTracker tracker = new WebStorageOriginTracker(mockPreferences);
+
+    assertEquals(
+        Arrays.asList("https://c.dev", "https://b.dev", "https://a.dev"),
+        tracker.sortLeastRecentlyUsedFirst(
+            null, usages("https://a.dev", 1L, "https://b.dev", 1L, "https://c.dev", 1L)));
+
+    tracker.recordUse(null, "https://b.dev/");
+    verify(mockEditor).putLong(eq("https://b.dev Default"), anyLong());
+    verify(mockEditor).apply();
+  }
+
+  private static Map<String, Long> usages(Object... originsAndUsages) {
+    final Map<String, Long> usages = new HashMap<>();
+    for (int i = 0; i < originsAndUsages.length; i += 2) {
+      usages.put((String) originsAndUsages[i], (Long) originsAndUsages[i + 1]);
+    }
+    return usages;
+  }
+}
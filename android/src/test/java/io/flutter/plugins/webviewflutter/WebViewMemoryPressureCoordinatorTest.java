@@ -0,0 +1,137 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.ComponentCallbacks2;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class WebViewMemoryPressureCoordinatorTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public WebViewPlatformView mockVisibleWebView;
+
+  @Mock public WebViewPlatformView mockOldHiddenWebView;
+
+  @Mock public WebViewPlatformView mockRecentHiddenWebView;
+
+  InstanceManager instanceManager;
+  WebViewMemoryPressureCoordinator coordinator;
+
+  @Before
+  public void setUp() {
+    instanceManager = InstanceManager.create(identifier -> {});
+    instanceManager.addDartCreatedInstance(mockVisibleWebView, 0);
+    instanceManager.addDartCreatedInstance(mockOldHiddenWebView, 1);
+    instanceManager.addDartCreatedInstance(mockRecentHiddenWebView, 2);
+
+    when(mockVisibleWebView.isVisibleToUser()).thenReturn(true);
+    when(mockOldHiddenWebView.getLastVisibleTimeMillis()).thenReturn(10L);
+    when(mockRecentHiddenWebView.getLastVisibleTimeMillis()).thenReturn(20L);
+
+    coordinator = new WebViewMemoryPressureCoordinator(instanceManager);
+  }
+
+  @After
+  public void tearDown() {
+    instanceManager.stopFinalizationListener();
+  }
+
+  @Test
+  public void onTrimMemoryClearsCacheOfHiddenWebViews() {
+    when(mockRecentHiddenWebView.getProfileName()).thenReturn("other");
+
+    coordinator.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+
+    verify(mockOldHiddenWebView).clearCache(false);
+    verify(mockRecentHiddenWebView).clearCache(false);
+    verify(mockVisibleWebView, never()).clearCache(false);
+    verify(mockOldHiddenWebView, never()).pauseForMemoryPressure();
+  }
+
+  @Test
+  public void onTrimMemoryClearsCacheOncePerProfile() {
+    coordinator.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+
+    verify(mockOldHiddenWebView).clearCache(false);
+    verify(mockRecentHiddenWebView, never()).clearCache(false);
+  }
+
+  @Test
+  public void onTrimMemoryPausesHiddenWebViewsWhenUiIsHidden() {
+    coordinator.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN);
+
+    verify(mockOldHiddenWebView).pauseForMemoryPressure();
+    verify(mockRecentHiddenWebView).pauseForMemoryPressure();
+    verify(mockVisibleWebView, never()).pauseForMemoryPressure();
+  }
+
+  @Test
+  public void onTrimMemoryDoesNotDiscardWebViewsByDefault() {
+    coordinator.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+
+    verify(mockOldHiddenWebView, never()).discard();
+    verify(mockRecentHiddenWebView, never()).discard();
+  }
+
+  @Test
+  public void onTrimMemoryDiscardsLeastRecentlyVisibleWebViews() {
+    coordinator.setDiscardHiddenWebViews(true);
+    coordinator.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL);
+
+    verify(mockOldHiddenWebView).discard();
+    verify(mockRecentHiddenWebView, never()).discard();
+    verify(mockVisibleWebView, never()).discard();
+  }
+
+  @Test
+  public void onLowMemoryDiscardsAllHiddenWebViews() {
+    coordinator.setDiscardHiddenWebViews(true);
+    coordinator.onLowMemory();
+
+    verify(mockOldHiddenWebView).discard();
+    verify(mockRecentHiddenWebView).discard();
+    verify(mockVisibleWebView, never()).discard();
+  }
+
+  @Test
+  public void onTrimMemoryNotifiesListeners() {
+    final WebViewMemoryPressureCoordinator.MemoryTrimListener mockListener =
+        mock(WebViewMemoryPressureCoordinator.MemoryTrimListener.class);
+    coordinator.addMemoryTrimListener(mockListener);
+
+    coordinator.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_BACKGROUND);
+
+    verify(mockListener).onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_BACKGROUND);
+  }
+
+  @Test
+  public void getDiscardCount() {
+    assertEquals(
+        0,
+        WebViewMemoryPressureCoordinator.getDiscardCount(
+            ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW, 4));
+    assertEquals(
+        2,
+        WebViewMemoryPressureCoordinator.getDiscardCount(
+            ComponentCallbacks2.TRIM_MEMORY_MODERATE, 4));
+    assertEquals(
+        4,
+        WebViewMemoryPressureCoordinator.getDiscardCount(
+            ComponentCallbacks2.TRIM_MEMORY_COMPLETE, 4));
+  }
+}
@@ -6,6 +6,7 @@ package io.flutter.plugins.webviewflutter;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -20,12 +21,16 @@ import android.view.View;
 import android.webkit.DownloadListener;
 import android.webkit.ValueCallback;
 import android.webkit.WebChromeClient;
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
 import android.webkit.WebViewClient;
 import androidx.annotation.NonNull;
+import androidx.webkit.Profile;
 import io.flutter.embedding.android.FlutterView;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewFlutterApi;
 import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Objects;
 import org.junit.After;
@@ -289,6 +294,29 @@ public class WebViewTest {
     Objects.requireNonNull(webView.getWebChromeClient()).onProgressChanged(webView, 0);
   }
 
+  @Test
+  public void defaultWebViewClientServesRequestsFromInterceptorChain() {
+    final WebViewPlatformView webView = new WebViewPlatformView(mockContext, null, null);
+    final WebResourceResponse response = mock(WebResourceResponse.class);
+    webView.getRequestInterceptorChain().addInterceptor((view, request) -> response);
+
+    assertEquals(
+        response,
+        new WebViewPlatformView.DefaultWebViewClient()
+            .shouldInterceptRequest(webView, mock(WebResourceRequest.class)));
+  }
+
+  @Test
+  public void defaultWebViewClientRecordsWebStorageOrigins() {
+    final WebStorageOriginTracker mockTracker = mock(WebStorageOriginTracker.class);
+    final WebViewPlatformView webView = new WebViewPlatformView(mockContext, null, null);
+    webView.setWebStorageOriginTracker(mockTracker);
+
+    new WebViewPlatformView.DefaultWebViewClient().onPageFinished(webView, "https://flutter.dev");
+
+    verify(mockTracker).onPageFinished(webView, "https://flutter.dev");
+  }
+
   @Test
   public void disposeDoesNotCallDestroy() {
     final boolean[] destroyCalled = {false};
@@ -304,6 +332,17 @@ public class WebViewTest {
     assertFalse(destroyCalled[0]);
   }
 
+  @Test
+  public void disposeCancelsStreamedDocuments() {
+    final StreamingContentLoader mockLoader = mock(StreamingContentLoader.class);
+    final WebViewPlatformView webView = new WebViewPlatformView(mockContext, null, null);
+    webView.setStreamingContentLoader(mockLoader);
+
+    webView.dispose();
+
+    verify(mockLoader).cancelLoadsOf(webView);
+  }
+
   @Test
   public void destroyWebViewWhenDisposedFromJavaObjectHostApi() {
     final boolean[] destroyCalled = {false};
@@ -379,4 +418,117 @@ public class WebViewTest {
 
     instanceManager.stopFinalizationListener();
   }
+
+  @Test
+  public void onRenderProcessGone() {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+
+    final WebViewFlutterApiImpl flutterApiImpl =
+        new WebViewFlutterApiImpl(mockBinaryMessenger, instanceManager);
+
+    final WebViewFlutterApi mockFlutterApi = mock(WebViewFlutterApi.class);
+    flutterApiImpl.setApi(mockFlutterApi);
+    flutterApiImpl.create(mockWebView, reply -> {});
+
+    flutterApiImpl.onRenderProcessGone(mockWebView, true, 2L, false, reply -> {});
+
+    final long instanceIdentifier =
+        Objects.requireNonNull(instanceManager.getIdentifierForStrongReference(mockWebView));
+    verify(mockFlutterApi)
+        .onRenderProcessGone(eq(instanceIdentifier), eq(true), eq(2L), eq(false), any());
+
+    instanceManager.stopFinalizationListener();
+  }
+
+  @Test
+  public void createSetsGlobalNavigationTimingRecorder() {
+    verify(mockWebView).setGlobalNavigationTimingRecorder(any());
+    assertEquals(0L, testHostApiImpl.getGlobalNavigationTimingStats().get("navigationCount"));
+  }
+
+  @Test
+  public void createWithProfile() {
+    final WebViewPlatformView mockProfileWebView = mock(WebViewPlatformView.class);
+    when(mockWebViewProxy.isMultiProfileSupported()).thenReturn(true);
+    when(mockWebViewProxy.createWebView(
+            mockContext, mockBinaryMessenger, testInstanceManager, "tenant"))
+        .thenReturn(mockProfileWebView);
+
+    testHostApiImpl.createWithProfile(1L, "tenant");
+
+    assertEquals(mockProfileWebView, testInstanceManager.getInstance(1L));
+    verify(mockProfileWebView).setGlobalNavigationTimingRecorder(any());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void createWithProfileThrowsWithoutMultiProfileSupport() {
+    when(mockWebViewProxy.isMultiProfileSupported()).thenReturn(false);
+    testHostApiImpl.createWithProfile(1L, "tenant");
+  }
+
+  @Test
+  public void getProfileNamesWithoutMultiProfileSupport() {
+    when(mockWebViewProxy.isMultiProfileSupported()).thenReturn(false);
+    assertEquals(
+        Collections.singletonList(Profile.DEFAULT_PROFILE_NAME),
+        testHostApiImpl.getProfileNames());
+  }
+
+  @Test
+  public void deleteProfile() {
+    when(mockWebViewProxy.isMultiProfileSupported()).thenReturn(true);
+    testHostApiImpl.deleteProfile("tenant");
+    verify(mockWebViewProxy).deleteProfile("tenant");
+  }
+
+  @Test
+  public void onNavigationTiming() {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+
+    final WebViewFlutterApiImpl flutterApiImpl =
+        new WebViewFlutterApiImpl(mockBinaryMessenger, instanceManager);
+
+    final WebViewFlutterApi mockFlutterApi = mock(WebViewFlutterApi.class);
+    flutterApiImpl.setApi(mockFlutterApi);
+    flutterApiImpl.create(mockWebView, reply -> {});
+
+    final NavigationTimingRecorder.NavigationTiming timing =
+        new NavigationTimingRecorder.NavigationTiming(10L, null, 30L);
+    flutterApiImpl.onNavigationTiming(mockWebView, "https://www.google.com", timing, reply -> {});
+
+    final long instanceIdentifier =
+        Objects.requireNonNull(instanceManager.getIdentifierForStrongReference(mockWebView));
+    verify(mockFlutterApi)
+        .onNavigationTiming(
+            eq(instanceIdentifier),
+            eq("https://www.google.com"),
+            eq(10L),
+            eq(null),
+            eq(30L),
+            any());
+
+    instanceManager.stopFinalizationListener();
+  }
+
+  @Test
+  public void recoverFromRenderProcessGoneIgnoresWebViewsNotInInstanceManager() {
+    final WebViewPlatformView webView =
+        new WebViewPlatformView(mockContext, mockBinaryMessenger, testInstanceManager);
+
+    assertNull(webView.recoverFromRenderProcessGone(true));
+  }
+
+  @Test
+  public void discardIgnoresWebViewsNotInInstanceManager() {
+    final WebViewPlatformView webView =
+        new WebViewPlatformView(mockContext, mockBinaryMessenger, testInstanceManager);
+
+    assertNull(webView.discard());
+  }
+
+  @Test
+  public void setDiscardHiddenWebViewsDoesNotThrow() {
+    testHostApiImpl.setDiscardHiddenWebViews(true);
+    testHostApiImpl.setDiscardHiddenWebViews(false);
+  }
 }
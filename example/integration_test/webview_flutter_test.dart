@@ -213,6 +213,168 @@ Future<void> main() async {
     );
   });
 
+  // Logs the time of sequential calls and batches for comparison. The timings
+  // depend on the device, so they aren't asserted.
+  testWidgets('runJavaScriptBatch returns the result of each script',
+      (WidgetTester tester) async {
+    final Completer<void> pageFinished = Completer<void>();
+
+    final AndroidWebViewController controller = AndroidWebViewController(
+      const PlatformWebViewControllerCreationParams(),
+    );
+    await controller.setJavaScriptMode(JavaScriptMode.unrestricted);
+    final PlatformNavigationDelegate delegate = PlatformNavigationDelegate(
+      const PlatformNavigationDelegateCreationParams(),
+    );
+    await delegate.setOnPageFinished((_) => pageFinished.complete());
+    await controller.setPlatformNavigationDelegate(delegate);
+    await controller.loadRequest(LoadRequestParams(uri: Uri.parse(primaryUrl)));
+
+    await tester.pumpWidget(Builder(
+      builder: (BuildContext context) {
+        return PlatformWebViewWidget(
+          PlatformWebViewWidgetCreationParams(controller: controller),
+        ).build(context);
+      },
+    ));
+
+    await pageFinished.future;
+
+    final List<String> scripts = List<String>.generate(
+      40,
+      (int index) => 'window.counter = (window.counter || 0) + $index;',
+    );
+    const int iterations = 20;
+
+    final Stopwatch sequential = Stopwatch()..start();
+    for (int i = 0; i < iterations; i++) {
+      for (final String script in scripts) {
+        await controller.runJavaScriptReturningResult(script);
+      }
+    }
+    sequential.stop();
+
+    final Stopwatch batched = Stopwatch()..start();
+    late List<JavaScriptBatchResult> results;
+    for (int i = 0; i < iterations; i++) {
+      results = await controller.runJavaScriptBatch(scripts);
+    }
+    batched.stop();
+
+    debugPrint(
+      'runJavaScriptBatch: ${scripts.length} scripts x $iterations, '
+      'sequential ${sequential.elapsedMicroseconds ~/ iterations}us, '
+      'batched ${batched.elapsedMicroseconds ~/ iterations}us per iteration',
+    );
+    expect(results, hasLength(scripts.length));
+    expect(results.every((JavaScriptBatchResult r) => r.error == null), true);
+  });
+
+  // Logs the throughput and latency of both channel kinds for comparison. The
+  // timings depend on the device, so they aren't asserted.
+  testWidgets('WebMessageListener channels and JavaScript interfaces round trip',
+      (WidgetTester tester) async {
+    const int messageCount = 1000;
+    const int roundTripCount = 100;
+    final Completer<void> pageFinished = Completer<void>();
+
+    int receivedCount = 0;
+    int expectedCount = 0;
+    bool echoInterfacePings = false;
+    Completer<void> received = Completer<void>();
+    void onReceived() {
+      receivedCount++;
+      if (receivedCount == expectedCount) {
+        received.complete();
+      }
+    }
+
+    final AndroidWebViewController controller = AndroidWebViewController(
+      const PlatformWebViewControllerCreationParams(),
+    );
+    await controller.setJavaScriptMode(JavaScriptMode.unrestricted);
+    await controller.addJavaScriptChannel(JavaScriptChannelParams(
+      name: 'InterfaceChannel',
+      onMessageReceived: (JavaScriptMessage message) {
+        onReceived();
+        if (echoInterfacePings && receivedCount < expectedCount) {
+          controller.runJavaScript('InterfaceChannel.postMessage("ping")');
+        }
+      },
+    ));
+    await controller.addJavaScriptChannel(AndroidJavaScriptChannelParams(
+      name: 'ListenerChannel',
+      onMessageReceived: (JavaScriptMessage message) {},
+      allowedOriginRules: <String>{'*'},
+      replyToMessage: (AndroidJavaScriptMessage message) {
+        onReceived();
+        return message.message == 'ping' ? 'pong' : null;
+      },
+    ));
+    final PlatformNavigationDelegate delegate = PlatformNavigationDelegate(
+      const PlatformNavigationDelegateCreationParams(),
+    );
+    await delegate.setOnPageFinished((_) => pageFinished.complete());
+    await controller.setPlatformNavigationDelegate(delegate);
+    await controller.loadRequest(LoadRequestParams(uri: Uri.parse(primaryUrl)));
+
+    await tester.pumpWidget(Builder(
+      builder: (BuildContext context) {
+        return PlatformWebViewWidget(
+          PlatformWebViewWidgetCreationParams(controller: controller),
+        ).build(context);
+      },
+    ));
+
+    await pageFinished.future;
+
+    Future<Duration> measure(int count, String script) async {
+      receivedCount = 0;
+      expectedCount = count;
+      received = Completer<void>();
+      final Stopwatch stopwatch = Stopwatch()..start();
+      await controller.runJavaScript(script);
+      await received.future;
+      return stopwatch.elapsed;
+    }
+
+    final Duration interfaceThroughput = await measure(
+      messageCount,
+      'for (let i = 0; i < $messageCount; i++) '
+      'InterfaceChannel.postMessage("message")',
+    );
+    final Duration listenerThroughput = await measure(
+      messageCount,
+      'for (let i = 0; i < $messageCount; i++) '
+      'ListenerChannel.postMessage("message")',
+    );
+
+    echoInterfacePings = true;
+    final Duration interfaceRoundTrips = await measure(
+      roundTripCount,
+      'InterfaceChannel.postMessage("ping")',
+    );
+    echoInterfacePings = false;
+    final Duration listenerRoundTrips = await measure(
+      roundTripCount,
+      'let pongs = 0;'
+      'ListenerChannel.onmessage = () => {'
+      '  if (++pongs < $roundTripCount) ListenerChannel.postMessage("ping");'
+      '};'
+      'ListenerChannel.postMessage("ping");',
+    );
+
+    debugPrint(
+      'JavaScript channels: $messageCount messages, '
+      'interface ${interfaceThroughput.inMilliseconds}ms, '
+      'listener ${listenerThroughput.inMilliseconds}ms; '
+      'round trip latency, '
+      'interface ${interfaceRoundTrips.inMicroseconds ~/ roundTripCount}us, '
+      'listener ${listenerRoundTrips.inMicroseconds ~/ roundTripCount}us',
+    );
+    expect(receivedCount, roundTripCount);
+  });
+
   testWidgets('loadRequest with headers', (WidgetTester tester) async {
     final Map<String, String> headers = <String, String>{
       'test_header': 'flutter_test_header'
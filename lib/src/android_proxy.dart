@@ -27,6 +27,17 @@ class AndroidWebViewProxy {
   /// Constructs a [android_webview.WebView].
   final android_webview.WebView Function({
     void Function(int left, int top, int oldLeft, int oldTop)? onScrollChanged,
+    void Function(bool didCrash, int crashCount, bool willRestoreState)?
+        onRenderProcessGone,
+    void Function(int unresponsiveMillis)? onRenderProcessUnresponsive,
+    void Function(int unresponsiveMillis)? onRenderProcessResponsive,
+    void Function(
+      String url,
+      int? commitVisibleMillis,
+      int? firstVisualStateMillis,
+      int pageFinishedMillis,
+    )? onNavigationTiming,
+    String? profileName,
   }) createAndroidWebView;
 
   /// Constructs a [android_webview.WebChromeClient].
@@ -105,6 +116,12 @@ class AndroidWebViewProxy {
   final android_webview.JavaScriptChannel Function(
     String channelName, {
     required void Function(String) postMessage,
+    Future<String?> Function(
+      String message,
+      String sourceOrigin,
+      bool isMainFrame,
+    )? postWebMessage,
+    Future<String> Function(String method, Object? params)? callRpcMethod,
   }) createJavaScriptChannel;
 
   /// Constructs a [android_webview.DownloadListener].
@@ -116,6 +133,22 @@ class AndroidWebViewProxy {
       String mimetype,
       int contentLength,
     ) onDownloadStart,
+    void Function(
+      int downloadId,
+      String url,
+      String filePath,
+      String mimetype,
+    )? onNativeDownloadStart,
+    void Function(
+      int downloadId,
+      int receivedBytes,
+      int totalBytes,
+    )? onDownloadProgress,
+    void Function(
+      int downloadId,
+      String? filePath,
+      String? error,
+    )? onDownloadFinished,
   }) createDownloadListener;
 
   /// Enables debugging of web contents (HTML / CSS / JavaScript) loaded into any WebViews of this application.
@@ -129,4 +162,109 @@ class AndroidWebViewProxy {
   Future<void> setWebContentsDebuggingEnabled(bool enabled) {
     return android_webview.WebView.setWebContentsDebuggingEnabled(enabled);
   }
+
+  /// Retrieves histograms of the navigation timing of every WebView.
+  ///
+  /// See [android_webview.WebView].getGlobalNavigationTimingStats.
+  Future<Map<String?, Object?>> getGlobalNavigationTimingStats() {
+    return android_webview.WebView.getGlobalNavigationTimingStats();
+  }
+
+  /// Sets whether hidden WebViews are discarded when memory is critically low.
+  ///
+  /// See [android_webview.WebView].setDiscardHiddenWebViews.
+  Future<void> setDiscardHiddenWebViews(bool discard) {
+    return android_webview.WebView.setDiscardHiddenWebViews(discard);
+  }
+
+  /// Whether WebViews can use a profile other than the default profile.
+  ///
+  /// See [android_webview.WebView].isMultiProfileSupported.
+  Future<bool> isMultiProfileSupported() {
+    return android_webview.WebView.isMultiProfileSupported();
+  }
+
+  /// Retrieves the names of every profile.
+  ///
+  /// See [android_webview.WebView].getProfileNames.
+  Future<List<String>> getProfileNames() {
+    return android_webview.WebView.getProfileNames();
+  }
+
+  /// Deletes the profile named [profileName].
+  ///
+  /// See [android_webview.WebView].deleteProfile.
+  Future<void> deleteProfile(String profileName) {
+    return android_webview.WebView.deleteProfile(profileName);
+  }
+
+  /// Retrieves statistics of the file choosers of every WebView.
+  ///
+  /// See [android_webview.WebView].getFileChooserStats.
+  Future<Map<String?, Object?>> getFileChooserStats() {
+    return android_webview.WebView.getFileChooserStats();
+  }
+
+  /// Downscales and re-encodes the photos chosen for uploads.
+  ///
+  /// See [android_webview.WebView].enableUploadImageProcessing.
+  Future<void> enableUploadImageProcessing({
+    required int maxWidth,
+    required int maxHeight,
+    required String format,
+    required int quality,
+    required int cacheBudgetBytes,
+  }) {
+    return android_webview.WebView.enableUploadImageProcessing(
+      maxWidth: maxWidth,
+      maxHeight: maxHeight,
+      format: format,
+      quality: quality,
+      cacheBudgetBytes: cacheBudgetBytes,
+    );
+  }
+
+  /// Uploads the chosen photos unchanged.
+  ///
+  /// See [android_webview.WebView].disableUploadImageProcessing.
+  Future<void> disableUploadImageProcessing() {
+    return android_webview.WebView.disableUploadImageProcessing();
+  }
+
+  /// Sets how many native downloads may run at once.
+  ///
+  /// See [android_webview.DownloadListener].setMaxConcurrentDownloads.
+  Future<void> setMaxConcurrentDownloads(int maxConcurrentDownloads) {
+    return android_webview.DownloadListener.setMaxConcurrentDownloads(
+      maxConcurrentDownloads,
+    );
+  }
+
+  /// Cancels the native download with [downloadId].
+  ///
+  /// See [android_webview.DownloadListener].cancelDownload.
+  Future<void> cancelDownload(int downloadId) {
+    return android_webview.DownloadListener.cancelDownload(downloadId);
+  }
+
+  /// Resumes the failed native download with [downloadId].
+  ///
+  /// See [android_webview.DownloadListener].resumeDownload.
+  Future<void> resumeDownload(int downloadId) {
+    return android_webview.DownloadListener.resumeDownload(downloadId);
+  }
+
+  /// Sets how many bytes the files of completed native downloads may use.
+  ///
+  /// See [android_webview.DownloadListener].setDownloadCacheBudget.
+  Future<void> setDownloadCacheBudget(int budgetBytes) {
+    return android_webview.DownloadListener.setDownloadCacheBudget(budgetBytes);
+  }
+
+  /// Retrieves the number of bytes used by completed native downloads.
+  ///
+  /// See [android_webview.DownloadListener].getDownloadCacheSize.
+  Future<int> getDownloadCacheSize() {
+    return android_webview.DownloadListener.getDownloadCacheSize();
+  }
 }
@@ -134,6 +134,11 @@ class WebView extends View {
   /// Constructs a new WebView.
   WebView({
     this.onScrollChanged,
+    this.onRenderProcessGone,
+    this.onRenderProcessUnresponsive,
+    this.onRenderProcessResponsive,
+    this.onNavigationTiming,
+    this.profileName,
     @visibleForTesting super.binaryMessenger,
     @visibleForTesting super.instanceManager,
   }) : super.detached() {
@@ -147,6 +152,11 @@ class WebView extends View {
   @protected
   WebView.detached({
     this.onScrollChanged,
+    this.onRenderProcessGone,
+    this.onRenderProcessUnresponsive,
+    this.onRenderProcessResponsive,
+    this.onNavigationTiming,
+    this.profileName,
     super.binaryMessenger,
     super.instanceManager,
   }) : super.detached();
@@ -170,6 +180,56 @@ class WebView extends View {
     int oldTop,
   )? onScrollChanged;
 
+  /// Called after the render process of this view is gone.
+  ///
+  /// The native view has already been replaced by a new view with the same
+  /// settings, clients and JavaScript channels when this is called. The page is
+  /// restored when [willRestoreState] is true. [crashCount] is the number of
+  /// times the render process of this view was gone.
+  ///
+  /// On some platform view composition modes the `WebViewWidget` needs to be
+  /// rebuilt with a new key to display the new native view.
+  final void Function(
+    bool didCrash,
+    int crashCount,
+    bool willRestoreState,
+  )? onRenderProcessGone;
+
+  /// Called when the render process of this view stops responding.
+  ///
+  /// [unresponsiveMillis] is how long the render process has been unresponsive,
+  /// including the roughly five seconds WebView waits before reporting it. This
+  /// may be called repeatedly while the render process stays unresponsive.
+  final void Function(int unresponsiveMillis)? onRenderProcessUnresponsive;
+
+  /// Called when the render process of this view responds again after
+  /// [onRenderProcessUnresponsive] was called.
+  ///
+  /// [unresponsiveMillis] is how long the render process was unresponsive.
+  final void Function(int unresponsiveMillis)? onRenderProcessResponsive;
+
+  /// Called when a navigation finished with the native timing of its
+  /// milestones.
+  ///
+  /// Every duration is measured in milliseconds since the navigation started.
+  /// [commitVisibleMillis] and [firstVisualStateMillis] are null if the
+  /// milestone wasn't reached before the page finished loading.
+  ///
+  /// Only called after [setNavigationTimingEventsEnabled] enabled the events.
+  final void Function(
+    String url,
+    int? commitVisibleMillis,
+    int? firstVisualStateMillis,
+    int pageFinishedMillis,
+  )? onNavigationTiming;
+
+  /// The profile with the cookies, storage and HTTP cache of this view, or
+  /// null for the default profile.
+  ///
+  /// The profile is created if it doesn't exist. Requires
+  /// [isMultiProfileSupported].
+  final String? profileName;
+
   /// Enables debugging of web contents (HTML / CSS / JavaScript) loaded into any WebViews of this application.
   ///
   /// This flag can be enabled in order to facilitate debugging of web layouts
@@ -179,6 +239,74 @@ class WebView extends View {
     return api.setWebContentsDebuggingEnabled(enabled);
   }
 
+  /// Retrieves histograms of the navigation timing of every WebView.
+  ///
+  /// See [getNavigationTimingStats].
+  static Future<Map<String?, Object?>> getGlobalNavigationTimingStats() {
+    return api.getGlobalNavigationTimingStats();
+  }
+
+  /// Sets whether hidden WebViews are discarded when memory is critically low.
+  ///
+  /// A discarded WebView is replaced by a new WebView without a page, which
+  /// restores the saved page the next time it becomes visible. No navigation
+  /// callbacks are made while it is discarded.
+  ///
+  /// This is disabled by default.
+  static Future<void> setDiscardHiddenWebViews(bool discard) {
+    return api.setDiscardHiddenWebViews(discard);
+  }
+
+  /// Whether WebViews can use a profile other than the default profile.
+  static Future<bool> isMultiProfileSupported() {
+    return api.isMultiProfileSupported();
+  }
+
+  /// Retrieves the names of every profile, including the default profile.
+  static Future<List<String>> getProfileNames() async {
+    final List<String?> profileNames = await api.getProfileNames();
+    return profileNames.cast<String>();
+  }
+
+  /// Deletes the profile named [profileName] with its cookies, storage and
+  /// HTTP cache.
+  ///
+  /// Fails if a WebView uses the profile or if it is the default profile.
+  static Future<void> deleteProfile(String profileName) {
+    return api.deleteProfile(profileName);
+  }
+
+  /// Retrieves statistics of the file choosers opened by every WebView.
+  static Future<Map<String?, Object?>> getFileChooserStats() {
+    return api.getFileChooserStats();
+  }
+
+  /// Downscales and re-encodes the photos that pages receive from file
+  /// choosers.
+  ///
+  /// [format] is `jpeg` or `webp`. The processed photos are written to a
+  /// directory that is trimmed to [cacheBudgetBytes].
+  static Future<void> enableUploadImageProcessing({
+    required int maxWidth,
+    required int maxHeight,
+    required String format,
+    required int quality,
+    required int cacheBudgetBytes,
+  }) {
+    return api.enableUploadImageProcessing(
+      maxWidth,
+      maxHeight,
+      format,
+      quality,
+      cacheBudgetBytes,
+    );
+  }
+
+  /// Passes the photos chosen by file choosers to pages unchanged.
+  static Future<void> disableUploadImageProcessing() {
+    return api.disableUploadImageProcessing();
+  }
+
   /// Loads the given data into this WebView using a 'data' scheme URL.
   ///
   /// Note that JavaScript's same origin policy means that script running in a
@@ -347,6 +475,53 @@ class WebView extends View {
     );
   }
 
+  /// Evaluates each of [scripts] in order with a single evaluation.
+  ///
+  /// Returns a JSON array with an entry per script. An entry is either
+  /// `{"result": json}`, where `json` is the result of the script as returned
+  /// by [evaluateJavascript], or `{"error": message}` if the script threw.
+  ///
+  /// Top-level `let`, `const` and `class` declarations are scoped to their
+  /// script.
+  Future<String?> evaluateJavascriptBatch(List<String> scripts) {
+    return api.evaluateJavascriptBatchFromInstance(this, scripts);
+  }
+
+  /// Like [evaluateJavascript], but the JSON result is decoded natively.
+  ///
+  /// Objects are returned as maps, arrays as lists and numbers as [int] or
+  /// [double], so the result isn't sent as a JSON string that has to be
+  /// parsed again.
+  Future<Object?> evaluateJavascriptDecoded(String javascriptString) {
+    return api.evaluateJavascriptDecodedFromInstance(this, javascriptString);
+  }
+
+  /// Bounds the scripts evaluated by this view.
+  ///
+  /// At most [maxInFlight] scripts are evaluated at the same time and at most
+  /// [maxQueued] scripts wait to be evaluated. A script that doesn't complete
+  /// within [timeoutMillis] after it was queued fails. Null disables a limit.
+  ///
+  /// Queued and evaluating scripts fail when a new page starts loading.
+  Future<void> setJavaScriptEvaluationLimits({
+    int? maxInFlight,
+    int? maxQueued,
+    int? timeoutMillis,
+  }) {
+    return api.setJavaScriptEvaluationLimitsFromInstance(
+      this,
+      maxInFlight,
+      maxQueued,
+      timeoutMillis,
+    );
+  }
+
+  /// Retrieves the queue depth and evaluation latencies of the scripts
+  /// evaluated by this view.
+  Future<Map<String?, Object?>> getJavaScriptEvaluationStats() {
+    return api.getJavaScriptEvaluationStatsFromInstance(this);
+  }
+
   // TODO(bparrishMines): Update documentation when WebViewClient.onReceivedTitle is added.
   /// Gets the title for the current page.
   ///
@@ -434,6 +609,36 @@ class WebView extends View {
     return api.removeJavaScriptChannelFromInstance(this, javaScriptChannel);
   }
 
+  /// Injects the supplied [JavaScriptChannel] into the frames of this WebView
+  /// whose origin matches one of [allowedOriginRules].
+  ///
+  /// Unlike [addJavaScriptChannel], `postMessage` doesn't block the JavaScript
+  /// thread, messages include the origin of the calling frame, and the value
+  /// returned by [JavaScriptChannel.postWebMessage] is sent back to the frame
+  /// as a `message` event of the injected object.
+  ///
+  /// Requires `WebViewFeature.WEB_MESSAGE_LISTENER`.
+  Future<void> addWebMessageListener(
+    JavaScriptChannel javaScriptChannel,
+    List<String> allowedOriginRules,
+  ) {
+    JavaScriptChannel.api.createFromInstance(javaScriptChannel);
+    return api.addWebMessageListenerFromInstance(
+      this,
+      javaScriptChannel,
+      allowedOriginRules,
+    );
+  }
+
+  /// Removes a [JavaScriptChannel] added with [addWebMessageListener].
+  ///
+  /// Note that the removal will not be reflected in JavaScript until the page
+  /// is next (re)loaded.
+  Future<void> removeWebMessageListener(JavaScriptChannel javaScriptChannel) {
+    JavaScriptChannel.api.createFromInstance(javaScriptChannel);
+    return api.removeWebMessageListenerFromInstance(this, javaScriptChannel);
+  }
+
   /// Registers the interface to be used when content can not be handled by the rendering engine, and should be downloaded instead.
   ///
   /// This will replace the current handler.
@@ -455,10 +660,175 @@ class WebView extends View {
     return api.setBackgroundColorFromInstance(this, color.value);
   }
 
+  /// Sets how long the render process of this view may stay unresponsive before
+  /// it is terminated.
+  ///
+  /// The view is recreated and its page restored after the render process is
+  /// terminated. See [onRenderProcessGone]. Passing null disables terminating
+  /// the render process.
+  Future<void> setRenderProcessHangBudget(int? budgetMillis) {
+    return api.setRenderProcessHangBudgetFromInstance(this, budgetMillis);
+  }
+
+  /// Retrieves a histogram of how long the render process of this view was
+  /// unresponsive.
+  Future<Map<String?, Object?>> getRenderProcessHangStats() {
+    return api.getRenderProcessHangStatsFromInstance(this);
+  }
+
+  /// Sets whether [onNavigationTiming] is called for every finished
+  /// navigation.
+  Future<void> setNavigationTimingEventsEnabled(bool enabled) {
+    return api.setNavigationTimingEventsEnabledFromInstance(this, enabled);
+  }
+
+  /// Retrieves histograms of the native timing of the navigations of this
+  /// view.
+  Future<Map<String?, Object?>> getNavigationTimingStats() {
+    return api.getNavigationTimingStatsFromInstance(this);
+  }
+
+  /// Sets how many requests of this view are kept in its request log.
+  ///
+  /// The log is cleared whenever the capacity is set. Passing 0, the default,
+  /// disables the log.
+  Future<void> setNetworkRequestLogCapacity(int capacity) {
+    return api.setNetworkRequestLogCapacityFromInstance(this, capacity);
+  }
+
+  /// Exports the request log of this view in the HAR 1.2 format.
+  Future<Map<String?, Object?>> exportNetworkRequestLog() {
+    return api.exportNetworkRequestLogFromInstance(this);
+  }
+
+  /// Loads [url] with a document that is streamed with
+  /// [writeStreamingLoadChunk].
+  ///
+  /// The WebView starts rendering the document before all of its chunks were
+  /// written. Returns the identifier of the load.
+  Future<int> beginStreamingLoad(
+    String url, {
+    required String mimeType,
+    String? encoding,
+  }) {
+    return api.beginStreamingLoadFromInstance(this, url, mimeType, encoding);
+  }
+
+  /// Loads [url] with the contents of the file at [filePath].
+  ///
+  /// The file is read natively, so its contents aren't sent over the platform
+  /// channel. Returns the identifier of the load.
+  Future<int> beginFileLoad(
+    String url,
+    String filePath, {
+    required String mimeType,
+    String? encoding,
+  }) {
+    return api.beginFileLoadFromInstance(
+      this,
+      url,
+      filePath,
+      mimeType,
+      encoding,
+    );
+  }
+
+  /// Appends [chunk] to the document of a load started with
+  /// [beginStreamingLoad].
+  ///
+  /// Completes once the chunk was passed to the WebView.
+  Future<void> writeStreamingLoadChunk(int loadId, Uint8List chunk) {
+    return api.writeStreamingLoadChunk(loadId, chunk);
+  }
+
+  /// Marks the end of the document of a load started with
+  /// [beginStreamingLoad].
+  Future<void> finishStreamingLoad(int loadId) {
+    return api.finishStreamingLoad(loadId);
+  }
+
+  /// Cancels a load started with [beginStreamingLoad].
+  Future<void> cancelStreamingLoad(int loadId) {
+    return api.cancelStreamingLoad(loadId);
+  }
+
+  /// Loads [url] with a POST request whose body is read from [source].
+  ///
+  /// [source] is an absolute file path or a `content://` URI. The body is
+  /// streamed from [source] natively, so it is never held in memory as a
+  /// whole.
+  Future<void> postUrlFromFile(
+    String url,
+    String source, {
+    required String contentType,
+  }) {
+    return api.postUrlFromFileFromInstance(this, url, source, contentType);
+  }
+
+  /// Serves the files in [directory] at [origin] followed by [pathPrefix].
+  ///
+  /// Requests for the files are answered natively, including range requests.
+  /// Responses have a `Cache-Control` header with a max age of
+  /// [cacheMaxAgeSeconds].
+  Future<void> addLocalContentDirectory({
+    required String origin,
+    required String pathPrefix,
+    required String directory,
+    required int cacheMaxAgeSeconds,
+  }) {
+    return api.addLocalContentDirectoryFromInstance(
+      this,
+      origin,
+      pathPrefix,
+      directory,
+      cacheMaxAgeSeconds,
+    );
+  }
+
+  /// Stops serving every directory added with [addLocalContentDirectory].
+  Future<void> clearLocalContentDirectories() {
+    return api.clearLocalContentDirectoriesFromInstance(this);
+  }
+
+  /// Returns the url the file at [filePath] is served at, or null if it isn't
+  /// in a directory added with [addLocalContentDirectory].
+  Future<String?> getLocalContentUrl(String filePath) {
+    return api.getLocalContentUrlFromInstance(this, filePath);
+  }
+
+  /// Runs [script] at the start of every document whose origin matches one of
+  /// [allowedOriginRules], before the scripts of the document.
+  ///
+  /// Adding a script this `WebView` already runs for the same rules returns
+  /// the handle of the existing script. Returns the handle that removes the
+  /// script with [removeDocumentStartJavaScript].
+  ///
+  /// Requires `WebViewFeature.DOCUMENT_START_SCRIPT`.
+  Future<int> addDocumentStartJavaScript(
+    String script,
+    List<String> allowedOriginRules,
+  ) {
+    return api.addDocumentStartJavaScriptFromInstance(
+      this,
+      script,
+      allowedOriginRules,
+    );
+  }
+
+  /// Stops running the script of [handle] for new documents.
+  Future<void> removeDocumentStartJavaScript(int handle) {
+    return api.removeDocumentStartJavaScriptFromInstance(this, handle);
+  }
+
   @override
   WebView copy() {
     return WebView.detached(
       onScrollChanged: onScrollChanged,
+      onRenderProcessGone: onRenderProcessGone,
+      onRenderProcessUnresponsive: onRenderProcessUnresponsive,
+      onRenderProcessResponsive: onRenderProcessResponsive,
+      onNavigationTiming: onNavigationTiming,
+      profileName: profileName,
       binaryMessenger: _api.binaryMessenger,
       instanceManager: _api.instanceManager,
     );
@@ -487,6 +857,9 @@ class CookieManager extends JavaObject {
     CookieManager.detached(),
   );
 
+  static final Map<String, CookieManager> _profileInstances =
+      <String, CookieManager>{};
+
   final CookieManagerHostApiImpl _cookieManagerApi;
 
   /// Access a static field synchronously.
@@ -495,6 +868,20 @@ class CookieManager extends JavaObject {
     return _instance;
   }
 
+  /// Retrieves the [CookieManager] of the profile named [profileName].
+  ///
+  /// See [WebView.profileName].
+  static CookieManager forProfile(String profileName) {
+    AndroidWebViewFlutterApis.instance.ensureSetUp();
+    return _profileInstances.putIfAbsent(
+      profileName,
+      () => CookieManagerHostApiImpl().attachInstanceForProfileFromInstances(
+        CookieManager.detached(),
+        profileName,
+      ),
+    );
+  }
+
   /// Sets a single cookie (key-value pair) for the given URL. Any existing
   /// cookie with the same host, path and name will be replaced with the new
   /// cookie. The cookie being set will be ignored if it is expired. To set
@@ -517,6 +904,53 @@ class CookieManager extends JavaObject {
     return _cookieManagerApi.setCookieFromInstances(this, url, value);
   }
 
+  /// Sets the cookie `values[i]` for `urls[i]` for every index in one message
+  /// and persists them with a single flush.
+  ///
+  /// The cookies are set off the main thread. See [setCookie] for the format
+  /// of a value.
+  Future<void> setCookies(List<String> urls, List<String> values) {
+    assert(urls.length == values.length);
+    return _cookieManagerApi.setCookiesFromInstances(this, urls, values);
+  }
+
+  /// Retrieves the names and values of the cookies sent with requests to each
+  /// of [urls] in one message.
+  ///
+  /// A URL without cookies maps to an empty list.
+  Future<Map<String, List<MapEntry<String, String>>>> getCookies(
+    List<String> urls,
+  ) {
+    return _cookieManagerApi.getCookiesFromInstances(this, urls);
+  }
+
+  /// Writes the cookies of each of [urls] to a snapshot file at [path].
+  ///
+  /// Resolves to a map with the `cookieCount`, `byteCount` and
+  /// `durationMillis` of the snapshot.
+  Future<Map<String?, Object?>> saveSnapshot(List<String> urls, String path) {
+    return _cookieManagerApi.saveCookieSnapshotFromInstances(this, urls, path);
+  }
+
+  /// Sets the cookies of the snapshot file at [path] and flushes them once.
+  ///
+  /// When [clearExisting] is true, every cookie is removed first. The snapshot
+  /// is read before any cookie is removed, so the cookies are left unchanged
+  /// if it can't be read.
+  ///
+  /// Resolves to a map with the `cookieCount`, `byteCount` and
+  /// `durationMillis` of the restore.
+  Future<Map<String?, Object?>> restoreSnapshot(
+    String path, {
+    bool clearExisting = true,
+  }) {
+    return _cookieManagerApi.restoreCookieSnapshotFromInstances(
+      this,
+      path,
+      clearExisting,
+    );
+  }
+
   /// Removes all cookies.
   ///
   /// The returned future resolves to true if any cookies were removed.
@@ -728,6 +1162,8 @@ class JavaScriptChannel extends JavaObject {
   JavaScriptChannel(
     this.channelName, {
     required this.postMessage,
+    this.postWebMessage,
+    this.callRpcMethod,
     @visibleForTesting super.binaryMessenger,
     @visibleForTesting super.instanceManager,
   }) : super.detached() {
@@ -744,6 +1180,8 @@ class JavaScriptChannel extends JavaObject {
   JavaScriptChannel.detached(
     this.channelName, {
     required this.postMessage,
+    this.postWebMessage,
+    this.callRpcMethod,
     super.binaryMessenger,
     super.instanceManager,
   }) : super.detached();
@@ -758,11 +1196,73 @@ class JavaScriptChannel extends JavaObject {
   /// Callback method when javaScript calls `postMessage` on the object instance passed.
   final void Function(String message) postMessage;
 
+  /// Callback method when javaScript calls `postMessage` on a channel added
+  /// with [WebView.addWebMessageListener].
+  ///
+  /// The returned value is sent back to the calling frame, unless it is null.
+  /// When this is null, messages are passed to [postMessage] instead.
+  final Future<String?> Function(
+    String message,
+    String sourceOrigin,
+    bool isMainFrame,
+  )? postWebMessage;
+
+  /// Callback method when javaScript calls `call` on a channel with RPC
+  /// enabled by [enableRpc].
+  ///
+  /// The returned value is the JSON object `{"result": value}` or
+  /// `{"error": message}` that completes the Promise returned by `call`.
+  final Future<String> Function(String method, Object? params)? callRpcMethod;
+
+  /// Answers calls of the JavaScript function `call(method, params)` with
+  /// [callRpcMethod].
+  ///
+  /// Must be called before the channel is added with
+  /// [WebView.addWebMessageListener]. A call that isn't answered within
+  /// [timeoutMillis] fails.
+  Future<void> enableRpc({int? timeoutMillis}) {
+    return api.enableRpcFromInstance(this, timeoutMillis);
+  }
+
+  /// Retrieves the number of calls in flight and the call latencies of this
+  /// channel.
+  Future<Map<String?, Object?>> getRpcStats() {
+    return api.getRpcStatsFromInstance(this);
+  }
+
+  /// Bounds the queue of the messages posted to the JavaScript interface of
+  /// this channel before they are delivered to [postMessage].
+  ///
+  /// [policy] is the name of the policy applied to a message that doesn't fit
+  /// in the queue: `dropOldest`, `dropNewest`, `coalesceByKey` or `block`.
+  /// The key of a message is the text before [coalesceKeyDelimiter], or the
+  /// whole message.
+  Future<void> setMessageQueueLimits({
+    required int maxQueued,
+    required String policy,
+    String? coalesceKeyDelimiter,
+  }) {
+    return api.setMessageQueueLimitsFromInstance(
+      this,
+      maxQueued,
+      policy,
+      coalesceKeyDelimiter,
+    );
+  }
+
+  /// Retrieves the number of delivered, dropped and coalesced messages of
+  /// this channel.
+  Future<Map<String?, Object?>> getMessageQueueStats() {
+    return api.getMessageQueueStatsFromInstance(this);
+  }
+
   @override
   JavaScriptChannel copy() {
     return JavaScriptChannel.detached(
       channelName,
       postMessage: postMessage,
+      postWebMessage: postWebMessage,
+      callRpcMethod: callRpcMethod,
       binaryMessenger: _api.binaryMessenger,
       instanceManager: _api.instanceManager,
     );
@@ -1011,6 +1511,9 @@ class DownloadListener extends JavaObject {
   /// Constructs a [DownloadListener].
   DownloadListener({
     required this.onDownloadStart,
+    this.onNativeDownloadStart,
+    this.onDownloadProgress,
+    this.onDownloadFinished,
     @visibleForTesting super.binaryMessenger,
     @visibleForTesting super.instanceManager,
   }) : super.detached() {
@@ -1026,6 +1529,9 @@ class DownloadListener extends JavaObject {
   @protected
   DownloadListener.detached({
     required this.onDownloadStart,
+    this.onNativeDownloadStart,
+    this.onDownloadProgress,
+    this.onDownloadFinished,
     super.binaryMessenger,
     super.instanceManager,
   }) : super.detached();
@@ -1043,10 +1549,84 @@ class DownloadListener extends JavaObject {
     int contentLength,
   ) onDownloadStart;
 
+  /// Notify the host application that a file is being downloaded natively.
+  ///
+  /// Called instead of [onDownloadStart] after [enableNativeDownloads]. A
+  /// download of a URL that is already being downloaded joins that download
+  /// and receives its id and file.
+  final void Function(
+    int downloadId,
+    String url,
+    String filePath,
+    String mimetype,
+  )? onNativeDownloadStart;
+
+  /// Notify the host application that a native download received data.
+  ///
+  /// `totalBytes` is -1 if the server didn't send the size of the file.
+  final void Function(
+    int downloadId,
+    int receivedBytes,
+    int totalBytes,
+  )? onDownloadProgress;
+
+  /// Notify the host application that a native download ended.
+  ///
+  /// `filePath` is null and `error` describes the failure if the download
+  /// didn't succeed.
+  final void Function(
+    int downloadId,
+    String? filePath,
+    String? error,
+  )? onDownloadFinished;
+
+  /// Downloads files natively into `directory` instead of calling
+  /// [onDownloadStart].
+  ///
+  /// The request of each download sends the cookies of its URL and the user
+  /// agent of the [WebView]. The directory is created if it doesn't exist.
+  Future<void> enableNativeDownloads(String directory) {
+    return api.enableNativeDownloadsFromInstance(this, directory);
+  }
+
+  /// Sets how many native downloads may run at once.
+  ///
+  /// The limit is shared by every [DownloadListener]. Defaults to 3.
+  static Future<void> setMaxConcurrentDownloads(int maxConcurrentDownloads) {
+    return api.setMaxConcurrentDownloads(maxConcurrentDownloads);
+  }
+
+  /// Cancels a queued or running native download.
+  static Future<void> cancelDownload(int downloadId) {
+    return api.cancelDownload(downloadId);
+  }
+
+  /// Continues a failed native download from the data it already received.
+  static Future<void> resumeDownload(int downloadId) {
+    return api.resumeDownload(downloadId);
+  }
+
+  /// Sets how many bytes the copies of completed native downloads may use.
+  ///
+  /// The copies are kept in a cache directory of the plugin and reused by later
+  /// downloads of unchanged content. When they exceed the budget, the least
+  /// recently used copies are deleted. Downloaded files are never deleted.
+  static Future<void> setDownloadCacheBudget(int budgetBytes) {
+    return api.setDownloadCacheBudget(budgetBytes);
+  }
+
+  /// The number of bytes used by the copies of completed native downloads.
+  static Future<int> getDownloadCacheSize() {
+    return api.getDownloadCacheSize();
+  }
+
   @override
   DownloadListener copy() {
     return DownloadListener.detached(
       onDownloadStart: onDownloadStart,
+      onNativeDownloadStart: onNativeDownloadStart,
+      onDownloadProgress: onDownloadProgress,
+      onDownloadFinished: onDownloadFinished,
       binaryMessenger: _api.binaryMessenger,
       instanceManager: _api.instanceManager,
     );
@@ -1566,11 +2146,61 @@ class WebStorage extends JavaObject {
   /// The singleton instance of this class.
   static WebStorage instance = WebStorage();
 
+  static final Map<String, WebStorage> _profileInstances =
+      <String, WebStorage>{};
+
+  /// Retrieves the [WebStorage] of the profile named [profileName].
+  ///
+  /// See [WebView.profileName].
+  static WebStorage forProfile(String profileName) {
+    return _profileInstances.putIfAbsent(profileName, () {
+      AndroidWebViewFlutterApis.instance.ensureSetUp();
+      final WebStorage webStorage = WebStorage.detached();
+      api.createForProfileFromInstance(webStorage, profileName);
+      return webStorage;
+    });
+  }
+
   /// Clears all storage currently being used by the JavaScript storage APIs.
   Future<void> deleteAllData() {
     return api.deleteAllDataFromInstance(this);
   }
 
+  /// Retrieves the origins that use the JavaScript storage APIs.
+  ///
+  /// Each entry contains the `origin`, its `usage` and its `quota` in bytes.
+  Future<List<Map<String?, Object?>>> getOrigins() {
+    return api.getOriginsFromInstance(this);
+  }
+
+  /// Retrieves the amount of storage in bytes currently used by [origin].
+  Future<int> getUsageForOrigin(String origin) {
+    return api.getUsageForOriginFromInstance(this, origin);
+  }
+
+  /// Retrieves the storage quota in bytes of [origin].
+  Future<int> getQuotaForOrigin(String origin) {
+    return api.getQuotaForOriginFromInstance(this, origin);
+  }
+
+  /// Clears the storage currently being used by [origin].
+  Future<void> deleteOrigin(String origin) {
+    return api.deleteOriginFromInstance(this, origin);
+  }
+
+  /// Deletes the least recently used origins until the storage used by all
+  /// origins is at most [budgetBytes].
+  ///
+  /// An origin is used when one of its pages finishes loading in a [WebView]
+  /// of the same profile. The times are kept across restarts of the app.
+  /// Origins that were never used are deleted first, and origins used at the
+  /// same time are deleted largest first.
+  ///
+  /// Returns the deleted origins.
+  Future<List<String>> trimToBudget(int budgetBytes) {
+    return api.trimToBudgetFromInstance(this, budgetBytes);
+  }
+
   @override
   WebStorage copy() {
     return WebStorage.detached(
@@ -2,6 +2,7 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:convert';
 import 'dart:ui';
 
 import 'package:flutter/services.dart' show BinaryMessenger, Uint8List;
@@ -195,7 +196,12 @@ class WebViewHostApiImpl extends WebViewHostApi {
 
   /// Helper method to convert instances ids to objects.
   Future<void> createFromInstance(WebView instance) {
-    return create(instanceManager.addDartCreatedInstance(instance));
+    final int identifier = instanceManager.addDartCreatedInstance(instance);
+    final String? profileName = instance.profileName;
+    if (profileName != null) {
+      return createWithProfile(identifier, profileName);
+    }
+    return create(identifier);
   }
 
   /// Helper method to convert the instances ids to objects.
@@ -299,6 +305,52 @@ class WebViewHostApiImpl extends WebViewHostApi {
     );
   }
 
+  /// Helper method to convert instances ids to objects.
+  Future<String?> evaluateJavascriptBatchFromInstance(
+    WebView instance,
+    List<String> scripts,
+  ) {
+    return evaluateJavascriptBatch(
+      instanceManager.getIdentifier(instance)!,
+      scripts,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<Object?> evaluateJavascriptDecodedFromInstance(
+    WebView instance,
+    String javascriptString,
+  ) {
+    return evaluateJavascriptDecoded(
+      instanceManager.getIdentifier(instance)!,
+      javascriptString,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setJavaScriptEvaluationLimitsFromInstance(
+    WebView instance,
+    int? maxInFlight,
+    int? maxQueued,
+    int? timeoutMillis,
+  ) {
+    return setJavaScriptEvaluationLimits(
+      instanceManager.getIdentifier(instance)!,
+      maxInFlight,
+      maxQueued,
+      timeoutMillis,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<Map<String?, Object?>> getJavaScriptEvaluationStatsFromInstance(
+    WebView instance,
+  ) {
+    return getJavaScriptEvaluationStats(
+      instanceManager.getIdentifier(instance)!,
+    );
+  }
+
   /// Helper method to convert instances ids to objects.
   Future<String?> getTitleFromInstance(WebView instance) {
     return getTitle(instanceManager.getIdentifier(instance)!);
@@ -364,6 +416,30 @@ class WebViewHostApiImpl extends WebViewHostApi {
     );
   }
 
+  /// Helper method to convert instances ids to objects.
+  Future<void> addWebMessageListenerFromInstance(
+    WebView instance,
+    JavaScriptChannel javaScriptChannel,
+    List<String> allowedOriginRules,
+  ) {
+    return addWebMessageListener(
+      instanceManager.getIdentifier(instance)!,
+      instanceManager.getIdentifier(javaScriptChannel)!,
+      allowedOriginRules,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> removeWebMessageListenerFromInstance(
+    WebView instance,
+    JavaScriptChannel javaScriptChannel,
+  ) {
+    return removeWebMessageListener(
+      instanceManager.getIdentifier(instance)!,
+      instanceManager.getIdentifier(javaScriptChannel)!,
+    );
+  }
+
   /// Helper method to convert instances ids to objects.
   Future<void> setDownloadListenerFromInstance(
     WebView instance,
@@ -390,6 +466,166 @@ class WebViewHostApiImpl extends WebViewHostApi {
   Future<void> setBackgroundColorFromInstance(WebView instance, int color) {
     return setBackgroundColor(instanceManager.getIdentifier(instance)!, color);
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setRenderProcessHangBudgetFromInstance(
+    WebView instance,
+    int? budgetMillis,
+  ) {
+    return setRenderProcessHangBudget(
+      instanceManager.getIdentifier(instance)!,
+      budgetMillis,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<Map<String?, Object?>> getRenderProcessHangStatsFromInstance(
+    WebView instance,
+  ) {
+    return getRenderProcessHangStats(instanceManager.getIdentifier(instance)!);
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setNavigationTimingEventsEnabledFromInstance(
+    WebView instance,
+    bool enabled,
+  ) {
+    return setNavigationTimingEventsEnabled(
+      instanceManager.getIdentifier(instance)!,
+      enabled,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<Map<String?, Object?>> getNavigationTimingStatsFromInstance(
+    WebView instance,
+  ) {
+    return getNavigationTimingStats(instanceManager.getIdentifier(instance)!);
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setNetworkRequestLogCapacityFromInstance(
+    WebView instance,
+    int capacity,
+  ) {
+    return setNetworkRequestLogCapacity(
+      instanceManager.getIdentifier(instance)!,
+      capacity,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<Map<String?, Object?>> exportNetworkRequestLogFromInstance(
+    WebView instance,
+  ) {
+    return exportNetworkRequestLog(instanceManager.getIdentifier(instance)!);
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<int> beginStreamingLoadFromInstance(
+    WebView instance,
+    String url,
+    String mimeType,
+    String? encoding,
+  ) {
+    return beginStreamingLoad(
+      instanceManager.getIdentifier(instance)!,
+      url,
+      mimeType,
+      encoding,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<int> beginFileLoadFromInstance(
+    WebView instance,
+    String url,
+    String filePath,
+    String mimeType,
+    String? encoding,
+  ) {
+    return beginFileLoad(
+      instanceManager.getIdentifier(instance)!,
+      url,
+      filePath,
+      mimeType,
+      encoding,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> postUrlFromFileFromInstance(
+    WebView instance,
+    String url,
+    String source,
+    String contentType,
+  ) {
+    return postUrlFromFile(
+      instanceManager.getIdentifier(instance)!,
+      url,
+      source,
+      contentType,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> addLocalContentDirectoryFromInstance(
+    WebView instance,
+    String origin,
+    String pathPrefix,
+    String directory,
+    int cacheMaxAgeSeconds,
+  ) {
+    return addLocalContentDirectory(
+      instanceManager.getIdentifier(instance)!,
+      origin,
+      pathPrefix,
+      directory,
+      cacheMaxAgeSeconds,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> clearLocalContentDirectoriesFromInstance(WebView instance) {
+    return clearLocalContentDirectories(
+      instanceManager.getIdentifier(instance)!,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<String?> getLocalContentUrlFromInstance(
+    WebView instance,
+    String filePath,
+  ) {
+    return getLocalContentUrl(
+      instanceManager.getIdentifier(instance)!,
+      filePath,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<int> addDocumentStartJavaScriptFromInstance(
+    WebView instance,
+    String script,
+    List<String> allowedOriginRules,
+  ) {
+    return addDocumentStartJavaScript(
+      instanceManager.getIdentifier(instance)!,
+      script,
+      allowedOriginRules,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> removeDocumentStartJavaScriptFromInstance(
+    WebView instance,
+    int handle,
+  ) {
+    return removeDocumentStartJavaScript(
+      instanceManager.getIdentifier(instance)!,
+      handle,
+    );
+  }
 }
 
 /// Flutter API implementation for [WebView].
@@ -429,6 +665,73 @@ class WebViewFlutterApiImpl implements WebViewFlutterApi {
     );
     webViewInstance!.onScrollChanged?.call(left, top, oldLeft, oldTop);
   }
+
+  @override
+  void onRenderProcessGone(
+    int webViewInstanceId,
+    bool didCrash,
+    int crashCount,
+    bool willRestoreState,
+  ) {
+    final WebView? webViewInstance = instanceManager
+        .getInstanceWithWeakReference(webViewInstanceId) as WebView?;
+    assert(
+      webViewInstance != null,
+      'InstanceManager does not contain a WebView with instanceId: $webViewInstanceId',
+    );
+    webViewInstance!.onRenderProcessGone
+        ?.call(didCrash, crashCount, willRestoreState);
+  }
+
+  @override
+  void onRenderProcessUnresponsive(
+    int webViewInstanceId,
+    int unresponsiveMillis,
+  ) {
+    final WebView? webViewInstance = instanceManager
+        .getInstanceWithWeakReference(webViewInstanceId) as WebView?;
+    assert(
+      webViewInstance != null,
+      'InstanceManager does not contain a WebView with instanceId: $webViewInstanceId',
+    );
+    webViewInstance!.onRenderProcessUnresponsive?.call(unresponsiveMillis);
+  }
+
+  @override
+  void onRenderProcessResponsive(
+    int webViewInstanceId,
+    int unresponsiveMillis,
+  ) {
+    final WebView? webViewInstance = instanceManager
+        .getInstanceWithWeakReference(webViewInstanceId) as WebView?;
+    assert(
+      webViewInstance != null,
+      'InstanceManager does not contain a WebView with instanceId: $webViewInstanceId',
+    );
+    webViewInstance!.onRenderProcessResponsive?.call(unresponsiveMillis);
+  }
+
+  @override
+  void onNavigationTiming(
+    int webViewInstanceId,
+    String url,
+    int? commitVisibleMillis,
+    int? firstVisualStateMillis,
+    int pageFinishedMillis,
+  ) {
+    final WebView? webViewInstance = instanceManager
+        .getInstanceWithWeakReference(webViewInstanceId) as WebView?;
+    assert(
+      webViewInstance != null,
+      'InstanceManager does not contain a WebView with instanceId: $webViewInstanceId',
+    );
+    webViewInstance!.onNavigationTiming?.call(
+      url,
+      commitVisibleMillis,
+      firstVisualStateMillis,
+      pageFinishedMillis,
+    );
+  }
 }
 
 /// Host api implementation for [WebSettings].
@@ -606,6 +909,43 @@ class JavaScriptChannelHostApiImpl extends JavaScriptChannelHostApi {
       );
     }
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> enableRpcFromInstance(
+    JavaScriptChannel instance,
+    int? timeoutMillis,
+  ) {
+    return enableRpc(instanceManager.getIdentifier(instance)!, timeoutMillis);
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<Map<String?, Object?>> getRpcStatsFromInstance(
+    JavaScriptChannel instance,
+  ) {
+    return getRpcStats(instanceManager.getIdentifier(instance)!);
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setMessageQueueLimitsFromInstance(
+    JavaScriptChannel instance,
+    int maxQueued,
+    String policy,
+    String? coalesceKeyDelimiter,
+  ) {
+    return setMessageQueueLimits(
+      instanceManager.getIdentifier(instance)!,
+      maxQueued,
+      policy,
+      coalesceKeyDelimiter,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<Map<String?, Object?>> getMessageQueueStatsFromInstance(
+    JavaScriptChannel instance,
+  ) {
+    return getMessageQueueStats(instanceManager.getIdentifier(instance)!);
+  }
 }
 
 /// Flutter api implementation for [JavaScriptChannel].
@@ -627,6 +967,46 @@ class JavaScriptChannelFlutterApiImpl extends JavaScriptChannelFlutterApi {
     );
     instance!.postMessage(message);
   }
+
+  @override
+  Future<String?> postWebMessage(
+    int instanceId,
+    String message,
+    String sourceOrigin,
+    bool isMainFrame,
+  ) async {
+    final JavaScriptChannel? instance = instanceManager
+        .getInstanceWithWeakReference(instanceId) as JavaScriptChannel?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain a JavaScriptChannel with instanceId: $instanceId',
+    );
+    if (instance!.postWebMessage == null) {
+      instance.postMessage(message);
+      return null;
+    }
+    return instance.postWebMessage!(message, sourceOrigin, isMainFrame);
+  }
+
+  @override
+  Future<String> callRpcMethod(
+    int instanceId,
+    String method,
+    Object? params,
+  ) async {
+    final JavaScriptChannel? instance = instanceManager
+        .getInstanceWithWeakReference(instanceId) as JavaScriptChannel?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain a JavaScriptChannel with instanceId: $instanceId',
+    );
+    if (instance!.callRpcMethod == null) {
+      return jsonEncode(<String, Object?>{
+        'error': 'The channel ${instance.channelName} does not answer calls.',
+      });
+    }
+    return instance.callRpcMethod!(method, params);
+  }
 }
 
 /// Host api implementation for [WebViewClient].
@@ -918,6 +1298,17 @@ class DownloadListenerHostApiImpl extends DownloadListenerHostApi {
       return create(identifier);
     }
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> enableNativeDownloadsFromInstance(
+    DownloadListener instance,
+    String directory,
+  ) {
+    return enableNativeDownloads(
+      instanceManager.getIdentifier(instance)!,
+      directory,
+    );
+  }
 }
 
 /// Flutter api implementation for [DownloadListener].
@@ -952,6 +1343,55 @@ class DownloadListenerFlutterApiImpl extends DownloadListenerFlutterApi {
       contentLength,
     );
   }
+
+  @override
+  void onNativeDownloadStart(
+    int instanceId,
+    int downloadId,
+    String url,
+    String filePath,
+    String mimetype,
+  ) {
+    final DownloadListener? instance = instanceManager
+        .getInstanceWithWeakReference(instanceId) as DownloadListener?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain a DownloadListener with instanceId: $instanceId',
+    );
+    instance!.onNativeDownloadStart?.call(downloadId, url, filePath, mimetype);
+  }
+
+  @override
+  void onDownloadProgress(
+    int instanceId,
+    int downloadId,
+    int receivedBytes,
+    int totalBytes,
+  ) {
+    final DownloadListener? instance = instanceManager
+        .getInstanceWithWeakReference(instanceId) as DownloadListener?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain a DownloadListener with instanceId: $instanceId',
+    );
+    instance!.onDownloadProgress?.call(downloadId, receivedBytes, totalBytes);
+  }
+
+  @override
+  void onDownloadFinished(
+    int instanceId,
+    int downloadId,
+    String? filePath,
+    String? error,
+  ) {
+    final DownloadListener? instance = instanceManager
+        .getInstanceWithWeakReference(instanceId) as DownloadListener?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain a DownloadListener with instanceId: $instanceId',
+    );
+    instance!.onDownloadFinished?.call(downloadId, filePath, error);
+  }
 }
 
 /// Host api implementation for [DownloadListener].
@@ -1203,6 +1643,60 @@ class WebStorageHostApiImpl extends WebStorageHostApi {
   Future<void> deleteAllDataFromInstance(WebStorage instance) {
     return deleteAllData(instanceManager.getIdentifier(instance)!);
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> createForProfileFromInstance(
+    WebStorage instance,
+    String profileName,
+  ) {
+    return createForProfile(
+      instanceManager.addDartCreatedInstance(instance),
+      profileName,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<List<Map<String?, Object?>>> getOriginsFromInstance(
+    WebStorage instance,
+  ) async {
+    final List<Object?> origins = await getOrigins(
+      instanceManager.getIdentifier(instance)!,
+    );
+    return origins.cast<Map<String?, Object?>>();
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<int> getUsageForOriginFromInstance(
+    WebStorage instance,
+    String origin,
+  ) {
+    return getUsageForOrigin(instanceManager.getIdentifier(instance)!, origin);
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<int> getQuotaForOriginFromInstance(
+    WebStorage instance,
+    String origin,
+  ) {
+    return getQuotaForOrigin(instanceManager.getIdentifier(instance)!, origin);
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> deleteOriginFromInstance(WebStorage instance, String origin) {
+    return deleteOrigin(instanceManager.getIdentifier(instance)!, origin);
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<List<String>> trimToBudgetFromInstance(
+    WebStorage instance,
+    int budgetBytes,
+  ) async {
+    final List<String?> origins = await trimToBudget(
+      instanceManager.getIdentifier(instance)!,
+      budgetBytes,
+    );
+    return origins.cast<String>();
+  }
 }
 
 /// Flutter api implementation for [FileChooserParams].
@@ -1496,6 +1990,18 @@ class CookieManagerHostApiImpl extends CookieManagerHostApi {
     return instance;
   }
 
+  /// Helper method to convert instance ids to objects.
+  CookieManager attachInstanceForProfileFromInstances(
+    CookieManager instance,
+    String profileName,
+  ) {
+    attachInstanceForProfile(
+      instanceManager.addDartCreatedInstance(instance),
+      profileName,
+    );
+    return instance;
+  }
+
   /// Helper method to convert instance ids to objects.
   Future<void> setCookieFromInstances(
     CookieManager instance,
@@ -1514,6 +2020,68 @@ class CookieManagerHostApiImpl extends CookieManagerHostApi {
     return removeAllCookies(instanceManager.getIdentifier(instance)!);
   }
 
+  /// Helper method to convert instance ids to objects.
+  Future<void> setCookiesFromInstances(
+    CookieManager instance,
+    List<String> urls,
+    List<String> values,
+  ) {
+    return setCookies(
+      instanceManager.getIdentifier(instance)!,
+      urls,
+      values,
+    );
+  }
+
+  /// Helper method to convert instance ids to objects.
+  Future<Map<String, List<MapEntry<String, String>>>> getCookiesFromInstances(
+    CookieManager instance,
+    List<String> urls,
+  ) async {
+    final Map<String?, Object?> cookies = await getCookies(
+      instanceManager.getIdentifier(instance)!,
+      urls,
+    );
+    return <String, List<MapEntry<String, String>>>{
+      for (final MapEntry<String?, Object?> entry in cookies.entries)
+        entry.key!: (entry.value! as List<Object?>)
+            .cast<List<Object?>>()
+            .map(
+              (List<Object?> pair) => MapEntry<String, String>(
+                pair[0]! as String,
+                pair[1]! as String,
+              ),
+            )
+            .toList(),
+    };
+  }
+
+  /// Helper method to convert instance ids to objects.
+  Future<Map<String?, Object?>> saveCookieSnapshotFromInstances(
+    CookieManager instance,
+    List<String> urls,
+    String path,
+  ) {
+    return saveCookieSnapshot(
+      instanceManager.getIdentifier(instance)!,
+      urls,
+      path,
+    );
+  }
+
+  /// Helper method to convert instance ids to objects.
+  Future<Map<String?, Object?>> restoreCookieSnapshotFromInstances(
+    CookieManager instance,
+    String path,
+    bool clearExisting,
+  ) {
+    return restoreCookieSnapshot(
+      instanceManager.getIdentifier(instance)!,
+      path,
+      clearExisting,
+    );
+  }
+
   /// Helper method to convert instance ids to objects.
   Future<void> setAcceptThirdPartyCookiesFromInstances(
     CookieManager instance,
@@ -3,6 +3,7 @@
 // found in the LICENSE file.
 
 import 'dart:async';
+import 'dart:convert';
 
 import 'package:flutter/foundation.dart';
 import 'package:flutter/gestures.dart';
@@ -30,8 +31,11 @@ class AndroidWebViewControllerCreationParams
   AndroidWebViewControllerCreationParams({
     @visibleForTesting this.androidWebViewProxy = const AndroidWebViewProxy(),
     @visibleForTesting android_webview.WebStorage? androidWebStorage,
-  })  : androidWebStorage =
-            androidWebStorage ?? android_webview.WebStorage.instance,
+    this.profileName,
+  })  : androidWebStorage = androidWebStorage ??
+            (profileName != null
+                ? android_webview.WebStorage.forProfile(profileName)
+                : android_webview.WebStorage.instance),
         super();
 
   /// Creates a [AndroidWebViewControllerCreationParams] instance based on [PlatformWebViewControllerCreationParams].
@@ -42,11 +46,12 @@ class AndroidWebViewControllerCreationParams
     @visibleForTesting
     AndroidWebViewProxy androidWebViewProxy = const AndroidWebViewProxy(),
     @visibleForTesting android_webview.WebStorage? androidWebStorage,
+    String? profileName,
   }) {
     return AndroidWebViewControllerCreationParams(
       androidWebViewProxy: androidWebViewProxy,
-      androidWebStorage:
-          androidWebStorage ?? android_webview.WebStorage.instance,
+      androidWebStorage: androidWebStorage,
+      profileName: profileName,
     );
   }
 
@@ -58,6 +63,18 @@ class AndroidWebViewControllerCreationParams
   /// Manages the JavaScript storage APIs provided by the [android_webview.WebView].
   @visibleForTesting
   final android_webview.WebStorage androidWebStorage;
+
+  /// The profile with the cookies, storage and HTTP cache of the WebView, or
+  /// null for the default profile.
+  ///
+  /// WebViews with different profiles don't share any browsing data, so each
+  /// tenant of an app can keep its own session and warm cache. The profile is
+  /// created if it doesn't exist. Use the same name with
+  /// [AndroidWebViewCookieManagerCreationParams.profileName] to manage its
+  /// cookies.
+  ///
+  /// Requires [AndroidWebViewController.isMultiProfileSupported].
+  final String? profileName;
 }
 
 /// Android-specific resources that can require permissions.
@@ -100,14 +117,64 @@ class AndroidWebViewController extends PlatformWebViewController {
   /// The native [android_webview.WebView] being controlled.
   late final android_webview.WebView _webView =
       _androidWebViewParams.androidWebViewProxy.createAndroidWebView(
-          onScrollChanged: withWeakReferenceTo(this,
-              (WeakReference<AndroidWebViewController> weakReference) {
-    return (int left, int top, int oldLeft, int oldTop) async {
-      final void Function(ScrollPositionChange)? callback =
-          weakReference.target?._onScrollPositionChangedCallback;
-      callback?.call(ScrollPositionChange(left.toDouble(), top.toDouble()));
-    };
-  }));
+    onScrollChanged: withWeakReferenceTo(this,
+        (WeakReference<AndroidWebViewController> weakReference) {
+      return (int left, int top, int oldLeft, int oldTop) async {
+        final void Function(ScrollPositionChange)? callback =
+            weakReference.target?._onScrollPositionChangedCallback;
+        callback?.call(ScrollPositionChange(left.toDouble(), top.toDouble()));
+      };
+    }),
+    onRenderProcessGone: withWeakReferenceTo(this,
+        (WeakReference<AndroidWebViewController> weakReference) {
+      return (bool didCrash, int crashCount, bool willRestoreState) {
+        final void Function(RenderProcessGoneDetails)? callback =
+            weakReference.target?._onRenderProcessGoneCallback;
+        callback?.call(RenderProcessGoneDetails(
+          didCrash: didCrash,
+          crashCount: crashCount,
+          willRestoreState: willRestoreState,
+        ));
+      };
+    }),
+    onRenderProcessUnresponsive: withWeakReferenceTo(this,
+        (WeakReference<AndroidWebViewController> weakReference) {
+      return (int unresponsiveMillis) {
+        weakReference.target?._onRenderProcessUnresponsiveCallback
+            ?.call(Duration(milliseconds: unresponsiveMillis));
+      };
+    }),
+    onRenderProcessResponsive: withWeakReferenceTo(this,
+        (WeakReference<AndroidWebViewController> weakReference) {
+      return (int unresponsiveMillis) {
+        weakReference.target?._onRenderProcessResponsiveCallback
+            ?.call(Duration(milliseconds: unresponsiveMillis));
+      };
+    }),
+    onNavigationTiming: withWeakReferenceTo(this,
+        (WeakReference<AndroidWebViewController> weakReference) {
+      return (
+        String url,
+        int? commitVisibleMillis,
+        int? firstVisualStateMillis,
+        int pageFinishedMillis,
+      ) {
+        weakReference.target?._onNavigationTimingCallback?.call(
+          NavigationTiming(
+            url: url,
+            commitVisible: commitVisibleMillis != null
+                ? Duration(milliseconds: commitVisibleMillis)
+                : null,
+            firstVisualState: firstVisualStateMillis != null
+                ? Duration(milliseconds: firstVisualStateMillis)
+                : null,
+            pageFinished: Duration(milliseconds: pageFinishedMillis),
+          ),
+        );
+      };
+    }),
+    profileName: _androidWebViewParams.profileName,
+  );
 
   late final android_webview.WebChromeClient _webChromeClient =
       _androidWebViewParams.androidWebViewProxy.createAndroidWebChromeClient(
@@ -351,6 +418,18 @@ class AndroidWebViewController extends PlatformWebViewController {
   void Function(ScrollPositionChange scrollPositionChange)?
       _onScrollPositionChangedCallback;
 
+  void Function(RenderProcessGoneDetails details)? _onRenderProcessGoneCallback;
+
+  void Function(Duration unresponsiveDuration)?
+      _onRenderProcessUnresponsiveCallback;
+
+  void Function(Duration unresponsiveDuration)?
+      _onRenderProcessResponsiveCallback;
+
+  void Function(NavigationTiming timing)? _onNavigationTimingCallback;
+
+  bool _hasLocalContentDirectories = false;
+
   /// Whether to enable the platform's webview content debugging tools.
   ///
   /// Defaults to false.
@@ -362,6 +441,96 @@ class AndroidWebViewController extends PlatformWebViewController {
     return webViewProxy.setWebContentsDebuggingEnabled(enabled);
   }
 
+  /// Retrieves statistics of the native navigation timing of every `WebView`.
+  ///
+  /// See [getNavigationTimingStats].
+  static Future<NavigationTimingStats> getGlobalNavigationTimingStats({
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) async {
+    return NavigationTimingStats.fromMap(
+      await webViewProxy.getGlobalNavigationTimingStats(),
+    );
+  }
+
+  /// Sets whether hidden `WebView`s are discarded when the system reports that
+  /// memory is critically low.
+  ///
+  /// The least recently visible `WebView`s are discarded first. A discarded
+  /// `WebView` releases its renderer and restores its page the next time it
+  /// becomes visible. No navigation callbacks are made for the restore, and
+  /// state that isn't saved with the page, e.g. form input in some pages, may
+  /// be lost.
+  ///
+  /// This is disabled by default.
+  static Future<void> setDiscardHiddenWebViews(
+    bool discard, {
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    return webViewProxy.setDiscardHiddenWebViews(discard);
+  }
+
+  /// Whether a controller can be created with
+  /// [AndroidWebViewControllerCreationParams.profileName].
+  static Future<bool> isMultiProfileSupported({
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    return webViewProxy.isMultiProfileSupported();
+  }
+
+  /// Retrieves the names of every profile, including the default profile.
+  static Future<List<String>> getProfileNames({
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    return webViewProxy.getProfileNames();
+  }
+
+  /// Deletes the profile named [profileName] with its cookies, storage and
+  /// HTTP cache.
+  ///
+  /// Fails if the profile is used by a controller that wasn't disposed or if
+  /// it is the default profile.
+  static Future<void> deleteProfile(
+    String profileName, {
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    return webViewProxy.deleteProfile(profileName);
+  }
+
+  /// Retrieves statistics of the file choosers opened by every `WebView`.
+  static Future<FileChooserStats> getFileChooserStats({
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) async {
+    return FileChooserStats.fromMap(await webViewProxy.getFileChooserStats());
+  }
+
+  /// Sets how the photos chosen for uploads by every `WebView` are processed
+  /// before pages receive them.
+  ///
+  /// Pages receive the original photos if [options] is null, which is the
+  /// default.
+  static Future<void> setUploadImageOptions(
+    AndroidUploadImageOptions? options, {
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    if (options == null) {
+      return webViewProxy.disableUploadImageProcessing();
+    }
+    return webViewProxy.enableUploadImageProcessing(
+      maxWidth: options.maxWidth,
+      maxHeight: options.maxHeight,
+      format: options.format.name,
+      quality: options.quality,
+      cacheBudgetBytes: options.cacheBudgetBytes,
+    );
+  }
+
   /// Identifier used to retrieve the underlying native `WKWebView`.
   ///
   /// This is typically used by other plugins to retrieve the native `WebView`
@@ -375,7 +544,18 @@ class AndroidWebViewController extends PlatformWebViewController {
   @override
   Future<void> loadFile(
     String absoluteFilePath,
-  ) {
+  ) async {
+    if (_hasLocalContentDirectories) {
+      final String? localContentUrl = await _webView.getLocalContentUrl(
+        absoluteFilePath.startsWith('file://')
+            ? Uri.parse(absoluteFilePath).toFilePath()
+            : absoluteFilePath,
+      );
+      if (localContentUrl != null) {
+        return _webView.loadUrl(localContentUrl, <String, String>{});
+      }
+    }
+
     final String url = absoluteFilePath.startsWith('file://')
         ? absoluteFilePath
         : Uri.file(absoluteFilePath).toString();
@@ -471,6 +651,51 @@ class AndroidWebViewController extends PlatformWebViewController {
   Future<void> clearLocalStorage() =>
       _androidWebViewParams.androidWebStorage.deleteAllData();
 
+  /// Retrieves the origins that use the JavaScript storage APIs with their
+  /// usage and quota.
+  ///
+  /// The storage is shared by every [AndroidWebViewController].
+  Future<List<WebStorageOriginUsage>> getWebStorageOrigins() async {
+    final List<Map<String?, Object?>> origins =
+        await _androidWebViewParams.androidWebStorage.getOrigins();
+    return origins.map(WebStorageOriginUsage.fromMap).toList();
+  }
+
+  /// Retrieves the amount of storage in bytes currently used by [origin].
+  ///
+  /// [origin] is a scheme, host and optional port, like
+  /// `https://example.com:8080`.
+  Future<int> getWebStorageUsageForOrigin(String origin) =>
+      _androidWebViewParams.androidWebStorage.getUsageForOrigin(origin);
+
+  /// Retrieves the storage quota in bytes of [origin].
+  Future<int> getWebStorageQuotaForOrigin(String origin) =>
+      _androidWebViewParams.androidWebStorage.getQuotaForOrigin(origin);
+
+  /// Clears the storage used by [origin] without affecting other origins.
+  Future<void> deleteWebStorageOrigin(String origin) =>
+      _androidWebViewParams.androidWebStorage.deleteOrigin(origin);
+
+  /// Deletes the storage of the least recently used origins until all origins
+  /// use at most [budgetBytes].
+  ///
+  /// An origin is used when one of its pages finishes loading in an
+  /// [AndroidWebViewController] of the same profile. The times are kept across
+  /// restarts of the app. Origins that were never used are deleted first, and
+  /// origins used at the same time are deleted largest first.
+  ///
+  /// Returns the deleted origins.
+  Future<List<String>> trimWebStorage(int budgetBytes) {
+    if (budgetBytes < 0) {
+      throw ArgumentError.value(
+        budgetBytes,
+        'budgetBytes',
+        'Must not be negative',
+      );
+    }
+    return _androidWebViewParams.androidWebStorage.trimToBudget(budgetBytes);
+  }
+
   @override
   Future<void> setPlatformNavigationDelegate(
       covariant AndroidNavigationDelegate handler) async {
@@ -502,10 +727,91 @@ class AndroidWebViewController extends PlatformWebViewController {
     return num.tryParse(result) ?? result;
   }
 
+  /// Runs [javaScript] and returns its result as structured data.
+  ///
+  /// Unlike [runJavaScriptReturningResult], which returns the result as it was
+  /// serialized by the `WebView`, the JSON result is decoded on the platform
+  /// side. Objects are returned as `Map<Object?, Object?>`, arrays as
+  /// `List<Object?>`, and numbers as [int] or [double]. Large results are
+  /// decoded on a background thread and never reach Dart as a JSON string.
+  ///
+  /// Returns null if the script evaluated to `null` or `undefined`. Throws a
+  /// [PlatformException] if the result is nested more than 512 arrays or
+  /// objects deep.
+  Future<Object?> runJavaScriptReturningDecodedResult(String javaScript) {
+    return _webView.evaluateJavascriptDecoded(javaScript);
+  }
+
+  /// Bounds the scripts that are evaluated by the `WebView`.
+  ///
+  /// At most [maxInFlight] scripts, including those of [runJavaScript],
+  /// [runJavaScriptReturningResult], [runJavaScriptReturningDecodedResult] and
+  /// [runJavaScriptBatch], are evaluated at the same time. Further scripts
+  /// wait in a queue of at most [maxQueued] scripts, and scripts that don't
+  /// fit in the queue fail immediately. A script that doesn't complete within
+  /// [timeout] after it was queued fails. Null, the default, disables a limit.
+  ///
+  /// Queued scripts fail when a new page starts loading, because they were
+  /// meant for the replaced page. Scripts that are already evaluating still
+  /// complete, but stop counting against [maxInFlight], because the platform
+  /// may never complete scripts of a replaced page. They still time out, and
+  /// fail when the view is disposed. Without limits, scripts are never queued.
+  ///
+  /// Failed scripts complete with a [PlatformException].
+  Future<void> setJavaScriptEvaluationLimits({
+    int? maxInFlight,
+    int? maxQueued,
+    Duration? timeout,
+  }) {
+    return _webView.setJavaScriptEvaluationLimits(
+      maxInFlight: maxInFlight,
+      maxQueued: maxQueued,
+      timeoutMillis: timeout?.inMilliseconds,
+    );
+  }
+
+  /// Retrieves the queue depth and latencies of the scripts evaluated by the
+  /// `WebView`.
+  Future<JavaScriptEvaluationStats> getJavaScriptEvaluationStats() async {
+    return JavaScriptEvaluationStats.fromMap(
+      await _webView.getJavaScriptEvaluationStats(),
+    );
+  }
+
+  /// Runs each of [scripts] in order and returns their results.
+  ///
+  /// The scripts are sent to the platform in one message and evaluated by the
+  /// `WebView` as a single script, instead of one evaluation per script. Each
+  /// script is still evaluated on its own, so an exception or syntax error
+  /// only fails that script and is reported in its
+  /// [JavaScriptBatchResult.error]. Top-level `let`, `const` and `class`
+  /// declarations are scoped to their script.
+  ///
+  /// The batch relies on `eval`. If the Content-Security-Policy of the page
+  /// doesn't allow `'unsafe-eval'`, the scripts are evaluated one message at a
+  /// time instead, and a script that throws has a null
+  /// [JavaScriptBatchResult.result] instead of an error.
+  Future<List<JavaScriptBatchResult>> runJavaScriptBatch(
+    List<String> scripts,
+  ) async {
+    if (scripts.isEmpty) {
+      return <JavaScriptBatchResult>[];
+    }
+    final String? results = await _webView.evaluateJavascriptBatch(scripts);
+    if (results == null || results == 'null') {
+      // The page replaced the batch before it completed, e.g. by navigating.
+      throw StateError('The JavaScript batch did not complete.');
+    }
+    return (jsonDecode(results) as List<Object?>)
+        .cast<Map<String, Object?>>()
+        .map(JavaScriptBatchResult.fromJson)
+        .toList();
+  }
+
   @override
   Future<void> addJavaScriptChannel(
     JavaScriptChannelParams javaScriptChannelParams,
-  ) {
+  ) async {
     final AndroidJavaScriptChannelParams androidJavaScriptParams =
         javaScriptChannelParams is AndroidJavaScriptChannelParams
             ? javaScriptChannelParams
@@ -514,7 +820,11 @@ class AndroidWebViewController extends PlatformWebViewController {
 
     // When JavaScript channel with the same name exists make sure to remove it
     // before registering the new channel.
-    if (_javaScriptChannelParams.containsKey(androidJavaScriptParams.name)) {
+    final AndroidJavaScriptChannelParams? existingParams =
+        _javaScriptChannelParams[androidJavaScriptParams.name];
+    if (existingParams?.allowedOriginRules != null) {
+      _webView.removeWebMessageListener(existingParams!._javaScriptChannel);
+    } else if (existingParams != null) {
       _webView
           .removeJavaScriptChannel(androidJavaScriptParams._javaScriptChannel);
     }
@@ -522,6 +832,28 @@ class AndroidWebViewController extends PlatformWebViewController {
     _javaScriptChannelParams[androidJavaScriptParams.name] =
         androidJavaScriptParams;
 
+    final int? maxQueuedMessages = androidJavaScriptParams.maxQueuedMessages;
+    if (maxQueuedMessages != null) {
+      await androidJavaScriptParams._javaScriptChannel.setMessageQueueLimits(
+        maxQueued: maxQueuedMessages,
+        policy: androidJavaScriptParams.messageQueuePolicy.name,
+        coalesceKeyDelimiter: androidJavaScriptParams.coalesceKeyDelimiter,
+      );
+    }
+
+    final Set<String>? allowedOriginRules =
+        androidJavaScriptParams.allowedOriginRules;
+    if (allowedOriginRules != null) {
+      if (androidJavaScriptParams.rpcHandler != null) {
+        await androidJavaScriptParams._javaScriptChannel.enableRpc(
+          timeoutMillis: androidJavaScriptParams.rpcTimeout?.inMilliseconds,
+        );
+      }
+      return _webView.addWebMessageListener(
+        androidJavaScriptParams._javaScriptChannel,
+        allowedOriginRules.toList(),
+      );
+    }
     return _webView
         .addJavaScriptChannel(androidJavaScriptParams._javaScriptChannel);
   }
@@ -535,10 +867,51 @@ class AndroidWebViewController extends PlatformWebViewController {
     }
 
     _javaScriptChannelParams.remove(javaScriptChannelName);
+    if (javaScriptChannelParams.allowedOriginRules != null) {
+      return _webView
+          .removeWebMessageListener(javaScriptChannelParams._javaScriptChannel);
+    }
     return _webView
         .removeJavaScriptChannel(javaScriptChannelParams._javaScriptChannel);
   }
 
+  /// Retrieves the number of calls in flight and the call latencies of the
+  /// channel named [channelName], which must have an
+  /// [AndroidJavaScriptChannelParams.rpcHandler].
+  Future<JavaScriptRpcStats> getJavaScriptRpcStats(String channelName) async {
+    final AndroidJavaScriptChannelParams? params =
+        _javaScriptChannelParams[channelName];
+    if (params?.rpcHandler == null) {
+      throw ArgumentError.value(
+        channelName,
+        'channelName',
+        'No channel with an rpcHandler was added with this name',
+      );
+    }
+    return JavaScriptRpcStats.fromMap(
+      await params!._javaScriptChannel.getRpcStats(),
+    );
+  }
+
+  /// Retrieves the number of delivered, dropped and coalesced messages of the
+  /// channel named [channelName].
+  Future<JavaScriptChannelStats> getJavaScriptChannelStats(
+    String channelName,
+  ) async {
+    final AndroidJavaScriptChannelParams? params =
+        _javaScriptChannelParams[channelName];
+    if (params == null) {
+      throw ArgumentError.value(
+        channelName,
+        'channelName',
+        'No channel was added with this name',
+      );
+    }
+    return JavaScriptChannelStats.fromMap(
+      await params._javaScriptChannel.getMessageQueueStats(),
+    );
+  }
+
   @override
   Future<String?> getTitle() => _webView.getTitle();
 
@@ -577,6 +950,272 @@ class AndroidWebViewController extends PlatformWebViewController {
     _onScrollPositionChangedCallback = onScrollPositionChange;
   }
 
+  /// Sets the callback that is invoked after the render process of the
+  /// `WebView` is gone.
+  ///
+  /// The native `WebView` is recreated with the same settings, clients and
+  /// JavaScript channels, and the page is restored, before this is called. A
+  /// page that keeps crashing is restored with an increasing delay and is
+  /// eventually not restored at all. See [RenderProcessGoneDetails].
+  ///
+  /// On some platform view composition modes the `WebViewWidget` needs to be
+  /// rebuilt with a new key to display the recreated `WebView`.
+  ///
+  /// Only invoked on Android versions 26+.
+  Future<void> setOnRenderProcessGone(
+    void Function(RenderProcessGoneDetails details)? onRenderProcessGone,
+  ) async {
+    _onRenderProcessGoneCallback = onRenderProcessGone;
+  }
+
+  /// Sets the callback that is invoked when the render process of the `WebView`
+  /// stops responding.
+  ///
+  /// The callback receives how long the render process has been unresponsive,
+  /// which includes the roughly five seconds the platform waits before
+  /// reporting it. It may be invoked repeatedly while the render process stays
+  /// unresponsive.
+  ///
+  /// Only invoked on Android versions 29+.
+  Future<void> setOnRenderProcessUnresponsive(
+    void Function(Duration unresponsiveDuration)? onRenderProcessUnresponsive,
+  ) async {
+    _onRenderProcessUnresponsiveCallback = onRenderProcessUnresponsive;
+  }
+
+  /// Sets the callback that is invoked when the render process of the `WebView`
+  /// responds again after it was reported as unresponsive.
+  ///
+  /// The callback receives how long the render process was unresponsive.
+  ///
+  /// Only invoked on Android versions 29+.
+  Future<void> setOnRenderProcessResponsive(
+    void Function(Duration unresponsiveDuration)? onRenderProcessResponsive,
+  ) async {
+    _onRenderProcessResponsiveCallback = onRenderProcessResponsive;
+  }
+
+  /// Sets how long the render process of the `WebView` may stay unresponsive
+  /// before it is terminated.
+  ///
+  /// After the render process is terminated, the `WebView` is recreated and
+  /// the page is restored as described in [setOnRenderProcessGone]. Passing
+  /// null, the default, never terminates the render process.
+  ///
+  /// Throws a [PlatformException] when the platform doesn't support
+  /// terminating the render process.
+  Future<void> setRenderProcessHangBudget(Duration? budget) {
+    return _webView.setRenderProcessHangBudget(budget?.inMilliseconds);
+  }
+
+  /// Retrieves statistics of how long the render process of the `WebView` was
+  /// unresponsive.
+  Future<RenderProcessHangStats> getRenderProcessHangStats() async {
+    return RenderProcessHangStats.fromMap(
+      await _webView.getRenderProcessHangStats(),
+    );
+  }
+
+  /// Sets the callback that is invoked with the native timing of every
+  /// finished navigation.
+  ///
+  /// The timing is measured by the platform with a monotonic clock, so it isn't
+  /// skewed by the latency of delivering page events to Dart.
+  Future<void> setOnNavigationTiming(
+    void Function(NavigationTiming timing)? onNavigationTiming,
+  ) {
+    _onNavigationTimingCallback = onNavigationTiming;
+    return _webView.setNavigationTimingEventsEnabled(
+      onNavigationTiming != null,
+    );
+  }
+
+  /// Retrieves statistics of the native timing of the navigations of the
+  /// `WebView`.
+  Future<NavigationTimingStats> getNavigationTimingStats() async {
+    return NavigationTimingStats.fromMap(
+      await _webView.getNavigationTimingStats(),
+    );
+  }
+
+  /// Sets how many requests of the `WebView` are kept in its request log.
+  ///
+  /// The log records the url, method, timing and error status of each request
+  /// made by the `WebView`. When the log is full, the oldest request is
+  /// replaced. The log is cleared whenever the capacity is set.
+  ///
+  /// Passing 0, the default, disables the log.
+  Future<void> setNetworkRequestLogCapacity(int capacity) {
+    return _webView.setNetworkRequestLogCapacity(capacity);
+  }
+
+  /// Exports the request log of the `WebView` as a HAR 1.2 JSON document.
+  ///
+  /// The platform doesn't report when a request succeeds, so only failed
+  /// requests have a response status. Timings that weren't reported are -1.
+  ///
+  /// See [setNetworkRequestLogCapacity].
+  Future<String> exportNetworkRequestLog() async {
+    return jsonEncode(await _webView.exportNetworkRequestLog());
+  }
+
+  /// Loads [baseUrl] with a document that is streamed from [chunks].
+  ///
+  /// Unlike [loadHtmlString], the document isn't sent to the platform as a
+  /// single string. Each chunk is passed to the `WebView` as it arrives and
+  /// the `WebView` starts rendering before the last chunk was received. The
+  /// next chunk is only requested from [chunks] after the previous one was
+  /// accepted, so large documents don't need to be buffered.
+  ///
+  /// The document is served once as the response to [baseUrl], so relative
+  /// urls in the document are resolved against [baseUrl]. Reloading the page
+  /// requests [baseUrl] from the network.
+  ///
+  /// If [chunks] emits an error, the load is cancelled and the error is
+  /// rethrown. If the `WebView` doesn't read a chunk within 30 seconds, e.g.
+  /// because it navigated elsewhere, the load is cancelled and a
+  /// [PlatformException] is thrown. The load is also cancelled when the
+  /// `WebView` is disposed.
+  ///
+  /// Requires Android Lollipop or higher.
+  Future<void> loadHtmlStream(
+    Stream<List<int>> chunks, {
+    required String baseUrl,
+    String mimeType = 'text/html',
+    String encoding = 'UTF-8',
+  }) async {
+    final int loadId = await _webView.beginStreamingLoad(
+      baseUrl,
+      mimeType: mimeType,
+      encoding: encoding,
+    );
+    try {
+      await for (final List<int> chunk in chunks) {
+        await _webView.writeStreamingLoadChunk(
+          loadId,
+          chunk is Uint8List ? chunk : Uint8List.fromList(chunk),
+        );
+      }
+    } catch (_) {
+      await _webView.cancelStreamingLoad(loadId);
+      rethrow;
+    }
+    await _webView.finishStreamingLoad(loadId);
+  }
+
+  /// Loads [baseUrl] with the contents of the file at [absoluteFilePath].
+  ///
+  /// The file is read by the platform when the `WebView` requests [baseUrl],
+  /// so its contents are never sent over the platform channel. Unlike
+  /// [loadFile], the document has the origin of [baseUrl] and doesn't require
+  /// file access to be enabled.
+  ///
+  /// Requires Android Lollipop or higher.
+  Future<void> loadHtmlFile(
+    String absoluteFilePath, {
+    required String baseUrl,
+    String mimeType = 'text/html',
+    String encoding = 'UTF-8',
+  }) async {
+    await _webView.beginFileLoad(
+      baseUrl,
+      absoluteFilePath,
+      mimeType: mimeType,
+      encoding: encoding,
+    );
+  }
+
+  /// Loads [uri] with a POST request whose body is read from [source].
+  ///
+  /// [source] is an absolute file path or a `content://` URI. Unlike
+  /// [loadRequest], the body isn't sent over the platform channel. It is
+  /// streamed from [source] while the request is made, so memory usage doesn't
+  /// depend on the size of the body.
+  ///
+  /// The request is made by the platform on behalf of the `WebView` and
+  /// shares the cookies of its profile. Redirects are followed without updating the url of
+  /// the `WebView`, and reloading the page requests [uri] with a GET request.
+  Future<void> loadPostRequestFromFile(
+    Uri uri,
+    String source, {
+    String contentType = 'application/octet-stream',
+  }) {
+    if (!uri.hasScheme) {
+      throw ArgumentError('uri is required to have a scheme.');
+    }
+    return _webView.postUrlFromFile(
+      uri.toString(),
+      source,
+      contentType: contentType,
+    );
+  }
+
+  /// Serves the files in [absoluteDirectoryPath] at [origin] followed by
+  /// [pathPrefix].
+  ///
+  /// Requests for the files are answered natively from memory-mapped files,
+  /// including range requests for media, so file access doesn't need to be
+  /// enabled and the content has a regular web origin. Responses have an
+  /// `ETag`, a `Last-Modified` date and a `Cache-Control` max age of
+  /// [cacheMaxAge].
+  ///
+  /// [pathPrefix] must start and end with `/`. Once a directory was added,
+  /// [loadFile] loads files in the directory from their url instead of a
+  /// `file://` url.
+  Future<void> addLocalContentDirectory(
+    String absoluteDirectoryPath, {
+    String origin = 'https://appassets.androidplatform.net',
+    required String pathPrefix,
+    Duration cacheMaxAge = const Duration(days: 365),
+  }) async {
+    await _webView.addLocalContentDirectory(
+      origin: origin,
+      pathPrefix: pathPrefix,
+      directory: absoluteDirectoryPath,
+      cacheMaxAgeSeconds: cacheMaxAge.inSeconds,
+    );
+    _hasLocalContentDirectories = true;
+  }
+
+  /// Stops serving every directory added with [addLocalContentDirectory].
+  Future<void> clearLocalContentDirectories() async {
+    await _webView.clearLocalContentDirectories();
+    _hasLocalContentDirectories = false;
+  }
+
+  /// Runs [script] at the start of every document whose origin matches one of
+  /// [allowedOriginRules], before any script of the document.
+  ///
+  /// The script is added once and runs for every navigation, so it doesn't
+  /// need to be evaluated again from an `onPageStarted` callback, which races
+  /// the page. A rule is either `*` or an origin such as
+  /// `https://flutter.dev`, where the host may start with `*.` to match its
+  /// subdomains.
+  ///
+  /// Scripts with the same content are shared between `WebView`s, and adding a
+  /// script this `WebView` already runs for the same rules returns the handle
+  /// of the existing script. Returns the handle that removes the script with
+  /// [removeDocumentStartJavaScript].
+  ///
+  /// Throws a [PlatformException] if the device doesn't support document start
+  /// scripts.
+  Future<int> addDocumentStartJavaScript(
+    String script, {
+    Set<String> allowedOriginRules = const <String>{'*'},
+  }) {
+    return _webView.addDocumentStartJavaScript(
+      script,
+      allowedOriginRules.toList(),
+    );
+  }
+
+  /// Stops running the script of [handle] for new documents.
+  ///
+  /// Documents that are already loaded keep the changes made by the script.
+  Future<void> removeDocumentStartJavaScript(int handle) {
+    return _webView.removeDocumentStartJavaScript(handle);
+  }
+
   /// Sets the restrictions that apply on automatic media playback.
   Future<void> setMediaPlaybackRequiresUserGesture(bool require) {
     return _webView.settings.setMediaPlaybackRequiresUserGesture(require);
@@ -793,6 +1432,530 @@ class GeolocationPermissionsResponse {
   final bool retain;
 }
 
+/// Details about the render process of a `WebView` being gone.
+///
+/// See [AndroidWebViewController.setOnRenderProcessGone].
+@immutable
+class RenderProcessGoneDetails {
+  /// Constructs a [RenderProcessGoneDetails].
+  const RenderProcessGoneDetails({
+    required this.didCrash,
+    required this.crashCount,
+    required this.willRestoreState,
+  });
+
+  /// Whether the render process crashed, as opposed to being killed by the
+  /// system to reclaim memory.
+  final bool didCrash;
+
+  /// The number of times the render process of this `WebView` was gone.
+  final int crashCount;
+
+  /// Whether the recreated `WebView` will restore the page that was displayed.
+  ///
+  /// This is false when the page keeps crashing.
+  final bool willRestoreState;
+}
+
+/// Summary of latencies measured by the platform.
+@immutable
+class LatencyStats {
+  /// Constructs a [LatencyStats].
+  const LatencyStats({
+    required this.count,
+    required this.sum,
+    required this.min,
+    required this.max,
+    required this.p50,
+    required this.p90,
+    required this.p99,
+    required this.bucketCounts,
+  });
+
+  /// Constructs a [LatencyStats] from a map sent by the platform.
+  LatencyStats.fromMap(Map<String?, Object?> map)
+      : count = map['count']! as int,
+        sum = Duration(milliseconds: map['sumMillis']! as int),
+        min = Duration(milliseconds: map['minMillis']! as int),
+        max = Duration(milliseconds: map['maxMillis']! as int),
+        p50 = Duration(milliseconds: map['p50Millis']! as int),
+        p90 = Duration(milliseconds: map['p90Millis']! as int),
+        p99 = Duration(milliseconds: map['p99Millis']! as int),
+        bucketCounts = (map['bucketCounts']! as List<Object?>).cast<int>();
+
+  /// The number of measured latencies.
+  final int count;
+
+  /// The sum of all measured latencies.
+  final Duration sum;
+
+  /// The smallest measured latency.
+  final Duration min;
+
+  /// The largest measured latency.
+  final Duration max;
+
+  /// The estimated median latency.
+  final Duration p50;
+
+  /// The estimated 90th percentile latency.
+  final Duration p90;
+
+  /// The estimated 99th percentile latency.
+  final Duration p99;
+
+  /// The number of latencies in each histogram bucket.
+  ///
+  /// Bucket `i` counts latencies up to `2^i` milliseconds that didn't fit in
+  /// the previous buckets. The last bucket counts every larger latency.
+  final List<int> bucketCounts;
+}
+
+/// Statistics of how long the render process of a `WebView` was unresponsive.
+///
+/// See [AndroidWebViewController.getRenderProcessHangStats].
+@immutable
+class RenderProcessHangStats {
+  /// Constructs a [RenderProcessHangStats].
+  const RenderProcessHangStats({
+    required this.unresponsiveDurations,
+    required this.unresponsiveCount,
+    required this.terminatedCount,
+    required this.isUnresponsive,
+  });
+
+  /// Constructs a [RenderProcessHangStats] from a map sent by the platform.
+  RenderProcessHangStats.fromMap(Map<String?, Object?> map)
+      : unresponsiveDurations = LatencyStats.fromMap(map),
+        unresponsiveCount = map['unresponsiveCount']! as int,
+        terminatedCount = map['terminatedCount']! as int,
+        isUnresponsive = map['isUnresponsive']! as bool;
+
+  /// How long the render process was unresponsive each time it recovered or
+  /// was terminated.
+  final LatencyStats unresponsiveDurations;
+
+  /// The number of times the render process became unresponsive.
+  final int unresponsiveCount;
+
+  /// The number of times the render process was terminated for exceeding the
+  /// hang budget.
+  final int terminatedCount;
+
+  /// Whether the render process is currently unresponsive.
+  final bool isUnresponsive;
+}
+
+/// Native timing of the milestones of a finished navigation.
+///
+/// Every duration is measured since the platform reported that the navigation
+/// started.
+///
+/// See [AndroidWebViewController.setOnNavigationTiming].
+@immutable
+class NavigationTiming {
+  /// Constructs a [NavigationTiming].
+  const NavigationTiming({
+    required this.url,
+    required this.commitVisible,
+    required this.firstVisualState,
+    required this.pageFinished,
+  });
+
+  /// The url of the finished page.
+  final String url;
+
+  /// When the new page was about to become visible.
+  ///
+  /// Null if the platform doesn't report it, or if it happened after the page
+  /// finished loading.
+  final Duration? commitVisible;
+
+  /// When the first frame of the new page was ready to be drawn.
+  ///
+  /// Null if the platform doesn't report it, or if it happened after the page
+  /// finished loading.
+  final Duration? firstVisualState;
+
+  /// When the page finished loading.
+  final Duration pageFinished;
+}
+
+/// Statistics of the native timing of navigations.
+///
+/// See [AndroidWebViewController.getNavigationTimingStats].
+@immutable
+class NavigationTimingStats {
+  /// Constructs a [NavigationTimingStats].
+  const NavigationTimingStats({
+    required this.navigationCount,
+    required this.commitVisible,
+    required this.firstVisualState,
+    required this.pageFinished,
+  });
+
+  /// Constructs a [NavigationTimingStats] from a map sent by the platform.
+  NavigationTimingStats.fromMap(Map<String?, Object?> map)
+      : navigationCount = map['navigationCount']! as int,
+        commitVisible = LatencyStats.fromMap(
+          (map['commitVisible']! as Map<Object?, Object?>)
+              .cast<String?, Object?>(),
+        ),
+        firstVisualState = LatencyStats.fromMap(
+          (map['firstVisualState']! as Map<Object?, Object?>)
+              .cast<String?, Object?>(),
+        ),
+        pageFinished = LatencyStats.fromMap(
+          (map['pageFinished']! as Map<Object?, Object?>)
+              .cast<String?, Object?>(),
+        );
+
+  /// The number of finished navigations.
+  final int navigationCount;
+
+  /// Latencies until the new page was about to become visible.
+  final LatencyStats commitVisible;
+
+  /// Latencies until the first frame of the new page was ready to be drawn.
+  final LatencyStats firstVisualState;
+
+  /// Latencies until the page finished loading.
+  final LatencyStats pageFinished;
+}
+
+/// Statistics of the scripts evaluated by a `WebView`.
+///
+/// See [AndroidWebViewController.getJavaScriptEvaluationStats].
+@immutable
+class JavaScriptEvaluationStats {
+  /// Constructs a [JavaScriptEvaluationStats].
+  const JavaScriptEvaluationStats({
+    required this.inFlightCount,
+    required this.queueDepth,
+    required this.maxQueueDepth,
+    required this.completedCount,
+    required this.timedOutCount,
+    required this.cancelledCount,
+    required this.rejectedCount,
+    required this.evaluation,
+    required this.queueWait,
+  });
+
+  /// Constructs a [JavaScriptEvaluationStats] from a map sent by the
+  /// platform.
+  JavaScriptEvaluationStats.fromMap(Map<String?, Object?> map)
+      : inFlightCount = map['inFlightCount']! as int,
+        queueDepth = map['queueDepth']! as int,
+        maxQueueDepth = map['maxQueueDepth']! as int,
+        completedCount = map['completedCount']! as int,
+        timedOutCount = map['timedOutCount']! as int,
+        cancelledCount = map['cancelledCount']! as int,
+        rejectedCount = map['rejectedCount']! as int,
+        evaluation = LatencyStats.fromMap(
+          (map['evaluation']! as Map<Object?, Object?>)
+              .cast<String?, Object?>(),
+        ),
+        queueWait = LatencyStats.fromMap(
+          (map['queueWait']! as Map<Object?, Object?>)
+              .cast<String?, Object?>(),
+        );
+
+  /// The number of scripts that are being evaluated.
+  final int inFlightCount;
+
+  /// The number of scripts waiting to be evaluated.
+  final int queueDepth;
+
+  /// The largest number of scripts that waited to be evaluated at once.
+  final int maxQueueDepth;
+
+  /// The number of scripts that completed.
+  final int completedCount;
+
+  /// The number of scripts that failed because they timed out.
+  final int timedOutCount;
+
+  /// The number of scripts that failed because a new page started loading
+  /// while they were queued, or because the `WebView` was disposed.
+  final int cancelledCount;
+
+  /// The number of scripts that failed because the queue was full.
+  final int rejectedCount;
+
+  /// Latencies from starting to evaluate a script until it completed.
+  final LatencyStats evaluation;
+
+  /// Latencies from queueing a script until it started to be evaluated.
+  final LatencyStats queueWait;
+}
+
+/// The encoding of the photos processed by
+/// [AndroidWebViewController.setUploadImageOptions].
+enum AndroidUploadImageFormat {
+  /// JPEG, which every server accepts.
+  jpeg,
+
+  /// Lossy WebP, which is smaller than JPEG at the same quality.
+  webp,
+}
+
+/// How the photos chosen for uploads are processed before pages receive them.
+///
+/// JPEG and HEIF photos are scaled to fit [maxWidth] by [maxHeight], rotated
+/// upright and re-encoded without their EXIF metadata, which includes their
+/// location. Other files, and every file on versions older than Android N,
+/// are passed unchanged.
+///
+/// See [AndroidWebViewController.setUploadImageOptions].
+@immutable
+class AndroidUploadImageOptions {
+  /// Constructs an [AndroidUploadImageOptions].
+  const AndroidUploadImageOptions({
+    this.maxWidth = 2048,
+    this.maxHeight = 2048,
+    this.format = AndroidUploadImageFormat.jpeg,
+    this.quality = 85,
+    this.cacheBudgetBytes = 50 * 1024 * 1024,
+  })  : assert(maxWidth > 0),
+        assert(maxHeight > 0),
+        assert(quality >= 0 && quality <= 100),
+        assert(cacheBudgetBytes >= 0);
+
+  /// The maximum width of a processed photo in pixels.
+  final int maxWidth;
+
+  /// The maximum height of a processed photo in pixels.
+  final int maxHeight;
+
+  /// The encoding of the processed photos.
+  final AndroidUploadImageFormat format;
+
+  /// The quality of the encoder in the range [0, 100].
+  final int quality;
+
+  /// How many bytes the processed photos may use on the device.
+  ///
+  /// The least recently processed photos are deleted when they exceed the
+  /// budget. Photos processed within the last hour are kept, because a page
+  /// may still upload them.
+  final int cacheBudgetBytes;
+}
+
+/// Statistics of the file choosers opened by pages.
+///
+/// See [AndroidWebViewController.getFileChooserStats].
+@immutable
+class FileChooserStats {
+  /// Constructs a [FileChooserStats].
+  const FileChooserStats({
+    required this.resolvedFileCount,
+    required this.processedImageCount,
+    required this.cancelledCount,
+    required this.resolution,
+  });
+
+  /// Constructs a [FileChooserStats] from a map sent by the platform.
+  FileChooserStats.fromMap(Map<String?, Object?> map)
+      : resolvedFileCount = map['resolvedFileCount']! as int,
+        processedImageCount = map['processedImageCount']! as int,
+        cancelledCount = map['cancelledCount']! as int,
+        resolution = LatencyStats.fromMap(
+          (map['resolution']! as Map<Object?, Object?>)
+              .cast<String?, Object?>(),
+        );
+
+  /// The number of files that were passed to pages.
+  final int resolvedFileCount;
+
+  /// The number of passed files that were photos processed according to
+  /// [AndroidWebViewController.setUploadImageOptions].
+  final int processedImageCount;
+
+  /// The number of choosers that were cancelled because their `WebView` was
+  /// disposed, the page opened another chooser or the activity was detached.
+  final int cancelledCount;
+
+  /// Latencies from a chooser returning its files until they were passed to
+  /// the page.
+  ///
+  /// The size and type of each file are retrieved in the background during
+  /// this time.
+  final LatencyStats resolution;
+}
+
+/// Statistics of the calls of a channel with an
+/// [AndroidJavaScriptChannelParams.rpcHandler].
+///
+/// See [AndroidWebViewController.getJavaScriptRpcStats].
+@immutable
+class JavaScriptRpcStats {
+  /// Constructs a [JavaScriptRpcStats].
+  const JavaScriptRpcStats({
+    required this.inFlightCount,
+    required this.maxInFlightCount,
+    required this.completedCount,
+    required this.failedCount,
+    required this.timedOutCount,
+    required this.invalidCount,
+    required this.latency,
+  });
+
+  /// Constructs a [JavaScriptRpcStats] from a map sent by the platform.
+  JavaScriptRpcStats.fromMap(Map<String?, Object?> map)
+      : inFlightCount = map['inFlightCount']! as int,
+        maxInFlightCount = map['maxInFlightCount']! as int,
+        completedCount = map['completedCount']! as int,
+        failedCount = map['failedCount']! as int,
+        timedOutCount = map['timedOutCount']! as int,
+        invalidCount = map['invalidCount']! as int,
+        latency = LatencyStats.fromMap(
+          (map['latency']! as Map<Object?, Object?>).cast<String?, Object?>(),
+        );
+
+  /// The number of calls waiting for a response.
+  final int inFlightCount;
+
+  /// The largest number of calls that waited for a response at once.
+  final int maxInFlightCount;
+
+  /// The number of calls that returned a result.
+  final int completedCount;
+
+  /// The number of calls that failed because the handler threw.
+  final int failedCount;
+
+  /// The number of calls that failed because they timed out.
+  final int timedOutCount;
+
+  /// The number of call messages that were dropped because they were
+  /// malformed or nested too deeply.
+  final int invalidCount;
+
+  /// The time from receiving a call to posting its response.
+  final LatencyStats latency;
+}
+
+/// Statistics of the messages posted to a JavaScript channel.
+///
+/// See [AndroidWebViewController.getJavaScriptChannelStats].
+@immutable
+class JavaScriptChannelStats {
+  /// Constructs a [JavaScriptChannelStats].
+  const JavaScriptChannelStats({
+    required this.queueDepth,
+    required this.maxQueueDepth,
+    required this.deliveredCount,
+    required this.droppedCount,
+    required this.coalescedCount,
+    required this.blockedCount,
+  });
+
+  /// Constructs a [JavaScriptChannelStats] from a map sent by the platform.
+  JavaScriptChannelStats.fromMap(Map<String?, Object?> map)
+      : queueDepth = map['queueDepth']! as int,
+        maxQueueDepth = map['maxQueueDepth']! as int,
+        deliveredCount = map['deliveredCount']! as int,
+        droppedCount = map['droppedCount']! as int,
+        coalescedCount = map['coalescedCount']! as int,
+        blockedCount = map['blockedCount']! as int;
+
+  /// The number of messages waiting to be delivered.
+  final int queueDepth;
+
+  /// The largest number of messages that waited to be delivered at once.
+  final int maxQueueDepth;
+
+  /// The number of messages delivered to the channel.
+  final int deliveredCount;
+
+  /// The number of messages dropped because the queue was full.
+  final int droppedCount;
+
+  /// The number of messages that replaced a queued message with the same key.
+  final int coalescedCount;
+
+  /// The number of messages that made the JavaScript thread wait for room in
+  /// the queue.
+  final int blockedCount;
+}
+
+/// What happens to a message posted to a JavaScript channel whose queue is
+/// full.
+///
+/// See [AndroidJavaScriptChannelParams.maxQueuedMessages].
+enum JavaScriptMessageQueuePolicy {
+  /// The oldest queued message is dropped.
+  dropOldest,
+
+  /// The new message is dropped.
+  dropNewest,
+
+  /// A queued message with the same key is replaced by the new message, even
+  /// if the queue isn't full. If there is none, the oldest queued message is
+  /// dropped.
+  ///
+  /// The key of a message is the text before
+  /// [AndroidJavaScriptChannelParams.coalesceKeyDelimiter], or the whole
+  /// message if it doesn't contain the delimiter.
+  coalesceByKey,
+
+  /// The JavaScript thread waits until the queue has room for the message.
+  ///
+  /// The page is unresponsive while it waits, which is bounded to a few
+  /// seconds after which the message is dropped.
+  block,
+}
+
+/// The outcome of a script run by
+/// [AndroidWebViewController.runJavaScriptBatch].
+@immutable
+class JavaScriptBatchResult {
+  /// Constructs a [JavaScriptBatchResult].
+  const JavaScriptBatchResult({this.result, this.error});
+
+  /// Constructs a [JavaScriptBatchResult] from an entry of the batch result.
+  JavaScriptBatchResult.fromJson(Map<String, Object?> json)
+      : result = json['result'] != null
+            ? jsonDecode(json['result']! as String)
+            : null,
+        error = json['error'] as String?;
+
+  /// The value the script evaluated to, decoded from JSON.
+  ///
+  /// Null if the script threw, or if its value can't be represented as JSON.
+  final Object? result;
+
+  /// The string representation of the exception thrown by the script, or null
+  /// if the script completed.
+  final String? error;
+}
+
+/// The storage used by an origin through the JavaScript storage APIs.
+@immutable
+class WebStorageOriginUsage {
+  /// Constructs a [WebStorageOriginUsage].
+  const WebStorageOriginUsage({
+    required this.origin,
+    required this.usage,
+    required this.quota,
+  });
+
+  /// Constructs a [WebStorageOriginUsage] from a map sent by the platform.
+  WebStorageOriginUsage.fromMap(Map<String?, Object?> map)
+      : origin = map['origin']! as String,
+        usage = map['usage']! as int,
+        quota = map['quota']! as int;
+
+  /// The scheme, host and optional port of the origin.
+  final String origin;
+
+  /// The amount of storage in bytes currently used by the origin.
+  final int usage;
+
+  /// The storage quota in bytes of the origin.
+  final int quota;
+}
+
 /// Mode of how to select files for a file chooser.
 enum FileSelectorMode {
   /// Open single file and requires that the file exists before allowing the
@@ -860,9 +2023,19 @@ class AndroidJavaScriptChannelParams extends JavaScriptChannelParams {
   AndroidJavaScriptChannelParams({
     required super.name,
     required super.onMessageReceived,
+    this.allowedOriginRules,
+    this.replyToMessage,
+    this.rpcHandler,
+    this.rpcTimeout,
+    this.maxQueuedMessages,
+    this.messageQueuePolicy = JavaScriptMessageQueuePolicy.dropOldest,
+    this.coalesceKeyDelimiter = ':',
     @visibleForTesting
     AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
   })  : assert(name.isNotEmpty),
+        assert(replyToMessage == null || allowedOriginRules != null),
+        assert(rpcHandler == null || allowedOriginRules != null),
+        assert(maxQueuedMessages == null || maxQueuedMessages > 0),
         _javaScriptChannel = webViewProxy.createJavaScriptChannel(
           name,
           postMessage: withWeakReferenceTo(
@@ -879,6 +2052,82 @@ class AndroidJavaScriptChannelParams extends JavaScriptChannelParams {
               };
             },
           ),
+          postWebMessage: replyToMessage != null
+              ? withWeakReferenceTo(
+                  replyToMessage,
+                  (
+                    WeakReference<
+                            FutureOr<String?> Function(
+                                AndroidJavaScriptMessage)>
+                        weakReference,
+                  ) {
+                    return (
+                      String message,
+                      String sourceOrigin,
+                      bool isMainFrame,
+                    ) async {
+                      return weakReference.target?.call(
+                        AndroidJavaScriptMessage(
+                          message: message,
+                          sourceOrigin: sourceOrigin,
+                          isMainFrame: isMainFrame,
+                        ),
+                      );
+                    };
+                  },
+                )
+              : withWeakReferenceTo(
+                  onMessageReceived,
+                  (
+                    WeakReference<void Function(JavaScriptMessage)>
+                        weakReference,
+                  ) {
+                    return (
+                      String message,
+                      String sourceOrigin,
+                      bool isMainFrame,
+                    ) async {
+                      weakReference.target?.call(
+                        AndroidJavaScriptMessage(
+                          message: message,
+                          sourceOrigin: sourceOrigin,
+                          isMainFrame: isMainFrame,
+                        ),
+                      );
+                      return null;
+                    };
+                  },
+                ),
+          callRpcMethod: rpcHandler != null
+              ? withWeakReferenceTo(
+                  rpcHandler,
+                  (
+                    WeakReference<
+                            FutureOr<Object?> Function(
+                                String method, Object? params)>
+                        weakReference,
+                  ) {
+                    return (String method, Object? params) async {
+                      try {
+                        final FutureOr<Object?> Function(String, Object?)?
+                            handler = weakReference.target;
+                        if (handler == null) {
+                          return jsonEncode(<String, Object?>{
+                            'error': 'The channel $name was removed.',
+                          });
+                        }
+                        return jsonEncode(<String, Object?>{
+                          'result': await handler(method, params),
+                        });
+                      } catch (error) {
+                        return jsonEncode(<String, Object?>{
+                          'error': '$error',
+                        });
+                      }
+                    };
+                  },
+                )
+              : null,
         );
 
   /// Constructs a [AndroidJavaScriptChannelParams] using a
@@ -893,9 +2142,94 @@ class AndroidJavaScriptChannelParams extends JavaScriptChannelParams {
           webViewProxy: webViewProxy,
         );
 
+  /// The origins of the frames the channel is exposed to, or null to expose
+  /// the channel to every frame.
+  ///
+  /// When set, the channel is added with a `WebMessageListener` instead of a
+  /// JavaScript interface. `postMessage` then doesn't block the JavaScript
+  /// thread and messages are delivered without switching threads. Messages
+  /// are [AndroidJavaScriptMessage]s that include the origin of the frame.
+  ///
+  /// A rule is either `*` or an origin such as `https://flutter.dev`, where
+  /// the host may start with `*.` to match its subdomains. Adding the channel
+  /// throws a [PlatformException] if the device doesn't support
+  /// `WebMessageListener`s.
+  final Set<String>? allowedOriginRules;
+
+  /// Creates the reply to a message of a channel with [allowedOriginRules].
+  ///
+  /// When set, this is called instead of [onMessageReceived]. A reply that
+  /// isn't null is posted back to the frame that sent the message, which
+  /// receives it as a `message` event of the channel object:
+  ///
+  /// ```js
+  /// channel.onmessage = (event) => console.log(event.data);
+  /// channel.postMessage('ping');
+  /// ```
+  final FutureOr<String?> Function(AndroidJavaScriptMessage message)?
+      replyToMessage;
+
+  /// Answers the calls of a channel with [allowedOriginRules].
+  ///
+  /// When set, the channel object gets a `call(method, params)` function that
+  /// returns a Promise. The params are decoded to the values of
+  /// [StandardMessageCodec], and the Promise resolves with the JSON encoded
+  /// result of the handler, or rejects with an `Error` if the handler throws:
+  ///
+  /// ```js
+  /// const user = await channel.call('getUser', {id: 1});
+  /// ```
+  ///
+  /// Adding the channel throws a [PlatformException] if the device doesn't
+  /// support document-start scripts, which add the `call` function.
+  final FutureOr<Object?> Function(String method, Object? params)? rpcHandler;
+
+  /// The time [rpcHandler] has to answer a call before the Promise rejects, or
+  /// null for no timeout.
+  final Duration? rpcTimeout;
+
+  /// The number of messages that wait to be delivered to [onMessageReceived],
+  /// or null for no limit.
+  ///
+  /// Messages posted by the page are passed from the JavaScript thread to the
+  /// main thread through a queue. A page that posts messages faster than they
+  /// are delivered fills the queue, and [messageQueuePolicy] decides what
+  /// happens to the messages that don't fit. This doesn't apply to channels
+  /// with [allowedOriginRules], whose messages are delivered on the main
+  /// thread directly.
+  ///
+  /// See [AndroidWebViewController.getJavaScriptChannelStats].
+  final int? maxQueuedMessages;
+
+  /// What happens to a message that doesn't fit in the queue limited by
+  /// [maxQueuedMessages].
+  final JavaScriptMessageQueuePolicy messageQueuePolicy;
+
+  /// Separates the key of a message from the rest of the message for
+  /// [JavaScriptMessageQueuePolicy.coalesceByKey].
+  final String coalesceKeyDelimiter;
+
   final android_webview.JavaScriptChannel _javaScriptChannel;
 }
 
+/// A message sent through a channel added with
+/// [AndroidJavaScriptChannelParams.allowedOriginRules].
+@immutable
+class AndroidJavaScriptMessage extends JavaScriptMessage {
+  /// Constructs a [AndroidJavaScriptMessage].
+  const AndroidJavaScriptMessage({
+    required super.message,
+    required this.sourceOrigin,
+    required this.isMainFrame,
+  });
+
+  /// The origin of the frame that sent the message.
+  final String sourceOrigin;
+
+  /// Whether the message was sent by the main frame.
+  final bool isMainFrame;
+}
+
 /// Object specifying creation parameters for creating a [AndroidWebViewWidget].
 ///
 /// When adding additional fields make sure they can be null or have a default
@@ -1270,6 +2604,83 @@ class AndroidUrlChange extends UrlChange {
   final bool isReload;
 }
 
+/// A file that is downloaded natively by an [AndroidNavigationDelegate].
+///
+/// See [AndroidNavigationDelegate.enableNativeDownloads].
+@immutable
+class AndroidNativeDownload {
+  /// Constructs an [AndroidNativeDownload].
+  const AndroidNativeDownload({
+    required this.downloadId,
+    required this.url,
+    required this.filePath,
+    required this.mimetype,
+  });
+
+  /// Identifies the download in later callbacks,
+  /// [AndroidNavigationDelegate.cancelDownload] and
+  /// [AndroidNavigationDelegate.resumeDownload].
+  final int downloadId;
+
+  /// The URL of the downloaded content.
+  final String url;
+
+  /// The file the content is written to once the download is complete.
+  final String filePath;
+
+  /// The mimetype of the content reported by the server.
+  final String mimetype;
+}
+
+/// The progress of an [AndroidNativeDownload].
+@immutable
+class AndroidNativeDownloadProgress {
+  /// Constructs an [AndroidNativeDownloadProgress].
+  const AndroidNativeDownloadProgress({
+    required this.downloadId,
+    required this.receivedBytes,
+    required this.totalBytes,
+  });
+
+  /// The id of the download.
+  final int downloadId;
+
+  /// The number of bytes written to the file so far.
+  final int receivedBytes;
+
+  /// The size of the file, or null if the server didn't send it.
+  final int? totalBytes;
+}
+
+/// The end of an [AndroidNativeDownload].
+@immutable
+class AndroidNativeDownloadResult {
+  /// Constructs an [AndroidNativeDownloadResult].
+  const AndroidNativeDownloadResult({
+    required this.downloadId,
+    this.filePath,
+    this.error,
+  });
+
+  /// The id of the download.
+  final int downloadId;
+
+  /// The downloaded file, or null if the download failed.
+  ///
+  /// This is the file of an earlier download if the server reported that its
+  /// content didn't change.
+  final String? filePath;
+
+  /// Why the download failed, or null if it succeeded.
+  ///
+  /// A failed download can be continued with
+  /// [AndroidNavigationDelegate.resumeDownload], unless it was cancelled.
+  final String? error;
+
+  /// Whether the file was downloaded.
+  bool get isSuccess => filePath != null;
+}
+
 /// A place to register callback methods responsible to handle navigation events
 /// triggered by the [android_webview.WebView].
 class AndroidNavigationDelegate extends PlatformNavigationDelegate {
@@ -1413,6 +2824,51 @@ class AndroidNavigationDelegate extends PlatformNavigationDelegate {
           weakThis.target?._handleNavigation(url, isForMainFrame: true);
         }
       },
+      onNativeDownloadStart: (
+        int downloadId,
+        String url,
+        String filePath,
+        String mimetype,
+      ) {
+        final void Function(AndroidNativeDownload)? callback =
+            weakThis.target?._onDownloadStarted;
+        if (callback != null) {
+          callback(
+            AndroidNativeDownload(
+              downloadId: downloadId,
+              url: url,
+              filePath: filePath,
+              mimetype: mimetype,
+            ),
+          );
+        }
+      },
+      onDownloadProgress: (int downloadId, int receivedBytes, int totalBytes) {
+        final void Function(AndroidNativeDownloadProgress)? callback =
+            weakThis.target?._onDownloadProgress;
+        if (callback != null) {
+          callback(
+            AndroidNativeDownloadProgress(
+              downloadId: downloadId,
+              receivedBytes: receivedBytes,
+              totalBytes: totalBytes < 0 ? null : totalBytes,
+            ),
+          );
+        }
+      },
+      onDownloadFinished: (int downloadId, String? filePath, String? error) {
+        final void Function(AndroidNativeDownloadResult)? callback =
+            weakThis.target?._onDownloadFinished;
+        if (callback != null) {
+          callback(
+            AndroidNativeDownloadResult(
+              downloadId: downloadId,
+              filePath: filePath,
+              error: error,
+            ),
+          );
+        }
+      },
     );
   }
 
@@ -1455,6 +2911,9 @@ class AndroidNavigationDelegate extends PlatformNavigationDelegate {
   LoadRequestCallback? _onLoadRequest;
   UrlChangeCallback? _onUrlChange;
   HttpAuthRequestCallback? _onHttpAuthRequest;
+  void Function(AndroidNativeDownload)? _onDownloadStarted;
+  void Function(AndroidNativeDownloadProgress)? _onDownloadProgress;
+  void Function(AndroidNativeDownloadResult)? _onDownloadFinished;
 
   void _handleNavigation(
     String url, {
@@ -1559,4 +3018,96 @@ class AndroidNavigationDelegate extends PlatformNavigationDelegate {
   ) async {
     _onHttpAuthRequest = onHttpAuthRequest;
   }
+
+  /// Downloads files natively into [directory] instead of passing them to
+  /// the navigation callbacks.
+  ///
+  /// Each download sends the cookies of its URL from the profile of the
+  /// `WebView` and the user agent of the `WebView`, streams the content to
+  /// disk and reports its progress to [setOnDownloadProgress]. A download that
+  /// failed can be continued with [resumeDownload]. A counter is appended to
+  /// the name of the file if another file or download already uses it.
+  /// Downloads are cancelled when the plugin detaches from its engine, and
+  /// unfinished files of downloads interrupted by the end of the app are
+  /// deleted on the next start.
+  ///
+  /// [maxConcurrentDownloads] limits how many downloads of every delegate run
+  /// at once. Defaults to 3.
+  ///
+  /// Tapping a link that is already downloading joins that download. Completed
+  /// downloads are copied to a cache directory of the plugin, and a copy is
+  /// reused if the server reports that its content, identified by its `ETag` or
+  /// `Last-Modified` date, didn't change. [cacheBudgetBytes] limits the size of
+  /// the copies of every delegate; the least recently used copies are deleted
+  /// to stay within it. Files in [directory] are never deleted. Defaults to no
+  /// limit.
+  Future<void> enableNativeDownloads(
+    String directory, {
+    int? maxConcurrentDownloads,
+    int? cacheBudgetBytes,
+  }) async {
+    if (maxConcurrentDownloads != null) {
+      if (maxConcurrentDownloads < 1) {
+        throw ArgumentError.value(
+          maxConcurrentDownloads,
+          'maxConcurrentDownloads',
+          'must be at least 1',
+        );
+      }
+      await _androidParams.androidWebViewProxy
+          .setMaxConcurrentDownloads(maxConcurrentDownloads);
+    }
+    if (cacheBudgetBytes != null) {
+      if (cacheBudgetBytes < 0) {
+        throw ArgumentError.value(
+          cacheBudgetBytes,
+          'cacheBudgetBytes',
+          'must not be negative',
+        );
+      }
+      await _androidParams.androidWebViewProxy
+          .setDownloadCacheBudget(cacheBudgetBytes);
+    }
+    return _downloadListener.enableNativeDownloads(directory);
+  }
+
+  /// Retrieves the number of bytes used by the copies of completed native
+  /// downloads.
+  Future<int> getDownloadCacheSize() {
+    return _androidParams.androidWebViewProxy.getDownloadCacheSize();
+  }
+
+  /// Invoked when a native download was queued.
+  Future<void> setOnDownloadStarted(
+    void Function(AndroidNativeDownload download) onDownloadStarted,
+  ) async {
+    _onDownloadStarted = onDownloadStarted;
+  }
+
+  /// Invoked while a native download receives data.
+  ///
+  /// Progress is reported at most four times per second per download.
+  Future<void> setOnDownloadProgress(
+    void Function(AndroidNativeDownloadProgress progress) onDownloadProgress,
+  ) async {
+    _onDownloadProgress = onDownloadProgress;
+  }
+
+  /// Invoked when a native download succeeded, failed or was cancelled.
+  Future<void> setOnDownloadFinished(
+    void Function(AndroidNativeDownloadResult result) onDownloadFinished,
+  ) async {
+    _onDownloadFinished = onDownloadFinished;
+  }
+
+  /// Cancels a queued or running native download and deletes its partial
+  /// data.
+  Future<void> cancelDownload(int downloadId) {
+    return _androidParams.androidWebViewProxy.cancelDownload(downloadId);
+  }
+
+  /// Continues a failed native download from the data it already received.
+  Future<void> resumeDownload(int downloadId) {
+    return _androidParams.androidWebViewProxy.resumeDownload(downloadId);
+  }
 }
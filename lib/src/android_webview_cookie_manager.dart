@@ -20,14 +20,25 @@ class AndroidWebViewCookieManagerCreationParams
   const AndroidWebViewCookieManagerCreationParams._(
     // This parameter prevents breaking changes later.
     // ignore: avoid_unused_constructor_parameters
-    PlatformWebViewCookieManagerCreationParams params,
-  ) : super();
+    PlatformWebViewCookieManagerCreationParams params, {
+    this.profileName,
+  }) : super();
 
   /// Creates a [AndroidWebViewCookieManagerCreationParams] instance based on [PlatformWebViewCookieManagerCreationParams].
   factory AndroidWebViewCookieManagerCreationParams.fromPlatformWebViewCookieManagerCreationParams(
-      PlatformWebViewCookieManagerCreationParams params) {
-    return AndroidWebViewCookieManagerCreationParams._(params);
+    PlatformWebViewCookieManagerCreationParams params, {
+    String? profileName,
+  }) {
+    return AndroidWebViewCookieManagerCreationParams._(
+      params,
+      profileName: profileName,
+    );
   }
+
+  /// The profile whose cookies are managed, or null for the default profile.
+  ///
+  /// See [AndroidWebViewControllerCreationParams.profileName].
+  final String? profileName;
 }
 
 /// Handles all cookie operations for the Android platform.
@@ -36,7 +47,12 @@ class AndroidWebViewCookieManager extends PlatformWebViewCookieManager {
   AndroidWebViewCookieManager(
     PlatformWebViewCookieManagerCreationParams params, {
     CookieManager? cookieManager,
-  })  : _cookieManager = cookieManager ?? CookieManager.instance,
+  })  : _cookieManager = cookieManager ??
+            _cookieManagerForProfile(
+              params is AndroidWebViewCookieManagerCreationParams
+                  ? params.profileName
+                  : null,
+            ),
         super.implementation(
           params is AndroidWebViewCookieManagerCreationParams
               ? params
@@ -46,6 +62,12 @@ class AndroidWebViewCookieManager extends PlatformWebViewCookieManager {
 
   final CookieManager _cookieManager;
 
+  static CookieManager _cookieManagerForProfile(String? profileName) {
+    return profileName != null
+        ? CookieManager.forProfile(profileName)
+        : CookieManager.instance;
+  }
+
   @override
   Future<bool> clearCookies() {
     return _cookieManager.removeAllCookies();
@@ -53,14 +75,75 @@ class AndroidWebViewCookieManager extends PlatformWebViewCookieManager {
 
   @override
   Future<void> setCookie(WebViewCookie cookie) {
+    return _cookieManager.setCookie(cookie.domain, _toCookieValue(cookie));
+  }
+
+  /// Sets every cookie of [cookies] in one message to the platform.
+  ///
+  /// Unlike [setCookie], the cookies are set off the main thread and persisted
+  /// with a single flush once all of them are set, so a session restored from
+  /// many cookies survives the app being killed right after.
+  Future<void> setCookies(List<WebViewCookie> cookies) {
+    if (cookies.isEmpty) {
+      return Future<void>.value();
+    }
+    return _cookieManager.setCookies(
+      cookies.map((WebViewCookie cookie) => cookie.domain).toList(),
+      cookies.map(_toCookieValue).toList(),
+    );
+  }
+
+  /// Retrieves the names and values of the cookies sent with requests to each
+  /// of [urls] in one message to the platform.
+  ///
+  /// The cookies are read off the main thread. A URL without cookies maps to
+  /// an empty list.
+  Future<Map<String, List<MapEntry<String, String>>>> getCookies(
+    List<String> urls,
+  ) {
+    return _cookieManager.getCookies(urls);
+  }
+
+  /// Writes the cookies sent with requests to each of [urls] to a snapshot
+  /// file at [path], e.g. before switching to another account.
+  ///
+  /// The snapshot replaces the file at [path] once it is complete. Android
+  /// only returns the names and values of cookies, so the `Domain`, `Path` and
+  /// `Secure` attributes of each cookie are inferred from the other URLs it is
+  /// sent to. The expiry, `HttpOnly` and `SameSite` attributes can't be read,
+  /// so they are taken from the values that set the cookie through this
+  /// plugin. Other cookies, e.g. those set by pages, are restored as `HttpOnly`
+  /// session cookies.
+  Future<CookieSnapshotStats> saveCookieSnapshot(
+    List<String> urls,
+    String path,
+  ) async {
+    return CookieSnapshotStats.fromMap(
+      await _cookieManager.saveSnapshot(urls, path),
+    );
+  }
+
+  /// Replaces the cookies with the cookies of the snapshot file at [path] and
+  /// persists them with a single flush.
+  ///
+  /// When [clearExisting] is false, the cookies of the snapshot are added to
+  /// the existing cookies instead. [setCookies], [getCookies] and the snapshot
+  /// methods called afterwards run once the restore is complete.
+  Future<CookieSnapshotStats> restoreCookieSnapshot(
+    String path, {
+    bool clearExisting = true,
+  }) async {
+    return CookieSnapshotStats.fromMap(
+      await _cookieManager.restoreSnapshot(path, clearExisting: clearExisting),
+    );
+  }
+
+  String _toCookieValue(WebViewCookie cookie) {
     if (!_isValidPath(cookie.path)) {
       throw ArgumentError(
           'The path property for the provided cookie was not given a legal value.');
     }
-    return _cookieManager.setCookie(
-      cookie.domain,
-      '${Uri.encodeComponent(cookie.name)}=${Uri.encodeComponent(cookie.value)}; path=${cookie.path}',
-    );
+    return '${Uri.encodeComponent(cookie.name)}=${Uri.encodeComponent(cookie.value)}; path=${cookie.path}';
   }
 
   bool _isValidPath(String path) {
@@ -88,3 +171,31 @@ class AndroidWebViewCookieManager extends PlatformWebViewCookieManager {
     return _cookieManager.setAcceptThirdPartyCookies(webView, accept);
   }
 }
+
+/// The size of a cookie snapshot and the time it took to save or restore it.
+///
+/// See [AndroidWebViewCookieManager.saveCookieSnapshot].
+@immutable
+class CookieSnapshotStats {
+  /// Constructs a [CookieSnapshotStats].
+  const CookieSnapshotStats({
+    required this.cookieCount,
+    required this.byteCount,
+    required this.duration,
+  });
+
+  /// Constructs a [CookieSnapshotStats] from a map sent by the platform.
+  CookieSnapshotStats.fromMap(Map<String?, Object?> map)
+      : cookieCount = map['cookieCount']! as int,
+        byteCount = map['byteCount']! as int,
+        duration = Duration(milliseconds: map['durationMillis']! as int);
+
+  /// The number of cookies in the snapshot.
+  final int cookieCount;
+
+  /// The size of the snapshot file in bytes.
+  final int byteCount;
+
+  /// The time it took to save or restore the snapshot.
+  final Duration duration;
+}
@@ -184,6 +184,33 @@ abstract class CookieManagerHostApi {
     int webViewIdentifier,
     bool accept,
   );
+
+  /// Handles Dart method `CookieManager.setCookies`.
+  @async
+  void setCookies(int identifier, List<String?> urls, List<String?> values);
+
+  /// Handles Dart method `CookieManager.getCookies`.
+  @async
+  Map<String?, Object?> getCookies(int identifier, List<String?> urls);
+
+  /// Handles Dart method `CookieManager.saveSnapshot`.
+  @async
+  Map<String?, Object?> saveCookieSnapshot(
+    int identifier,
+    List<String?> urls,
+    String path,
+  );
+
+  /// Handles Dart method `CookieManager.restoreSnapshot`.
+  @async
+  Map<String?, Object?> restoreCookieSnapshot(
+    int identifier,
+    String path,
+    bool clearExisting,
+  );
+
+  /// Handles attaching `CookieManager.forProfile` to a native instance.
+  void attachInstanceForProfile(int instanceIdentifier, String profileName);
 }
 
 @HostApi(dartHostTestHandler: 'TestWebViewHostApi')
@@ -238,6 +265,21 @@ abstract class WebViewHostApi {
     String javascriptString,
   );
 
+  @async
+  String? evaluateJavascriptBatch(int instanceId, List<String?> scripts);
+
+  @async
+  Object? evaluateJavascriptDecoded(int instanceId, String javascriptString);
+
+  void setJavaScriptEvaluationLimits(
+    int instanceId,
+    int? maxInFlight,
+    int? maxQueued,
+    int? timeoutMillis,
+  );
+
+  Map<String?, Object?> getJavaScriptEvaluationStats(int instanceId);
+
   String? getTitle(int instanceId);
 
   void scrollTo(int instanceId, int x, int y);
@@ -263,6 +305,102 @@ abstract class WebViewHostApi {
   void setWebChromeClient(int instanceId, int? clientInstanceId);
 
   void setBackgroundColor(int instanceId, int color);
+
+  void setRenderProcessHangBudget(int instanceId, int? budgetMillis);
+
+  Map<String?, Object?> getRenderProcessHangStats(int instanceId);
+
+  void setNavigationTimingEventsEnabled(int instanceId, bool enabled);
+
+  Map<String?, Object?> getNavigationTimingStats(int instanceId);
+
+  Map<String?, Object?> getGlobalNavigationTimingStats();
+
+  void setNetworkRequestLogCapacity(int instanceId, int capacity);
+
+  Map<String?, Object?> exportNetworkRequestLog(int instanceId);
+
+  int beginStreamingLoad(
+    int instanceId,
+    String url,
+    String mimeType,
+    String? encoding,
+  );
+
+  int beginFileLoad(
+    int instanceId,
+    String url,
+    String filePath,
+    String mimeType,
+    String? encoding,
+  );
+
+  @async
+  void writeStreamingLoadChunk(int loadId, Uint8List chunk);
+
+  void finishStreamingLoad(int loadId);
+
+  void cancelStreamingLoad(int loadId);
+
+  void postUrlFromFile(
+    int instanceId,
+    String url,
+    String source,
+    String contentType,
+  );
+
+  void addLocalContentDirectory(
+    int instanceId,
+    String origin,
+    String pathPrefix,
+    String directory,
+    int cacheMaxAgeSeconds,
+  );
+
+  void clearLocalContentDirectories(int instanceId);
+
+  String? getLocalContentUrl(int instanceId, String filePath);
+
+  int addDocumentStartJavaScript(
+    int instanceId,
+    String script,
+    List<String?> allowedOriginRules,
+  );
+
+  void removeDocumentStartJavaScript(int instanceId, int handle);
+
+  void addWebMessageListener(
+    int instanceId,
+    int javaScriptChannelInstanceId,
+    List<String?> allowedOriginRules,
+  );
+
+  void removeWebMessageListener(
+    int instanceId,
+    int javaScriptChannelInstanceId,
+  );
+
+  void createWithProfile(int instanceId, String profileName);
+
+  bool isMultiProfileSupported();
+
+  List<String?> getProfileNames();
+
+  void deleteProfile(String profileName);
+
+  Map<String?, Object?> getFileChooserStats();
+
+  void enableUploadImageProcessing(
+    int maxWidth,
+    int maxHeight,
+    String format,
+    int quality,
+    int cacheBudgetBytes,
+  );
+
+  void disableUploadImageProcessing();
+
+  void setDiscardHiddenWebViews(bool discard);
 }
 
 /// Flutter API for `WebView`.
@@ -284,6 +422,33 @@ abstract class WebViewFlutterApi {
     int oldLeft,
     int oldTop,
   );
+
+  /// Called after the render process of a WebView is gone and the WebView has
+  /// been recreated by the host.
+  void onRenderProcessGone(
+    int webViewInstanceId,
+    bool didCrash,
+    int crashCount,
+    bool willRestoreState,
+  );
+
+  void onRenderProcessUnresponsive(
+    int webViewInstanceId,
+    int unresponsiveMillis,
+  );
+
+  void onRenderProcessResponsive(
+    int webViewInstanceId,
+    int unresponsiveMillis,
+  );
+
+  void onNavigationTiming(
+    int webViewInstanceId,
+    String url,
+    int? commitVisibleMillis,
+    int? firstVisualStateMillis,
+    int pageFinishedMillis,
+  );
 }
 
 @HostApi(dartHostTestHandler: 'TestWebSettingsHostApi')
@@ -322,11 +487,35 @@ abstract class WebSettingsHostApi {
 @HostApi(dartHostTestHandler: 'TestJavaScriptChannelHostApi')
 abstract class JavaScriptChannelHostApi {
   void create(int instanceId, String channelName);
+
+  void enableRpc(int instanceId, int? timeoutMillis);
+
+  Map<String?, Object?> getRpcStats(int instanceId);
+
+  void setMessageQueueLimits(
+    int instanceId,
+    int maxQueued,
+    String policy,
+    String? coalesceKeyDelimiter,
+  );
+
+  Map<String?, Object?> getMessageQueueStats(int instanceId);
 }
 
 @FlutterApi()
 abstract class JavaScriptChannelFlutterApi {
   void postMessage(int instanceId, String message);
+
+  @async
+  String? postWebMessage(
+    int instanceId,
+    String message,
+    String sourceOrigin,
+    bool isMainFrame,
+  );
+
+  @async
+  String callRpcMethod(int instanceId, String method, Object? params);
 }
 
 @HostApi(dartHostTestHandler: 'TestWebViewClientHostApi')
@@ -394,6 +583,18 @@ abstract class WebViewClientFlutterApi {
 @HostApi(dartHostTestHandler: 'TestDownloadListenerHostApi')
 abstract class DownloadListenerHostApi {
   void create(int instanceId);
+
+  void enableNativeDownloads(int instanceId, String directory);
+
+  void setMaxConcurrentDownloads(int maxConcurrentDownloads);
+
+  void cancelDownload(int downloadId);
+
+  void resumeDownload(int downloadId);
+
+  void setDownloadCacheBudget(int budgetBytes);
+
+  int getDownloadCacheSize();
 }
 
 @FlutterApi()
@@ -406,6 +607,28 @@ abstract class DownloadListenerFlutterApi {
     String mimetype,
     int contentLength,
   );
+
+  void onNativeDownloadStart(
+    int instanceId,
+    int downloadId,
+    String url,
+    String filePath,
+    String mimetype,
+  );
+
+  void onDownloadProgress(
+    int instanceId,
+    int downloadId,
+    int receivedBytes,
+    int totalBytes,
+  );
+
+  void onDownloadFinished(
+    int instanceId,
+    int downloadId,
+    String? filePath,
+    String? error,
+  );
 }
 
 @HostApi(dartHostTestHandler: 'TestWebChromeClientHostApi')
@@ -498,6 +721,27 @@ abstract class WebStorageHostApi {
   void create(int instanceId);
 
   void deleteAllData(int instanceId);
+
+  /// Handles Dart method `WebStorage.getOrigins`.
+  @async
+  List<Object?> getOrigins(int instanceId);
+
+  /// Handles Dart method `WebStorage.getUsageForOrigin`.
+  @async
+  int getUsageForOrigin(int instanceId, String origin);
+
+  /// Handles Dart method `WebStorage.getQuotaForOrigin`.
+  @async
+  int getQuotaForOrigin(int instanceId, String origin);
+
+  /// Handles Dart method `WebStorage.deleteOrigin`.
+  void deleteOrigin(int instanceId, String origin);
+
+  /// Handles Dart method `WebStorage.trimToBudget`.
+  @async
+  List<String?> trimToBudget(int instanceId, int budgetBytes);
+
+  void createForProfile(int instanceId, String profileName);
 }
 
 /// Handles callbacks methods for the native Java FileChooserParams class.
@@ -594,6 +594,99 @@ void main() {
 
       verify(mockAuthHandler.cancel());
     });
+
+    test('onDownloadStarted', () {
+      final AndroidNavigationDelegate androidNavigationDelegate =
+          AndroidNavigationDelegate(_buildCreationParams());
+
+      late final AndroidNativeDownload download;
+      androidNavigationDelegate.setOnDownloadStarted(
+        (AndroidNativeDownload value) => download = value,
+      );
+
+      CapturingDownloadListener.lastCreatedListener.onNativeDownloadStart!(
+        1,
+        'https://www.google.com/file.pdf',
+        '/downloads/file.pdf',
+        'application/pdf',
+      );
+
+      expect(download.downloadId, 1);
+      expect(download.url, 'https://www.google.com/file.pdf');
+      expect(download.filePath, '/downloads/file.pdf');
+      expect(download.mimetype, 'application/pdf');
+    });
+
+    test('onDownloadProgress reports an unknown size as null', () {
+      final AndroidNavigationDelegate androidNavigationDelegate =
+          AndroidNavigationDelegate(_buildCreationParams());
+
+      final List<AndroidNativeDownloadProgress> progress =
+          <AndroidNativeDownloadProgress>[];
+      androidNavigationDelegate.setOnDownloadProgress(progress.add);
+
+      CapturingDownloadListener.lastCreatedListener.onDownloadProgress!(
+        1,
+        10,
+        100,
+      );
+      CapturingDownloadListener.lastCreatedListener.onDownloadProgress!(
+        1,
+        20,
+        -1,
+      );
+
+      expect(progress[0].receivedBytes, 10);
+      expect(progress[0].totalBytes, 100);
+      expect(progress[1].receivedBytes, 20);
+      expect(progress[1].totalBytes, isNull);
+    });
+
+    test('onDownloadFinished', () {
+      final AndroidNavigationDelegate androidNavigationDelegate =
+          AndroidNavigationDelegate(_buildCreationParams());
+
+      late final AndroidNativeDownloadResult result;
+      androidNavigationDelegate.setOnDownloadFinished(
+        (AndroidNativeDownloadResult value) => result = value,
+      );
+
+      CapturingDownloadListener.lastCreatedListener.onDownloadFinished!(
+        1,
+        null,
+        'The download was cancelled.',
+      );
+
+      expect(result.downloadId, 1);
+      expect(result.isSuccess, isFalse);
+      expect(result.error, 'The download was cancelled.');
+    });
+
+    test('enableNativeDownloads rejects a limit below one', () {
+      final AndroidNavigationDelegate androidNavigationDelegate =
+          AndroidNavigationDelegate(_buildCreationParams());
+
+      expect(
+        () => androidNavigationDelegate.enableNativeDownloads(
+          '/downloads',
+          maxConcurrentDownloads: 0,
+        ),
+        throwsArgumentError,
+      );
+    });
+
+    test('enableNativeDownloads rejects a negative cache budget', () {
+      final AndroidNavigationDelegate androidNavigationDelegate =
+          AndroidNavigationDelegate(_buildCreationParams());
+
+      expect(
+        () => androidNavigationDelegate.enableNativeDownloads(
+          '/downloads',
+          cacheBudgetBytes: -1,
+        ),
+        throwsArgumentError,
+      );
+    });
   });
 }
 
@@ -667,6 +760,9 @@ class CapturingWebChromeClient extends android_webview.WebChromeClient {
 class CapturingDownloadListener extends android_webview.DownloadListener {
   CapturingDownloadListener({
     required super.onDownloadStart,
+    super.onNativeDownloadStart,
+    super.onDownloadProgress,
+    super.onDownloadFinished,
     super.binaryMessenger,
     super.instanceManager,
   }) : super.detached() {
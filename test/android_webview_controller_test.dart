@@ -85,12 +85,15 @@ void main() {
     android_webview.WebViewClient? mockWebViewClient,
     android_webview.WebStorage? mockWebStorage,
     android_webview.WebSettings? mockSettings,
+    String? profileName,
+    void Function(String? profileName)? onCreateAndroidWebView,
   }) {
     final android_webview.WebView nonNullMockWebView =
         mockWebView ?? MockWebView();
 
     final AndroidWebViewControllerCreationParams creationParams =
         AndroidWebViewControllerCreationParams(
+            profileName: profileName,
             androidWebStorage: mockWebStorage ?? MockWebStorage(),
             androidWebViewProxy: AndroidWebViewProxy(
               createAndroidWebChromeClient: createWebChromeClient ??
@@ -133,8 +136,24 @@ void main() {
               createAndroidWebView: (
                       {dynamic Function(
                               int left, int top, int oldLeft, int oldTop)?
-                          onScrollChanged}) =>
-                  nonNullMockWebView,
+                          onScrollChanged,
+                      void Function(bool didCrash, int crashCount,
+                              bool willRestoreState)?
+                          onRenderProcessGone,
+                      void Function(int unresponsiveMillis)?
+                          onRenderProcessUnresponsive,
+                      void Function(int unresponsiveMillis)?
+                          onRenderProcessResponsive,
+                      void Function(
+                              String url,
+                              int? commitVisibleMillis,
+                              int? firstVisualStateMillis,
+                              int pageFinishedMillis)?
+                          onNavigationTiming,
+                      String? profileName}) {
+                onCreateAndroidWebView?.call(profileName);
+                return nonNullMockWebView;
+              },
               createAndroidWebViewClient: ({
                 void Function(android_webview.WebView webView, String url)?
                     onPageFinished,
@@ -181,6 +200,13 @@ void main() {
               createJavaScriptChannel: (
                 String channelName, {
                 required void Function(String) postMessage,
+                Future<String?> Function(
+                  String message,
+                  String sourceOrigin,
+                  bool isMainFrame,
+                )? postWebMessage,
+                Future<String> Function(String method, Object? params)?
+                    callRpcMethod,
               }) =>
                   mockJavaScriptChannel ?? MockJavaScriptChannel(),
             ));
@@ -204,6 +230,13 @@ void main() {
             createJavaScriptChannel: (
               String channelName, {
               required void Function(String) postMessage,
+              Future<String?> Function(
+                String message,
+                String sourceOrigin,
+                bool isMainFrame,
+              )? postWebMessage,
+              Future<String> Function(String method, Object? params)?
+                  callRpcMethod,
             }) =>
                 mockJavaScriptChannel ?? MockJavaScriptChannel(),
           ));
@@ -279,6 +312,36 @@ void main() {
       )).called(1);
     });
 
+    test('loadFile loads url of file in local content directory', () async {
+      final MockWebView mockWebView = MockWebView();
+      final MockWebSettings mockWebSettings = MockWebSettings();
+      final AndroidWebViewController controller = createControllerWithMocks(
+        mockWebView: mockWebView,
+        mockSettings: mockWebSettings,
+      );
+      when(mockWebView.getLocalContentUrl('/data/site/index.html')).thenAnswer(
+        (_) async => 'https://appassets.androidplatform.net/site/index.html',
+      );
+
+      await controller.addLocalContentDirectory(
+        '/data/site',
+        pathPrefix: '/site/',
+      );
+      await controller.loadFile('file:///data/site/index.html');
+
+      verify(mockWebView.addLocalContentDirectory(
+        origin: 'https://appassets.androidplatform.net',
+        pathPrefix: '/site/',
+        directory: '/data/site',
+        cacheMaxAgeSeconds: const Duration(days: 365).inSeconds,
+      ));
+      verifyNever(mockWebSettings.setAllowFileAccess(true));
+      verify(mockWebView.loadUrl(
+        'https://appassets.androidplatform.net/site/index.html',
+        <String, String>{},
+      )).called(1);
+    });
+
     test('loadFlutterAsset when asset does not exist', () async {
       final MockWebView mockWebView = MockWebView();
       final MockFlutterAssetManager mockAssetManager =
@@ -554,6 +617,56 @@ void main() {
       verify(mockWebStorage.deleteAllData()).called(1);
     });
 
+    test('getWebStorageOrigins', () async {
+      final MockWebStorage mockWebStorage = MockWebStorage();
+      when(mockWebStorage.getOrigins()).thenAnswer(
+        (_) async => <Map<String?, Object?>>[
+          <String?, Object?>{
+            'origin': 'https://flutter.dev',
+            'usage': 1024,
+            'quota': 4096,
+          },
+        ],
+      );
+      final AndroidWebViewController controller = createControllerWithMocks(
+        mockWebStorage: mockWebStorage,
+      );
+
+      final List<WebStorageOriginUsage> origins =
+          await controller.getWebStorageOrigins();
+
+      expect(origins.single.origin, 'https://flutter.dev');
+      expect(origins.single.usage, 1024);
+      expect(origins.single.quota, 4096);
+    });
+
+    test('deleteWebStorageOrigin', () async {
+      final MockWebStorage mockWebStorage = MockWebStorage();
+      final AndroidWebViewController controller = createControllerWithMocks(
+        mockWebStorage: mockWebStorage,
+      );
+
+      await controller.deleteWebStorageOrigin('https://flutter.dev');
+
+      verify(mockWebStorage.deleteOrigin('https://flutter.dev')).called(1);
+    });
+
+    test('trimWebStorage', () async {
+      final MockWebStorage mockWebStorage = MockWebStorage();
+      when(mockWebStorage.trimToBudget(1024)).thenAnswer(
+        (_) async => <String>['https://flutter.dev'],
+      );
+      final AndroidWebViewController controller = createControllerWithMocks(
+        mockWebStorage: mockWebStorage,
+      );
+
+      expect(
+        await controller.trimWebStorage(1024),
+        <String>['https://flutter.dev'],
+      );
+      expect(() => controller.trimWebStorage(-1), throwsArgumentError);
+    });
+
     test('setPlatformNavigationDelegate', () async {
       final MockAndroidNavigationDelegate mockNavigationDelegate =
           MockAndroidNavigationDelegate();
@@ -1187,6 +1300,83 @@ void main() {
       expect(message, 'Hello World!');
     });
 
+    test('runJavaScriptReturningDecodedResult', () async {
+      final MockWebView mockWebView = MockWebView();
+      final AndroidWebViewController controller = createControllerWithMocks(
+        mockWebView: mockWebView,
+      );
+
+      when(mockWebView.evaluateJavascriptDecoded('({a: [1, 2.5]})')).thenAnswer(
+        (_) async => <Object?, Object?>{
+          'a': <Object?>[1, 2.5],
+        },
+      );
+
+      expect(
+        await controller.runJavaScriptReturningDecodedResult('({a: [1, 2.5]})'),
+        <Object?, Object?>{
+          'a': <Object?>[1, 2.5],
+        },
+      );
+    });
+
+    test('addDocumentStartJavaScript', () async {
+      final MockWebView mockWebView = MockWebView();
+      final AndroidWebViewController controller = createControllerWithMocks(
+        mockWebView: mockWebView,
+      );
+
+      when(mockWebView.addDocumentStartJavaScript(
+        'bootstrap()',
+        <String>['https://flutter.dev'],
+      )).thenAnswer((_) async => 3);
+
+      final int handle = await controller.addDocumentStartJavaScript(
+        'bootstrap()',
+        allowedOriginRules: <String>{'https://flutter.dev'},
+      );
+      await controller.removeDocumentStartJavaScript(handle);
+
+      expect(handle, 3);
+      verify(mockWebView.removeDocumentStartJavaScript(3));
+    });
+
+    test('setJavaScriptEvaluationLimits', () async {
+      final MockWebView mockWebView = MockWebView();
+      final AndroidWebViewController controller = createControllerWithMocks(
+        mockWebView: mockWebView,
+      );
+
+      await controller.setJavaScriptEvaluationLimits(
+        maxInFlight: 4,
+        timeout: const Duration(seconds: 2),
+      );
+
+      verify(mockWebView.setJavaScriptEvaluationLimits(
+        maxInFlight: 4,
+        timeoutMillis: 2000,
+      ));
+    });
+
+    test('runJavaScriptBatch', () async {
+      final MockWebView mockWebView = MockWebView();
+      final AndroidWebViewController controller = createControllerWithMocks(
+        mockWebView: mockWebView,
+      );
+
+      when(mockWebView.evaluateJavascriptBatch(<String>['1 + 1', 'x.y']))
+          .thenAnswer((_) async => '[{"result":"2"},{"error":"TypeError"}]');
+
+      final List<JavaScriptBatchResult> results =
+          await controller.runJavaScriptBatch(<String>['1 + 1', 'x.y']);
+
+      expect(results, hasLength(2));
+      expect(results[0].result, 2);
+      expect(results[0].error, isNull);
+      expect(results[1].result, isNull);
+      expect(results[1].error, 'TypeError');
+    });
+
     test('runJavaScriptReturningResult returning null', () async {
       final MockWebView mockWebView = MockWebView();
       final AndroidWebViewController controller = createControllerWithMocks(
@@ -1283,6 +1473,192 @@ void main() {
       ]);
     });
 
+    test('addJavaScriptChannel with allowedOriginRules', () async {
+      final MockWebView mockWebView = MockWebView();
+      final AndroidWebViewController controller = createControllerWithMocks(
+        mockWebView: mockWebView,
+      );
+      final MockJavaScriptChannel mockJavaScriptChannel =
+          MockJavaScriptChannel();
+      late Future<String?> Function(String, String, bool)
+          capturedPostWebMessage;
+      final AndroidJavaScriptChannelParams params =
+          AndroidJavaScriptChannelParams(
+        name: 'test',
+        onMessageReceived: (JavaScriptMessage message) {},
+        allowedOriginRules: <String>{'https://flutter.dev'},
+        replyToMessage: (AndroidJavaScriptMessage message) =>
+            '${message.sourceOrigin} ${message.message}',
+        webViewProxy: AndroidWebViewProxy(
+          createJavaScriptChannel: (
+            String channelName, {
+            required void Function(String) postMessage,
+            Future<String?> Function(
+              String message,
+              String sourceOrigin,
+              bool isMainFrame,
+            )? postWebMessage,
+            Future<String> Function(String method, Object? params)?
+                callRpcMethod,
+          }) {
+            capturedPostWebMessage = postWebMessage!;
+            return mockJavaScriptChannel;
+          },
+        ),
+      );
+
+      await controller.addJavaScriptChannel(params);
+      await controller.removeJavaScriptChannel('test');
+
+      verifyInOrder(<Object>[
+        mockWebView.addWebMessageListener(
+          mockJavaScriptChannel,
+          <String>['https://flutter.dev'],
+        ),
+        mockWebView.removeWebMessageListener(mockJavaScriptChannel),
+      ]);
+      verifyNever(mockWebView.addJavaScriptChannel(any));
+      expect(
+        await capturedPostWebMessage('ping', 'https://flutter.dev', true),
+        'https://flutter.dev ping',
+      );
+    });
+
+    test('addJavaScriptChannel with rpcHandler', () async {
+      final MockWebView mockWebView = MockWebView();
+      final AndroidWebViewController controller = createControllerWithMocks(
+        mockWebView: mockWebView,
+      );
+      final MockJavaScriptChannel mockJavaScriptChannel =
+          MockJavaScriptChannel();
+      late Future<String> Function(String, Object?) capturedCallRpcMethod;
+      final AndroidJavaScriptChannelParams params =
+          AndroidJavaScriptChannelParams(
+        name: 'test',
+        onMessageReceived: (JavaScriptMessage message) {},
+        allowedOriginRules: <String>{'*'},
+        rpcHandler: (String method, Object? params) {
+          if (method == 'fail') {
+            throw StateError('failed');
+          }
+          return <String, Object?>{'method': method, 'params': params};
+        },
+        rpcTimeout: const Duration(seconds: 2),
+        webViewProxy: AndroidWebViewProxy(
+          createJavaScriptChannel: (
+            String channelName, {
+            required void Function(String) postMessage,
+            Future<String?> Function(
+              String message,
+              String sourceOrigin,
+              bool isMainFrame,
+            )? postWebMessage,
+            Future<String> Function(String method, Object? params)?
+                callRpcMethod,
+          }) {
+            capturedCallRpcMethod = callRpcMethod!;
+            return mockJavaScriptChannel;
+          },
+        ),
+      );
+      when(mockJavaScriptChannel.getRpcStats()).thenAnswer(
+        (_) async => <String?, Object?>{
+          'inFlightCount': 0,
+          'maxInFlightCount': 1,
+          'completedCount': 1,
+          'failedCount': 0,
+          'timedOutCount': 0,
+          'invalidCount': 0,
+          'latency': <Object?, Object?>{
+            'count': 1,
+            'sumMillis': 3,
+            'minMillis': 3,
+            'maxMillis': 3,
+            'p50Millis': 3,
+            'p90Millis': 3,
+            'p99Millis': 3,
+            'bucketCounts': <Object?>[0, 0, 1],
+          },
+        },
+      );
+
+      await controller.addJavaScriptChannel(params);
+
+      verifyInOrder(<Object>[
+        mockJavaScriptChannel.enableRpc(timeoutMillis: 2000),
+        mockWebView.addWebMessageListener(mockJavaScriptChannel, <String>['*']),
+      ]);
+      expect(
+        await capturedCallRpcMethod('get', <Object?>[1]),
+        '{"result":{"method":"get","params":[1]}}',
+      );
+      expect(
+        await capturedCallRpcMethod('fail', null),
+        '{"error":"Bad state: failed"}',
+      );
+      final JavaScriptRpcStats stats =
+          await controller.getJavaScriptRpcStats('test');
+      expect(stats.completedCount, 1);
+      expect(stats.maxInFlightCount, 1);
+      expect(stats.latency.count, 1);
+    });
+
+    test('addJavaScriptChannel with maxQueuedMessages', () async {
+      final MockWebView mockWebView = MockWebView();
+      final AndroidWebViewController controller = createControllerWithMocks(
+        mockWebView: mockWebView,
+      );
+      final MockJavaScriptChannel mockJavaScriptChannel =
+          MockJavaScriptChannel();
+      final AndroidJavaScriptChannelParams params =
+          AndroidJavaScriptChannelParams(
+        name: 'test',
+        onMessageReceived: (JavaScriptMessage message) {},
+        maxQueuedMessages: 64,
+        messageQueuePolicy: JavaScriptMessageQueuePolicy.coalesceByKey,
+        webViewProxy: AndroidWebViewProxy(
+          createJavaScriptChannel: (
+            String channelName, {
+            required void Function(String) postMessage,
+            Future<String?> Function(
+              String message,
+              String sourceOrigin,
+              bool isMainFrame,
+            )? postWebMessage,
+            Future<String> Function(String method, Object? params)?
+                callRpcMethod,
+          }) =>
+              mockJavaScriptChannel,
+        ),
+      );
+      when(mockJavaScriptChannel.getMessageQueueStats()).thenAnswer(
+        (_) async => <String?, Object?>{
+          'queueDepth': 0,
+          'maxQueueDepth': 64,
+          'deliveredCount': 100,
+          'droppedCount': 3,
+          'coalescedCount': 40,
+          'blockedCount': 0,
+        },
+      );
+
+      await controller.addJavaScriptChannel(params);
+
+      verifyInOrder(<Object>[
+        mockJavaScriptChannel.setMessageQueueLimits(
+          maxQueued: 64,
+          policy: 'coalesceByKey',
+          coalesceKeyDelimiter: ':',
+        ),
+        mockWebView.addJavaScriptChannel(mockJavaScriptChannel),
+      ]);
+      final JavaScriptChannelStats stats =
+          await controller.getJavaScriptChannelStats('test');
+      expect(stats.droppedCount, 3);
+      expect(stats.coalescedCount, 40);
+      expect(stats.maxQueueDepth, 64);
+    });
+
     test('removeJavaScriptChannel when channel is not registered', () async {
       final MockWebView mockWebView = MockWebView();
       final AndroidWebViewController controller = createControllerWithMocks(
@@ -1371,6 +1747,93 @@ void main() {
       verify(mockProxy.setWebContentsDebuggingEnabled(true)).called(1);
     });
 
+    test('setDiscardHiddenWebViews', () async {
+      final MockAndroidWebViewProxy mockProxy = MockAndroidWebViewProxy();
+
+      await AndroidWebViewController.setDiscardHiddenWebViews(
+        true,
+        webViewProxy: mockProxy,
+      );
+      verify(mockProxy.setDiscardHiddenWebViews(true)).called(1);
+    });
+
+    test('profileName', () {
+      final List<String?> profileNames = <String?>[];
+      createControllerWithMocks(
+        profileName: 'tenant',
+        onCreateAndroidWebView: profileNames.add,
+      );
+
+      expect(profileNames, <String?>['tenant']);
+    });
+
+    test('deleteProfile', () async {
+      final MockAndroidWebViewProxy mockProxy = MockAndroidWebViewProxy();
+
+      await AndroidWebViewController.deleteProfile(
+        'tenant',
+        webViewProxy: mockProxy,
+      );
+      verify(mockProxy.deleteProfile('tenant')).called(1);
+    });
+
+    test('getFileChooserStats', () async {
+      final MockAndroidWebViewProxy mockProxy = MockAndroidWebViewProxy();
+      when(mockProxy.getFileChooserStats()).thenAnswer(
+        (_) async => <String?, Object?>{
+          'resolvedFileCount': 2,
+          'processedImageCount': 1,
+          'cancelledCount': 1,
+          'resolution': <Object?, Object?>{
+            'count': 1,
+            'sumMillis': 12,
+            'minMillis': 12,
+            'maxMillis': 12,
+            'p50Millis': 12,
+            'p90Millis': 12,
+            'p99Millis': 12,
+            'bucketCounts': <Object?>[0, 0, 0, 0, 1],
+          },
+        },
+      );
+
+      final FileChooserStats stats =
+          await AndroidWebViewController.getFileChooserStats(
+        webViewProxy: mockProxy,
+      );
+
+      expect(stats.resolvedFileCount, 2);
+      expect(stats.processedImageCount, 1);
+      expect(stats.cancelledCount, 1);
+      expect(stats.resolution.max, const Duration(milliseconds: 12));
+    });
+
+    test('setUploadImageOptions', () async {
+      final MockAndroidWebViewProxy mockProxy = MockAndroidWebViewProxy();
+
+      await AndroidWebViewController.setUploadImageOptions(
+        const AndroidUploadImageOptions(
+          maxWidth: 1024,
+          format: AndroidUploadImageFormat.webp,
+          quality: 70,
+        ),
+        webViewProxy: mockProxy,
+      );
+      verify(mockProxy.enableUploadImageProcessing(
+        maxWidth: 1024,
+        maxHeight: 2048,
+        format: 'webp',
+        quality: 70,
+        cacheBudgetBytes: 50 * 1024 * 1024,
+      )).called(1);
+
+      await AndroidWebViewController.setUploadImageOptions(
+        null,
+        webViewProxy: mockProxy,
+      );
+      verify(mockProxy.disableUploadImageProcessing()).called(1);
+    });
+
     test('enableZoom', () async {
       final MockWebView mockWebView = MockWebView();
       final MockWebSettings mockSettings = MockWebSettings();
@@ -897,7 +897,21 @@ class MockAndroidWebViewProxy extends _i1.Mock
         int,
         int,
         int,
-      )? onScrollChanged}) get createAndroidWebView => (super.noSuchMethod(
+      )? onScrollChanged,
+      void Function(
+        bool,
+        int,
+        bool,
+      )? onRenderProcessGone,
+      void Function(int)? onRenderProcessUnresponsive,
+      void Function(int)? onRenderProcessResponsive,
+      void Function(
+        String,
+        int?,
+        int?,
+        int,
+      )? onNavigationTiming,
+      String? profileName}) get createAndroidWebView => (super.noSuchMethod(
         Invocation.getter(#createAndroidWebView),
         returnValue: (
                 {void Function(
@@ -905,7 +919,21 @@ class MockAndroidWebViewProxy extends _i1.Mock
                   int,
                   int,
                   int,
-                )? onScrollChanged}) =>
+                )? onScrollChanged,
+                void Function(
+                  bool,
+                  int,
+                  bool,
+                )? onRenderProcessGone,
+                void Function(int)? onRenderProcessUnresponsive,
+                void Function(int)? onRenderProcessResponsive,
+                void Function(
+                  String,
+                  int?,
+                  int?,
+                  int,
+                )? onNavigationTiming,
+                String? profileName}) =>
             _FakeWebView_7(
           this,
           Invocation.getter(#createAndroidWebView),
@@ -916,7 +944,21 @@ class MockAndroidWebViewProxy extends _i1.Mock
                   int,
                   int,
                   int,
-                )? onScrollChanged}) =>
+                )? onScrollChanged,
+                void Function(
+                  bool,
+                  int,
+                  bool,
+                )? onRenderProcessGone,
+                void Function(int)? onRenderProcessUnresponsive,
+                void Function(int)? onRenderProcessResponsive,
+                void Function(
+                  String,
+                  int?,
+                  int?,
+                  int,
+                )? onNavigationTiming,
+                String? profileName}) =>
             _FakeWebView_7(
           this,
           Invocation.getter(#createAndroidWebView),
@@ -927,7 +969,21 @@ class MockAndroidWebViewProxy extends _i1.Mock
             int,
             int,
             int,
-          )? onScrollChanged}));
+          )? onScrollChanged,
+          void Function(
+            bool,
+            int,
+            bool,
+          )? onRenderProcessGone,
+          void Function(int)? onRenderProcessUnresponsive,
+          void Function(int)? onRenderProcessResponsive,
+          void Function(
+            String,
+            int?,
+            int?,
+            int,
+          )? onNavigationTiming,
+          String? profileName}));
 
   @override
   _i2.WebChromeClient Function({
@@ -1319,11 +1375,29 @@ class MockAndroidWebViewProxy extends _i1.Mock
   _i2.JavaScriptChannel Function(
     String, {
     required void Function(String) postMessage,
+    _i9.Future<String?> Function(
+      String,
+      String,
+      bool,
+    )? postWebMessage,
+    _i9.Future<String> Function(
+      String,
+      Object?,
+    )? callRpcMethod,
   }) get createJavaScriptChannel => (super.noSuchMethod(
         Invocation.getter(#createJavaScriptChannel),
         returnValue: (
           String channelName, {
           required void Function(String) postMessage,
+          _i9.Future<String?> Function(
+            String,
+            String,
+            bool,
+          )? postWebMessage,
+          _i9.Future<String> Function(
+            String,
+            Object?,
+          )? callRpcMethod,
         }) =>
             _FakeJavaScriptChannel_9(
           this,
@@ -1332,6 +1406,15 @@ class MockAndroidWebViewProxy extends _i1.Mock
         returnValueForMissingStub: (
           String channelName, {
           required void Function(String) postMessage,
+          _i9.Future<String?> Function(
+            String,
+            String,
+            bool,
+          )? postWebMessage,
+          _i9.Future<String> Function(
+            String,
+            Object?,
+          )? callRpcMethod,
         }) =>
             _FakeJavaScriptChannel_9(
           this,
@@ -1340,6 +1423,15 @@ class MockAndroidWebViewProxy extends _i1.Mock
       ) as _i2.JavaScriptChannel Function(
         String, {
         required void Function(String) postMessage,
+        _i9.Future<String?> Function(
+          String,
+          String,
+          bool,
+        )? postWebMessage,
+        _i9.Future<String> Function(
+          String,
+          Object?,
+        )? callRpcMethod,
       }));
 
   @override
@@ -1350,7 +1442,23 @@ class MockAndroidWebViewProxy extends _i1.Mock
         String,
         String,
         int,
-      ) onDownloadStart}) get createDownloadListener => (super.noSuchMethod(
+      ) onDownloadStart,
+      void Function(
+        int,
+        String,
+        String,
+        String,
+      )? onNativeDownloadStart,
+      void Function(
+        int,
+        int,
+        int,
+      )? onDownloadProgress,
+      void Function(
+        int,
+        String?,
+        String?,
+      )? onDownloadFinished}) get createDownloadListener => (super.noSuchMethod(
         Invocation.getter(#createDownloadListener),
         returnValue: (
                 {required void Function(
@@ -1359,7 +1467,23 @@ class MockAndroidWebViewProxy extends _i1.Mock
                   String,
                   String,
                   int,
-                ) onDownloadStart}) =>
+                ) onDownloadStart,
+                void Function(
+                  int,
+                  String,
+                  String,
+                  String,
+                )? onNativeDownloadStart,
+                void Function(
+                  int,
+                  int,
+                  int,
+                )? onDownloadProgress,
+                void Function(
+                  int,
+                  String?,
+                  String?,
+                )? onDownloadFinished}) =>
             _FakeDownloadListener_2(
           this,
           Invocation.getter(#createDownloadListener),
@@ -1371,7 +1495,23 @@ class MockAndroidWebViewProxy extends _i1.Mock
                   String,
                   String,
                   int,
-                ) onDownloadStart}) =>
+                ) onDownloadStart,
+                void Function(
+                  int,
+                  String,
+                  String,
+                  String,
+                )? onNativeDownloadStart,
+                void Function(
+                  int,
+                  int,
+                  int,
+                )? onDownloadProgress,
+                void Function(
+                  int,
+                  String?,
+                  String?,
+                )? onDownloadFinished}) =>
             _FakeDownloadListener_2(
           this,
           Invocation.getter(#createDownloadListener),
@@ -1383,7 +1523,23 @@ class MockAndroidWebViewProxy extends _i1.Mock
             String,
             String,
             int,
-          ) onDownloadStart}));
+          ) onDownloadStart,
+          void Function(
+            int,
+            String,
+            String,
+            String,
+          )? onNativeDownloadStart,
+          void Function(
+            int,
+            int,
+            int,
+          )? onDownloadProgress,
+          void Function(
+            int,
+            String?,
+            String?,
+          )? onDownloadFinished}));
 
   @override
   _i9.Future<void> setWebContentsDebuggingEnabled(bool? enabled) =>
@@ -1395,6 +1551,158 @@ class MockAndroidWebViewProxy extends _i1.Mock
         returnValue: _i9.Future<void>.value(),
         returnValueForMissingStub: _i9.Future<void>.value(),
       ) as _i9.Future<void>);
+
+  @override
+  _i9.Future<Map<String?, Object?>> getGlobalNavigationTimingStats() =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getGlobalNavigationTimingStats,
+          [],
+        ),
+        returnValue:
+            _i9.Future<Map<String?, Object?>>.value(<String?, Object?>{}),
+        returnValueForMissingStub:
+            _i9.Future<Map<String?, Object?>>.value(<String?, Object?>{}),
+      ) as _i9.Future<Map<String?, Object?>>);
+
+  @override
+  _i9.Future<void> setDiscardHiddenWebViews(bool? discard) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setDiscardHiddenWebViews,
+          [discard],
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+
+  @override
+  _i9.Future<bool> isMultiProfileSupported() => (super.noSuchMethod(
+        Invocation.method(
+          #isMultiProfileSupported,
+          [],
+        ),
+        returnValue: _i9.Future<bool>.value(false),
+        returnValueForMissingStub: _i9.Future<bool>.value(false),
+      ) as _i9.Future<bool>);
+
+  @override
+  _i9.Future<List<String>> getProfileNames() => (super.noSuchMethod(
+        Invocation.method(
+          #getProfileNames,
+          [],
+        ),
+        returnValue: _i9.Future<List<String>>.value(<String>[]),
+        returnValueForMissingStub: _i9.Future<List<String>>.value(<String>[]),
+      ) as _i9.Future<List<String>>);
+
+  @override
+  _i9.Future<void> deleteProfile(String? profileName) => (super.noSuchMethod(
+        Invocation.method(
+          #deleteProfile,
+          [profileName],
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+
+  @override
+  _i9.Future<Map<String?, Object?>> getFileChooserStats() => (super.noSuchMethod(
+        Invocation.method(
+          #getFileChooserStats,
+          [],
+        ),
+        returnValue:
+            _i9.Future<Map<String?, Object?>>.value(<String?, Object?>{}),
+        returnValueForMissingStub:
+            _i9.Future<Map<String?, Object?>>.value(<String?, Object?>{}),
+      ) as _i9.Future<Map<String?, Object?>>);
+
+  @override
+  _i9.Future<void> enableUploadImageProcessing({
+    required int? maxWidth,
+    required int? maxHeight,
+    required String? format,
+    required int? quality,
+    required int? cacheBudgetBytes,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #enableUploadImageProcessing,
+          [],
+          {
+            #maxWidth: maxWidth,
+            #maxHeight: maxHeight,
+            #format: format,
+            #quality: quality,
+            #cacheBudgetBytes: cacheBudgetBytes,
+          },
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+
+  @override
+  _i9.Future<void> disableUploadImageProcessing() => (super.noSuchMethod(
+        Invocation.method(
+          #disableUploadImageProcessing,
+          [],
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+
+  @override
+  _i9.Future<void> setMaxConcurrentDownloads(int? maxConcurrentDownloads) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setMaxConcurrentDownloads,
+          [maxConcurrentDownloads],
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+
+  @override
+  _i9.Future<void> cancelDownload(int? downloadId) => (super.noSuchMethod(
+        Invocation.method(
+          #cancelDownload,
+          [downloadId],
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+
+  @override
+  _i9.Future<void> resumeDownload(int? downloadId) => (super.noSuchMethod(
+        Invocation.method(
+          #resumeDownload,
+          [downloadId],
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+
+  @override
+  _i9.Future<void> setDownloadCacheBudget(int? budgetBytes) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setDownloadCacheBudget,
+          [budgetBytes],
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+
+  @override
+  _i9.Future<int> getDownloadCacheSize() => (super.noSuchMethod(
+        Invocation.method(
+          #getDownloadCacheSize,
+          [],
+        ),
+        returnValue: _i9.Future<int>.value(0),
+        returnValueForMissingStub: _i9.Future<int>.value(0),
+      ) as _i9.Future<int>);
 }
 
 /// A class which mocks [AndroidWebViewWidgetCreationParams].
@@ -1720,6 +2028,62 @@ class MockJavaScriptChannel extends _i1.Mock implements _i2.JavaScriptChannel {
         returnValueForMissingStub: (String message) {},
       ) as void Function(String));
 
+  @override
+  _i9.Future<void> enableRpc({int? timeoutMillis}) => (super.noSuchMethod(
+        Invocation.method(
+          #enableRpc,
+          [],
+          {#timeoutMillis: timeoutMillis},
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+
+  @override
+  _i9.Future<Map<String?, Object?>> getRpcStats() => (super.noSuchMethod(
+        Invocation.method(
+          #getRpcStats,
+          [],
+        ),
+        returnValue:
+            _i9.Future<Map<String?, Object?>>.value(<String?, Object?>{}),
+        returnValueForMissingStub:
+            _i9.Future<Map<String?, Object?>>.value(<String?, Object?>{}),
+      ) as _i9.Future<Map<String?, Object?>>);
+
+  @override
+  _i9.Future<void> setMessageQueueLimits({
+    required int maxQueued,
+    required String policy,
+    String? coalesceKeyDelimiter,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setMessageQueueLimits,
+          [],
+          {
+            #maxQueued: maxQueued,
+            #policy: policy,
+            #coalesceKeyDelimiter: coalesceKeyDelimiter,
+          },
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+
+  @override
+  _i9.Future<Map<String?, Object?>> getMessageQueueStats() =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getMessageQueueStats,
+          [],
+        ),
+        returnValue:
+            _i9.Future<Map<String?, Object?>>.value(<String?, Object?>{}),
+        returnValueForMissingStub:
+            _i9.Future<Map<String?, Object?>>.value(<String?, Object?>{}),
+      ) as _i9.Future<Map<String?, Object?>>);
+
   @override
   _i2.JavaScriptChannel copy() => (super.noSuchMethod(
         Invocation.method(
@@ -2473,6 +2837,77 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
         returnValueForMissingStub: _i9.Future<String?>.value(),
       ) as _i9.Future<String?>);
 
+  @override
+  _i9.Future<void> addLocalContentDirectory({
+    required String? origin,
+    required String? pathPrefix,
+    required String? directory,
+    required int? cacheMaxAgeSeconds,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #addLocalContentDirectory,
+          [],
+          {
+            #origin: origin,
+            #pathPrefix: pathPrefix,
+            #directory: directory,
+            #cacheMaxAgeSeconds: cacheMaxAgeSeconds,
+          },
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+
+  @override
+  _i9.Future<void> clearLocalContentDirectories() => (super.noSuchMethod(
+        Invocation.method(
+          #clearLocalContentDirectories,
+          [],
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+
+  @override
+  _i9.Future<String?> getLocalContentUrl(String? filePath) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getLocalContentUrl,
+          [filePath],
+        ),
+        returnValue: _i9.Future<String?>.value(),
+        returnValueForMissingStub: _i9.Future<String?>.value(),
+      ) as _i9.Future<String?>);
+
+  @override
+  _i9.Future<int> addDocumentStartJavaScript(
+    String? script,
+    List<String>? allowedOriginRules,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #addDocumentStartJavaScript,
+          [
+            script,
+            allowedOriginRules,
+          ],
+        ),
+        returnValue: _i9.Future<int>.value(0),
+        returnValueForMissingStub: _i9.Future<int>.value(0),
+      ) as _i9.Future<int>);
+
+  @override
+  _i9.Future<void> removeDocumentStartJavaScript(int? handle) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #removeDocumentStartJavaScript,
+          [handle],
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+
   @override
   _i9.Future<bool> canGoBack() => (super.noSuchMethod(
         Invocation.method(
@@ -2544,6 +2979,60 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
         returnValueForMissingStub: _i9.Future<String?>.value(),
       ) as _i9.Future<String?>);
 
+  @override
+  _i9.Future<String?> evaluateJavascriptBatch(List<String>? scripts) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #evaluateJavascriptBatch,
+          [scripts],
+        ),
+        returnValue: _i9.Future<String?>.value(),
+        returnValueForMissingStub: _i9.Future<String?>.value(),
+      ) as _i9.Future<String?>);
+
+  @override
+  _i9.Future<Object?> evaluateJavascriptDecoded(String? javascriptString) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #evaluateJavascriptDecoded,
+          [javascriptString],
+        ),
+        returnValue: _i9.Future<Object?>.value(),
+        returnValueForMissingStub: _i9.Future<Object?>.value(),
+      ) as _i9.Future<Object?>);
+
+  @override
+  _i9.Future<void> setJavaScriptEvaluationLimits({
+    int? maxInFlight,
+    int? maxQueued,
+    int? timeoutMillis,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setJavaScriptEvaluationLimits,
+          [],
+          {
+            #maxInFlight: maxInFlight,
+            #maxQueued: maxQueued,
+            #timeoutMillis: timeoutMillis,
+          },
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+
+  @override
+  _i9.Future<Map<String?, Object?>> getJavaScriptEvaluationStats() =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getJavaScriptEvaluationStats,
+          [],
+        ),
+        returnValue: _i9.Future<Map<String?, Object?>>.value(<String?, Object?>{}),
+        returnValueForMissingStub:
+            _i9.Future<Map<String?, Object?>>.value(<String?, Object?>{}),
+      ) as _i9.Future<Map<String?, Object?>>);
+
   @override
   _i9.Future<String?> getTitle() => (super.noSuchMethod(
         Invocation.method(
@@ -2665,6 +3154,35 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
         returnValueForMissingStub: _i9.Future<void>.value(),
       ) as _i9.Future<void>);
 
+  @override
+  _i9.Future<void> addWebMessageListener(
+    _i2.JavaScriptChannel? javaScriptChannel,
+    List<String>? allowedOriginRules,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #addWebMessageListener,
+          [
+            javaScriptChannel,
+            allowedOriginRules,
+          ],
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+
+  @override
+  _i9.Future<void> removeWebMessageListener(
+          _i2.JavaScriptChannel? javaScriptChannel) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #removeWebMessageListener,
+          [javaScriptChannel],
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+
   @override
   _i9.Future<void> setDownloadListener(_i2.DownloadListener? listener) =>
       (super.noSuchMethod(
@@ -2773,6 +3291,60 @@ class MockWebStorage extends _i1.Mock implements _i2.WebStorage {
         returnValueForMissingStub: _i9.Future<void>.value(),
       ) as _i9.Future<void>);
 
+  @override
+  _i9.Future<List<Map<String?, Object?>>> getOrigins() => (super.noSuchMethod(
+        Invocation.method(
+          #getOrigins,
+          [],
+        ),
+        returnValue: _i9.Future<List<Map<String?, Object?>>>.value(
+            <Map<String?, Object?>>[]),
+        returnValueForMissingStub:
+            _i9.Future<List<Map<String?, Object?>>>.value(
+                <Map<String?, Object?>>[]),
+      ) as _i9.Future<List<Map<String?, Object?>>>);
+
+  @override
+  _i9.Future<int> getUsageForOrigin(String? origin) => (super.noSuchMethod(
+        Invocation.method(
+          #getUsageForOrigin,
+          [origin],
+        ),
+        returnValue: _i9.Future<int>.value(0),
+        returnValueForMissingStub: _i9.Future<int>.value(0),
+      ) as _i9.Future<int>);
+
+  @override
+  _i9.Future<int> getQuotaForOrigin(String? origin) => (super.noSuchMethod(
+        Invocation.method(
+          #getQuotaForOrigin,
+          [origin],
+        ),
+        returnValue: _i9.Future<int>.value(0),
+        returnValueForMissingStub: _i9.Future<int>.value(0),
+      ) as _i9.Future<int>);
+
+  @override
+  _i9.Future<void> deleteOrigin(String? origin) => (super.noSuchMethod(
+        Invocation.method(
+          #deleteOrigin,
+          [origin],
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+
+  @override
+  _i9.Future<List<String>> trimToBudget(int? budgetBytes) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #trimToBudget,
+          [budgetBytes],
+        ),
+        returnValue: _i9.Future<List<String>>.value(<String>[]),
+        returnValueForMissingStub: _i9.Future<List<String>>.value(<String>[]),
+      ) as _i9.Future<List<String>>);
+
   @override
   _i2.WebStorage copy() => (super.noSuchMethod(
         Invocation.method(
@@ -87,6 +87,73 @@ void main() {
     ));
   });
 
+  test('setCookies should set every cookie with one call', () async {
+    final android_webview.CookieManager mockCookieManager = MockCookieManager();
+    when(mockCookieManager.setCookies(any, any))
+        .thenAnswer((_) => Future<void>.value());
+    final AndroidWebViewCookieManagerCreationParams params =
+        AndroidWebViewCookieManagerCreationParams
+            .fromPlatformWebViewCookieManagerCreationParams(
+                const PlatformWebViewCookieManagerCreationParams());
+
+    await AndroidWebViewCookieManager(params, cookieManager: mockCookieManager)
+        .setCookies(const <WebViewCookie>[
+      WebViewCookie(name: 'a', value: '1', domain: 'flutter.dev'),
+      WebViewCookie(name: 'b', value: '2', domain: 'dart.dev', path: '/x'),
+    ]);
+
+    verify(mockCookieManager.setCookies(
+      <String>['flutter.dev', 'dart.dev'],
+      <String>['a=1; path=/', 'b=2; path=/x'],
+    ));
+  });
+
+  test('getCookies', () async {
+    final android_webview.CookieManager mockCookieManager = MockCookieManager();
+    when(mockCookieManager.getCookies(<String>['https://flutter.dev']))
+        .thenAnswer(
+      (_) async => <String, List<MapEntry<String, String>>>{
+        'https://flutter.dev': <MapEntry<String, String>>[
+          const MapEntry<String, String>('a', '1'),
+        ],
+      },
+    );
+    final AndroidWebViewCookieManagerCreationParams params =
+        AndroidWebViewCookieManagerCreationParams
+            .fromPlatformWebViewCookieManagerCreationParams(
+                const PlatformWebViewCookieManagerCreationParams());
+
+    final Map<String, List<MapEntry<String, String>>> cookies =
+        await AndroidWebViewCookieManager(params,
+                cookieManager: mockCookieManager)
+            .getCookies(<String>['https://flutter.dev']);
+
+    expect(cookies['https://flutter.dev']!.single.key, 'a');
+    expect(cookies['https://flutter.dev']!.single.value, '1');
+  });
+
+  test('restoreCookieSnapshot', () async {
+    final android_webview.CookieManager mockCookieManager = MockCookieManager();
+    when(mockCookieManager.restoreSnapshot('/data/cookies.bin'))
+        .thenAnswer((_) async => <String?, Object?>{
+              'cookieCount': 12,
+              'byteCount': 340,
+              'durationMillis': 8,
+            });
+    final AndroidWebViewCookieManagerCreationParams params =
+        AndroidWebViewCookieManagerCreationParams
+            .fromPlatformWebViewCookieManagerCreationParams(
+                const PlatformWebViewCookieManagerCreationParams());
+
+    final CookieSnapshotStats stats = await AndroidWebViewCookieManager(params,
+            cookieManager: mockCookieManager)
+        .restoreCookieSnapshot('/data/cookies.bin');
+
+    expect(stats.cookieCount, 12);
+    expect(stats.byteCount, 340);
+    expect(stats.duration, const Duration(milliseconds: 8));
+  });
+
   test('setAcceptThirdPartyCookies', () async {
     final MockAndroidWebViewController mockController =
         MockAndroidWebViewController();
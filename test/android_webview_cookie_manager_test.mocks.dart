@@ -94,6 +94,67 @@ class MockCookieManager extends _i1.Mock implements _i2.CookieManager {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
 
+  @override
+  _i5.Future<void> setCookies(
+    List<String>? urls,
+    List<String>? values,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setCookies,
+          [
+            urls,
+            values,
+          ],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+
+  @override
+  _i5.Future<Map<String, List<MapEntry<String, String>>>> getCookies(
+          List<String>? urls) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getCookies,
+          [urls],
+        ),
+        returnValue: _i5.Future<Map<String, List<MapEntry<String, String>>>>.value(
+            <String, List<MapEntry<String, String>>>{}),
+      ) as _i5.Future<Map<String, List<MapEntry<String, String>>>>);
+
+  @override
+  _i5.Future<Map<String?, Object?>> saveSnapshot(
+    List<String>? urls,
+    String? path,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #saveSnapshot,
+          [
+            urls,
+            path,
+          ],
+        ),
+        returnValue:
+            _i5.Future<Map<String?, Object?>>.value(<String?, Object?>{}),
+      ) as _i5.Future<Map<String?, Object?>>);
+
+  @override
+  _i5.Future<Map<String?, Object?>> restoreSnapshot(
+    String? path, {
+    bool? clearExisting = true,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #restoreSnapshot,
+          [path],
+          {#clearExisting: clearExisting},
+        ),
+        returnValue:
+            _i5.Future<Map<String?, Object?>>.value(<String?, Object?>{}),
+      ) as _i5.Future<Map<String?, Object?>>);
+
   @override
   _i5.Future<bool> removeAllCookies() => (super.noSuchMethod(
         Invocation.method(
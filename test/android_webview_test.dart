@@ -114,6 +114,23 @@ void main() {
         verify(mockPlatformHostApi.create(webViewInstanceId));
       });
 
+      test('createWithProfile', () {
+        final WebView profileWebView = WebView(profileName: 'tenant');
+        verify(mockPlatformHostApi.createWithProfile(
+          instanceManager.getIdentifier(profileWebView),
+          'tenant',
+        ));
+      });
+
+      test('getProfileNames', () async {
+        when(mockPlatformHostApi.getProfileNames())
+            .thenReturn(<String?>['Default', 'tenant']);
+        expect(
+          await WebView.getProfileNames(),
+          <String>['Default', 'tenant'],
+        );
+      });
+
       test('setWebContentsDebuggingEnabled true', () {
         WebView.setWebContentsDebuggingEnabled(true);
         verify(mockPlatformHostApi.setWebContentsDebuggingEnabled(true));
@@ -871,6 +888,83 @@ void main() {
         );
       });
 
+      test('onDownloadProgress', () {
+        late final List<Object> result;
+        final DownloadListener downloadListener = DownloadListener.detached(
+          onDownloadStart: (_, __, ___, ____, _____) {},
+          onDownloadProgress: (
+            int downloadId,
+            int receivedBytes,
+            int totalBytes,
+          ) {
+            result = <Object>[downloadId, receivedBytes, totalBytes];
+          },
+        );
+        final int instanceId =
+            instanceManager.addDartCreatedInstance(downloadListener);
+
+        flutterApi.onDownloadProgress(instanceId, 3, 1024, 4096);
+
+        expect(result, <Object>[3, 1024, 4096]);
+      });
+
+      test('onDownloadFinished', () {
+        late final List<Object?> result;
+        final DownloadListener downloadListener = DownloadListener.detached(
+          onDownloadStart: (_, __, ___, ____, _____) {},
+          onDownloadFinished: (
+            int downloadId,
+            String? filePath,
+            String? error,
+          ) {
+            result = <Object?>[downloadId, filePath, error];
+          },
+        );
+        final int instanceId =
+            instanceManager.addDartCreatedInstance(downloadListener);
+
+        flutterApi.onDownloadFinished(instanceId, 3, null, 'error');
+
+        expect(result, <Object?>[3, null, 'error']);
+      });
+
+      test('enableNativeDownloads', () {
+        final MockTestDownloadListenerHostApi mockHostApi =
+            MockTestDownloadListenerHostApi();
+        TestDownloadListenerHostApi.setup(mockHostApi);
+        DownloadListener.api = DownloadListenerHostApiImpl(
+          instanceManager: instanceManager,
+        );
+
+        final DownloadListener downloadListener = DownloadListener.detached(
+          onDownloadStart: (_, __, ___, ____, _____) {},
+          instanceManager: instanceManager,
+        );
+        final int instanceId =
+            instanceManager.addDartCreatedInstance(downloadListener);
+
+        downloadListener.enableNativeDownloads('/downloads');
+        verify(mockHostApi.enableNativeDownloads(instanceId, '/downloads'));
+
+        TestDownloadListenerHostApi.setup(null);
+      });
+
+      test('download cache', () async {
+        final MockTestDownloadListenerHostApi mockHostApi =
+            MockTestDownloadListenerHostApi();
+        when(mockHostApi.getDownloadCacheSize()).thenReturn(2048);
+        TestDownloadListenerHostApi.setup(mockHostApi);
+        DownloadListener.api = DownloadListenerHostApiImpl(
+          instanceManager: instanceManager,
+        );
+
+        await DownloadListener.setDownloadCacheBudget(4096);
+        verify(mockHostApi.setDownloadCacheBudget(4096));
+        expect(await DownloadListener.getDownloadCacheSize(), 2048);
+
+        TestDownloadListenerHostApi.setup(null);
+      });
+
       test('copy', () {
         expect(
           DownloadListener.detached(
@@ -1486,6 +1580,40 @@ void main() {
       verify(mockPlatformHostApi.deleteAllData(webStorageInstanceId));
     });
 
+    test('getOrigins', () async {
+      when(mockPlatformHostApi.getOrigins(webStorageInstanceId)).thenAnswer(
+        (_) async => <Object?>[
+          <String?, Object?>{
+            'origin': 'https://flutter.dev',
+            'usage': 1024,
+            'quota': 4096,
+          },
+        ],
+      );
+
+      final List<Map<String?, Object?>> origins = await webStorage.getOrigins();
+
+      expect(origins.single['origin'], 'https://flutter.dev');
+    });
+
+    test('deleteOrigin', () async {
+      await webStorage.deleteOrigin('https://flutter.dev');
+      verify(mockPlatformHostApi.deleteOrigin(
+        webStorageInstanceId,
+        'https://flutter.dev',
+      ));
+    });
+
+    test('trimToBudget', () async {
+      when(mockPlatformHostApi.trimToBudget(webStorageInstanceId, 1024))
+          .thenAnswer((_) async => <String?>['https://flutter.dev']);
+
+      expect(
+        await webStorage.trimToBudget(1024),
+        <String>['https://flutter.dev'],
+      );
+    });
+
     test('copy', () {
       expect(WebStorage.detached().copy(), isA<WebStorage>());
     });
@@ -210,6 +210,17 @@ class MockDownloadListener extends _i1.Mock implements _i2.DownloadListener {
         int,
       ));
 
+  @override
+  _i5.Future<void> enableNativeDownloads(String? directory) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #enableNativeDownloads,
+          [directory],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+
   @override
   _i2.DownloadListener copy() => (super.noSuchMethod(
         Invocation.method(
@@ -283,6 +294,22 @@ class MockTestCookieManagerHostApi extends _i1.Mock
         returnValueForMissingStub: null,
       );
 
+  @override
+  void attachInstanceForProfile(
+    int? instanceIdentifier,
+    String? profileName,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #attachInstanceForProfile,
+          [
+            instanceIdentifier,
+            profileName,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+
   @override
   void setCookie(
     int? identifier,
@@ -365,6 +392,68 @@ class MockTestDownloadListenerHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+
+  @override
+  void enableNativeDownloads(
+    int? instanceId,
+    String? directory,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #enableNativeDownloads,
+          [
+            instanceId,
+            directory,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+
+  @override
+  void setMaxConcurrentDownloads(int? maxConcurrentDownloads) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #setMaxConcurrentDownloads,
+          [maxConcurrentDownloads],
+        ),
+        returnValueForMissingStub: null,
+      );
+
+  @override
+  void cancelDownload(int? downloadId) => super.noSuchMethod(
+        Invocation.method(
+          #cancelDownload,
+          [downloadId],
+        ),
+        returnValueForMissingStub: null,
+      );
+
+  @override
+  void resumeDownload(int? downloadId) => super.noSuchMethod(
+        Invocation.method(
+          #resumeDownload,
+          [downloadId],
+        ),
+        returnValueForMissingStub: null,
+      );
+
+  @override
+  void setDownloadCacheBudget(int? budgetBytes) => super.noSuchMethod(
+        Invocation.method(
+          #setDownloadCacheBudget,
+          [budgetBytes],
+        ),
+        returnValueForMissingStub: null,
+      );
+
+  @override
+  int getDownloadCacheSize() => (super.noSuchMethod(
+        Invocation.method(
+          #getDownloadCacheSize,
+          [],
+        ),
+        returnValue: 0,
+      ) as int);
 }
 
 /// A class which mocks [TestGeolocationPermissionsCallbackHostApi].
@@ -827,6 +916,22 @@ class MockTestWebStorageHostApi extends _i1.Mock
         returnValueForMissingStub: null,
       );
 
+  @override
+  void createForProfile(
+    int? instanceId,
+    String? profileName,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #createForProfile,
+          [
+            instanceId,
+            profileName,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+
   @override
   void deleteAllData(int? instanceId) => super.noSuchMethod(
         Invocation.method(
@@ -835,6 +940,79 @@ class MockTestWebStorageHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+
+  @override
+  _i5.Future<List<Object?>> getOrigins(int? instanceId) => (super.noSuchMethod(
+        Invocation.method(
+          #getOrigins,
+          [instanceId],
+        ),
+        returnValue: _i5.Future<List<Object?>>.value(<Object?>[]),
+      ) as _i5.Future<List<Object?>>);
+
+  @override
+  _i5.Future<int> getUsageForOrigin(
+    int? instanceId,
+    String? origin,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getUsageForOrigin,
+          [
+            instanceId,
+            origin,
+          ],
+        ),
+        returnValue: _i5.Future<int>.value(0),
+      ) as _i5.Future<int>);
+
+  @override
+  _i5.Future<int> getQuotaForOrigin(
+    int? instanceId,
+    String? origin,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getQuotaForOrigin,
+          [
+            instanceId,
+            origin,
+          ],
+        ),
+        returnValue: _i5.Future<int>.value(0),
+      ) as _i5.Future<int>);
+
+  @override
+  void deleteOrigin(
+    int? instanceId,
+    String? origin,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #deleteOrigin,
+          [
+            instanceId,
+            origin,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+
+  @override
+  _i5.Future<List<String?>> trimToBudget(
+    int? instanceId,
+    int? budgetBytes,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #trimToBudget,
+          [
+            instanceId,
+            budgetBytes,
+          ],
+        ),
+        returnValue: _i5.Future<List<String?>>.value(<String?>[]),
+      ) as _i5.Future<List<String?>>);
 }
 
 /// A class which mocks [TestWebViewClientHostApi].
@@ -890,6 +1068,49 @@ class MockTestWebViewHostApi extends _i1.Mock
         returnValueForMissingStub: null,
       );
 
+  @override
+  void createWithProfile(
+    int? instanceId,
+    String? profileName,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #createWithProfile,
+          [
+            instanceId,
+            profileName,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+
+  @override
+  bool isMultiProfileSupported() => (super.noSuchMethod(
+        Invocation.method(
+          #isMultiProfileSupported,
+          [],
+        ),
+        returnValue: false,
+      ) as bool);
+
+  @override
+  List<String?> getProfileNames() => (super.noSuchMethod(
+        Invocation.method(
+          #getProfileNames,
+          [],
+        ),
+        returnValue: <String?>[],
+      ) as List<String?>);
+
+  @override
+  void deleteProfile(String? profileName) => super.noSuchMethod(
+        Invocation.method(
+          #deleteProfile,
+          [profileName],
+        ),
+        returnValueForMissingStub: null,
+      );
+
   @override
   void loadData(
     int? instanceId,
@@ -56,6 +56,67 @@ class MockCookieManager extends _i1.Mock implements _i2.CookieManager {
         returnValueForMissingStub: _i3.Future<void>.value(),
       ) as _i3.Future<void>);
 
+  @override
+  _i3.Future<void> setCookies(
+    List<String>? urls,
+    List<String>? values,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setCookies,
+          [
+            urls,
+            values,
+          ],
+        ),
+        returnValue: _i3.Future<void>.value(),
+        returnValueForMissingStub: _i3.Future<void>.value(),
+      ) as _i3.Future<void>);
+
+  @override
+  _i3.Future<Map<String, List<MapEntry<String, String>>>> getCookies(
+          List<String>? urls) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getCookies,
+          [urls],
+        ),
+        returnValue: _i3.Future<Map<String, List<MapEntry<String, String>>>>.value(
+            <String, List<MapEntry<String, String>>>{}),
+      ) as _i3.Future<Map<String, List<MapEntry<String, String>>>>);
+
+  @override
+  _i3.Future<Map<String?, Object?>> saveSnapshot(
+    List<String>? urls,
+    String? path,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #saveSnapshot,
+          [
+            urls,
+            path,
+          ],
+        ),
+        returnValue:
+            _i3.Future<Map<String?, Object?>>.value(<String?, Object?>{}),
+      ) as _i3.Future<Map<String?, Object?>>);
+
+  @override
+  _i3.Future<Map<String?, Object?>> restoreSnapshot(
+    String? path, {
+    bool? clearExisting = true,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #restoreSnapshot,
+          [path],
+          {#clearExisting: clearExisting},
+        ),
+        returnValue:
+            _i3.Future<Map<String?, Object?>>.value(<String?, Object?>{}),
+      ) as _i3.Future<Map<String?, Object?>>);
+
   @override
   _i3.Future<bool> removeAllCookies() => (super.noSuchMethod(
         Invocation.method(
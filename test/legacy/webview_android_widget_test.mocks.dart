@@ -349,6 +349,60 @@ class MockWebStorage extends _i1.Mock implements _i2.WebStorage {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
 
+  @override
+  _i5.Future<List<Map<String?, Object?>>> getOrigins() => (super.noSuchMethod(
+        Invocation.method(
+          #getOrigins,
+          [],
+        ),
+        returnValue: _i5.Future<List<Map<String?, Object?>>>.value(
+            <Map<String?, Object?>>[]),
+        returnValueForMissingStub:
+            _i5.Future<List<Map<String?, Object?>>>.value(
+                <Map<String?, Object?>>[]),
+      ) as _i5.Future<List<Map<String?, Object?>>>);
+
+  @override
+  _i5.Future<int> getUsageForOrigin(String? origin) => (super.noSuchMethod(
+        Invocation.method(
+          #getUsageForOrigin,
+          [origin],
+        ),
+        returnValue: _i5.Future<int>.value(0),
+        returnValueForMissingStub: _i5.Future<int>.value(0),
+      ) as _i5.Future<int>);
+
+  @override
+  _i5.Future<int> getQuotaForOrigin(String? origin) => (super.noSuchMethod(
+        Invocation.method(
+          #getQuotaForOrigin,
+          [origin],
+        ),
+        returnValue: _i5.Future<int>.value(0),
+        returnValueForMissingStub: _i5.Future<int>.value(0),
+      ) as _i5.Future<int>);
+
+  @override
+  _i5.Future<void> deleteOrigin(String? origin) => (super.noSuchMethod(
+        Invocation.method(
+          #deleteOrigin,
+          [origin],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+
+  @override
+  _i5.Future<List<String>> trimToBudget(int? budgetBytes) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #trimToBudget,
+          [budgetBytes],
+        ),
+        returnValue: _i5.Future<List<String>>.value(<String>[]),
+        returnValueForMissingStub: _i5.Future<List<String>>.value(<String>[]),
+      ) as _i5.Future<List<String>>);
+
   @override
   _i2.WebStorage copy() => (super.noSuchMethod(
         Invocation.method(
@@ -774,6 +828,17 @@ class MockDownloadListener extends _i1.Mock implements _i2.DownloadListener {
         int,
       ));
 
+  @override
+  _i5.Future<void> enableNativeDownloads(String? directory) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #enableNativeDownloads,
+          [directory],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+
   @override
   _i2.DownloadListener copy() => (super.noSuchMethod(
         Invocation.method(
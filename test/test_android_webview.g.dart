@@ -110,6 +110,19 @@ abstract class TestCookieManagerHostApi {
   void setAcceptThirdPartyCookies(
       int identifier, int webViewIdentifier, bool accept);
 
+  Future<void> setCookies(
+      int identifier, List<String?> urls, List<String?> values);
+
+  Future<Map<String?, Object?>> getCookies(int identifier, List<String?> urls);
+
+  Future<Map<String?, Object?>> saveCookieSnapshot(
+      int identifier, List<String?> urls, String path);
+
+  Future<Map<String?, Object?>> restoreCookieSnapshot(
+      int identifier, String path, bool clearExisting);
+
+  void attachInstanceForProfile(int instanceIdentifier, String profileName);
+
   static void setup(TestCookieManagerHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -217,6 +230,153 @@ abstract class TestCookieManagerHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.setCookies',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.setCookies was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.setCookies was null, expected non-null int.');
+          final List<String?>? arg_urls =
+              (args[1] as List<Object?>?)?.cast<String?>();
+          assert(arg_urls != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.setCookies was null, expected non-null List<String?>.');
+          final List<String?>? arg_values =
+              (args[2] as List<Object?>?)?.cast<String?>();
+          assert(arg_values != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.setCookies was null, expected non-null List<String?>.');
+          await api.setCookies(arg_identifier!, arg_urls!, arg_values!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.getCookies',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.getCookies was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.getCookies was null, expected non-null int.');
+          final List<String?>? arg_urls =
+              (args[1] as List<Object?>?)?.cast<String?>();
+          assert(arg_urls != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.getCookies was null, expected non-null List<String?>.');
+          final Map<String?, Object?> output =
+              await api.getCookies(arg_identifier!, arg_urls!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.saveCookieSnapshot',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.saveCookieSnapshot was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.saveCookieSnapshot was null, expected non-null int.');
+          final List<String?>? arg_urls =
+              (args[1] as List<Object?>?)?.cast<String?>();
+          assert(arg_urls != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.saveCookieSnapshot was null, expected non-null List<String?>.');
+          final String? arg_path = (args[2] as String?);
+          assert(arg_path != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.saveCookieSnapshot was null, expected non-null String.');
+          final Map<String?, Object?> output = await api.saveCookieSnapshot(
+              arg_identifier!, arg_urls!, arg_path!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.restoreCookieSnapshot',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.restoreCookieSnapshot was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.restoreCookieSnapshot was null, expected non-null int.');
+          final String? arg_path = (args[1] as String?);
+          assert(arg_path != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.restoreCookieSnapshot was null, expected non-null String.');
+          final bool? arg_clearExisting = (args[2] as bool?);
+          assert(arg_clearExisting != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.restoreCookieSnapshot was null, expected non-null bool.');
+          final Map<String?, Object?> output = await api.restoreCookieSnapshot(
+              arg_identifier!, arg_path!, arg_clearExisting!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.attachInstanceForProfile',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.attachInstanceForProfile was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceIdentifier = (args[0] as int?);
+          assert(arg_instanceIdentifier != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.attachInstanceForProfile was null, expected non-null int.');
+          final String? arg_profileName = (args[1] as String?);
+          assert(arg_profileName != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.CookieManagerHostApi.attachInstanceForProfile was null, expected non-null String.');
+          api.attachInstanceForProfile(
+              arg_instanceIdentifier!, arg_profileName!);
+          return <Object?>[];
+        });
+      }
+    }
   }
 }
 
@@ -302,6 +462,81 @@ abstract class TestWebViewHostApi {
 
   void setBackgroundColor(int instanceId, int color);
 
+  void setRenderProcessHangBudget(int instanceId, int? budgetMillis);
+
+  Map<String?, Object?> getRenderProcessHangStats(int instanceId);
+
+  void setNavigationTimingEventsEnabled(int instanceId, bool enabled);
+
+  Map<String?, Object?> getNavigationTimingStats(int instanceId);
+
+  Map<String?, Object?> getGlobalNavigationTimingStats();
+
+  void setNetworkRequestLogCapacity(int instanceId, int capacity);
+
+  Map<String?, Object?> exportNetworkRequestLog(int instanceId);
+
+  int beginStreamingLoad(
+      int instanceId, String url, String mimeType, String? encoding);
+
+  int beginFileLoad(int instanceId, String url, String filePath,
+      String mimeType, String? encoding);
+
+  Future<void> writeStreamingLoadChunk(int loadId, Uint8List chunk);
+
+  void finishStreamingLoad(int loadId);
+
+  void cancelStreamingLoad(int loadId);
+
+  void postUrlFromFile(
+      int instanceId, String url, String source, String contentType);
+
+  void addLocalContentDirectory(int instanceId, String origin,
+      String pathPrefix, String directory, int cacheMaxAgeSeconds);
+
+  void clearLocalContentDirectories(int instanceId);
+
+  String? getLocalContentUrl(int instanceId, String filePath);
+
+  Future<String?> evaluateJavascriptBatch(
+      int instanceId, List<String?> scripts);
+
+  Future<Object?> evaluateJavascriptDecoded(
+      int instanceId, String javascriptString);
+
+  void setJavaScriptEvaluationLimits(
+      int instanceId, int? maxInFlight, int? maxQueued, int? timeoutMillis);
+
+  Map<String?, Object?> getJavaScriptEvaluationStats(int instanceId);
+
+  int addDocumentStartJavaScript(
+      int instanceId, String script, List<String?> allowedOriginRules);
+
+  void removeDocumentStartJavaScript(int instanceId, int handle);
+
+  void addWebMessageListener(int instanceId, int javaScriptChannelInstanceId,
+      List<String?> allowedOriginRules);
+
+  void removeWebMessageListener(
+      int instanceId, int javaScriptChannelInstanceId);
+
+  void createWithProfile(int instanceId, String profileName);
+
+  bool isMultiProfileSupported();
+
+  List<String?> getProfileNames();
+
+  void deleteProfile(String profileName);
+
+  Map<String?, Object?> getFileChooserStats();
+
+  void enableUploadImageProcessing(int maxWidth, int maxHeight, String format,
+      int quality, int cacheBudgetBytes);
+
+  void disableUploadImageProcessing();
+
+  void setDiscardHiddenWebViews(bool discard);
+
   static void setup(TestWebViewHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -963,49 +1198,9 @@ abstract class TestWebViewHostApi {
         });
       }
     }
-  }
-}
-
-abstract class TestWebSettingsHostApi {
-  static TestDefaultBinaryMessengerBinding? get _testBinaryMessengerBinding =>
-      TestDefaultBinaryMessengerBinding.instance;
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
-
-  void create(int instanceId, int webViewInstanceId);
-
-  void setDomStorageEnabled(int instanceId, bool flag);
-
-  void setJavaScriptCanOpenWindowsAutomatically(int instanceId, bool flag);
-
-  void setSupportMultipleWindows(int instanceId, bool support);
-
-  void setJavaScriptEnabled(int instanceId, bool flag);
-
-  void setUserAgentString(int instanceId, String? userAgentString);
-
-  void setMediaPlaybackRequiresUserGesture(int instanceId, bool require);
-
-  void setSupportZoom(int instanceId, bool support);
-
-  void setLoadWithOverviewMode(int instanceId, bool overview);
-
-  void setUseWideViewPort(int instanceId, bool use);
-
-  void setDisplayZoomControls(int instanceId, bool enabled);
-
-  void setBuiltInZoomControls(int instanceId, bool enabled);
-
-  void setAllowFileAccess(int instanceId, bool enabled);
-
-  void setTextZoom(int instanceId, int textZoom);
-
-  String getUserAgentString(int instanceId);
-
-  static void setup(TestWebSettingsHostApi? api,
-      {BinaryMessenger? binaryMessenger}) {
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.create',
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setRenderProcessHangBudget',
           codec,
           binaryMessenger: binaryMessenger);
       if (api == null) {
@@ -1016,22 +1211,20 @@ abstract class TestWebSettingsHostApi {
             .setMockDecodedMessageHandler<Object?>(channel,
                 (Object? message) async {
           assert(message != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.create was null.');
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setRenderProcessHangBudget was null.');
           final List<Object?> args = (message as List<Object?>?)!;
           final int? arg_instanceId = (args[0] as int?);
           assert(arg_instanceId != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.create was null, expected non-null int.');
-          final int? arg_webViewInstanceId = (args[1] as int?);
-          assert(arg_webViewInstanceId != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.create was null, expected non-null int.');
-          api.create(arg_instanceId!, arg_webViewInstanceId!);
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setRenderProcessHangBudget was null, expected non-null int.');
+          final int? arg_budgetMillis = (args[1] as int?);
+          api.setRenderProcessHangBudget(arg_instanceId!, arg_budgetMillis);
           return <Object?>[];
         });
       }
     }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setDomStorageEnabled',
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getRenderProcessHangStats',
           codec,
           binaryMessenger: binaryMessenger);
       if (api == null) {
@@ -1042,22 +1235,20 @@ abstract class TestWebSettingsHostApi {
             .setMockDecodedMessageHandler<Object?>(channel,
                 (Object? message) async {
           assert(message != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setDomStorageEnabled was null.');
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getRenderProcessHangStats was null.');
           final List<Object?> args = (message as List<Object?>?)!;
           final int? arg_instanceId = (args[0] as int?);
           assert(arg_instanceId != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setDomStorageEnabled was null, expected non-null int.');
-          final bool? arg_flag = (args[1] as bool?);
-          assert(arg_flag != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setDomStorageEnabled was null, expected non-null bool.');
-          api.setDomStorageEnabled(arg_instanceId!, arg_flag!);
-          return <Object?>[];
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getRenderProcessHangStats was null, expected non-null int.');
+          final Map<String?, Object?> output =
+              api.getRenderProcessHangStats(arg_instanceId!);
+          return <Object?>[output];
         });
       }
     }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setJavaScriptCanOpenWindowsAutomatically',
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setNavigationTimingEventsEnabled',
           codec,
           binaryMessenger: binaryMessenger);
       if (api == null) {
@@ -1068,23 +1259,22 @@ abstract class TestWebSettingsHostApi {
             .setMockDecodedMessageHandler<Object?>(channel,
                 (Object? message) async {
           assert(message != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setJavaScriptCanOpenWindowsAutomatically was null.');
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setNavigationTimingEventsEnabled was null.');
           final List<Object?> args = (message as List<Object?>?)!;
           final int? arg_instanceId = (args[0] as int?);
           assert(arg_instanceId != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setJavaScriptCanOpenWindowsAutomatically was null, expected non-null int.');
-          final bool? arg_flag = (args[1] as bool?);
-          assert(arg_flag != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setJavaScriptCanOpenWindowsAutomatically was null, expected non-null bool.');
-          api.setJavaScriptCanOpenWindowsAutomatically(
-              arg_instanceId!, arg_flag!);
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setNavigationTimingEventsEnabled was null, expected non-null int.');
+          final bool? arg_enabled = (args[1] as bool?);
+          assert(arg_enabled != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setNavigationTimingEventsEnabled was null, expected non-null bool.');
+          api.setNavigationTimingEventsEnabled(arg_instanceId!, arg_enabled!);
           return <Object?>[];
         });
       }
     }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setSupportMultipleWindows',
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getNavigationTimingStats',
           codec,
           binaryMessenger: binaryMessenger);
       if (api == null) {
@@ -1095,22 +1285,20 @@ abstract class TestWebSettingsHostApi {
             .setMockDecodedMessageHandler<Object?>(channel,
                 (Object? message) async {
           assert(message != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setSupportMultipleWindows was null.');
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getNavigationTimingStats was null.');
           final List<Object?> args = (message as List<Object?>?)!;
           final int? arg_instanceId = (args[0] as int?);
           assert(arg_instanceId != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setSupportMultipleWindows was null, expected non-null int.');
-          final bool? arg_support = (args[1] as bool?);
-          assert(arg_support != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setSupportMultipleWindows was null, expected non-null bool.');
-          api.setSupportMultipleWindows(arg_instanceId!, arg_support!);
-          return <Object?>[];
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getNavigationTimingStats was null, expected non-null int.');
+          final Map<String?, Object?> output =
+              api.getNavigationTimingStats(arg_instanceId!);
+          return <Object?>[output];
         });
       }
     }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setJavaScriptEnabled',
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getGlobalNavigationTimingStats',
           codec,
           binaryMessenger: binaryMessenger);
       if (api == null) {
@@ -1120,23 +1308,15 @@ abstract class TestWebSettingsHostApi {
         _testBinaryMessengerBinding!.defaultBinaryMessenger
             .setMockDecodedMessageHandler<Object?>(channel,
                 (Object? message) async {
-          assert(message != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setJavaScriptEnabled was null.');
-          final List<Object?> args = (message as List<Object?>?)!;
-          final int? arg_instanceId = (args[0] as int?);
-          assert(arg_instanceId != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setJavaScriptEnabled was null, expected non-null int.');
-          final bool? arg_flag = (args[1] as bool?);
-          assert(arg_flag != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setJavaScriptEnabled was null, expected non-null bool.');
-          api.setJavaScriptEnabled(arg_instanceId!, arg_flag!);
-          return <Object?>[];
+          final Map<String?, Object?> output =
+              api.getGlobalNavigationTimingStats();
+          return <Object?>[output];
         });
       }
     }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setUserAgentString',
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setNetworkRequestLogCapacity',
           codec,
           binaryMessenger: binaryMessenger);
       if (api == null) {
@@ -1147,20 +1327,22 @@ abstract class TestWebSettingsHostApi {
             .setMockDecodedMessageHandler<Object?>(channel,
                 (Object? message) async {
           assert(message != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setUserAgentString was null.');
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setNetworkRequestLogCapacity was null.');
           final List<Object?> args = (message as List<Object?>?)!;
           final int? arg_instanceId = (args[0] as int?);
           assert(arg_instanceId != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setUserAgentString was null, expected non-null int.');
-          final String? arg_userAgentString = (args[1] as String?);
-          api.setUserAgentString(arg_instanceId!, arg_userAgentString);
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setNetworkRequestLogCapacity was null, expected non-null int.');
+          final int? arg_capacity = (args[1] as int?);
+          assert(arg_capacity != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setNetworkRequestLogCapacity was null, expected non-null int.');
+          api.setNetworkRequestLogCapacity(arg_instanceId!, arg_capacity!);
           return <Object?>[];
         });
       }
     }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setMediaPlaybackRequiresUserGesture',
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.exportNetworkRequestLog',
           codec,
           binaryMessenger: binaryMessenger);
       if (api == null) {
@@ -1171,23 +1353,20 @@ abstract class TestWebSettingsHostApi {
             .setMockDecodedMessageHandler<Object?>(channel,
                 (Object? message) async {
           assert(message != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setMediaPlaybackRequiresUserGesture was null.');
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.exportNetworkRequestLog was null.');
           final List<Object?> args = (message as List<Object?>?)!;
           final int? arg_instanceId = (args[0] as int?);
           assert(arg_instanceId != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setMediaPlaybackRequiresUserGesture was null, expected non-null int.');
-          final bool? arg_require = (args[1] as bool?);
-          assert(arg_require != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setMediaPlaybackRequiresUserGesture was null, expected non-null bool.');
-          api.setMediaPlaybackRequiresUserGesture(
-              arg_instanceId!, arg_require!);
-          return <Object?>[];
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.exportNetworkRequestLog was null, expected non-null int.');
+          final Map<String?, Object?> output =
+              api.exportNetworkRequestLog(arg_instanceId!);
+          return <Object?>[output];
         });
       }
     }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setSupportZoom',
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.beginStreamingLoad',
           codec,
           binaryMessenger: binaryMessenger);
       if (api == null) {
@@ -1198,22 +1377,27 @@ abstract class TestWebSettingsHostApi {
             .setMockDecodedMessageHandler<Object?>(channel,
                 (Object? message) async {
           assert(message != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setSupportZoom was null.');
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.beginStreamingLoad was null.');
           final List<Object?> args = (message as List<Object?>?)!;
           final int? arg_instanceId = (args[0] as int?);
           assert(arg_instanceId != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setSupportZoom was null, expected non-null int.');
-          final bool? arg_support = (args[1] as bool?);
-          assert(arg_support != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setSupportZoom was null, expected non-null bool.');
-          api.setSupportZoom(arg_instanceId!, arg_support!);
-          return <Object?>[];
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.beginStreamingLoad was null, expected non-null int.');
+          final String? arg_url = (args[1] as String?);
+          assert(arg_url != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.beginStreamingLoad was null, expected non-null String.');
+          final String? arg_mimeType = (args[2] as String?);
+          assert(arg_mimeType != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.beginStreamingLoad was null, expected non-null String.');
+          final String? arg_encoding = (args[3] as String?);
+          final int output = api.beginStreamingLoad(
+              arg_instanceId!, arg_url!, arg_mimeType!, arg_encoding);
+          return <Object?>[output];
         });
       }
     }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setLoadWithOverviewMode',
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.beginFileLoad',
           codec,
           binaryMessenger: binaryMessenger);
       if (api == null) {
@@ -1224,11 +1408,881 @@ abstract class TestWebSettingsHostApi {
             .setMockDecodedMessageHandler<Object?>(channel,
                 (Object? message) async {
           assert(message != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setLoadWithOverviewMode was null.');
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.beginFileLoad was null.');
           final List<Object?> args = (message as List<Object?>?)!;
           final int? arg_instanceId = (args[0] as int?);
           assert(arg_instanceId != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setLoadWithOverviewMode was null, expected non-null int.');
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.beginFileLoad was null, expected non-null int.');
+          final String? arg_url = (args[1] as String?);
+          assert(arg_url != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.beginFileLoad was null, expected non-null String.');
+          final String? arg_filePath = (args[2] as String?);
+          assert(arg_filePath != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.beginFileLoad was null, expected non-null String.');
+          final String? arg_mimeType = (args[3] as String?);
+          assert(arg_mimeType != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.beginFileLoad was null, expected non-null String.');
+          final String? arg_encoding = (args[4] as String?);
+          final int output = api.beginFileLoad(arg_instanceId!, arg_url!,
+              arg_filePath!, arg_mimeType!, arg_encoding);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.writeStreamingLoadChunk',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.writeStreamingLoadChunk was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_loadId = (args[0] as int?);
+          assert(arg_loadId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.writeStreamingLoadChunk was null, expected non-null int.');
+          final Uint8List? arg_chunk = (args[1] as Uint8List?);
+          assert(arg_chunk != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.writeStreamingLoadChunk was null, expected non-null Uint8List.');
+          await api.writeStreamingLoadChunk(arg_loadId!, arg_chunk!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.finishStreamingLoad',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.finishStreamingLoad was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_loadId = (args[0] as int?);
+          assert(arg_loadId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.finishStreamingLoad was null, expected non-null int.');
+          api.finishStreamingLoad(arg_loadId!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.cancelStreamingLoad',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.cancelStreamingLoad was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_loadId = (args[0] as int?);
+          assert(arg_loadId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.cancelStreamingLoad was null, expected non-null int.');
+          api.cancelStreamingLoad(arg_loadId!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.postUrlFromFile',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.postUrlFromFile was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.postUrlFromFile was null, expected non-null int.');
+          final String? arg_url = (args[1] as String?);
+          assert(arg_url != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.postUrlFromFile was null, expected non-null String.');
+          final String? arg_source = (args[2] as String?);
+          assert(arg_source != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.postUrlFromFile was null, expected non-null String.');
+          final String? arg_contentType = (args[3] as String?);
+          assert(arg_contentType != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.postUrlFromFile was null, expected non-null String.');
+          api.postUrlFromFile(
+              arg_instanceId!, arg_url!, arg_source!, arg_contentType!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addLocalContentDirectory',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addLocalContentDirectory was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addLocalContentDirectory was null, expected non-null int.');
+          final String? arg_origin = (args[1] as String?);
+          assert(arg_origin != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addLocalContentDirectory was null, expected non-null String.');
+          final String? arg_pathPrefix = (args[2] as String?);
+          assert(arg_pathPrefix != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addLocalContentDirectory was null, expected non-null String.');
+          final String? arg_directory = (args[3] as String?);
+          assert(arg_directory != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addLocalContentDirectory was null, expected non-null String.');
+          final int? arg_cacheMaxAgeSeconds = (args[4] as int?);
+          assert(arg_cacheMaxAgeSeconds != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addLocalContentDirectory was null, expected non-null int.');
+          api.addLocalContentDirectory(arg_instanceId!, arg_origin!,
+              arg_pathPrefix!, arg_directory!, arg_cacheMaxAgeSeconds!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.clearLocalContentDirectories',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.clearLocalContentDirectories was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.clearLocalContentDirectories was null, expected non-null int.');
+          api.clearLocalContentDirectories(arg_instanceId!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getLocalContentUrl',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getLocalContentUrl was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getLocalContentUrl was null, expected non-null int.');
+          final String? arg_filePath = (args[1] as String?);
+          assert(arg_filePath != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getLocalContentUrl was null, expected non-null String.');
+          final String? output =
+              api.getLocalContentUrl(arg_instanceId!, arg_filePath!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.evaluateJavascriptBatch',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.evaluateJavascriptBatch was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.evaluateJavascriptBatch was null, expected non-null int.');
+          final List<String?>? arg_scripts =
+              (args[1] as List<Object?>?)?.cast<String?>();
+          assert(arg_scripts != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.evaluateJavascriptBatch was null, expected non-null List<String?>.');
+          final String? output =
+              await api.evaluateJavascriptBatch(arg_instanceId!, arg_scripts!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.evaluateJavascriptDecoded',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.evaluateJavascriptDecoded was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.evaluateJavascriptDecoded was null, expected non-null int.');
+          final String? arg_javascriptString = (args[1] as String?);
+          assert(arg_javascriptString != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.evaluateJavascriptDecoded was null, expected non-null String.');
+          final Object? output = await api.evaluateJavascriptDecoded(
+              arg_instanceId!, arg_javascriptString!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setJavaScriptEvaluationLimits',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setJavaScriptEvaluationLimits was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setJavaScriptEvaluationLimits was null, expected non-null int.');
+          final int? arg_maxInFlight = (args[1] as int?);
+          final int? arg_maxQueued = (args[2] as int?);
+          final int? arg_timeoutMillis = (args[3] as int?);
+          api.setJavaScriptEvaluationLimits(arg_instanceId!, arg_maxInFlight,
+              arg_maxQueued, arg_timeoutMillis);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getJavaScriptEvaluationStats',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getJavaScriptEvaluationStats was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getJavaScriptEvaluationStats was null, expected non-null int.');
+          final Map<String?, Object?> output =
+              api.getJavaScriptEvaluationStats(arg_instanceId!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addDocumentStartJavaScript',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addDocumentStartJavaScript was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addDocumentStartJavaScript was null, expected non-null int.');
+          final String? arg_script = (args[1] as String?);
+          assert(arg_script != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addDocumentStartJavaScript was null, expected non-null String.');
+          final List<String?>? arg_allowedOriginRules =
+              (args[2] as List<Object?>?)?.cast<String?>();
+          assert(arg_allowedOriginRules != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addDocumentStartJavaScript was null, expected non-null List<String?>.');
+          final int output = api.addDocumentStartJavaScript(
+              arg_instanceId!, arg_script!, arg_allowedOriginRules!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.removeDocumentStartJavaScript',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.removeDocumentStartJavaScript was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.removeDocumentStartJavaScript was null, expected non-null int.');
+          final int? arg_handle = (args[1] as int?);
+          assert(arg_handle != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.removeDocumentStartJavaScript was null, expected non-null int.');
+          api.removeDocumentStartJavaScript(arg_instanceId!, arg_handle!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addWebMessageListener',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addWebMessageListener was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addWebMessageListener was null, expected non-null int.');
+          final int? arg_javaScriptChannelInstanceId = (args[1] as int?);
+          assert(arg_javaScriptChannelInstanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addWebMessageListener was null, expected non-null int.');
+          final List<String?>? arg_allowedOriginRules =
+              (args[2] as List<Object?>?)?.cast<String?>();
+          assert(arg_allowedOriginRules != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.addWebMessageListener was null, expected non-null List<String?>.');
+          api.addWebMessageListener(arg_instanceId!,
+              arg_javaScriptChannelInstanceId!, arg_allowedOriginRules!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.removeWebMessageListener',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.removeWebMessageListener was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.removeWebMessageListener was null, expected non-null int.');
+          final int? arg_javaScriptChannelInstanceId = (args[1] as int?);
+          assert(arg_javaScriptChannelInstanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.removeWebMessageListener was null, expected non-null int.');
+          api.removeWebMessageListener(
+              arg_instanceId!, arg_javaScriptChannelInstanceId!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.createWithProfile',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.createWithProfile was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.createWithProfile was null, expected non-null int.');
+          final String? arg_profileName = (args[1] as String?);
+          assert(arg_profileName != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.createWithProfile was null, expected non-null String.');
+          api.createWithProfile(arg_instanceId!, arg_profileName!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.isMultiProfileSupported',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          final bool output = api.isMultiProfileSupported();
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getProfileNames',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          final List<String?> output = api.getProfileNames();
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.deleteProfile',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.deleteProfile was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_profileName = (args[0] as String?);
+          assert(arg_profileName != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.deleteProfile was null, expected non-null String.');
+          api.deleteProfile(arg_profileName!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.getFileChooserStats',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          final Map<String?, Object?> output = api.getFileChooserStats();
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.enableUploadImageProcessing',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.enableUploadImageProcessing was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_maxWidth = (args[0] as int?);
+          assert(arg_maxWidth != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.enableUploadImageProcessing was null, expected non-null int.');
+          final int? arg_maxHeight = (args[1] as int?);
+          assert(arg_maxHeight != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.enableUploadImageProcessing was null, expected non-null int.');
+          final String? arg_format = (args[2] as String?);
+          assert(arg_format != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.enableUploadImageProcessing was null, expected non-null String.');
+          final int? arg_quality = (args[3] as int?);
+          assert(arg_quality != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.enableUploadImageProcessing was null, expected non-null int.');
+          final int? arg_cacheBudgetBytes = (args[4] as int?);
+          assert(arg_cacheBudgetBytes != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.enableUploadImageProcessing was null, expected non-null int.');
+          api.enableUploadImageProcessing(arg_maxWidth!, arg_maxHeight!,
+              arg_format!, arg_quality!, arg_cacheBudgetBytes!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.disableUploadImageProcessing',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          api.disableUploadImageProcessing();
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setDiscardHiddenWebViews',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setDiscardHiddenWebViews was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final bool? arg_discard = (args[0] as bool?);
+          assert(arg_discard != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewHostApi.setDiscardHiddenWebViews was null, expected non-null bool.');
+          api.setDiscardHiddenWebViews(arg_discard!);
+          return <Object?>[];
+        });
+      }
+    }
+  }
+}
+
+abstract class TestWebSettingsHostApi {
+  static TestDefaultBinaryMessengerBinding? get _testBinaryMessengerBinding =>
+      TestDefaultBinaryMessengerBinding.instance;
+  static const MessageCodec<Object?> codec = StandardMessageCodec();
+
+  void create(int instanceId, int webViewInstanceId);
+
+  void setDomStorageEnabled(int instanceId, bool flag);
+
+  void setJavaScriptCanOpenWindowsAutomatically(int instanceId, bool flag);
+
+  void setSupportMultipleWindows(int instanceId, bool support);
+
+  void setJavaScriptEnabled(int instanceId, bool flag);
+
+  void setUserAgentString(int instanceId, String? userAgentString);
+
+  void setMediaPlaybackRequiresUserGesture(int instanceId, bool require);
+
+  void setSupportZoom(int instanceId, bool support);
+
+  void setLoadWithOverviewMode(int instanceId, bool overview);
+
+  void setUseWideViewPort(int instanceId, bool use);
+
+  void setDisplayZoomControls(int instanceId, bool enabled);
+
+  void setBuiltInZoomControls(int instanceId, bool enabled);
+
+  void setAllowFileAccess(int instanceId, bool enabled);
+
+  void setTextZoom(int instanceId, int textZoom);
+
+  String getUserAgentString(int instanceId);
+
+  static void setup(TestWebSettingsHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.create',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.create was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.create was null, expected non-null int.');
+          final int? arg_webViewInstanceId = (args[1] as int?);
+          assert(arg_webViewInstanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.create was null, expected non-null int.');
+          api.create(arg_instanceId!, arg_webViewInstanceId!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setDomStorageEnabled',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setDomStorageEnabled was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setDomStorageEnabled was null, expected non-null int.');
+          final bool? arg_flag = (args[1] as bool?);
+          assert(arg_flag != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setDomStorageEnabled was null, expected non-null bool.');
+          api.setDomStorageEnabled(arg_instanceId!, arg_flag!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setJavaScriptCanOpenWindowsAutomatically',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setJavaScriptCanOpenWindowsAutomatically was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setJavaScriptCanOpenWindowsAutomatically was null, expected non-null int.');
+          final bool? arg_flag = (args[1] as bool?);
+          assert(arg_flag != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setJavaScriptCanOpenWindowsAutomatically was null, expected non-null bool.');
+          api.setJavaScriptCanOpenWindowsAutomatically(
+              arg_instanceId!, arg_flag!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setSupportMultipleWindows',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setSupportMultipleWindows was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setSupportMultipleWindows was null, expected non-null int.');
+          final bool? arg_support = (args[1] as bool?);
+          assert(arg_support != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setSupportMultipleWindows was null, expected non-null bool.');
+          api.setSupportMultipleWindows(arg_instanceId!, arg_support!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setJavaScriptEnabled',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setJavaScriptEnabled was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setJavaScriptEnabled was null, expected non-null int.');
+          final bool? arg_flag = (args[1] as bool?);
+          assert(arg_flag != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setJavaScriptEnabled was null, expected non-null bool.');
+          api.setJavaScriptEnabled(arg_instanceId!, arg_flag!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setUserAgentString',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setUserAgentString was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setUserAgentString was null, expected non-null int.');
+          final String? arg_userAgentString = (args[1] as String?);
+          api.setUserAgentString(arg_instanceId!, arg_userAgentString);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setMediaPlaybackRequiresUserGesture',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setMediaPlaybackRequiresUserGesture was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setMediaPlaybackRequiresUserGesture was null, expected non-null int.');
+          final bool? arg_require = (args[1] as bool?);
+          assert(arg_require != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setMediaPlaybackRequiresUserGesture was null, expected non-null bool.');
+          api.setMediaPlaybackRequiresUserGesture(
+              arg_instanceId!, arg_require!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setSupportZoom',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setSupportZoom was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setSupportZoom was null, expected non-null int.');
+          final bool? arg_support = (args[1] as bool?);
+          assert(arg_support != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setSupportZoom was null, expected non-null bool.');
+          api.setSupportZoom(arg_instanceId!, arg_support!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setLoadWithOverviewMode',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setLoadWithOverviewMode was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setLoadWithOverviewMode was null, expected non-null int.');
           final bool? arg_overview = (args[1] as bool?);
           assert(arg_overview != null,
               'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setLoadWithOverviewMode was null, expected non-null bool.');
@@ -1306,18 +2360,331 @@ abstract class TestWebSettingsHostApi {
           final List<Object?> args = (message as List<Object?>?)!;
           final int? arg_instanceId = (args[0] as int?);
           assert(arg_instanceId != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setBuiltInZoomControls was null, expected non-null int.');
-          final bool? arg_enabled = (args[1] as bool?);
-          assert(arg_enabled != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setBuiltInZoomControls was null, expected non-null bool.');
-          api.setBuiltInZoomControls(arg_instanceId!, arg_enabled!);
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setBuiltInZoomControls was null, expected non-null int.');
+          final bool? arg_enabled = (args[1] as bool?);
+          assert(arg_enabled != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setBuiltInZoomControls was null, expected non-null bool.');
+          api.setBuiltInZoomControls(arg_instanceId!, arg_enabled!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setAllowFileAccess',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setAllowFileAccess was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setAllowFileAccess was null, expected non-null int.');
+          final bool? arg_enabled = (args[1] as bool?);
+          assert(arg_enabled != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setAllowFileAccess was null, expected non-null bool.');
+          api.setAllowFileAccess(arg_instanceId!, arg_enabled!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setTextZoom',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setTextZoom was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setTextZoom was null, expected non-null int.');
+          final int? arg_textZoom = (args[1] as int?);
+          assert(arg_textZoom != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setTextZoom was null, expected non-null int.');
+          api.setTextZoom(arg_instanceId!, arg_textZoom!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.getUserAgentString',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.getUserAgentString was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.getUserAgentString was null, expected non-null int.');
+          final String output = api.getUserAgentString(arg_instanceId!);
+          return <Object?>[output];
+        });
+      }
+    }
+  }
+}
+
+abstract class TestJavaScriptChannelHostApi {
+  static TestDefaultBinaryMessengerBinding? get _testBinaryMessengerBinding =>
+      TestDefaultBinaryMessengerBinding.instance;
+  static const MessageCodec<Object?> codec = StandardMessageCodec();
+
+  void create(int instanceId, String channelName);
+
+  void enableRpc(int instanceId, int? timeoutMillis);
+
+  Map<String?, Object?> getRpcStats(int instanceId);
+
+  void setMessageQueueLimits(int instanceId, int maxQueued, String policy,
+      String? coalesceKeyDelimiter);
+
+  Map<String?, Object?> getMessageQueueStats(int instanceId);
+
+  static void setup(TestJavaScriptChannelHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.create',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.create was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.create was null, expected non-null int.');
+          final String? arg_channelName = (args[1] as String?);
+          assert(arg_channelName != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.create was null, expected non-null String.');
+          api.create(arg_instanceId!, arg_channelName!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.enableRpc',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.enableRpc was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.enableRpc was null, expected non-null int.');
+          final int? arg_timeoutMillis = (args[1] as int?);
+          api.enableRpc(arg_instanceId!, arg_timeoutMillis);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.getRpcStats',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.getRpcStats was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.getRpcStats was null, expected non-null int.');
+          final Map<String?, Object?> output = api.getRpcStats(arg_instanceId!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.setMessageQueueLimits',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.setMessageQueueLimits was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.setMessageQueueLimits was null, expected non-null int.');
+          final int? arg_maxQueued = (args[1] as int?);
+          assert(arg_maxQueued != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.setMessageQueueLimits was null, expected non-null int.');
+          final String? arg_policy = (args[2] as String?);
+          assert(arg_policy != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.setMessageQueueLimits was null, expected non-null String.');
+          final String? arg_coalesceKeyDelimiter = (args[3] as String?);
+          api.setMessageQueueLimits(arg_instanceId!, arg_maxQueued!,
+              arg_policy!, arg_coalesceKeyDelimiter);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.getMessageQueueStats',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.getMessageQueueStats was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.getMessageQueueStats was null, expected non-null int.');
+          final Map<String?, Object?> output =
+              api.getMessageQueueStats(arg_instanceId!);
+          return <Object?>[output];
+        });
+      }
+    }
+  }
+}
+
+abstract class TestWebViewClientHostApi {
+  static TestDefaultBinaryMessengerBinding? get _testBinaryMessengerBinding =>
+      TestDefaultBinaryMessengerBinding.instance;
+  static const MessageCodec<Object?> codec = StandardMessageCodec();
+
+  void create(int instanceId);
+
+  void setSynchronousReturnValueForShouldOverrideUrlLoading(
+      int instanceId, bool value);
+
+  static void setup(TestWebViewClientHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewClientHostApi.create',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewClientHostApi.create was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewClientHostApi.create was null, expected non-null int.');
+          api.create(arg_instanceId!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebViewClientHostApi.setSynchronousReturnValueForShouldOverrideUrlLoading',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewClientHostApi.setSynchronousReturnValueForShouldOverrideUrlLoading was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewClientHostApi.setSynchronousReturnValueForShouldOverrideUrlLoading was null, expected non-null int.');
+          final bool? arg_value = (args[1] as bool?);
+          assert(arg_value != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewClientHostApi.setSynchronousReturnValueForShouldOverrideUrlLoading was null, expected non-null bool.');
+          api.setSynchronousReturnValueForShouldOverrideUrlLoading(
+              arg_instanceId!, arg_value!);
           return <Object?>[];
         });
       }
     }
+  }
+}
+
+abstract class TestDownloadListenerHostApi {
+  static TestDefaultBinaryMessengerBinding? get _testBinaryMessengerBinding =>
+      TestDefaultBinaryMessengerBinding.instance;
+  static const MessageCodec<Object?> codec = StandardMessageCodec();
+
+  void create(int instanceId);
+
+  void enableNativeDownloads(int instanceId, String directory);
+
+  void setMaxConcurrentDownloads(int maxConcurrentDownloads);
+
+  void cancelDownload(int downloadId);
+
+  void resumeDownload(int downloadId);
+
+  void setDownloadCacheBudget(int budgetBytes);
+
+  int getDownloadCacheSize();
+
+  static void setup(TestDownloadListenerHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setAllowFileAccess',
+          'dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.create',
           codec,
           binaryMessenger: binaryMessenger);
       if (api == null) {
@@ -1328,22 +2695,19 @@ abstract class TestWebSettingsHostApi {
             .setMockDecodedMessageHandler<Object?>(channel,
                 (Object? message) async {
           assert(message != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setAllowFileAccess was null.');
+              'Argument for dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.create was null.');
           final List<Object?> args = (message as List<Object?>?)!;
           final int? arg_instanceId = (args[0] as int?);
           assert(arg_instanceId != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setAllowFileAccess was null, expected non-null int.');
-          final bool? arg_enabled = (args[1] as bool?);
-          assert(arg_enabled != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setAllowFileAccess was null, expected non-null bool.');
-          api.setAllowFileAccess(arg_instanceId!, arg_enabled!);
+              'Argument for dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.create was null, expected non-null int.');
+          api.create(arg_instanceId!);
           return <Object?>[];
         });
       }
     }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setTextZoom',
+          'dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.enableNativeDownloads',
           codec,
           binaryMessenger: binaryMessenger);
       if (api == null) {
@@ -1354,22 +2718,22 @@ abstract class TestWebSettingsHostApi {
             .setMockDecodedMessageHandler<Object?>(channel,
                 (Object? message) async {
           assert(message != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setTextZoom was null.');
+              'Argument for dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.enableNativeDownloads was null.');
           final List<Object?> args = (message as List<Object?>?)!;
           final int? arg_instanceId = (args[0] as int?);
           assert(arg_instanceId != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setTextZoom was null, expected non-null int.');
-          final int? arg_textZoom = (args[1] as int?);
-          assert(arg_textZoom != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.setTextZoom was null, expected non-null int.');
-          api.setTextZoom(arg_instanceId!, arg_textZoom!);
+              'Argument for dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.enableNativeDownloads was null, expected non-null int.');
+          final String? arg_directory = (args[1] as String?);
+          assert(arg_directory != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.enableNativeDownloads was null, expected non-null String.');
+          api.enableNativeDownloads(arg_instanceId!, arg_directory!);
           return <Object?>[];
         });
       }
     }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-          'dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.getUserAgentString',
+          'dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.setMaxConcurrentDownloads',
           codec,
           binaryMessenger: binaryMessenger);
       if (api == null) {
@@ -1380,31 +2744,19 @@ abstract class TestWebSettingsHostApi {
             .setMockDecodedMessageHandler<Object?>(channel,
                 (Object? message) async {
           assert(message != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.getUserAgentString was null.');
+              'Argument for dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.setMaxConcurrentDownloads was null.');
           final List<Object?> args = (message as List<Object?>?)!;
-          final int? arg_instanceId = (args[0] as int?);
-          assert(arg_instanceId != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebSettingsHostApi.getUserAgentString was null, expected non-null int.');
-          final String output = api.getUserAgentString(arg_instanceId!);
-          return <Object?>[output];
+          final int? arg_maxConcurrentDownloads = (args[0] as int?);
+          assert(arg_maxConcurrentDownloads != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.setMaxConcurrentDownloads was null, expected non-null int.');
+          api.setMaxConcurrentDownloads(arg_maxConcurrentDownloads!);
+          return <Object?>[];
         });
       }
     }
-  }
-}
-
-abstract class TestJavaScriptChannelHostApi {
-  static TestDefaultBinaryMessengerBinding? get _testBinaryMessengerBinding =>
-      TestDefaultBinaryMessengerBinding.instance;
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
-
-  void create(int instanceId, String channelName);
-
-  static void setup(TestJavaScriptChannelHostApi? api,
-      {BinaryMessenger? binaryMessenger}) {
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-          'dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.create',
+          'dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.cancelDownload',
           codec,
           binaryMessenger: binaryMessenger);
       if (api == null) {
@@ -1415,37 +2767,19 @@ abstract class TestJavaScriptChannelHostApi {
             .setMockDecodedMessageHandler<Object?>(channel,
                 (Object? message) async {
           assert(message != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.create was null.');
+              'Argument for dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.cancelDownload was null.');
           final List<Object?> args = (message as List<Object?>?)!;
-          final int? arg_instanceId = (args[0] as int?);
-          assert(arg_instanceId != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.create was null, expected non-null int.');
-          final String? arg_channelName = (args[1] as String?);
-          assert(arg_channelName != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.JavaScriptChannelHostApi.create was null, expected non-null String.');
-          api.create(arg_instanceId!, arg_channelName!);
+          final int? arg_downloadId = (args[0] as int?);
+          assert(arg_downloadId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.cancelDownload was null, expected non-null int.');
+          api.cancelDownload(arg_downloadId!);
           return <Object?>[];
         });
       }
     }
-  }
-}
-
-abstract class TestWebViewClientHostApi {
-  static TestDefaultBinaryMessengerBinding? get _testBinaryMessengerBinding =>
-      TestDefaultBinaryMessengerBinding.instance;
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
-
-  void create(int instanceId);
-
-  void setSynchronousReturnValueForShouldOverrideUrlLoading(
-      int instanceId, bool value);
-
-  static void setup(TestWebViewClientHostApi? api,
-      {BinaryMessenger? binaryMessenger}) {
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-          'dev.flutter.pigeon.webview_flutter_android.WebViewClientHostApi.create',
+          'dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.resumeDownload',
           codec,
           binaryMessenger: binaryMessenger);
       if (api == null) {
@@ -1456,19 +2790,19 @@ abstract class TestWebViewClientHostApi {
             .setMockDecodedMessageHandler<Object?>(channel,
                 (Object? message) async {
           assert(message != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewClientHostApi.create was null.');
+              'Argument for dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.resumeDownload was null.');
           final List<Object?> args = (message as List<Object?>?)!;
-          final int? arg_instanceId = (args[0] as int?);
-          assert(arg_instanceId != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewClientHostApi.create was null, expected non-null int.');
-          api.create(arg_instanceId!);
+          final int? arg_downloadId = (args[0] as int?);
+          assert(arg_downloadId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.resumeDownload was null, expected non-null int.');
+          api.resumeDownload(arg_downloadId!);
           return <Object?>[];
         });
       }
     }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-          'dev.flutter.pigeon.webview_flutter_android.WebViewClientHostApi.setSynchronousReturnValueForShouldOverrideUrlLoading',
+          'dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.setDownloadCacheBudget',
           codec,
           binaryMessenger: binaryMessenger);
       if (api == null) {
@@ -1479,35 +2813,19 @@ abstract class TestWebViewClientHostApi {
             .setMockDecodedMessageHandler<Object?>(channel,
                 (Object? message) async {
           assert(message != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewClientHostApi.setSynchronousReturnValueForShouldOverrideUrlLoading was null.');
+              'Argument for dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.setDownloadCacheBudget was null.');
           final List<Object?> args = (message as List<Object?>?)!;
-          final int? arg_instanceId = (args[0] as int?);
-          assert(arg_instanceId != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewClientHostApi.setSynchronousReturnValueForShouldOverrideUrlLoading was null, expected non-null int.');
-          final bool? arg_value = (args[1] as bool?);
-          assert(arg_value != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.WebViewClientHostApi.setSynchronousReturnValueForShouldOverrideUrlLoading was null, expected non-null bool.');
-          api.setSynchronousReturnValueForShouldOverrideUrlLoading(
-              arg_instanceId!, arg_value!);
+          final int? arg_budgetBytes = (args[0] as int?);
+          assert(arg_budgetBytes != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.setDownloadCacheBudget was null, expected non-null int.');
+          api.setDownloadCacheBudget(arg_budgetBytes!);
           return <Object?>[];
         });
       }
     }
-  }
-}
-
-abstract class TestDownloadListenerHostApi {
-  static TestDefaultBinaryMessengerBinding? get _testBinaryMessengerBinding =>
-      TestDefaultBinaryMessengerBinding.instance;
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
-
-  void create(int instanceId);
-
-  static void setup(TestDownloadListenerHostApi? api,
-      {BinaryMessenger? binaryMessenger}) {
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
-          'dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.create',
+          'dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.getDownloadCacheSize',
           codec,
           binaryMessenger: binaryMessenger);
       if (api == null) {
@@ -1517,14 +2835,8 @@ abstract class TestDownloadListenerHostApi {
         _testBinaryMessengerBinding!.defaultBinaryMessenger
             .setMockDecodedMessageHandler<Object?>(channel,
                 (Object? message) async {
-          assert(message != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.create was null.');
-          final List<Object?> args = (message as List<Object?>?)!;
-          final int? arg_instanceId = (args[0] as int?);
-          assert(arg_instanceId != null,
-              'Argument for dev.flutter.pigeon.webview_flutter_android.DownloadListenerHostApi.create was null, expected non-null int.');
-          api.create(arg_instanceId!);
-          return <Object?>[];
+          final int output = api.getDownloadCacheSize();
+          return <Object?>[output];
         });
       }
     }
@@ -1781,6 +3093,18 @@ abstract class TestWebStorageHostApi {
 
   void deleteAllData(int instanceId);
 
+  Future<List<Object?>> getOrigins(int instanceId);
+
+  Future<int> getUsageForOrigin(int instanceId, String origin);
+
+  Future<int> getQuotaForOrigin(int instanceId, String origin);
+
+  void deleteOrigin(int instanceId, String origin);
+
+  Future<List<String?>> trimToBudget(int instanceId, int budgetBytes);
+
+  void createForProfile(int instanceId, String profileName);
+
   static void setup(TestWebStorageHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1829,6 +3153,162 @@ abstract class TestWebStorageHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.getOrigins',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.getOrigins was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.getOrigins was null, expected non-null int.');
+          final List<Object?> output = await api.getOrigins(arg_instanceId!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.getUsageForOrigin',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.getUsageForOrigin was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.getUsageForOrigin was null, expected non-null int.');
+          final String? arg_origin = (args[1] as String?);
+          assert(arg_origin != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.getUsageForOrigin was null, expected non-null String.');
+          final int output =
+              await api.getUsageForOrigin(arg_instanceId!, arg_origin!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.getQuotaForOrigin',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.getQuotaForOrigin was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.getQuotaForOrigin was null, expected non-null int.');
+          final String? arg_origin = (args[1] as String?);
+          assert(arg_origin != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.getQuotaForOrigin was null, expected non-null String.');
+          final int output =
+              await api.getQuotaForOrigin(arg_instanceId!, arg_origin!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.deleteOrigin',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.deleteOrigin was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.deleteOrigin was null, expected non-null int.');
+          final String? arg_origin = (args[1] as String?);
+          assert(arg_origin != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.deleteOrigin was null, expected non-null String.');
+          api.deleteOrigin(arg_instanceId!, arg_origin!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.trimToBudget',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.trimToBudget was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.trimToBudget was null, expected non-null int.');
+          final int? arg_budgetBytes = (args[1] as int?);
+          assert(arg_budgetBytes != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.trimToBudget was null, expected non-null int.');
+          final List<String?> output =
+              await api.trimToBudget(arg_instanceId!, arg_budgetBytes!);
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.createForProfile',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.createForProfile was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.createForProfile was null, expected non-null int.');
+          final String? arg_profileName = (args[1] as String?);
+          assert(arg_profileName != null,
+              'Argument for dev.flutter.pigeon.webview_flutter_android.WebStorageHostApi.createForProfile was null, expected non-null String.');
+          api.createForProfile(arg_instanceId!, arg_profileName!);
+          return <Object?>[];
+        });
+      }
+    }
   }
 }
 